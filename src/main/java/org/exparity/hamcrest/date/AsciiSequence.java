@@ -0,0 +1,80 @@
+package org.exparity.hamcrest.date;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+
+/**
+ * A {@link CharSequence} view of a region of a {@link ByteBuffer} holding single byte text, such as ASCII or the ASCII range of UTF-8, which reads each
+ * character straight from the buffer with an absolute get so the buffer is never decoded or modified.
+ *
+ * @author Stewart Bissett
+ */
+final class AsciiSequence implements CharSequence {
+
+	private final ByteBuffer buffer;
+	private final int offset;
+	private final int length;
+
+	/**
+	 * Map the lines of the file which start in [from, to), from the byte before the range, to see if the range starts on a new line, to the end of the
+	 * line holding the last byte of the range. The range starts at index 1 of the mapped text, or at index 0 if it starts the file.
+	 */
+	static AsciiSequence mapLines(final FileChannel channel, final long from, final long to) throws IOException {
+		long start = Math.max(0, from - 1);
+		long end = endOfLine(channel, to);
+		if (end - start > Integer.MAX_VALUE) {
+			throw new IOException("Line ending at byte " + end + " is too long to map");
+		}
+		return new AsciiSequence(channel.map(MapMode.READ_ONLY, start, end - start));
+	}
+
+	/**
+	 * Return the position after the newline which ends the line holding the byte before the position, or the size of the file if that line is the last
+	 */
+	private static long endOfLine(final FileChannel channel, final long position) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(8192);
+		long offset = Math.max(0, position - 1);
+		for (int read; (read = channel.read(buffer, offset)) > 0; offset += read) {
+			for (int i = 0; i < read; ++i) {
+				if (buffer.get(i) == '\n') {
+					return offset + i + 1;
+				}
+			}
+			buffer.clear();
+		}
+		return channel.size();
+	}
+
+	AsciiSequence(final ByteBuffer buffer) {
+		this(buffer, 0, buffer.limit());
+	}
+
+	private AsciiSequence(final ByteBuffer buffer, final int offset, final int length) {
+		this.buffer = buffer;
+		this.offset = offset;
+		this.length = length;
+	}
+
+	public int length() {
+		return length;
+	}
+
+	public char charAt(final int index) {
+		return (char) (buffer.get(offset + index) & 0xFF);
+	}
+
+	public CharSequence subSequence(final int start, final int end) {
+		return new AsciiSequence(buffer, offset + start, end - start);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder text = new StringBuilder(length);
+		for (int i = 0; i < length; ++i) {
+			text.append(charAt(i));
+		}
+		return text.toString();
+	}
+}
@@ -0,0 +1,74 @@
+package org.exparity.hamcrest.date;
+
+import java.util.function.LongPredicate;
+
+/**
+ * Helper class to evaluate a compiled date matcher over an array of epoch milliseconds. Matchers which compile to an {@link InstantRange} are evaluated as a
+ * branch-free interval check, unrolled so the JIT can keep several comparisons in flight; any other predicate is applied element by element.
+ *
+ * @author Stewart Bissett
+ */
+abstract class BulkMatches {
+
+	/**
+	 * Return the number of values in [from, to) accepted by the predicate
+	 */
+	static int countMatches(final long[] millis, final int from, final int to, final LongPredicate predicate) {
+		if (predicate instanceof InstantRange) {
+			return countInRange(millis, from, to, (InstantRange) predicate);
+		}
+		int count = 0;
+		for (int i = from; i < to; ++i) {
+			if (predicate.test(millis[i])) {
+				++count;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Return the index of the first value in [from, to) rejected by the predicate, or -1 if every value is accepted
+	 */
+	static int firstMismatch(final long[] millis, final int from, final int to, final LongPredicate predicate) {
+		if (predicate instanceof InstantRange) {
+			return firstOutOfRange(millis, from, to, (InstantRange) predicate);
+		}
+		for (int i = from; i < to; ++i) {
+			if (!predicate.test(millis[i])) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static int countInRange(final long[] millis, final int from, final int to, final InstantRange range) {
+		final long lower = range.getLower();
+		if (lower > range.getUpper()) {
+			return 0;
+		}
+		// value is in range when (value - lower) as an unsigned value is no more than (upper - lower); flipping the sign bit gives a signed comparison
+		final long span = (range.getUpper() - lower) ^ Long.MIN_VALUE;
+		int c0 = 0, c1 = 0, c2 = 0, c3 = 0;
+		int i = from;
+		for (; i + 3 < to; i += 4) {
+			c0 += ((millis[i] - lower) ^ Long.MIN_VALUE) <= span ? 1 : 0;
+			c1 += ((millis[i + 1] - lower) ^ Long.MIN_VALUE) <= span ? 1 : 0;
+			c2 += ((millis[i + 2] - lower) ^ Long.MIN_VALUE) <= span ? 1 : 0;
+			c3 += ((millis[i + 3] - lower) ^ Long.MIN_VALUE) <= span ? 1 : 0;
+		}
+		for (; i < to; ++i) {
+			c0 += ((millis[i] - lower) ^ Long.MIN_VALUE) <= span ? 1 : 0;
+		}
+		return c0 + c1 + c2 + c3;
+	}
+
+	private static int firstOutOfRange(final long[] millis, final int from, final int to, final InstantRange range) {
+		final long lower = range.getLower(), upper = range.getUpper();
+		for (int i = from; i < to; ++i) {
+			if (millis[i] < lower || millis[i] > upper) {
+				return i;
+			}
+		}
+		return -1;
+	}
+}
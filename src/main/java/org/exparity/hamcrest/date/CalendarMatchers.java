@@ -0,0 +1,676 @@
+package org.exparity.hamcrest.date;
+
+import static org.hamcrest.core.AnyOf.anyOf;
+import java.util.Calendar;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.Matcher;
+
+/**
+ * Static factory for creating {@link org.hamcrest.Matcher} instances for comparing {@link Calendar} instances, including {@link java.util.GregorianCalendar}.
+ * Date part matchers read the fields of the examined calendar directly, in the calendar's own timezone, and the instant matchers compare
+ * {@link Calendar#getTimeInMillis()}, so no {@link java.util.Date} round-trip takes place.
+ *
+ * @author Stewart Bissett
+ */
+public abstract class CalendarMatchers {
+
+    /**
+     * Creates a matcher that matches when the examined date is after the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myCalendar, after(Calendar.getInstance()))
+     * </pre>
+     *
+     * @param date the reference date against which the examined date is checked
+     */
+    public static Matcher<Calendar> after(final Calendar date) {
+        return new IsCalendarAfter(date, false);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is before the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myCalendar, before(Calendar.getInstance()))
+     * </pre>
+     *
+     * @param date the reference date against which the examined date is checked
+     */
+    public static Matcher<Calendar> before(final Calendar date) {
+        return new IsCalendarBefore(date, false);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is at the same instant or after the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myCalendar, sameOrAfter(Calendar.getInstance()))
+     * </pre>
+     *
+     * @param date the reference date against which the examined date is checked
+     */
+    public static Matcher<Calendar> sameOrAfter(final Calendar date) {
+        return new IsCalendarAfter(date, true);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is at the same instant or before the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myCalendar, sameOrBefore(Calendar.getInstance()))
+     * </pre>
+     *
+     * @param date the reference date against which the examined date is checked
+     */
+    public static Matcher<Calendar> sameOrBefore(final Calendar date) {
+        return new IsCalendarBefore(date, true);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is within a given period of the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myCalendar, within(10, TimeUnit.MINUTES, Calendar.getInstance()))
+     * </pre>
+     *
+     * @param period the timeunit interval the examined date should be with
+     * @param unit   the timeunit to define the length of the period
+     * @param date   the reference date against which the examined date is checked
+     */
+    public static Matcher<Calendar> within(final long period, final TimeUnit unit, final Calendar date) {
+        return new IsCalendarWithin(period, unit, date);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same day of the same year as the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myCalendar, sameDay(Calendar.getInstance()))
+     * </pre>
+     *
+     * @param date the reference date against which the examined date is checked
+     */
+    public static Matcher<Calendar> sameDay(final Calendar date) {
+        return new IsSameCalendarField(date, "day", "d MMMMM yyyy", Calendar.YEAR, Calendar.DAY_OF_YEAR);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same day of the week as the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myCalendar, sameDayOfWeek(Calendar.getInstance()))
+     * </pre>
+     *
+     * @param date the reference date against which the examined date is checked
+     */
+    public static Matcher<Calendar> sameDayOfWeek(final Calendar date) {
+        return new IsSameCalendarField(date, "day of the week", "EEEE", Calendar.DAY_OF_WEEK);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same day of the week as the supplied day
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myCalendar, sameDayOfWeek(Weekdays.MONDAY))
+     * </pre>
+     *
+     * @param weekday the reference weekday against which the examined date is checked
+     */
+    public static Matcher<Calendar> sameDayOfWeek(final Weekdays weekday) {
+        return new IsSameCalendarField(weekday.getAsCalendarConstant(), weekday.describe(), Calendar.DAY_OF_WEEK, "day of the week", "EEEE");
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same month as the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myCalendar, sameMonth(Calendar.getInstance()))
+     * </pre>
+     *
+     * @param date the reference date against which the examined date is checked
+     */
+    public static Matcher<Calendar> sameMonth(final Calendar date) {
+        return new IsSameCalendarField(date, "month", "MMMMM", Calendar.MONTH);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same month as the reference month
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myCalendar, sameMonth(Months.DECEMBER))
+     * </pre>
+     *
+     * @param month the reference month against which the examined date is checked
+     */
+    public static Matcher<Calendar> sameMonth(final Months month) {
+        return new IsSameCalendarField(month.calendarConstant(), month.describe(), Calendar.MONTH, "month", "MMMMM");
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same year as the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myCalendar, sameYear(Calendar.getInstance()))
+     * </pre>
+     *
+     * @param date the reference date against which the examined date is checked
+     */
+    public static Matcher<Calendar> sameYear(final Calendar date) {
+        return new IsSameCalendarField(date, "year", "yyyy", Calendar.YEAR);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same year as the reference year
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myCalendar, sameYear(2013))
+     * </pre>
+     *
+     * @param year the reference year against which the examined date is checked
+     */
+    public static Matcher<Calendar> sameYear(final int year) {
+        return new IsSameCalendarField(year, String.valueOf(year), Calendar.YEAR, "year", "yyyy");
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same hour of the day as the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myCalendar, sameHour(Calendar.getInstance()))
+     * </pre>
+     *
+     * @param date the reference date against which the examined date is checked
+     */
+    public static Matcher<Calendar> sameHour(final Calendar date) {
+        return new IsSameCalendarField(date, "hour", "k", Calendar.HOUR_OF_DAY);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same hour of the day as the reference hour
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myCalendar, sameHour(12))
+     * </pre>
+     *
+     * @param hour the reference hour against which the examined date is checked
+     */
+    public static Matcher<Calendar> sameHour(final int hour) {
+        return new IsSameCalendarField(hour, String.valueOf(hour), Calendar.HOUR_OF_DAY, "hour", "k");
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same minute of the hour as the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myCalendar, sameMinute(Calendar.getInstance()))
+     * </pre>
+     *
+     * @param date the reference date against which the examined date is checked
+     */
+    public static Matcher<Calendar> sameMinute(final Calendar date) {
+        return new IsSameCalendarField(date, "minute", "m", Calendar.MINUTE);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same minute of the hour as the reference minute
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myCalendar, sameMinute(30))
+     * </pre>
+     *
+     * @param minute the reference minute against which the examined date is checked
+     */
+    public static Matcher<Calendar> sameMinute(final int minute) {
+        return new IsSameCalendarField(minute, String.valueOf(minute), Calendar.MINUTE, "minute", "m");
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same second of the minute as the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myCalendar, sameSecond(Calendar.getInstance()))
+     * </pre>
+     *
+     * @param date the reference date against which the examined date is checked
+     */
+    public static Matcher<Calendar> sameSecond(final Calendar date) {
+        return new IsSameCalendarField(date, "second", "s", Calendar.SECOND);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same second of the minute as the reference second
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myCalendar, sameSecond(30))
+     * </pre>
+     *
+     * @param second the reference second against which the examined date is checked
+     */
+    public static Matcher<Calendar> sameSecond(final int second) {
+        return new IsSameCalendarField(second, String.valueOf(second), Calendar.SECOND, "second", "s");
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same millisecond of the second as the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myCalendar, sameMillisecond(Calendar.getInstance()))
+     * </pre>
+     *
+     * @param date the reference date against which the examined date is checked
+     */
+    public static Matcher<Calendar> sameMillisecond(final Calendar date) {
+        return new IsSameCalendarField(date, "millisecond", "S", Calendar.MILLISECOND);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same millisecond of the second as the reference millisecond
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myCalendar, sameMillisecond(999))
+     * </pre>
+     *
+     * @param millisecond the reference millisecond against which the examined date is checked
+     */
+    public static Matcher<Calendar> sameMillisecond(final int millisecond) {
+        return new IsSameCalendarField(millisecond, String.valueOf(millisecond), Calendar.MILLISECOND, "millisecond", "S");
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is yesterday
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myCalendar, isYesterday());
+     * </pre>
+     */
+    public static Matcher<Calendar> isYesterday() {
+        return sameDay(aRelativeDay(-1));
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is today
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myCalendar, isToday());
+     * </pre>
+     */
+    public static Matcher<Calendar> isToday() {
+        return sameDay(aRelativeDay(0));
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is tomorrow
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myCalendar, isTomorrow());
+     * </pre>
+     */
+    public static Matcher<Calendar> isTomorrow() {
+        return sameDay(aRelativeDay(1));
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on a monday
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myCalendar, isMonday());
+     * </pre>
+     */
+    public static Matcher<Calendar> isMonday() {
+        return sameDayOfWeek(Weekdays.MONDAY);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on a tuesday
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myCalendar, isTuesday());
+     * </pre>
+     */
+    public static Matcher<Calendar> isTuesday() {
+        return sameDayOfWeek(Weekdays.TUESDAY);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on a wednesday
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myCalendar, isWednesday());
+     * </pre>
+     */
+    public static Matcher<Calendar> isWednesday() {
+        return sameDayOfWeek(Weekdays.WEDNESDAY);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on a thursday
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myCalendar, isThursday());
+     * </pre>
+     */
+    public static Matcher<Calendar> isThursday() {
+        return sameDayOfWeek(Weekdays.THURSDAY);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on a friday
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myCalendar, isFriday());
+     * </pre>
+     */
+    public static Matcher<Calendar> isFriday() {
+        return sameDayOfWeek(Weekdays.FRIDAY);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on a saturday
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myCalendar, isSaturday());
+     * </pre>
+     */
+    public static Matcher<Calendar> isSaturday() {
+        return sameDayOfWeek(Weekdays.SATURDAY);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on a sunday
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myCalendar, isSunday());
+     * </pre>
+     */
+    public static Matcher<Calendar> isSunday() {
+        return sameDayOfWeek(Weekdays.SUNDAY);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on a weekday
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myCalendar, isWeekday());
+     * </pre>
+     */
+    public static Matcher<Calendar> isWeekday() {
+        return anyOf(isMonday(), isTuesday(), isWednesday(), isThursday(), isFriday());
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on a weekend
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myCalendar, isWeekend());
+     * </pre>
+     */
+    public static Matcher<Calendar> isWeekend() {
+        return anyOf(isSaturday(), isSunday());
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the first day of the month
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myCalendar, isFirstDayOfMonth());
+     * </pre>
+     */
+    public static Matcher<Calendar> isFirstDayOfMonth() {
+        return new IsSameCalendarField(1, "1", Calendar.DAY_OF_MONTH, "day of month", "d");
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the last day of the month
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myCalendar, isLastDayOfMonth());
+     * </pre>
+     */
+    public static Matcher<Calendar> isLastDayOfMonth() {
+        return new IsCalendarMaximumField(Calendar.DAY_OF_MONTH, "day of month");
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is in January
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myCalendar, isJanuary());
+     * </pre>
+     */
+    public static Matcher<Calendar> isJanuary() {
+        return sameMonth(Months.JANUARY);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is in February
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myCalendar, isFebruary());
+     * </pre>
+     */
+    public static Matcher<Calendar> isFebruary() {
+        return sameMonth(Months.FEBRUARY);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is in March
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myCalendar, isMarch());
+     * </pre>
+     */
+    public static Matcher<Calendar> isMarch() {
+        return sameMonth(Months.MARCH);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is in April
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myCalendar, isApril());
+     * </pre>
+     */
+    public static Matcher<Calendar> isApril() {
+        return sameMonth(Months.APRIL);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is in May
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myCalendar, isMay());
+     * </pre>
+     */
+    public static Matcher<Calendar> isMay() {
+        return sameMonth(Months.MAY);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is in June
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myCalendar, isJune());
+     * </pre>
+     */
+    public static Matcher<Calendar> isJune() {
+        return sameMonth(Months.JUNE);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is in July
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myCalendar, isJuly());
+     * </pre>
+     */
+    public static Matcher<Calendar> isJuly() {
+        return sameMonth(Months.JULY);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is in August
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myCalendar, isAugust());
+     * </pre>
+     */
+    public static Matcher<Calendar> isAugust() {
+        return sameMonth(Months.AUGUST);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is in September
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myCalendar, isSeptember());
+     * </pre>
+     */
+    public static Matcher<Calendar> isSeptember() {
+        return sameMonth(Months.SEPTEMBER);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is in October
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myCalendar, isOctober());
+     * </pre>
+     */
+    public static Matcher<Calendar> isOctober() {
+        return sameMonth(Months.OCTOBER);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is in November
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myCalendar, isNovember());
+     * </pre>
+     */
+    public static Matcher<Calendar> isNovember() {
+        return sameMonth(Months.NOVEMBER);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is in December
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myCalendar, isDecember());
+     * </pre>
+     */
+    public static Matcher<Calendar> isDecember() {
+        return sameMonth(Months.DECEMBER);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is a leap year
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myCalendar, isLeapYear());
+     * </pre>
+     */
+    public static Matcher<Calendar> isLeapYear() {
+        return new IsCalendarLeapYear();
+    }
+
+    private static Calendar aRelativeDay(final int adjustment) {
+        Calendar calendar = Calendar.getInstance();
+        calendar.add(Calendar.DAY_OF_MONTH, adjustment);
+        return calendar;
+    }
+
+}
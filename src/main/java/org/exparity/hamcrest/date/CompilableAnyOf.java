@@ -0,0 +1,61 @@
+package org.exparity.hamcrest.date;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.function.LongPredicate;
+import org.hamcrest.Matcher;
+import org.hamcrest.core.AnyOf;
+
+/**
+ * An {@link AnyOf} over dates which can also be compiled into a predicate over epoch milliseconds. The date matchers which are built from alternatives, e.g.
+ * isWeekday or sameOrBefore, use this in place of {@link AnyOf} so their description is unchanged. Alternatives which are all instant ranges, and which
+ * overlap or touch, compile to the single {@link InstantRange} covering them, so sameOrAfter and sameOrBefore of an instant are counted as an interval.
+ *
+ * @author Stewart Bissett
+ */
+class CompilableAnyOf extends AnyOf<Date> implements CompilableMatcher {
+
+	@SafeVarargs
+	static CompilableAnyOf anyDateOf(final Matcher<? super Date>... matchers) {
+		List<Matcher<? super Date>> alternatives = new ArrayList<Matcher<? super Date>>(matchers.length);
+		for (Matcher<? super Date> matcher : matchers) {
+			alternatives.add(matcher);
+		}
+		return new CompilableAnyOf(alternatives);
+	}
+
+	private final List<Matcher<? super Date>> matchers;
+
+	public CompilableAnyOf(final List<Matcher<? super Date>> matchers) {
+		super(matchers);
+		this.matchers = new ArrayList<Matcher<? super Date>>(matchers);
+	}
+
+	public LongPredicate compile() {
+		final LongPredicate[] predicates = new LongPredicate[matchers.size()];
+		InstantRange[] ranges = new InstantRange[predicates.length];
+		for (int i = 0; i < predicates.length; ++i) {
+			predicates[i] = DatePredicates.compile(matchers.get(i));
+			ranges[i] = predicates[i] instanceof InstantRange ? (InstantRange) predicates[i] : null;
+		}
+		if (!Arrays.asList(ranges).contains(null)) {
+			InstantRange union = InstantRange.union(ranges);
+			if (union != null) {
+				return union;
+			}
+		}
+		return new LongPredicate() {
+
+			public boolean test(final long millis) {
+				for (LongPredicate predicate : predicates) {
+					if (predicate.test(millis)) {
+						return true;
+					}
+				}
+				return false;
+			}
+		};
+	}
+}
@@ -0,0 +1,17 @@
+package org.exparity.hamcrest.date;
+
+import java.util.function.LongPredicate;
+
+/**
+ * Implemented by the date matchers which can be evaluated directly on epoch milliseconds
+ *
+ * @author Stewart Bissett
+ */
+interface CompilableMatcher {
+
+	/**
+	 * Return a predicate over epoch milliseconds which accepts exactly the instants the matcher matches. The predicate must be safe to share between threads
+	 * and must not allocate per instant tested.
+	 */
+	LongPredicate compile();
+}
@@ -0,0 +1,454 @@
+package org.exparity.hamcrest.date;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.function.LongPredicate;
+import org.hamcrest.Matcher;
+
+/**
+ * Reads the timestamp columns of a CSV file, or CSV text, and checks every value against a date matcher in a single pass. Only the selected columns are
+ * read; the rest of each row is skipped without being split into strings. Values are parsed in place into epoch milliseconds and tested with the compiled
+ * date matcher in batches, and files are memory-mapped, at most 1 GB and the rest of its last row at a time, and split into chunks at row boundaries
+ * across the common fork-join pool.
+ * <p/>
+ * Values may be epoch milliseconds, or epoch seconds with {@link #inEpochSeconds()}, ISO-8601 timestamps and timestamps in the layout used in this
+ * library's descriptions, or any layout given as a {@link DatePattern}. Fields may be quoted and contain the delimiter and doubled quotes, but not line
+ * breaks. Surrounding spaces are ignored. The index of each mismatch in a {@link MismatchReport} is the line number of its row in the file, counting the
+ * header as line 1.
+ * <p/>
+ * For example:
+ *
+ * <pre>
+ * MismatchReport report = CsvTimestamps.columns(&quot;created&quot;, &quot;updated&quot;).report(Paths.get(&quot;orders.csv&quot;), within(1, TimeUnit.DAYS, exportTime), 10);
+ * </pre>
+ *
+ * Instances are immutable and can be shared between threads.
+ *
+ * @author Stewart Bissett
+ */
+public final class CsvTimestamps {
+
+	static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 20;
+	static final int DEFAULT_WINDOW_SIZE = 1 << 30;
+	private static final int BATCH_SIZE = 1024;
+
+	/**
+	 * Select the named columns of a CSV file whose first line is a header
+	 *
+	 * @param names
+	 *            the names of the timestamp columns in the header
+	 */
+	public static CsvTimestamps columns(final String... names) {
+		if (names.length == 0) {
+			throw new IllegalArgumentException("No columns selected");
+		}
+		return new CsvTimestamps(names.clone(), null, ',', null, false, TimeZone.getDefault());
+	}
+
+	/**
+	 * Select the columns at the zero-based positions of a CSV file without a header
+	 *
+	 * @param indices
+	 *            the positions of the timestamp columns, the first column being 0
+	 */
+	public static CsvTimestamps columns(final int... indices) {
+		if (indices.length == 0) {
+			throw new IllegalArgumentException("No columns selected");
+		}
+		for (int index : indices) {
+			if (index < 0) {
+				throw new IllegalArgumentException("Column index " + index + " is negative");
+			}
+		}
+		return new CsvTimestamps(null, indices.clone(), ',', null, false, TimeZone.getDefault());
+	}
+
+	private final String[] names;
+	private final int[] indices;
+	private final char delimiter;
+	private final DatePattern pattern;
+	private final boolean epochSeconds;
+	private final TimeZone zone;
+
+	private CsvTimestamps(final String[] names, final int[] indices, final char delimiter, final DatePattern pattern, final boolean epochSeconds,
+			final TimeZone zone) {
+		this.names = names;
+		this.indices = indices;
+		this.delimiter = delimiter;
+		this.pattern = pattern;
+		this.epochSeconds = epochSeconds;
+		this.zone = zone;
+	}
+
+	/**
+	 * Return a copy which reads fields separated by the delimiter instead of a comma
+	 *
+	 * @param delimiter
+	 *            the field delimiter, for example a tab
+	 */
+	public CsvTimestamps delimitedBy(final char delimiter) {
+		return new CsvTimestamps(names, indices, delimiter, pattern, epochSeconds, zone);
+	}
+
+	/**
+	 * Return a copy which reads the values in the pattern instead of as epoch or ISO-8601 timestamps
+	 *
+	 * @param pattern
+	 *            the pattern the values are written in
+	 */
+	public CsvTimestamps parsedAs(final DatePattern pattern) {
+		return new CsvTimestamps(names, indices, delimiter, pattern, epochSeconds, zone);
+	}
+
+	/**
+	 * Return a copy which reads numeric values as epoch seconds instead of epoch milliseconds
+	 */
+	public CsvTimestamps inEpochSeconds() {
+		return new CsvTimestamps(names, indices, delimiter, pattern, true, zone);
+	}
+
+	/**
+	 * Return a report of the values in the selected columns of the file which are not timestamps or do not match the date matcher
+	 *
+	 * @param file
+	 *            the CSV file to read
+	 * @param matcher
+	 *            the date matcher to apply to each value
+	 * @param limit
+	 *            the maximum number of mismatches to keep the row and raw text of
+	 */
+	public MismatchReport report(final Path file, final Matcher<? super Date> matcher, final int limit) throws IOException {
+		return report(file, matcher, limit, DEFAULT_WINDOW_SIZE);
+	}
+
+	MismatchReport report(final Path file, final Matcher<? super Date> matcher, final int limit, final int windowSize) throws IOException {
+		final LongPredicate predicate = DatePredicates.compile(matcher);
+		try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			final long length = channel.size();
+			AsciiSequence head = AsciiSequence.mapLines(channel, 0, 1);
+			final int[] columns = resolveColumns(head);
+			final long dataStart = dataStart(head);
+			try {
+				ChunkScan scan = ParallelScan.reduce(length - dataStart, new ParallelScan.RangeReduce<ChunkScan>() {
+
+					public ChunkScan reduce(final long from, final long to) {
+						// map the range in windows small enough to finish their last row within a single mapping
+						ChunkScan scan = new ChunkScan(limit);
+						for (long start = dataStart + from; start < dataStart + to; start += windowSize) {
+							long end = Math.min(dataStart + to, start + windowSize);
+							try {
+								AsciiSequence window = AsciiSequence.mapLines(channel, start, end);
+								int offset = start == 0 ? 0 : 1;
+								scan.append(scanRows(window, offset, (int) (end - start) + offset, columns, predicate, limit));
+							} catch (IOException e) {
+								throw new UncheckedIOException(e);
+							}
+						}
+						return scan;
+					}
+
+					public ChunkScan combine(final ChunkScan lower, final ChunkScan upper) {
+						return lower.append(upper);
+					}
+				}, DEFAULT_PARALLEL_THRESHOLD);
+				return new MismatchReport(limit).append(scan.report, firstRowNumber());
+			} catch (UncheckedIOException e) {
+				throw e.getCause();
+			}
+		}
+	}
+
+	/**
+	 * Return a report of the values in the selected columns of the CSV text which are not timestamps or do not match the date matcher
+	 *
+	 * @param csv
+	 *            the CSV text to read
+	 * @param matcher
+	 *            the date matcher to apply to each value
+	 * @param limit
+	 *            the maximum number of mismatches to keep the row and raw text of
+	 */
+	public MismatchReport report(final CharSequence csv, final Matcher<? super Date> matcher, final int limit) {
+		final LongPredicate predicate = DatePredicates.compile(matcher);
+		final int[] columns = resolveColumns(csv);
+		final int dataStart = (int) dataStart(csv);
+		ChunkScan scan = ParallelScan.reduce(csv.length() - dataStart, new ParallelScan.RangeReduce<ChunkScan>() {
+
+			public ChunkScan reduce(final long from, final long to) {
+				return scanRows(csv, (int) from + dataStart, (int) to + dataStart, columns, predicate, limit);
+			}
+
+			public ChunkScan combine(final ChunkScan lower, final ChunkScan upper) {
+				return lower.append(upper);
+			}
+		}, DEFAULT_PARALLEL_THRESHOLD);
+		return new MismatchReport(limit).append(scan.report, firstRowNumber());
+	}
+
+	@Override
+	public String toString() {
+		return "the CSV column" + (columnCount() == 1 ? " " : "s ") + (names != null ? Arrays.toString(names) : Arrays.toString(indices));
+	}
+
+	int columnCount() {
+		return names != null ? names.length : indices.length;
+	}
+
+	private long firstRowNumber() {
+		return names != null ? 2 : 1;
+	}
+
+	private long dataStart(final CharSequence text) {
+		if (names == null) {
+			return 0;
+		}
+		int end = 0;
+		while (end < text.length() && text.charAt(end) != '\n') {
+			++end;
+		}
+		return Math.min(end + 1, text.length());
+	}
+
+	private int[] resolveColumns(final CharSequence text) {
+		if (names == null) {
+			return indices;
+		}
+		int end = (int) dataStart(text);
+		while (end > 0 && (text.charAt(end - 1) == '\n' || text.charAt(end - 1) == '\r')) {
+			--end;
+		}
+		int[] resolved = new int[names.length];
+		Arrays.fill(resolved, -1);
+		int column = 0;
+		for (int start = 0; start <= end; ++column) {
+			int fieldEnd = fieldEnd(text, start, end);
+			String header = unquoted(text, start, fieldEnd).toString().trim();
+			for (int i = 0; i < names.length; ++i) {
+				if (resolved[i] < 0 && names[i].equals(header)) {
+					resolved[i] = column;
+				}
+			}
+			start = fieldEnd + 1;
+		}
+		for (int i = 0; i < names.length; ++i) {
+			if (resolved[i] < 0) {
+				throw new IllegalArgumentException("No column named '" + names[i] + "' in the CSV header");
+			}
+		}
+		return resolved;
+	}
+
+	/**
+	 * Scan the rows which start in [from, to) of the text, reading past the end of the range to finish the last row
+	 */
+	private ChunkScan scanRows(final CharSequence text, final int from, final int to, final int[] columns, final LongPredicate predicate, final int limit) {
+		ChunkScan scan = new ChunkScan(limit);
+		Batch batch = new Batch(predicate, scan.report);
+		int lastColumn = 0;
+		for (int column : columns) {
+			lastColumn = Math.max(lastColumn, column);
+		}
+		int length = text.length();
+		int start = from;
+		if (from > 0 && text.charAt(from - 1) != '\n') {
+			while (start < length && text.charAt(start) != '\n') {
+				++start;
+			}
+			++start;
+		}
+		int[] fieldStarts = new int[lastColumn + 1], fieldEnds = new int[lastColumn + 1];
+		while (start < to) {
+			int end = start;
+			while (end < length && text.charAt(end) != '\n') {
+				++end;
+			}
+			int rowEnd = end > start && text.charAt(end - 1) == '\r' ? end - 1 : end;
+			if (rowEnd > start) {
+				int fields = 0;
+				for (int p = start; fields <= lastColumn && p <= rowEnd; ++fields) {
+					fieldStarts[fields] = p;
+					fieldEnds[fields] = fieldEnd(text, p, rowEnd);
+					p = fieldEnds[fields] + 1;
+				}
+				for (int column : columns) {
+					if (column < fields) {
+						batch.add(scan.rows, text, fieldStarts[column], fieldEnds[column]);
+					} else {
+						batch.add(scan.rows, text, rowEnd, rowEnd);
+					}
+				}
+			}
+			++scan.rows;
+			start = end + 1;
+		}
+		batch.flush();
+		return scan;
+	}
+
+	/**
+	 * Return the position of the delimiter or end of row which ends the field starting at the position
+	 */
+	private int fieldEnd(final CharSequence text, final int start, final int rowEnd) {
+		int p = start;
+		while (p < rowEnd && text.charAt(p) == ' ') {
+			++p;
+		}
+		if (p < rowEnd && text.charAt(p) == '"') {
+			for (++p; p < rowEnd; ++p) {
+				if (text.charAt(p) == '"') {
+					if (p + 1 < rowEnd && text.charAt(p + 1) == '"') {
+						++p;
+					} else {
+						++p;
+						break;
+					}
+				}
+			}
+		}
+		while (p < rowEnd && text.charAt(p) != delimiter) {
+			++p;
+		}
+		return p;
+	}
+
+	/**
+	 * Return the field without surrounding spaces or quotes
+	 */
+	private static CharSequence unquoted(final CharSequence text, int start, int end) {
+		while (start < end && text.charAt(start) == ' ') {
+			++start;
+		}
+		while (end > start && text.charAt(end - 1) == ' ') {
+			--end;
+		}
+		if (end - start >= 2 && text.charAt(start) == '"' && text.charAt(end - 1) == '"') {
+			++start;
+			--end;
+		}
+		return text.subSequence(start, end);
+	}
+
+	/**
+	 * Return the epoch milliseconds of the field in [start, end), or {@link TimestampText#NONE} if it is not a timestamp
+	 */
+	private long parse(final CharSequence text, int start, int end) {
+		while (start < end && text.charAt(start) == ' ') {
+			++start;
+		}
+		while (end > start && text.charAt(end - 1) == ' ') {
+			--end;
+		}
+		if (end - start >= 2 && text.charAt(start) == '"' && text.charAt(end - 1) == '"') {
+			++start;
+			--end;
+		}
+		if (pattern != null) {
+			return pattern.parse(text, start, end);
+		} else if (isEpoch(text, start, end)) {
+			return parseEpoch(text, start, end);
+		} else {
+			return TimestampText.parse(text, start, end, zone);
+		}
+	}
+
+	private static boolean isEpoch(final CharSequence text, final int start, final int end) {
+		int p = start < end && text.charAt(start) == '-' ? start + 1 : start;
+		if (p == end) {
+			return false;
+		}
+		for (; p < end; ++p) {
+			if (!TimestampText.isDigit(text.charAt(p))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private long parseEpoch(final CharSequence text, final int start, final int end) {
+		boolean negative = text.charAt(start) == '-';
+		int first = negative ? start + 1 : start;
+		if (end - first > 18) {
+			return TimestampText.NONE;
+		}
+		long value = 0;
+		for (int p = first; p < end; ++p) {
+			value = value * 10 + text.charAt(p) - '0';
+		}
+		value = negative ? -value : value;
+		if (epochSeconds) {
+			return Math.abs(value) > Long.MAX_VALUE / 1000 ? TimestampText.NONE : value * 1000;
+		}
+		return value;
+	}
+
+	/**
+	 * Parsed values waiting to be tested against the predicate together
+	 */
+	private class Batch {
+
+		private final LongPredicate predicate;
+		private final MismatchReport report;
+		private final long[] values = new long[BATCH_SIZE];
+		private final long[] rows = new long[BATCH_SIZE];
+		private final int[] starts = new int[BATCH_SIZE], ends = new int[BATCH_SIZE];
+		private CharSequence text;
+		private int size;
+
+		private Batch(final LongPredicate predicate, final MismatchReport report) {
+			this.predicate = predicate;
+			this.report = report;
+		}
+
+		private void add(final long row, final CharSequence text, final int start, final int end) {
+			long value = parse(text, start, end);
+			if (value == TimestampText.NONE) {
+				// keep the report in row order by testing the waiting values first
+				flush();
+				report.mismatch(row, value, unquoted(text, start, end).toString());
+				report.examined(1);
+				return;
+			}
+			if (size == BATCH_SIZE) {
+				flush();
+			}
+			this.text = text;
+			values[size] = value;
+			rows[size] = row;
+			starts[size] = start;
+			ends[size++] = end;
+		}
+
+		private void flush() {
+			for (int i = BulkMatches.firstMismatch(values, 0, size, predicate); i >= 0; i = BulkMatches.firstMismatch(values, i + 1, size, predicate)) {
+				report.mismatch(rows[i], values[i], unquoted(text, starts[i], ends[i]).toString());
+			}
+			report.examined(size);
+			size = 0;
+		}
+	}
+
+	/**
+	 * The result of scanning the rows in a range of the text, with the report indexed by the row number within the range
+	 */
+	private static class ChunkScan {
+
+		private final MismatchReport report;
+		private long rows;
+
+		private ChunkScan(final int limit) {
+			this.report = new MismatchReport(limit);
+		}
+
+		private ChunkScan append(final ChunkScan following) {
+			report.append(following.report, rows);
+			rows += following.rows;
+			return this;
+		}
+	}
+}
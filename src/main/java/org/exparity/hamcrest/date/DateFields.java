@@ -0,0 +1,266 @@
+package org.exparity.hamcrest.date;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+/**
+ * Extracts {@link Calendar} field values from epoch milliseconds without creating a {@link Calendar} per value. An instance is a snapshot of the default
+ * calendar's timezone. When the default calendar is a plain {@link GregorianCalendar} the fields are computed arithmetically on the local epoch day,
+ * otherwise, or for instants before the Gregorian change, the values are read from a copy of the default calendar so the results always agree with
+ * {@link Calendar#getInstance()}.
+ * <p>
+ * The arithmetic is only used from a year after the Gregorian change as the year of the change itself is shortened in the default calendar.
+ *
+ * @author Stewart Bissett
+ */
+abstract class DateFields {
+
+	static final long MILLIS_PER_DAY = 86400000L;
+	static final int MILLIS_PER_HOUR = 3600000;
+	static final int MILLIS_PER_MINUTE = 60000;
+	static final int MILLIS_PER_SECOND = 1000;
+
+	private static final int DAYS_PER_400_YEARS = 146097;
+	private static final int DAYS_FROM_0000_03_01_TO_EPOCH = 719468;
+	private static final int[] DAYS_BEFORE_MONTH = { 0, 31, 59, 90, 120, 151, 181, 212, 243, 273, 304, 334 };
+	private static final int[] DAYS_IN_MONTH = { 31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31 };
+
+	/**
+	 * Return a {@link DateFields} which agrees with {@link Calendar#getInstance()} in the current default timezone and locale
+	 */
+	static DateFields forDefaultCalendar() {
+		Calendar calendar = Calendar.getInstance();
+		if (calendar.getClass() == GregorianCalendar.class) {
+			return new ArithmeticFields((GregorianCalendar) calendar);
+		} else {
+			return new CalendarFields(calendar);
+		}
+	}
+
+	/**
+	 * Return the value of the calendar field, e.g. {@link Calendar#DAY_OF_WEEK}, at the instant
+	 */
+	abstract int get(long millis, int field);
+
+	/**
+	 * Return the maximum value the calendar field can take in the period containing the instant, e.g. the last day of the month
+	 */
+	abstract int getActualMaximum(long millis, int field);
+
+	/**
+	 * Return the minimum value the calendar field can take in the period containing the instant, e.g. the first day of the month
+	 */
+	abstract int getActualMinimum(long millis, int field);
+
+	/**
+	 * Return true if the instant falls in a leap year
+	 */
+	abstract boolean isLeapYear(long millis);
+
+	/**
+	 * Return the number of days since 1970-01-01 of the proleptic Gregorian date
+	 */
+	static long epochDay(final long year, final int month, final int dayOfMonth) {
+		long y = month <= 2 ? year - 1 : year;
+		long era = Math.floorDiv(y, 400);
+		long yearOfEra = y - era * 400;
+		long dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + dayOfMonth - 1;
+		long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+		return era * DAYS_PER_400_YEARS + dayOfEra - DAYS_FROM_0000_03_01_TO_EPOCH;
+	}
+
+	/**
+	 * Return the proleptic Gregorian year of the epoch day
+	 */
+	static int yearOfEpochDay(final long epochDay) {
+		long dayOfEra = marchBasedDayOfEra(epochDay);
+		int yearOfEra = marchBasedYearOfEra(dayOfEra);
+		int month = marchBasedMonth(dayOfEra, yearOfEra);
+		return (int) (eraOf(epochDay) * 400 + yearOfEra + (month <= 2 ? 1 : 0));
+	}
+
+	/**
+	 * Return the month of the year, from 1 to 12, of the epoch day
+	 */
+	static int monthOfEpochDay(final long epochDay) {
+		long dayOfEra = marchBasedDayOfEra(epochDay);
+		return marchBasedMonth(dayOfEra, marchBasedYearOfEra(dayOfEra));
+	}
+
+	/**
+	 * Return the day of the month, from 1 to 31, of the epoch day
+	 */
+	static int dayOfMonthOfEpochDay(final long epochDay) {
+		long dayOfEra = marchBasedDayOfEra(epochDay);
+		int yearOfEra = marchBasedYearOfEra(dayOfEra);
+		int dayOfYear = (int) (dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100));
+		int monthIndex = (5 * dayOfYear + 2) / 153;
+		return dayOfYear - (153 * monthIndex + 2) / 5 + 1;
+	}
+
+	/**
+	 * Return the day of the year, from 1 to 366, of the epoch day
+	 */
+	static int dayOfYearOfEpochDay(final long epochDay) {
+		int year = yearOfEpochDay(epochDay);
+		return (int) (epochDay - epochDay(year, 1, 1)) + 1;
+	}
+
+	/**
+	 * Return the {@link Calendar} day of the week, from {@link Calendar#SUNDAY} to {@link Calendar#SATURDAY}, of the epoch day
+	 */
+	static int dayOfWeekOfEpochDay(final long epochDay) {
+		return (int) Math.floorMod(epochDay + 4, 7L) + 1;
+	}
+
+	/**
+	 * Return the number of days in the month of the proleptic Gregorian year
+	 */
+	static int lengthOfMonth(final long year, final int month) {
+		return month == 2 && isGregorianLeapYear(year) ? 29 : DAYS_IN_MONTH[month - 1];
+	}
+
+	static boolean isGregorianLeapYear(final long year) {
+		return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+	}
+
+	static int daysBeforeMonth(final long year, final int month) {
+		return DAYS_BEFORE_MONTH[month - 1] + (month > 2 && isGregorianLeapYear(year) ? 1 : 0);
+	}
+
+	private static long eraOf(final long epochDay) {
+		return Math.floorDiv(epochDay + DAYS_FROM_0000_03_01_TO_EPOCH, DAYS_PER_400_YEARS);
+	}
+
+	private static long marchBasedDayOfEra(final long epochDay) {
+		long shifted = epochDay + DAYS_FROM_0000_03_01_TO_EPOCH;
+		return shifted - Math.floorDiv(shifted, DAYS_PER_400_YEARS) * DAYS_PER_400_YEARS;
+	}
+
+	private static int marchBasedYearOfEra(final long dayOfEra) {
+		return (int) ((dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365);
+	}
+
+	private static int marchBasedMonth(final long dayOfEra, final int yearOfEra) {
+		int dayOfYear = (int) (dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100));
+		int monthIndex = (5 * dayOfYear + 2) / 153;
+		return monthIndex < 10 ? monthIndex + 3 : monthIndex - 9;
+	}
+
+	/**
+	 * Computes the fields arithmetically from the local epoch day and millisecond of the day
+	 */
+	private static class ArithmeticFields extends DateFields {
+
+		private static final long DAYS_PER_YEAR_AFTER_CHANGE = 366;
+
+		private final TimeZone zone;
+		private final long arithmeticFrom;
+		private final CalendarFields fallback;
+
+		private ArithmeticFields(final GregorianCalendar calendar) {
+			this.zone = calendar.getTimeZone();
+			long gregorianChange = calendar.getGregorianChange().getTime();
+			this.arithmeticFrom = gregorianChange > Long.MAX_VALUE - DAYS_PER_YEAR_AFTER_CHANGE * MILLIS_PER_DAY ? Long.MAX_VALUE : gregorianChange
+					+ DAYS_PER_YEAR_AFTER_CHANGE * MILLIS_PER_DAY;
+			this.fallback = new CalendarFields(calendar);
+		}
+
+		@Override
+		int get(final long millis, final int field) {
+			if (millis < arithmeticFrom) {
+				return fallback.get(millis, field);
+			}
+			long local = millis + zone.getOffset(millis);
+			long epochDay = Math.floorDiv(local, MILLIS_PER_DAY);
+			int millisOfDay = (int) (local - epochDay * MILLIS_PER_DAY);
+			switch (field) {
+				case Calendar.MILLISECOND:
+					return millisOfDay % MILLIS_PER_SECOND;
+				case Calendar.SECOND:
+					return millisOfDay / MILLIS_PER_SECOND % 60;
+				case Calendar.MINUTE:
+					return millisOfDay / MILLIS_PER_MINUTE % 60;
+				case Calendar.HOUR_OF_DAY:
+					return millisOfDay / MILLIS_PER_HOUR;
+				case Calendar.DAY_OF_WEEK:
+					return dayOfWeekOfEpochDay(epochDay);
+				case Calendar.DAY_OF_MONTH:
+					return dayOfMonthOfEpochDay(epochDay);
+				case Calendar.DAY_OF_YEAR:
+					return dayOfYearOfEpochDay(epochDay);
+				case Calendar.MONTH:
+					return monthOfEpochDay(epochDay) - 1;
+				case Calendar.YEAR:
+					return yearOfEpochDay(epochDay);
+				default:
+					return fallback.get(millis, field);
+			}
+		}
+
+		@Override
+		int getActualMaximum(final long millis, final int field) {
+			if (millis < arithmeticFrom || field != Calendar.DAY_OF_MONTH) {
+				return fallback.getActualMaximum(millis, field);
+			}
+			long epochDay = Math.floorDiv(millis + zone.getOffset(millis), MILLIS_PER_DAY);
+			return lengthOfMonth(yearOfEpochDay(epochDay), monthOfEpochDay(epochDay));
+		}
+
+		@Override
+		int getActualMinimum(final long millis, final int field) {
+			if (millis < arithmeticFrom || field != Calendar.DAY_OF_MONTH) {
+				return fallback.getActualMinimum(millis, field);
+			}
+			return 1;
+		}
+
+		@Override
+		boolean isLeapYear(final long millis) {
+			if (millis < arithmeticFrom) {
+				return fallback.isLeapYear(millis);
+			}
+			return isGregorianLeapYear(get(millis, Calendar.YEAR));
+		}
+	}
+
+	/**
+	 * Reads the fields from a copy of the reference calendar
+	 */
+	private static class CalendarFields extends DateFields {
+
+		private final Calendar prototype;
+
+		private CalendarFields(final Calendar prototype) {
+			this.prototype = prototype;
+		}
+
+		@Override
+		int get(final long millis, final int field) {
+			return calendarAt(millis).get(field);
+		}
+
+		@Override
+		int getActualMaximum(final long millis, final int field) {
+			return calendarAt(millis).getActualMaximum(field);
+		}
+
+		@Override
+		int getActualMinimum(final long millis, final int field) {
+			return calendarAt(millis).getActualMinimum(field);
+		}
+
+		@Override
+		boolean isLeapYear(final long millis) {
+			Calendar calendar = calendarAt(millis);
+			return calendar instanceof GregorianCalendar && ((GregorianCalendar) calendar).isLeapYear(calendar.get(Calendar.YEAR));
+		}
+
+		private Calendar calendarAt(final long millis) {
+			Calendar calendar = (Calendar) prototype.clone();
+			calendar.setTimeInMillis(millis);
+			return calendar;
+		}
+	}
+}
@@ -1,6 +1,7 @@
 package org.exparity.hamcrest.date;
 
 import java.text.SimpleDateFormat;
+import java.util.Calendar;
 import java.util.Date;
 
 /**
@@ -22,4 +23,22 @@ abstract class DateFormatter {
 
     }
 
+    /**
+     * Format the calendar, in its own timezone, into a string showing milliseconds
+     */
+    static String formatCalendarWithMillis(final Calendar calendar) {
+        if (calendar != null)
+            return format(calendar, DATE_PATTERN_WITH_MILLIS);
+        else return "null";
+    }
+
+    /**
+     * Format the calendar, in its own timezone, using the supplied pattern
+     */
+    static String format(final Calendar calendar, final String pattern) {
+        SimpleDateFormat format = new SimpleDateFormat(pattern);
+        format.setTimeZone(calendar.getTimeZone());
+        return format.format(calendar.getTime());
+    }
+
 }
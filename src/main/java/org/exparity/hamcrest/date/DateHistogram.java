@@ -0,0 +1,91 @@
+package org.exparity.hamcrest.date;
+
+import java.util.Calendar;
+
+/**
+ * Enumeration of the calendar fields dates can be counted by, such as the day of the week, with a fixed number of buckets for each field. The bucket of a
+ * date is read in the default calendar.
+ *
+ * @author Stewart Bissett
+ */
+public enum DateHistogram {
+
+	WEEKDAY("weekday", 7) {
+
+		@Override
+		int bucketOf(final DateFields fields, final long millis) {
+			return (fields.get(millis, Calendar.DAY_OF_WEEK) + 5) % 7;
+		}
+
+		@Override
+		String label(final int bucket) {
+			return Weekdays.values()[bucket].describe();
+		}
+	},
+	HOUR("hour", 24) {
+
+		@Override
+		int bucketOf(final DateFields fields, final long millis) {
+			return fields.get(millis, Calendar.HOUR_OF_DAY);
+		}
+
+		@Override
+		String label(final int bucket) {
+			return bucket < 10 ? "0" + bucket : String.valueOf(bucket);
+		}
+	},
+	MONTH("month", 12) {
+
+		@Override
+		int bucketOf(final DateFields fields, final long millis) {
+			return fields.get(millis, Calendar.MONTH);
+		}
+
+		@Override
+		String label(final int bucket) {
+			return Months.fromCalendar(bucket).describe();
+		}
+	};
+
+	private final String description;
+	private final int buckets;
+
+	private DateHistogram(final String description, final int buckets) {
+		this.description = description;
+		this.buckets = buckets;
+	}
+
+	/**
+	 * Return the number of buckets, e.g. 7 for the days of the week
+	 */
+	public int buckets() {
+		return buckets;
+	}
+
+	public String describe() {
+		return description;
+	}
+
+	/**
+	 * Return a description of the non-zero counts of each bucket, e.g. "by weekday: saturday=2 sunday=1"
+	 */
+	String describe(final long[] counts) {
+		StringBuilder description = new StringBuilder("by ").append(this.description).append(":");
+		for (int i = 0; i < counts.length; ++i) {
+			if (counts[i] > 0) {
+				description.append(" ").append(label(i)).append("=").append(counts[i]);
+			}
+		}
+		return description.toString();
+	}
+
+	/**
+	 * Return the bucket, from 0 to one less than the number of buckets, of the instant
+	 */
+	abstract int bucketOf(DateFields fields, long millis);
+
+	/**
+	 * Return the description of the bucket, e.g. monday
+	 */
+	abstract String label(int bucket);
+}
@@ -5,11 +5,22 @@ import org.hamcrest.Matcher;
 import org.hamcrest.core.IsEqual;
 import org.hamcrest.core.IsNull;
 
+import java.nio.file.Path;
+import java.time.temporal.ChronoUnit;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
 import java.util.concurrent.TimeUnit;
+import java.util.function.LongPredicate;
+import java.util.stream.Stream;
 
 /**
  * Static factory for creating {@link org.hamcrest.Matcher} instances for comparing dates
+ * <p>
+ * The sequence matchers, e.g. everyDate, hasNoGapLongerThan or coversEvery, examine a date sequence, which is a <code>long[]</code> of epoch
+ * milliseconds, a <code>Date[]</code>, an {@link Iterable} of dates or a {@link TimestampColumn}, including a memory-mapped {@link TimestampFile}. Any
+ * other value is a mismatch, as is a null date in the sequence.
  *
  * @author Stewart Bissett
  */
@@ -1022,4 +1033,935 @@ public abstract class DateMatchers {
         return IsLeapYear.isLeapYear();
     }
 
+    /**
+     * Compiles a date matcher into a predicate over epoch milliseconds so the same matcher can drive both assertions and bulk filtering, e.g. of a
+     * {@link java.util.stream.LongStream}. The matchers in this library, and the alternatives they are built from such as isWeekday, are evaluated directly
+     * on the milliseconds without creating a {@link Date} or {@link java.util.Calendar} per instant. Any other matcher is adapted by wrapping each instant in
+     * a {@link Date}.
+     * <p>
+     * Date part matchers are evaluated in the default timezone at the time of compilation.
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * long weekdays = LongStream.of(timestamps).filter(compile(isWeekday())).count();
+     * </pre>
+     *
+     * @param matcher the date matcher to compile
+     */
+    public static LongPredicate compile(final Matcher<? super Date> matcher) {
+        return DatePredicates.compile(matcher);
+    }
+
+    /**
+     * Creates a matcher that matches when every date in the examined collection matches the date matcher. Random access lists of 16384 or more dates are
+     * examined in parallel on the common fork-join pool and the mismatch reported is always the one with the lowest index.
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDates, everyDate(isWeekday()))
+     * </pre>
+     *
+     * @param matcher the matcher to apply to each date
+     */
+    public static Matcher<Iterable<? extends Date>> everyDate(final Matcher<? super Date> matcher) {
+        return IsEveryDate.everyDate(matcher);
+    }
+
+    /**
+     * Creates a matcher that matches when every date in the examined collection matches the date matcher, examining random access lists in parallel once
+     * they reach the given size
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDates, everyDate(isWeekday(), 100000))
+     * </pre>
+     *
+     * @param matcher           the matcher to apply to each date
+     * @param parallelThreshold the minimum size at which a random access list is examined in parallel
+     */
+    public static Matcher<Iterable<? extends Date>> everyDate(final Matcher<? super Date> matcher, final int parallelThreshold) {
+        return IsEveryDate.everyDate(matcher, parallelThreshold);
+    }
+
+    /**
+     * Creates a matcher that matches when every date in the examined array matches the date matcher. Arrays of 16384 or more dates are examined in
+     * parallel on the common fork-join pool and the mismatch reported is always the one with the lowest index.
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDateArray, everyDateInArray(isWeekday()))
+     * </pre>
+     *
+     * @param matcher the matcher to apply to each date
+     */
+    public static Matcher<Date[]> everyDateInArray(final Matcher<? super Date> matcher) {
+        return IsEveryDate.everyDateInArray(matcher);
+    }
+
+    /**
+     * Creates a matcher that matches when every date in the examined array matches the date matcher, examining the array in parallel once it reaches the
+     * given size
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDateArray, everyDateInArray(isWeekday(), 100000))
+     * </pre>
+     *
+     * @param matcher           the matcher to apply to each date
+     * @param parallelThreshold the minimum size at which the array is examined in parallel
+     */
+    public static Matcher<Date[]> everyDateInArray(final Matcher<? super Date> matcher, final int parallelThreshold) {
+        return IsEveryDate.everyDateInArray(matcher, parallelThreshold);
+    }
+
+    /**
+     * Returns the number of epoch millisecond timestamps in the array which match the date matcher. The matcher is compiled once, see
+     * {@link #compile(Matcher)}, and matchers which reduce to an interval, e.g. after, before or within, are counted with a branch-free interval check.
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * int inWindow = countMatches(timestamps, within(1, TimeUnit.HOURS, batchTime));
+     * </pre>
+     *
+     * @param millis  the epoch millisecond timestamps to examine
+     * @param matcher the date matcher to apply to each timestamp
+     */
+    public static int countMatches(final long[] millis, final Matcher<? super Date> matcher) {
+        return BulkMatches.countMatches(millis, 0, millis.length, compile(matcher));
+    }
+
+    /**
+     * Returns the index of the first epoch millisecond timestamp in the array which does not match the date matcher, or -1 if every timestamp matches
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(firstMismatch(timestamps, after(batchStart)), equalTo(-1));
+     * </pre>
+     *
+     * @param millis  the epoch millisecond timestamps to examine
+     * @param matcher the date matcher to apply to each timestamp
+     */
+    public static int firstMismatch(final long[] millis, final Matcher<? super Date> matcher) {
+        return BulkMatches.firstMismatch(millis, 0, millis.length, compile(matcher));
+    }
+
+    /**
+     * Creates a matcher that matches when every timestamp in the examined column matches the date matcher
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(TimestampColumn.of(buffer, ByteOrder.LITTLE_ENDIAN), everyTimestamp(isWeekday()))
+     * </pre>
+     *
+     * @param matcher the matcher to apply to each timestamp
+     */
+    public static Matcher<TimestampColumn> everyTimestamp(final Matcher<? super Date> matcher) {
+        return IsEveryTimestamp.everyTimestamp(matcher);
+    }
+
+    /**
+     * Creates a matcher that matches when every timestamp in the examined column matches the date matcher, examining the column in parallel once it
+     * reaches the given size
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(TimestampColumn.of(buffer, ByteOrder.LITTLE_ENDIAN), everyTimestamp(isWeekday(), 1000000))
+     * </pre>
+     *
+     * @param matcher           the matcher to apply to each timestamp
+     * @param parallelThreshold the minimum size at which the column is examined in parallel
+     */
+    public static Matcher<TimestampColumn> everyTimestamp(final Matcher<? super Date> matcher, final long parallelThreshold) {
+        return IsEveryTimestamp.everyTimestamp(matcher, parallelThreshold);
+    }
+
+    /**
+     * Returns the number of timestamps in the column which match the date matcher. Large columns are counted in parallel.
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * long inWindow = countMatches(TimestampColumn.of(buffer, ByteOrder.BIG_ENDIAN), within(1, TimeUnit.HOURS, batchTime));
+     * </pre>
+     *
+     * @param column  the timestamps to examine
+     * @param matcher the date matcher to apply to each timestamp
+     */
+    public static long countMatches(final TimestampColumn column, final Matcher<? super Date> matcher) {
+        return column.countMatches(compile(matcher), IsEveryTimestamp.DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Returns the index of the first timestamp in the column which does not match the date matcher, or -1 if every timestamp matches. Large columns are
+     * searched in parallel.
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(firstMismatch(TimestampColumn.of(buffer, ByteOrder.BIG_ENDIAN), after(batchStart)), equalTo(-1L));
+     * </pre>
+     *
+     * @param column  the timestamps to examine
+     * @param matcher the date matcher to apply to each timestamp
+     */
+    public static long firstMismatch(final TimestampColumn column, final Matcher<? super Date> matcher) {
+        return column.firstMismatch(compile(matcher), IsEveryTimestamp.DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Returns a report of the timestamps in the column which do not match the date matcher, holding the number of mismatches and the index and value of
+     * the first mismatches up to the limit. Large columns are examined in parallel.
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * MismatchReport report = reportMismatches(TimestampFile.map(path, ByteOrder.LITTLE_ENDIAN), isWeekday(), 10);
+     * </pre>
+     *
+     * @param column  the timestamps to examine
+     * @param matcher the date matcher to apply to each timestamp
+     * @param limit   the maximum number of mismatches to keep the index and value of
+     */
+    public static MismatchReport reportMismatches(final TimestampColumn column, final Matcher<? super Date> matcher, final int limit) {
+        return column.report(compile(matcher), new MismatchReport(limit), IsEveryTimestamp.DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined text starts with an ISO-8601 timestamp, or a timestamp in the layout
+     * <code>dd MMM yyyy HH:mm:ss SSS'ms' Z</code>, which matches the date matcher
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat("2012-01-01T11:00:00.000Z INFO started", hasTimestamp(sameDay(jan1st2012)))
+     * </pre>
+     *
+     * @param matcher the matcher to apply to the timestamp
+     */
+    public static Matcher<CharSequence> hasTimestamp(final Matcher<? super Date> matcher) {
+        return IsTimestampText.hasTimestamp(matcher);
+    }
+
+    /**
+     * Creates a matcher that matches when every line of the examined text starts with a timestamp which matches the date matcher
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(logText, everyLineHasTimestamp(within(1, TimeUnit.HOURS, batchTime)))
+     * </pre>
+     *
+     * @param matcher the matcher to apply to the timestamp of each line
+     */
+    public static Matcher<CharSequence> everyLineHasTimestamp(final Matcher<? super Date> matcher) {
+        return IsEveryLineTimestamp.everyLineHasTimestamp(matcher);
+    }
+
+    /**
+     * Creates a matcher that matches when every line of the examined file starts with a timestamp which matches the date matcher. Large files are
+     * memory-mapped and examined in parallel.
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(Paths.get("app.log"), everyLineInFileHasTimestamp(within(1, TimeUnit.HOURS, batchTime)))
+     * </pre>
+     *
+     * @param matcher the matcher to apply to the timestamp of each line
+     */
+    public static Matcher<Path> everyLineInFileHasTimestamp(final Matcher<? super Date> matcher) {
+        return IsEveryLineTimestamp.everyLineInFileHasTimestamp(matcher);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined text is a timestamp in the compiled pattern which matches the date matcher
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * DatePattern partnerFormat = DatePattern.compile("yyyyMMdd HHmmss.SSS");
+     * assertThat("20120101 110000.000", parsedAs(partnerFormat, sameDay(jan1st2012)))
+     * </pre>
+     *
+     * @param pattern the pattern the text is written in
+     * @param matcher the matcher to apply to the parsed date
+     */
+    public static Matcher<CharSequence> parsedAs(final DatePattern pattern, final Matcher<? super Date> matcher) {
+        return IsParsedDate.parsedAs(pattern, matcher);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined text is a timestamp in the pattern which matches the date matcher
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat("20120101 110000.000", parsedAs("yyyyMMdd HHmmss.SSS", sameDay(jan1st2012)))
+     * </pre>
+     *
+     * @param pattern the pattern the text is written in
+     * @param matcher the matcher to apply to the parsed date
+     */
+    public static Matcher<CharSequence> parsedAs(final String pattern, final Matcher<? super Date> matcher) {
+        return IsParsedDate.parsedAs(pattern, matcher);
+    }
+
+    /**
+     * Creates a matcher that matches when every value in the selected columns of the examined CSV file is a timestamp which matches the date matcher
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(Paths.get("orders.csv"), everyCsvTimestamp(CsvTimestamps.columns("created"), within(1, TimeUnit.DAYS, exportTime)))
+     * </pre>
+     *
+     * @param columns the columns to read
+     * @param matcher the matcher to apply to each value
+     */
+    public static Matcher<Path> everyCsvTimestamp(final CsvTimestamps columns, final Matcher<? super Date> matcher) {
+        return IsEveryCsvTimestamp.everyCsvTimestamp(columns, matcher);
+    }
+
+    /**
+     * Creates a matcher that matches when every date in the examined stream matches the date matcher, stopping at the first date which does not
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(events.stream().map(Event::getTime), everyDateInStream(isWeekday()))
+     * </pre>
+     *
+     * @param matcher the matcher to apply to each date
+     */
+    public static Matcher<Stream<? extends Date>> everyDateInStream(final Matcher<? super Date> matcher) {
+        return IsLazyDates.everyDateInStream(matcher);
+    }
+
+    /**
+     * Creates a matcher that matches when every date returned by the examined iterator matches the date matcher, stopping at the first date which does not
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(eventTimes.iterator(), everyDateInIterator(isWeekday()))
+     * </pre>
+     *
+     * @param matcher the matcher to apply to each date
+     */
+    public static Matcher<Iterator<? extends Date>> everyDateInIterator(final Matcher<? super Date> matcher) {
+        return IsLazyDates.everyDateInIterator(matcher);
+    }
+
+    /**
+     * Creates a matcher that matches when every date from the examined spliterator matches the date matcher, stopping at the first date which does not
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(eventTimes.spliterator(), everyDateInSpliterator(isWeekday()))
+     * </pre>
+     *
+     * @param matcher the matcher to apply to each date
+     */
+    public static Matcher<Spliterator<? extends Date>> everyDateInSpliterator(final Matcher<? super Date> matcher) {
+        return IsLazyDates.everyDateInSpliterator(matcher);
+    }
+
+    /**
+     * Creates a matcher that matches when any date in the examined stream matches the date matcher, stopping at the first date which does
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(events.stream().map(Event::getTime), anyDateInStream(isWeekend()))
+     * </pre>
+     *
+     * @param matcher the matcher to apply to each date
+     */
+    public static Matcher<Stream<? extends Date>> anyDateInStream(final Matcher<? super Date> matcher) {
+        return IsLazyDates.anyDateInStream(matcher);
+    }
+
+    /**
+     * Creates a matcher that matches when any date returned by the examined iterator matches the date matcher, stopping at the first date which does
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(eventTimes.iterator(), anyDateInIterator(isWeekend()))
+     * </pre>
+     *
+     * @param matcher the matcher to apply to each date
+     */
+    public static Matcher<Iterator<? extends Date>> anyDateInIterator(final Matcher<? super Date> matcher) {
+        return IsLazyDates.anyDateInIterator(matcher);
+    }
+
+    /**
+     * Creates a matcher that matches when any date from the examined spliterator matches the date matcher, stopping at the first date which does
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(eventTimes.spliterator(), anyDateInSpliterator(isWeekend()))
+     * </pre>
+     *
+     * @param matcher the matcher to apply to each date
+     */
+    public static Matcher<Spliterator<? extends Date>> anyDateInSpliterator(final Matcher<? super Date> matcher) {
+        return IsLazyDates.anyDateInSpliterator(matcher);
+    }
+
+    /**
+     * Creates a matcher that matches when a sample of the dates in the examined date sequence shows with the confidence that at most the maximum
+     * proportion of the dates do not match the date matcher
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(TimestampFile.map(path, ByteOrder.LITTLE_ENDIAN), sampled(isWeekday(), 0.99, 0.001))
+     * </pre>
+     *
+     * @param matcher       the matcher to apply to each sampled date
+     * @param confidence    the confidence, between 0 and 1 exclusive, that the defect rate is within the maximum
+     * @param maxDefectRate the maximum proportion, between 0 and 1 exclusive, of dates which may not match
+     */
+    public static Matcher<Object> sampled(final Matcher<? super Date> matcher, final double confidence, final double maxDefectRate) {
+        return IsSampledDates.sampled(matcher, confidence, maxDefectRate);
+    }
+
+    /**
+     * Returns a report of the timestamps in the column which do not match the date matcher, holding the number of mismatches, the index and value of the
+     * first mismatches up to the limit and the number of mismatches in each bucket of the histogram. Large columns are examined in parallel.
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * MismatchReport report = reportMismatches(TimestampFile.map(path, ByteOrder.LITTLE_ENDIAN), isWeekday(), 10, DateHistogram.WEEKDAY);
+     * </pre>
+     *
+     * @param column    the timestamps to examine
+     * @param matcher   the date matcher to apply to each timestamp
+     * @param limit     the maximum number of mismatches to keep the index and value of
+     * @param histogram the field to count the mismatches by
+     */
+    public static MismatchReport reportMismatches(final TimestampColumn column, final Matcher<? super Date> matcher, final int limit,
+            final DateHistogram histogram) {
+        return column.report(compile(matcher), new MismatchReport(limit, histogram), IsEveryTimestamp.DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Creates a matcher that matches when every date in the examined date sequence matches the date matcher, summarising the first 10 mismatches on
+     * failure rather than describing the whole sequence
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDates, everyDateWithSummary(isWeekday()))
+     * </pre>
+     *
+     * @param matcher the matcher to apply to each date
+     */
+    public static Matcher<Object> everyDateWithSummary(final Matcher<? super Date> matcher) {
+        return IsEveryDateWithSummary.everyDateWithSummary(matcher);
+    }
+
+    /**
+     * Creates a matcher that matches when every date in the examined date sequence matches the date matcher, summarising the mismatches up to the
+     * limit and counting every mismatch by the histogram on failure
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDates, everyDateWithSummary(isWeekday(), 5, DateHistogram.WEEKDAY))
+     * </pre>
+     *
+     * @param matcher   the matcher to apply to each date
+     * @param limit     the maximum number of mismatches to describe
+     * @param histogram the field to count the mismatches by
+     */
+    public static Matcher<Object> everyDateWithSummary(final Matcher<? super Date> matcher, final int limit, final DateHistogram histogram) {
+        return IsEveryDateWithSummary.everyDateWithSummary(matcher, limit, histogram);
+    }
+
+    /**
+     * Creates a matcher that matches when every date in the examined date sequence is the same as or after the date before it
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDates, isChronological())
+     * </pre>
+     */
+    public static Matcher<Object> isChronological() {
+        return IsChronological.isChronological();
+    }
+
+    /**
+     * Creates a matcher that matches when every date in the examined date sequence is after the date before it
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDates, isStrictlyIncreasing())
+     * </pre>
+     */
+    public static Matcher<Object> isStrictlyIncreasing() {
+        return IsChronological.isStrictlyIncreasing();
+    }
+
+    /**
+     * Creates a matcher that matches when no date in the examined date sequence is more than the given period before the date before it
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDates, isChronologicalWithin(5, TimeUnit.MILLISECONDS))
+     * </pre>
+     *
+     * @param period the timeunit interval a date may be before the date before it
+     * @param unit   the timeunit to define the length of the period
+     */
+    public static Matcher<Object> isChronologicalWithin(final long period, final TimeUnit unit) {
+        return IsChronological.isChronologicalWithin(period, unit);
+    }
+
+    /**
+     * Creates a matcher that matches when no two consecutive dates, in chronological order, in the examined date sequence are further apart than
+     * the given period
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(heartbeats, hasNoGapLongerThan(30, TimeUnit.SECONDS))
+     * </pre>
+     *
+     * @param period the timeunit interval consecutive dates may be apart
+     * @param unit   the timeunit to define the length of the period
+     */
+    public static Matcher<Object> hasNoGapLongerThan(final long period, final TimeUnit unit) {
+        return IsWithoutGaps.hasNoGapLongerThan(period, unit);
+    }
+
+    /**
+     * Creates a matcher that matches when each date in the examined date sequence follows the date before it by the period, give or take the jitter
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(jobRuns, isPeriodic(300, 30, TimeUnit.SECONDS))
+     * </pre>
+     *
+     * @param period the timeunit interval between consecutive dates
+     * @param jitter the timeunit interval each gap may differ from the period by
+     * @param unit   the timeunit to define the length of the period and the jitter
+     */
+    public static Matcher<Object> isPeriodic(final long period, final long jitter, final TimeUnit unit) {
+        return IsPeriodic.isPeriodic(period, jitter, unit);
+    }
+
+    /**
+     * Creates a matcher that matches when each date in the examined date sequence follows the date before it by a whole number of periods, give or
+     * take the jitter, missing no more than the given number of beats in all
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(jobRuns, isPeriodic(300, 30, TimeUnit.SECONDS, 2))
+     * </pre>
+     *
+     * @param period      the timeunit interval between consecutive dates
+     * @param jitter      the timeunit interval each gap may differ from a whole number of periods by
+     * @param unit        the timeunit to define the length of the period and the jitter
+     * @param missedBeats the number of beats which may be missed across the whole sequence
+     */
+    public static Matcher<Object> isPeriodic(final long period, final long jitter, final TimeUnit unit, final long missedBeats) {
+        return IsPeriodic.isPeriodic(period, jitter, unit, missedBeats);
+    }
+
+    /**
+     * Creates a matcher that matches when no window of the given length holds more than the given number of dates from the examined date sequence
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(requestTimes, atMostEventsPerWindow(100, 1, TimeUnit.SECONDS))
+     * </pre>
+     *
+     * @param events the maximum number of dates in any window
+     * @param window the timeunit interval of the window
+     * @param unit   the timeunit to define the length of the window
+     */
+    public static Matcher<Object> atMostEventsPerWindow(final long events, final long window, final TimeUnit unit) {
+        return IsWithinRate.atMostEventsPerWindow(events, window, unit);
+    }
+
+    /**
+     * Creates a matcher that matches when the number of dates from the examined date sequence in each window, from the window holding the first
+     * date to the window holding the last, matches the count matcher. The windows are aligned to the epoch.
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(events, everyWindow(1, TimeUnit.MINUTES, lessThanOrEqualTo(10000L)))
+     * </pre>
+     *
+     * @param window       the timeunit interval of each window
+     * @param unit         the timeunit to define the length of the window
+     * @param countMatcher the matcher to apply to the number of dates in each window
+     */
+    public static Matcher<Object> everyWindow(final long window, final TimeUnit unit, final Matcher<? super Long> countMatcher) {
+        return IsEveryWindow.everyWindow(window, unit, countMatcher);
+    }
+
+    /**
+     * Creates a matcher that matches when the number of dates from the examined date sequence in each window, starting at the first date of the
+     * range and ending before the last, matches the count matcher. Where the range is not a whole number of windows the last window is cut short at
+     * the end of the range.
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(events, everyWindow(1, TimeUnit.HOURS, startOfDay, endOfDay, greaterThan(0L)))
+     * </pre>
+     *
+     * @param window       the timeunit interval of each window
+     * @param unit         the timeunit to define the length of the window
+     * @param from         the start of the first window
+     * @param to           the end of the range, exclusive
+     * @param countMatcher the matcher to apply to the number of dates in each window
+     */
+    public static Matcher<Object> everyWindow(final long window, final TimeUnit unit, final Date from, final Date to,
+            final Matcher<? super Long> countMatcher) {
+        return IsEveryWindow.everyWindow(window, unit, from, to, countMatcher);
+    }
+
+    /**
+     * Creates a matcher that matches when, of the dates in the examined date sequence, the number of dates which fall on the days of the week
+     * matches the count matcher
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(batchRuns, countOn(equalTo(0L), Weekdays.SATURDAY, Weekdays.SUNDAY))
+     * </pre>
+     *
+     * @param countMatcher the matcher to apply to the number of dates on the days of the week
+     * @param weekdays     the days of the week to count the dates on
+     */
+    public static Matcher<Object> countOn(final Matcher<? super Long> countMatcher, final Weekdays... weekdays) {
+        return IsDistributed.countOn(countMatcher, weekdays);
+    }
+
+    /**
+     * Creates a matcher that matches when, of the dates in the examined date sequence, the proportion, from 0 to 1, of the dates which fall on the
+     * days of the week matches the proportion matcher
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(transactionTimes, proportionOn(lessThan(0.02), Weekdays.SATURDAY, Weekdays.SUNDAY))
+     * </pre>
+     *
+     * @param proportionMatcher the matcher to apply to the proportion of dates on the days of the week
+     * @param weekdays          the days of the week to count the dates on
+     */
+    public static Matcher<Object> proportionOn(final Matcher<? super Double> proportionMatcher, final Weekdays... weekdays) {
+        return IsDistributed.proportionOn(proportionMatcher, weekdays);
+    }
+
+    /**
+     * Creates a matcher that matches when, of the dates in the examined date sequence, the number of dates from the start of the first hour of the
+     * day up to the start of the last hour matches the count matcher
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(batchRuns, countInHours(equalTo(0L), 1, 3))
+     * </pre>
+     *
+     * @param countMatcher the matcher to apply to the number of dates in the hours
+     * @param fromHour     the first hour of the day to count the dates in
+     * @param toHour       the hour of the day to stop counting the dates at, from 0 to 24 but not the first hour
+     */
+    public static Matcher<Object> countInHours(final Matcher<? super Long> countMatcher, final int fromHour, final int toHour) {
+        return IsDistributed.countInHours(countMatcher, fromHour, toHour);
+    }
+
+    /**
+     * Creates a matcher that matches when, of the dates in the examined date sequence, the proportion, from 0 to 1, of the dates from the start of
+     * the first hour of the day up to the start of the last hour matches the proportion matcher
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(logins, proportionInHours(greaterThan(0.9), 8, 18))
+     * </pre>
+     *
+     * @param proportionMatcher the matcher to apply to the proportion of dates in the hours
+     * @param fromHour          the first hour of the day to count the dates in
+     * @param toHour            the hour of the day to stop counting the dates at, from 0 to 24 but not the first hour
+     */
+    public static Matcher<Object> proportionInHours(final Matcher<? super Double> proportionMatcher, final int fromHour, final int toHour) {
+        return IsDistributed.proportionInHours(proportionMatcher, fromHour, toHour);
+    }
+
+    /**
+     * Creates a matcher that matches when, of the dates in the examined date sequence, the number of dates which fall in the months matches the
+     * count matcher
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(closures, countIn(lessThan(3L), Months.DECEMBER))
+     * </pre>
+     *
+     * @param countMatcher the matcher to apply to the number of dates in the months
+     * @param months       the months to count the dates in
+     */
+    public static Matcher<Object> countIn(final Matcher<? super Long> countMatcher, final Months... months) {
+        return IsDistributed.countIn(countMatcher, months);
+    }
+
+    /**
+     * Creates a matcher that matches when, of the dates in the examined date sequence, the proportion, from 0 to 1, of the dates which fall in the
+     * months matches the proportion matcher
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(bookings, proportionIn(greaterThan(0.5), Months.JULY, Months.AUGUST))
+     * </pre>
+     *
+     * @param proportionMatcher the matcher to apply to the proportion of dates in the months
+     * @param months            the months to count the dates in
+     */
+    public static Matcher<Object> proportionIn(final Matcher<? super Double> proportionMatcher, final Months... months) {
+        return IsDistributed.proportionIn(proportionMatcher, months);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date sequence holds a date in every day, hour or minute from the period holding the first
+     * date of the range to the period holding the last. Hours and minutes are aligned to the epoch, not to the local clock, so in a zone with a
+     * half hour offset they start at half past the hour
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(partitionTimes, coversEvery(ChronoUnit.DAYS, firstOfJune, lastOfJune))
+     * </pre>
+     *
+     * @param unit the period to cover, one of {@link ChronoUnit#DAYS}, {@link ChronoUnit#HOURS} or {@link ChronoUnit#MINUTES}
+     * @param from a date in the first period to cover
+     * @param to   a date in the last period to cover
+     */
+    public static Matcher<Object> coversEvery(final ChronoUnit unit, final Date from, final Date to) {
+        return IsCovering.coversEvery(unit, from, to);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date sequence holds a date in every period of the calendar field, a day, hour or minute
+     * field, from the period holding the first date of the range to the period holding the last. Hours and minutes are aligned to the epoch, not to
+     * the local clock, so in a zone with a half hour offset they start at half past the hour
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(partitionTimes, coversEvery(Calendar.HOUR_OF_DAY, startOfDay, endOfDay))
+     * </pre>
+     *
+     * @param calendarField the calendar field of the period to cover, such as {@link java.util.Calendar#DAY_OF_MONTH} or
+     *                      {@link java.util.Calendar#HOUR_OF_DAY}
+     * @param from          a date in the first period to cover
+     * @param to            a date in the last period to cover
+     */
+    public static Matcher<Object> coversEvery(final int calendarField, final Date from, final Date to) {
+        return IsCovering.coversEvery(calendarField, from, to);
+    }
+
+    /**
+     * Creates a matcher that matches when no two dates in the examined date sequence are the same instant
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(eventTimes, hasNoDuplicateInstants())
+     * </pre>
+     */
+    public static Matcher<Object> hasNoDuplicateInstants() {
+        return IsWithoutDuplicates.hasNoDuplicateInstants();
+    }
+
+    /**
+     * Creates a matcher that matches when no two dates in the examined date sequence are within the given period of each other
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(eventTimes, hasNoDuplicatesWithin(5, TimeUnit.MILLISECONDS))
+     * </pre>
+     *
+     * @param period the timeunit interval two dates must be further apart than
+     * @param unit   the timeunit to define the length of the period
+     */
+    public static Matcher<Object> hasNoDuplicatesWithin(final long period, final TimeUnit unit) {
+        return IsWithoutDuplicates.hasNoDuplicatesWithin(period, unit);
+    }
+
+    /**
+     * Creates a matcher that matches when the dates in the examined date sequence pair one for one, in any order, with the expected dates, each
+     * within the given period of its pair
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(actualTimes, containsInAnyOrderWithin(expectedTimes, 5, TimeUnit.MILLISECONDS))
+     * </pre>
+     *
+     * @param expected the dates expected in the examined sequence
+     * @param period   the timeunit interval each date may be from its pair
+     * @param unit     the timeunit to define the length of the period
+     */
+    public static Matcher<Object> containsInAnyOrderWithin(final Iterable<Date> expected, final long period, final TimeUnit unit) {
+        return IsContainingWithin.containsInAnyOrderWithin(expected, period, unit);
+    }
+
+    /**
+     * Creates a matcher that matches when the dates in the examined date sequence pair one for one, in any order, with the expected epoch
+     * milliseconds, each within the given period of its pair
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(actualTimes, containsInAnyOrderWithin(expectedMillis, 5, TimeUnit.MILLISECONDS))
+     * </pre>
+     *
+     * @param expected the epoch milliseconds expected in the examined sequence
+     * @param period   the timeunit interval each date may be from its pair
+     * @param unit     the timeunit to define the length of the period
+     */
+    public static Matcher<Object> containsInAnyOrderWithin(final long[] expected, final long period, final TimeUnit unit) {
+        return IsContainingWithin.containsInAnyOrderWithin(expected, period, unit);
+    }
+
+    /**
+     * Creates a matcher that matches when each date in the examined date sequence is within the given period of the expected date at the same index
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(sentTimes, pairwiseWithin(scheduledTimes, 1, TimeUnit.SECONDS))
+     * </pre>
+     *
+     * @param expected the dates expected at each index
+     * @param period   the timeunit interval each date may be from the expected date
+     * @param unit     the timeunit to define the length of the period
+     */
+    public static Matcher<Object> pairwiseWithin(final List<Date> expected, final long period, final TimeUnit unit) {
+        return IsPairwiseWithin.pairwiseWithin(expected, period, unit);
+    }
+
+    /**
+     * Creates a matcher that matches when each date in the examined date sequence is within the given period of the expected epoch milliseconds at
+     * the same index
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(sentMillis, pairwiseWithin(scheduledMillis, 1, TimeUnit.SECONDS))
+     * </pre>
+     *
+     * @param expected the epoch milliseconds expected at each index
+     * @param period   the timeunit interval each date may be from the expected date
+     * @param unit     the timeunit to define the length of the period
+     */
+    public static Matcher<Object> pairwiseWithin(final long[] expected, final long period, final TimeUnit unit) {
+        return IsPairwiseWithin.pairwiseWithin(expected, period, unit);
+    }
+
+    /**
+     * Creates a matcher that matches when every date in the examined date sequence has a partner among the given dates from the period before it to
+     * the period after it. A partner may be shared by several dates.
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(requestTimes, eachHasPartnerIn(responseTimes, 0, 2, TimeUnit.SECONDS))
+     * </pre>
+     *
+     * @param partners the dates to find partners among
+     * @param before   the timeunit interval a partner may be before the date
+     * @param after    the timeunit interval a partner may be after the date
+     * @param unit     the timeunit to define the length of the periods
+     */
+    public static Matcher<Object> eachHasPartnerIn(final Iterable<Date> partners, final long before, final long after, final TimeUnit unit) {
+        return IsPartnered.eachHasPartnerIn(partners, before, after, unit);
+    }
+
+    /**
+     * Creates a matcher that matches when every date in the examined date sequence has a partner among the given epoch milliseconds from the period
+     * before it to the period after it. A partner may be shared by several dates.
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(requestMillis, eachHasPartnerIn(responseMillis, 0, 2, TimeUnit.SECONDS))
+     * </pre>
+     *
+     * @param partners the epoch milliseconds to find partners among
+     * @param before   the timeunit interval a partner may be before the date
+     * @param after    the timeunit interval a partner may be after the date
+     * @param unit     the timeunit to define the length of the periods
+     */
+    public static Matcher<Object> eachHasPartnerIn(final long[] partners, final long before, final long after, final TimeUnit unit) {
+        return IsPartnered.eachHasPartnerIn(partners, before, after, unit);
+    }
+
+    /**
+     * Creates a matcher that matches when every date in the examined date sequence has a partner of its own among the given dates from the period
+     * before it to the period after it
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(requestTimes, eachHasDistinctPartnerIn(responseTimes, 0, 2, TimeUnit.SECONDS))
+     * </pre>
+     *
+     * @param partners the dates to find partners among
+     * @param before   the timeunit interval a partner may be before the date
+     * @param after    the timeunit interval a partner may be after the date
+     * @param unit     the timeunit to define the length of the periods
+     */
+    public static Matcher<Object> eachHasDistinctPartnerIn(final Iterable<Date> partners, final long before, final long after, final TimeUnit unit) {
+        return IsPartnered.eachHasDistinctPartnerIn(partners, before, after, unit);
+    }
+
+    /**
+     * Creates a matcher that matches when every date in the examined date sequence has a partner of its own among the given epoch milliseconds from
+     * the period before it to the period after it
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(requestMillis, eachHasDistinctPartnerIn(responseMillis, 0, 2, TimeUnit.SECONDS))
+     * </pre>
+     *
+     * @param partners the epoch milliseconds to find partners among
+     * @param before   the timeunit interval a partner may be before the date
+     * @param after    the timeunit interval a partner may be after the date
+     * @param unit     the timeunit to define the length of the periods
+     */
+    public static Matcher<Object> eachHasDistinctPartnerIn(final long[] partners, final long before, final long after, final TimeUnit unit) {
+        return IsPartnered.eachHasDistinctPartnerIn(partners, before, after, unit);
+    }
+
 }
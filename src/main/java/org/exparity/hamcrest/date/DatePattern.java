@@ -0,0 +1,293 @@
+package org.exparity.hamcrest.date;
+
+import java.util.TimeZone;
+
+/**
+ * A compiled {@link java.text.SimpleDateFormat}-style pattern for fixed width timestamp layouts, such as <code>yyyyMMdd HHmmss.SSS</code>. Compiling works
+ * out the position of every field and literal once so parsing reads each field straight from its offset in the text into epoch milliseconds without
+ * creating any objects. A compiled pattern holds no parsing state so it can be reused and shared between threads.
+ * <p/>
+ * The supported pattern letters are <code>yyyy</code>, <code>MM</code>, <code>MMM</code> (English abbreviations), <code>dd</code>, <code>HH</code>,
+ * <code>mm</code>, <code>ss</code>, <code>SSS</code> and <code>Z</code> (an offset such as <code>+0100</code>). Any other character, or text in single
+ * quotes, must appear exactly as written. Fields which are missing from the pattern default to the start of 1970-01-01. Without a <code>Z</code> field the
+ * timestamp is read in the timezone the pattern was compiled with. Unlike {@link java.text.SimpleDateFormat} the whole text must match the pattern and
+ * dates are in the proleptic Gregorian calendar.
+ *
+ * @author Stewart Bissett
+ */
+public final class DatePattern {
+
+	private static final int LITERAL = 0, YEAR = 1, MONTH = 2, MONTH_NAME = 3, DAY = 4, HOUR = 5, MINUTE = 6, SECOND = 7, MILLISECOND = 8, OFFSET = 9;
+	private static final int OFFSET_WIDTH = 5;
+
+	/**
+	 * Compile the pattern to read timestamps in the default timezone
+	 *
+	 * @param pattern
+	 *            the pattern, for example <code>yyyyMMdd HHmmss.SSS</code>
+	 */
+	public static DatePattern compile(final String pattern) {
+		return compile(pattern, TimeZone.getDefault());
+	}
+
+	/**
+	 * Compile the pattern to read timestamps in the timezone when the pattern has no offset field
+	 *
+	 * @param pattern
+	 *            the pattern, for example <code>yyyyMMdd HHmmss.SSS</code>
+	 * @param zone
+	 *            the timezone to read timestamps without an offset in
+	 */
+	public static DatePattern compile(final String pattern, final TimeZone zone) {
+		int capacity = pattern.length();
+		int[] ops = new int[capacity], offsets = new int[capacity], widths = new int[capacity];
+		char[] literals = new char[capacity];
+		int count = 0, offset = 0;
+		for (int i = 0; i < pattern.length();) {
+			char c = pattern.charAt(i);
+			if (c == '\'' && i + 1 < pattern.length() && pattern.charAt(i + 1) == '\'') {
+				ops[count] = LITERAL;
+				literals[count] = '\'';
+				offsets[count++] = offset++;
+				i += 2;
+			} else if (c == '\'') {
+				// quoted text ends at the next single quote, and a doubled quote within it is a literal quote
+				int q = i + 1;
+				for (;; ++q) {
+					if (q >= pattern.length()) {
+						throw new IllegalArgumentException("Unterminated quote in pattern '" + pattern + "'");
+					}
+					char quoted = pattern.charAt(q);
+					if (quoted == '\'') {
+						if (q + 1 < pattern.length() && pattern.charAt(q + 1) == '\'') {
+							++q;
+						} else {
+							break;
+						}
+					}
+					ops[count] = LITERAL;
+					literals[count] = quoted;
+					offsets[count++] = offset++;
+				}
+				i = q + 1;
+			} else if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+				int run = i;
+				while (run < pattern.length() && pattern.charAt(run) == c) {
+					++run;
+				}
+				int op = fieldOf(pattern, c, run - i);
+				int width = op == MONTH_NAME ? 3 : op == OFFSET ? OFFSET_WIDTH : run - i;
+				ops[count] = op;
+				widths[count] = width;
+				offsets[count++] = offset;
+				offset += width;
+				i = run;
+			} else {
+				ops[count] = LITERAL;
+				literals[count] = c;
+				offsets[count++] = offset++;
+				++i;
+			}
+		}
+		return new DatePattern(pattern, zone, offset, trim(ops, count), trim(offsets, count), trim(widths, count), literals);
+	}
+
+	private static int fieldOf(final String pattern, final char letter, final int width) {
+		switch (letter) {
+			case 'y':
+				if (width == 4) {
+					return YEAR;
+				}
+				break;
+			case 'M':
+				if (width == 2) {
+					return MONTH;
+				} else if (width == 3) {
+					return MONTH_NAME;
+				}
+				break;
+			case 'd':
+				if (width == 2) {
+					return DAY;
+				}
+				break;
+			case 'H':
+				if (width == 2) {
+					return HOUR;
+				}
+				break;
+			case 'm':
+				if (width == 2) {
+					return MINUTE;
+				}
+				break;
+			case 's':
+				if (width == 2) {
+					return SECOND;
+				}
+				break;
+			case 'S':
+				if (width == 3) {
+					return MILLISECOND;
+				}
+				break;
+			case 'Z':
+				if (width == 1) {
+					return OFFSET;
+				}
+				break;
+		}
+		throw new IllegalArgumentException("Field '" + repeat(letter, width) + "' in pattern '" + pattern + "' is not a supported fixed width field");
+	}
+
+	private final String pattern;
+	private final TimeZone zone;
+	private final int length;
+	private final int[] ops;
+	private final int[] offsets;
+	private final int[] widths;
+	private final char[] literals;
+	private final boolean hasOffset;
+
+	private DatePattern(final String pattern, final TimeZone zone, final int length, final int[] ops, final int[] offsets, final int[] widths,
+			final char[] literals) {
+		this.pattern = pattern;
+		this.zone = (TimeZone) zone.clone();
+		this.length = length;
+		this.ops = ops;
+		this.offsets = offsets;
+		this.widths = widths;
+		this.literals = literals;
+		boolean hasOffset = false;
+		for (int op : ops) {
+			hasOffset |= op == OFFSET;
+		}
+		this.hasOffset = hasOffset;
+	}
+
+	/**
+	 * Return the epoch milliseconds of the timestamp in the text
+	 *
+	 * @param text
+	 *            the text to parse
+	 * @throws IllegalArgumentException
+	 *             if the text does not match the pattern
+	 */
+	public long parse(final CharSequence text) {
+		long millis = parse(text, 0, text.length());
+		if (millis == TimestampText.NONE) {
+			throw new IllegalArgumentException("'" + text + "' does not match the pattern '" + pattern + "'");
+		}
+		return millis;
+	}
+
+	/**
+	 * Return true if the text is a valid timestamp in this pattern
+	 *
+	 * @param text
+	 *            the text to test
+	 */
+	public boolean matches(final CharSequence text) {
+		return parse(text, 0, text.length()) != TimestampText.NONE;
+	}
+
+	/**
+	 * Return the width in characters of every timestamp in this pattern
+	 */
+	public int length() {
+		return length;
+	}
+
+	/**
+	 * Return the epoch milliseconds of the timestamp in [from, to) of the text, or {@link TimestampText#NONE} if it does not match the pattern
+	 */
+	long parse(final CharSequence text, final int from, final int to) {
+		if (to - from != length) {
+			return TimestampText.NONE;
+		}
+		int year = 1970, month = 1, day = 1, hour = 0, minute = 0, second = 0, millisecond = 0, offset = 0;
+		for (int i = 0; i < ops.length; ++i) {
+			int p = from + offsets[i];
+			if (ops[i] == LITERAL) {
+				if (text.charAt(p) != literals[i]) {
+					return TimestampText.NONE;
+				}
+				continue;
+			}
+			int value;
+			if (ops[i] == MONTH_NAME) {
+				value = TimestampText.monthAbbreviation(text, p, to);
+			} else if (ops[i] == OFFSET) {
+				value = offsetMinutes(text, p, to);
+			} else {
+				value = TimestampText.digits(text, p, widths[i], to);
+			}
+			if ((value < 0 && ops[i] != OFFSET) || value == Integer.MIN_VALUE) {
+				return TimestampText.NONE;
+			}
+			switch (ops[i]) {
+				case YEAR:
+					year = value;
+					break;
+				case MONTH:
+				case MONTH_NAME:
+					month = value;
+					break;
+				case DAY:
+					day = value;
+					break;
+				case HOUR:
+					hour = value;
+					break;
+				case MINUTE:
+					minute = value;
+					break;
+				case SECOND:
+					second = value;
+					break;
+				case MILLISECOND:
+					millisecond = value;
+					break;
+				case OFFSET:
+					offset = value;
+					break;
+			}
+		}
+		long local = TimestampText.localMillis(year, month, day, hour, minute, second * DateFields.MILLIS_PER_SECOND + millisecond);
+		if (local == TimestampText.NONE) {
+			return TimestampText.NONE;
+		}
+		return hasOffset ? local - offset * (long) DateFields.MILLIS_PER_MINUTE : TimestampText.toUtc(local, zone);
+	}
+
+	/**
+	 * Return the signed offset in minutes of an offset such as <code>+0130</code>, or {@link Integer#MIN_VALUE} if it is not an offset
+	 */
+	private static int offsetMinutes(final CharSequence text, final int p, final int to) {
+		char sign = text.charAt(p);
+		int hours = TimestampText.digits(text, p + 1, 2, to), minutes = TimestampText.digits(text, p + 3, 2, to);
+		if ((sign != '+' && sign != '-') || hours < 0 || hours > 18 || minutes < 0 || minutes > 59) {
+			return Integer.MIN_VALUE;
+		}
+		return sign == '-' ? -(hours * 60 + minutes) : hours * 60 + minutes;
+	}
+
+	@Override
+	public String toString() {
+		return pattern;
+	}
+
+	private static int[] trim(final int[] values, final int count) {
+		int[] trimmed = new int[count];
+		System.arraycopy(values, 0, trimmed, 0, count);
+		return trimmed;
+	}
+
+	private static String repeat(final char letter, final int count) {
+		StringBuilder text = new StringBuilder(count);
+		for (int i = 0; i < count; ++i) {
+			text.append(letter);
+		}
+		return text.toString();
+	}
+}
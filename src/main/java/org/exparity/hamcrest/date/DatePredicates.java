@@ -0,0 +1,30 @@
+package org.exparity.hamcrest.date;
+
+import java.util.Date;
+import java.util.function.LongPredicate;
+import org.hamcrest.Matcher;
+
+/**
+ * Helper class to compile date matchers into predicates over epoch milliseconds
+ *
+ * @author Stewart Bissett
+ */
+abstract class DatePredicates {
+
+	/**
+	 * Compile the matcher into a predicate over epoch milliseconds. Matchers from this library are evaluated directly on the milliseconds; any other matcher
+	 * is adapted by wrapping each instant in a {@link Date}.
+	 */
+	static LongPredicate compile(final Matcher<? super Date> matcher) {
+		if (matcher instanceof CompilableMatcher) {
+			return ((CompilableMatcher) matcher).compile();
+		} else {
+			return new LongPredicate() {
+
+				public boolean test(final long millis) {
+					return matcher.matches(new Date(millis));
+				}
+			};
+		}
+	}
+}
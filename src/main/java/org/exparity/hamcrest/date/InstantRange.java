@@ -0,0 +1,92 @@
+package org.exparity.hamcrest.date;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.LongPredicate;
+
+/**
+ * A predicate which accepts the epoch milliseconds between an inclusive lower and upper bound. The ordering matchers compile to this type so bulk evaluation
+ * can recognise them as a plain interval check.
+ *
+ * @author Stewart Bissett
+ */
+final class InstantRange implements LongPredicate {
+
+	private final long lower;
+	private final long upper;
+
+	InstantRange(final long lower, final long upper) {
+		this.lower = lower;
+		this.upper = upper;
+	}
+
+	static InstantRange atOrAfter(final long lower) {
+		return new InstantRange(lower, Long.MAX_VALUE);
+	}
+
+	static InstantRange atOrBefore(final long upper) {
+		return new InstantRange(Long.MIN_VALUE, upper);
+	}
+
+	static InstantRange after(final long exclusive) {
+		return exclusive == Long.MAX_VALUE ? empty() : atOrAfter(exclusive + 1);
+	}
+
+	static InstantRange before(final long exclusive) {
+		return exclusive == Long.MIN_VALUE ? empty() : atOrBefore(exclusive - 1);
+	}
+
+	static InstantRange around(final long instant, final long distance) {
+		return new InstantRange(saturatedAdd(instant, -distance), saturatedAdd(instant, distance));
+	}
+
+	static InstantRange empty() {
+		return new InstantRange(Long.MAX_VALUE, Long.MIN_VALUE);
+	}
+
+	/**
+	 * Return the range which accepts the instants accepted by any of the ranges, or null if they leave a gap between them and so are not a single range
+	 */
+	static InstantRange union(final InstantRange... ranges) {
+		InstantRange[] sorted = ranges.clone();
+		Arrays.sort(sorted, new Comparator<InstantRange>() {
+
+			public int compare(final InstantRange a, final InstantRange b) {
+				return Long.compare(a.lower, b.lower);
+			}
+		});
+		InstantRange union = empty();
+		for (InstantRange range : sorted) {
+			if (range.lower > range.upper) {
+				continue;
+			} else if (union.lower > union.upper) {
+				union = range;
+			} else if (union.upper != Long.MAX_VALUE && range.lower > union.upper + 1) {
+				return null;
+			} else if (range.upper > union.upper) {
+				union = new InstantRange(union.lower, range.upper);
+			}
+		}
+		return union;
+	}
+
+	public boolean test(final long millis) {
+		return millis >= lower && millis <= upper;
+	}
+
+	long getLower() {
+		return lower;
+	}
+
+	long getUpper() {
+		return upper;
+	}
+
+	private static long saturatedAdd(final long value, final long delta) {
+		long sum = value + delta;
+		if (((value ^ sum) & (delta ^ sum)) < 0) {
+			return delta < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+		}
+		return sum;
+	}
+}
@@ -5,6 +5,7 @@ import static java.util.Calendar.getInstance;
 import static org.exparity.hamcrest.date.DateFormatter.*;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.function.LongPredicate;
 import org.hamcrest.Description;
 import org.hamcrest.Factory;
 import org.hamcrest.Matcher;
@@ -15,7 +16,7 @@ import org.hamcrest.TypeSafeDiagnosingMatcher;
  * 
  * @author Stewart Bissett
  */
-public class IsBefore extends TypeSafeDiagnosingMatcher<Date> {
+public class IsBefore extends TypeSafeDiagnosingMatcher<Date> implements CompilableMatcher {
 
 	private final Date expected;
 
@@ -33,6 +34,10 @@ public class IsBefore extends TypeSafeDiagnosingMatcher<Date> {
 		}
 	}
 
+	public LongPredicate compile() {
+		return InstantRange.before(expected.getTime());
+	}
+
 	public void describeTo(final Description description) {
 		description.appendText("the date is before ").appendValue(formatDateWithMillis(expected));
 	}
@@ -0,0 +1,40 @@
+package org.exparity.hamcrest.date;
+
+import static org.exparity.hamcrest.date.DateFormatter.formatCalendarWithMillis;
+import java.util.Calendar;
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * A matcher that tests that the examined calendar is before, or optionally the same instant as, the reference calendar. The instants are compared on the epoch
+ * milliseconds of each calendar.
+ *
+ * @author Stewart Bissett
+ */
+class IsCalendarBefore extends TypeSafeDiagnosingMatcher<Calendar> {
+
+	private final Calendar expected;
+	private final long expectedMillis;
+	private final boolean inclusive;
+
+	public IsCalendarBefore(final Calendar expected, final boolean inclusive) {
+		this.expected = expected;
+		this.expectedMillis = expected.getTimeInMillis();
+		this.inclusive = inclusive;
+	}
+
+	@Override
+	protected boolean matchesSafely(final Calendar actual, final Description mismatchDesc) {
+		long actualMillis = actual.getTimeInMillis();
+		if (actualMillis > expectedMillis || (actualMillis == expectedMillis && !inclusive)) {
+			mismatchDesc.appendText("date is ").appendValue(formatCalendarWithMillis(actual));
+			return false;
+		} else {
+			return true;
+		}
+	}
+
+	public void describeTo(final Description description) {
+		description.appendText(inclusive ? "the date is the same as or before " : "the date is before ").appendValue(formatCalendarWithMillis(expected));
+	}
+}
@@ -0,0 +1,29 @@
+package org.exparity.hamcrest.date;
+
+import java.util.Calendar;
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * A matcher that tests that the examined calendar is in a leap year, a year with more than 365 days in the calendar's own system, so Buddhist, Japanese
+ * and other calendars are supported as well as the Gregorian calendar
+ *
+ * @author Stewart Bissett
+ */
+class IsCalendarLeapYear extends TypeSafeDiagnosingMatcher<Calendar> {
+
+	@Override
+	protected boolean matchesSafely(final Calendar actual, final Description mismatchDesc) {
+		int year = actual.get(Calendar.YEAR);
+		if (((Calendar) actual.clone()).getActualMaximum(Calendar.DAY_OF_YEAR) > 365) {
+			return true;
+		} else {
+			mismatchDesc.appendText("the year is ").appendValue(year);
+			return false;
+		}
+	}
+
+	public void describeTo(final Description description) {
+		description.appendText("a leap year");
+	}
+}
@@ -0,0 +1,38 @@
+package org.exparity.hamcrest.date;
+
+import java.util.Calendar;
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * A matcher that tests that the examined calendar has the maximum value for the given field, as defined by the calendar itself. The fields are computed
+ * on a copy of the calendar so the examined calendar is left as it was.
+ *
+ * @author Stewart Bissett
+ */
+class IsCalendarMaximumField extends TypeSafeDiagnosingMatcher<Calendar> {
+
+	private final int field;
+	private final String fieldName;
+
+	public IsCalendarMaximumField(final int field, final String fieldName) {
+		this.field = field;
+		this.fieldName = fieldName;
+	}
+
+	@Override
+	protected boolean matchesSafely(final Calendar actual, final Description mismatchDesc) {
+		Calendar calendar = (Calendar) actual.clone();
+		int actualValue = calendar.get(field);
+		if (actualValue != calendar.getActualMaximum(field)) {
+			mismatchDesc.appendText(fieldName).appendText(" is ").appendValue(actualValue);
+			return false;
+		} else {
+			return true;
+		}
+	}
+
+	public void describeTo(final Description description) {
+		description.appendText("the last " + fieldName + " value");
+	}
+}
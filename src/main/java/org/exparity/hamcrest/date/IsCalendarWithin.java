@@ -0,0 +1,44 @@
+package org.exparity.hamcrest.date;
+
+import static org.exparity.hamcrest.date.DateFormatter.formatCalendarWithMillis;
+import static org.exparity.hamcrest.date.IsWithin.abbreviatedUnit;
+import java.util.Calendar;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * A matcher that tests that the examined calendar is within a defined period of the reference calendar
+ *
+ * @author Stewart Bissett
+ */
+class IsCalendarWithin extends TypeSafeDiagnosingMatcher<Calendar> {
+
+	private final long period;
+	private final TimeUnit unit;
+	private final Calendar expected;
+	private final long expectedMillis;
+	private final long expectedDifferenceInMillis;
+
+	public IsCalendarWithin(final long period, final TimeUnit unit, final Calendar expected) {
+		this.period = period;
+		this.unit = unit;
+		this.expected = expected;
+		this.expectedMillis = expected.getTimeInMillis();
+		this.expectedDifferenceInMillis = unit.toMillis(period);
+	}
+
+	@Override
+	protected boolean matchesSafely(final Calendar actual, final Description mismatchDesc) {
+		if (Math.abs(expectedMillis - actual.getTimeInMillis()) > expectedDifferenceInMillis) {
+			mismatchDesc.appendText("date is ").appendValue(formatCalendarWithMillis(actual));
+			return false;
+		} else {
+			return true;
+		}
+	}
+
+	public void describeTo(final Description description) {
+		description.appendText("the date is within " + period + " " + abbreviatedUnit(unit) + " of ").appendValue(formatCalendarWithMillis(expected));
+	}
+}
@@ -0,0 +1,175 @@
+package org.exparity.hamcrest.date;
+
+import static org.exparity.hamcrest.date.DateFormatter.formatDateWithMillis;
+import java.util.Date;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.Description;
+import org.hamcrest.Factory;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * A matcher that tests that the dates in the examined {@link DateMatchers date sequence} are in chronological order. Each date is compared with the
+ * date before it in a single pass which, for large random access sequences, is split into chunks across the common fork-join pool with each chunk also
+ * comparing its first date with the last date of the chunk before.
+ * <p/>
+ * The first inversion found by a failed match is kept for the describeMismatch call which follows it so the sequence is only examined once.
+ *
+ * @author Stewart Bissett
+ */
+public class IsChronological extends TypeSafeDiagnosingMatcher<Object> {
+
+	static final long DEFAULT_PARALLEL_THRESHOLD = 65536;
+
+	/**
+	 * Creates a matcher that matches when every date in the examined sequence is the same as or after the date before it
+	 * <p/>
+	 * For example:
+	 * 
+	 * <pre>
+	 * assertThat(myDates, isChronological())
+	 * </pre>
+	 */
+	@Factory
+	public static Matcher<Object> isChronological() {
+		return new IsChronological(false, 0, TimeUnit.MILLISECONDS, "dates in chronological order");
+	}
+
+	/**
+	 * Creates a matcher that matches when every date in the examined sequence is after the date before it
+	 * <p/>
+	 * For example:
+	 * 
+	 * <pre>
+	 * assertThat(myDates, isStrictlyIncreasing())
+	 * </pre>
+	 */
+	@Factory
+	public static Matcher<Object> isStrictlyIncreasing() {
+		return new IsChronological(true, 0, TimeUnit.MILLISECONDS, "dates in strictly increasing order");
+	}
+
+	/**
+	 * Creates a matcher that matches when no date in the examined sequence is more than the given period before the date before it, e.g. to allow
+	 * for clock adjustments between the hosts which recorded the dates
+	 * <p/>
+	 * For example:
+	 * 
+	 * <pre>
+	 * assertThat(myDates, isChronologicalWithin(5, TimeUnit.MILLISECONDS))
+	 * </pre>
+	 * 
+	 * @param period
+	 *            the timeunit interval a date may be before the date before it
+	 * @param unit
+	 *            the timeunit to define the length of the period
+	 */
+	@Factory
+	public static Matcher<Object> isChronologicalWithin(final long period, final TimeUnit unit) {
+		return new IsChronological(false, period, unit, "dates in chronological order within " + period + " " + IsWithin.abbreviatedUnit(unit));
+	}
+
+	private final boolean strict;
+	private final long toleranceInMillis;
+	private final String description;
+	private final LastFailure<Inversion> lastInversion = new LastFailure<Inversion>();
+
+	private IsChronological(final boolean strict, final long period, final TimeUnit unit, final String description) {
+		if (period < 0) {
+			throw new IllegalArgumentException("Tolerance " + period + " is negative");
+		}
+		this.strict = strict;
+		this.toleranceInMillis = unit.toMillis(period);
+		this.description = description;
+	}
+
+	@Override
+	protected boolean matchesSafely(final Object actual, final Description mismatchDesc) {
+		Inversion inversion = lastInversion.take(actual, mismatchDesc);
+		if (inversion == null) {
+			Timestamps timestamps = Timestamps.of(actual);
+			if (timestamps == null) {
+				mismatchDesc.appendText("was not " + Timestamps.SUPPORTED_TYPES);
+				return false;
+			}
+			try {
+				inversion = firstInversion(timestamps);
+			} catch (IllegalArgumentException e) {
+				mismatchDesc.appendText(e.getMessage());
+				return false;
+			}
+			if (inversion == null) {
+				return true;
+			}
+			lastInversion.keep(actual, inversion, mismatchDesc);
+		}
+		mismatchDesc.appendText("date at index " + inversion.index + " ").appendValue(formatDateWithMillis(new Date(inversion.value)));
+		if (inversion.value == inversion.previous) {
+			mismatchDesc.appendText(" is the same as the date before it");
+		} else {
+			mismatchDesc.appendText(" is " + Long.toUnsignedString(inversion.previous - inversion.value) + " ms before the date before it ")
+					.appendValue(formatDateWithMillis(new Date(inversion.previous)));
+		}
+		return false;
+	}
+
+	public void describeTo(final Description description) {
+		description.appendText(this.description);
+	}
+
+	private Inversion firstInversion(final Timestamps timestamps) {
+		if (!timestamps.isRandomAccess()) {
+			PrimitiveIterator.OfLong millis = timestamps.iterator();
+			if (!millis.hasNext()) {
+				return null;
+			}
+			long previous = millis.nextLong();
+			for (long index = 1; millis.hasNext(); ++index) {
+				long value = millis.nextLong();
+				if (isInversion(previous, value)) {
+					return new Inversion(index, previous, value);
+				}
+				previous = value;
+			}
+			return null;
+		}
+		if (timestamps.size() < 2) {
+			return null;
+		}
+		long first = ParallelScan.firstFailure(timestamps.size() - 1, new ParallelScan.RangeSearch() {
+
+			public long firstFailure(final long from, final long to) {
+				long previous = timestamps.get(from);
+				for (long i = from + 1; i <= to; ++i) {
+					long value = timestamps.get(i);
+					if (isInversion(previous, value)) {
+						return i - 1;
+					}
+					previous = value;
+				}
+				return -1;
+			}
+		}, DEFAULT_PARALLEL_THRESHOLD);
+		return first < 0 ? null : new Inversion(first + 1, timestamps.get(first), timestamps.get(first + 1));
+	}
+
+	private boolean isInversion(final long previous, final long value) {
+		if (strict) {
+			return value <= previous;
+		} else {
+			return value < previous && Long.compareUnsigned(previous - value, toleranceInMillis) > 0;
+		}
+	}
+
+	private static class Inversion {
+
+		private final long index, previous, value;
+
+		private Inversion(final long index, final long previous, final long value) {
+			this.index = index;
+			this.previous = previous;
+			this.value = value;
+		}
+	}
+}
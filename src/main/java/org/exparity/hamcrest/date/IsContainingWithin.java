@@ -0,0 +1,162 @@
+package org.exparity.hamcrest.date;
+
+import static org.exparity.hamcrest.date.DateFormatter.formatDateWithMillis;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.Description;
+import org.hamcrest.Factory;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * A matcher that tests that the dates in the examined {@link DateMatchers date sequence} can be paired one for one with the expected dates, in any
+ * order, with each pair within a defined period of each other. Both sides are copied to sorted <code>long[]</code> and paired in a single sweep,
+ * matching each expected date to the earliest unpaired date within the period of it, which pairs as many dates as any other pairing would.
+ * <p/>
+ * The mismatch describes the first expected dates without a pair and the first examined dates which were not expected.
+ *
+ * @author Stewart Bissett
+ */
+public class IsContainingWithin extends TypeSafeDiagnosingMatcher<Object> {
+
+	private static final int REPORT_LIMIT = 10;
+
+	/**
+	 * Creates a matcher that matches when the dates in the examined sequence pair one for one, in any order, with the expected dates, each within the
+	 * given period of its pair
+	 * <p/>
+	 * For example:
+	 * 
+	 * <pre>
+	 * assertThat(actualTimes, containsInAnyOrderWithin(expectedTimes, 5, TimeUnit.MILLISECONDS))
+	 * </pre>
+	 * 
+	 * @param expected
+	 *            the dates expected in the examined sequence
+	 * @param period
+	 *            the timeunit interval each date may be from its pair
+	 * @param unit
+	 *            the timeunit to define the length of the period
+	 */
+	@Factory
+	public static Matcher<Object> containsInAnyOrderWithin(final Iterable<Date> expected, final long period, final TimeUnit unit) {
+		return new IsContainingWithin(Timestamps.of(expected).toSortedArray(), period, unit);
+	}
+
+	/**
+	 * Creates a matcher that matches when the dates in the examined sequence pair one for one, in any order, with the expected epoch milliseconds, each
+	 * within the given period of its pair
+	 * <p/>
+	 * For example:
+	 * 
+	 * <pre>
+	 * assertThat(actualTimes, containsInAnyOrderWithin(expectedMillis, 5, TimeUnit.MILLISECONDS))
+	 * </pre>
+	 * 
+	 * @param expected
+	 *            the epoch milliseconds expected in the examined sequence
+	 * @param period
+	 *            the timeunit interval each date may be from its pair
+	 * @param unit
+	 *            the timeunit to define the length of the period
+	 */
+	@Factory
+	public static Matcher<Object> containsInAnyOrderWithin(final long[] expected, final long period, final TimeUnit unit) {
+		return new IsContainingWithin(Timestamps.of(expected).toSortedArray(), period, unit);
+	}
+
+	private final long[] expected;
+	private final long period;
+	private final TimeUnit unit;
+	private final long toleranceInMillis;
+
+	private IsContainingWithin(final long[] expected, final long period, final TimeUnit unit) {
+		if (period < 0) {
+			throw new IllegalArgumentException("Period " + period + " is negative");
+		}
+		this.expected = expected;
+		this.period = period;
+		this.unit = unit;
+		this.toleranceInMillis = unit.toMillis(period);
+	}
+
+	@Override
+	protected boolean matchesSafely(final Object actual, final Description mismatchDesc) {
+		Timestamps timestamps = Timestamps.of(actual);
+		if (timestamps == null) {
+			mismatchDesc.appendText("was not " + Timestamps.SUPPORTED_TYPES);
+			return false;
+		}
+		long[] sorted;
+		try {
+			sorted = timestamps.toSortedArray();
+		} catch (IllegalArgumentException e) {
+			mismatchDesc.appendText(e.getMessage());
+			return false;
+		}
+		Unpaired missing = new Unpaired(), unexpected = new Unpaired();
+		int e = 0, a = 0;
+		while (e < expected.length && a < sorted.length) {
+			if (sorted[a] < expected[e] && Long.compareUnsigned(expected[e] - sorted[a], toleranceInMillis) > 0) {
+				unexpected.add(sorted[a++]);
+			} else if (sorted[a] > expected[e] && Long.compareUnsigned(sorted[a] - expected[e], toleranceInMillis) > 0) {
+				missing.add(expected[e++]);
+			} else {
+				++e;
+				++a;
+			}
+		}
+		while (e < expected.length) {
+			missing.add(expected[e++]);
+		}
+		while (a < sorted.length) {
+			unexpected.add(sorted[a++]);
+		}
+		if (missing.count == 0 && unexpected.count == 0) {
+			return true;
+		}
+		if (missing.count > 0) {
+			missing.describeTo(mismatchDesc.appendText(missing.count + " of " + expected.length + " expected dates were not matched"));
+		}
+		if (unexpected.count > 0) {
+			mismatchDesc.appendText(missing.count > 0 ? "; " : "");
+			unexpected.describeTo(mismatchDesc.appendText(unexpected.count + " of " + sorted.length + " dates were not expected"));
+		}
+		return false;
+	}
+
+	public void describeTo(final Description description) {
+		description.appendText("dates pairing in any order within " + period + " " + IsWithin.abbreviatedUnit(unit) + " with the " + expected.length + " dates ");
+		for (int i = 0; i < Math.min(expected.length, REPORT_LIMIT); ++i) {
+			description.appendText(i == 0 ? "" : ", ").appendValue(formatDateWithMillis(new Date(expected[i])));
+		}
+		if (expected.length > REPORT_LIMIT) {
+			description.appendText(", ...");
+		}
+	}
+
+	/**
+	 * The number of dates without a pair and the first of them
+	 */
+	private static class Unpaired {
+
+		private final long[] first = new long[REPORT_LIMIT];
+		private long count;
+
+		private void add(final long value) {
+			if (count < REPORT_LIMIT) {
+				first[(int) count] = value;
+			}
+			++count;
+		}
+
+		private void describeTo(final Description mismatchDesc) {
+			for (int i = 0; i < Math.min(count, REPORT_LIMIT); ++i) {
+				mismatchDesc.appendText(i == 0 ? ": " : ", ").appendValue(formatDateWithMillis(new Date(first[i])));
+			}
+			if (count > REPORT_LIMIT) {
+				mismatchDesc.appendText(", ...");
+			}
+		}
+	}
+}
@@ -0,0 +1,178 @@
+package org.exparity.hamcrest.date;
+
+import java.text.SimpleDateFormat;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.PrimitiveIterator;
+import java.util.TimeZone;
+import org.hamcrest.Description;
+import org.hamcrest.Factory;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * A matcher that tests that the dates in the examined {@link DateMatchers date sequence} include at least one date in every day, hour or minute of a
+ * range, e.g. to check a partition of data is complete. The dates are read once, marking the period of each in a {@link BitSet} indexed by the period
+ * since the epoch. Days are those of the default timezone while hours and minutes are periods of elapsed time so a change of daylight saving neither
+ * adds nor removes an hour.
+ * <p/>
+ * Hours and minutes are aligned to the epoch rather than to the local clock. In a zone whose offset is not a whole number of hours, such as India at
+ * UTC+05:30, each hour to cover runs from half past one hour to half past the next on the local clock.
+ * <p/>
+ * The mismatch describes the missing periods as ranges of back to back periods.
+ *
+ * @author Stewart Bissett
+ */
+public class IsCovering extends TypeSafeDiagnosingMatcher<Object> {
+
+	private static final int RANGE_LIMIT = 10;
+
+	/**
+	 * Creates a matcher that matches when the examined sequence holds a date in every period from the period holding the first date of the range to
+	 * the period holding the last
+	 * <p/>
+	 * For example:
+	 * 
+	 * <pre>
+	 * assertThat(partitionTimes, coversEvery(ChronoUnit.DAYS, firstOfJune, lastOfJune))
+	 * </pre>
+	 * 
+	 * @param unit
+	 *            the period to cover, one of {@link ChronoUnit#DAYS}, {@link ChronoUnit#HOURS} or {@link ChronoUnit#MINUTES}
+	 * @param from
+	 *            a date in the first period to cover
+	 * @param to
+	 *            a date in the last period to cover
+	 */
+	@Factory
+	public static Matcher<Object> coversEvery(final ChronoUnit unit, final Date from, final Date to) {
+		return new IsCovering(unit, from, to);
+	}
+
+	/**
+	 * Creates a matcher that matches when the examined sequence holds a date in every period of the calendar field from the period holding the first
+	 * date of the range to the period holding the last
+	 * <p/>
+	 * For example:
+	 * 
+	 * <pre>
+	 * assertThat(partitionTimes, coversEvery(Calendar.HOUR_OF_DAY, startOfDay, endOfDay))
+	 * </pre>
+	 * 
+	 * @param calendarField
+	 *            the calendar field of the period to cover, a day field such as {@link Calendar#DAY_OF_MONTH}, an hour field such as
+	 *            {@link Calendar#HOUR_OF_DAY} or {@link Calendar#MINUTE}
+	 * @param from
+	 *            a date in the first period to cover
+	 * @param to
+	 *            a date in the last period to cover
+	 */
+	@Factory
+	public static Matcher<Object> coversEvery(final int calendarField, final Date from, final Date to) {
+		switch (calendarField) {
+			case Calendar.DAY_OF_MONTH:
+			case Calendar.DAY_OF_YEAR:
+			case Calendar.DAY_OF_WEEK:
+				return new IsCovering(ChronoUnit.DAYS, from, to);
+			case Calendar.HOUR_OF_DAY:
+			case Calendar.HOUR:
+				return new IsCovering(ChronoUnit.HOURS, from, to);
+			case Calendar.MINUTE:
+				return new IsCovering(ChronoUnit.MINUTES, from, to);
+			default:
+				throw new IllegalArgumentException("Calendar field " + calendarField + " is not a day, hour or minute field");
+		}
+	}
+
+	private final ChronoUnit unit;
+	private final Date from, to;
+
+	public IsCovering(final ChronoUnit unit, final Date from, final Date to) {
+		if (unit != ChronoUnit.DAYS && unit != ChronoUnit.HOURS && unit != ChronoUnit.MINUTES) {
+			throw new IllegalArgumentException("Unit " + unit + " is not days, hours or minutes");
+		} else if (to.before(from)) {
+			throw new IllegalArgumentException("Range ends before it starts");
+		}
+		this.unit = unit;
+		this.from = from;
+		this.to = to;
+	}
+
+	@Override
+	protected boolean matchesSafely(final Object actual, final Description mismatchDesc) {
+		Timestamps timestamps = Timestamps.of(actual);
+		if (timestamps == null) {
+			mismatchDesc.appendText("was not " + Timestamps.SUPPORTED_TYPES);
+			return false;
+		}
+		TimeZone zone = TimeZone.getDefault();
+		long first = periodOf(from.getTime(), zone), periods = periodOf(to.getTime(), zone) - first + 1;
+		if (periods > Integer.MAX_VALUE) {
+			mismatchDesc.appendText("range of " + periods + " " + periodName() + "s is too long to cover");
+			return false;
+		}
+		BitSet covered = new BitSet((int) periods);
+		try {
+			for (PrimitiveIterator.OfLong millis = timestamps.iterator(); millis.hasNext();) {
+				long period = periodOf(millis.nextLong(), zone) - first;
+				if (period >= 0 && period < periods) {
+					covered.set((int) period);
+				}
+			}
+		} catch (IllegalArgumentException e) {
+			mismatchDesc.appendText(e.getMessage());
+			return false;
+		}
+		if (covered.cardinality() == periods) {
+			return true;
+		}
+		mismatchDesc.appendText("missing " + (periods - covered.cardinality()) + " of " + periods + " " + periodName() + "s");
+		int ranges = 0;
+		for (int missing = covered.nextClearBit(0); missing < periods; missing = covered.nextClearBit(missing)) {
+			if (ranges++ == RANGE_LIMIT) {
+				mismatchDesc.appendText(", ...");
+				break;
+			}
+			int next = covered.nextSetBit(missing), end = next < 0 ? (int) periods : next;
+			mismatchDesc.appendText(ranges == 1 ? ": " : ", ").appendText(format(first + missing));
+			if (end - missing > 1) {
+				mismatchDesc.appendText(" to " + format(first + end - 1));
+			}
+			missing = end;
+		}
+		return false;
+	}
+
+	public void describeTo(final Description description) {
+		TimeZone zone = TimeZone.getDefault();
+		description.appendText("dates covering every " + periodName() + " from " + format(periodOf(from.getTime(), zone)) + " to "
+				+ format(periodOf(to.getTime(), zone)));
+	}
+
+	private long periodOf(final long millis, final TimeZone zone) {
+		switch (unit) {
+			case DAYS:
+				return Math.floorDiv(millis + zone.getOffset(millis), DateFields.MILLIS_PER_DAY);
+			case HOURS:
+				return Math.floorDiv(millis, DateFields.MILLIS_PER_HOUR);
+			default:
+				return Math.floorDiv(millis, DateFields.MILLIS_PER_MINUTE);
+		}
+	}
+
+	private String format(final long period) {
+		if (unit == ChronoUnit.DAYS) {
+			SimpleDateFormat format = new SimpleDateFormat("dd MMM yyyy");
+			format.setTimeZone(TimeZone.getTimeZone("UTC"));
+			return format.format(new Date(period * DateFields.MILLIS_PER_DAY));
+		}
+		long millis = period * (unit == ChronoUnit.HOURS ? DateFields.MILLIS_PER_HOUR : DateFields.MILLIS_PER_MINUTE);
+		return new SimpleDateFormat("dd MMM yyyy HH:mm Z").format(new Date(millis));
+	}
+
+	private String periodName() {
+		return unit == ChronoUnit.DAYS ? "day" : unit == ChronoUnit.HOURS ? "hour" : "minute";
+	}
+}
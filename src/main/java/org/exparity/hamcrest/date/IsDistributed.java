@@ -0,0 +1,278 @@
+package org.exparity.hamcrest.date;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import java.util.PrimitiveIterator;
+import org.hamcrest.Description;
+import org.hamcrest.Factory;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * A matcher that tests how many of the dates in the examined {@link DateMatchers date sequence} fall on a selection of the days of the week, hours of
+ * the day or months, either as a count or as a proportion of all the dates. The dates are counted into a {@link DateHistogram} in a single pass, read
+ * with the arithmetic calendar fields and split across the common fork-join pool for large random access sequences.
+ * <p/>
+ * The mismatch includes the whole histogram so the distribution of the dates can be seen.
+ *
+ * @author Stewart Bissett
+ */
+public class IsDistributed extends TypeSafeDiagnosingMatcher<Object> {
+
+	static final long DEFAULT_PARALLEL_THRESHOLD = 65536;
+
+	/**
+	 * Creates a matcher that matches when the number of dates in the examined sequence which fall on the days of the week matches the count matcher
+	 * <p/>
+	 * For example:
+	 * 
+	 * <pre>
+	 * assertThat(batchRuns, countOn(equalTo(0L), Weekdays.SATURDAY, Weekdays.SUNDAY))
+	 * </pre>
+	 * 
+	 * @param countMatcher
+	 *            the matcher to apply to the number of dates on the days of the week
+	 * @param weekdays
+	 *            the days of the week to count the dates on
+	 */
+	@Factory
+	public static Matcher<Object> countOn(final Matcher<? super Long> countMatcher, final Weekdays... weekdays) {
+		return new IsDistributed(DateHistogram.WEEKDAY, weekdays(weekdays), describe(weekdays), countMatcher, false);
+	}
+
+	/**
+	 * Creates a matcher that matches when the proportion, from 0 to 1, of the dates in the examined sequence which fall on the days of the week
+	 * matches the proportion matcher
+	 * <p/>
+	 * For example:
+	 * 
+	 * <pre>
+	 * assertThat(transactionTimes, proportionOn(lessThan(0.02), Weekdays.SATURDAY, Weekdays.SUNDAY))
+	 * </pre>
+	 * 
+	 * @param proportionMatcher
+	 *            the matcher to apply to the proportion of dates on the days of the week
+	 * @param weekdays
+	 *            the days of the week to count the dates on
+	 */
+	@Factory
+	public static Matcher<Object> proportionOn(final Matcher<? super Double> proportionMatcher, final Weekdays... weekdays) {
+		return new IsDistributed(DateHistogram.WEEKDAY, weekdays(weekdays), describe(weekdays), proportionMatcher, true);
+	}
+
+	/**
+	 * Creates a matcher that matches when the number of dates in the examined sequence from the start of the first hour of the day up to the start
+	 * of the last hour matches the count matcher. The hours wrap around midnight when the first hour is after the last.
+	 * <p/>
+	 * For example:
+	 * 
+	 * <pre>
+	 * assertThat(batchRuns, countInHours(equalTo(0L), 1, 3))
+	 * </pre>
+	 * 
+	 * @param countMatcher
+	 *            the matcher to apply to the number of dates in the hours
+	 * @param fromHour
+	 *            the first hour of the day to count the dates in
+	 * @param toHour
+	 *            the hour of the day to stop counting the dates at, from 0 to 24 but not the first hour
+	 */
+	@Factory
+	public static Matcher<Object> countInHours(final Matcher<? super Long> countMatcher, final int fromHour, final int toHour) {
+		return new IsDistributed(DateHistogram.HOUR, hours(fromHour, toHour), describe(fromHour, toHour), countMatcher, false);
+	}
+
+	/**
+	 * Creates a matcher that matches when the proportion, from 0 to 1, of the dates in the examined sequence from the start of the first hour of the
+	 * day up to the start of the last hour matches the proportion matcher. The hours wrap around midnight when the first hour is after the last.
+	 * <p/>
+	 * For example:
+	 * 
+	 * <pre>
+	 * assertThat(logins, proportionInHours(greaterThan(0.9), 8, 18))
+	 * </pre>
+	 * 
+	 * @param proportionMatcher
+	 *            the matcher to apply to the proportion of dates in the hours
+	 * @param fromHour
+	 *            the first hour of the day to count the dates in
+	 * @param toHour
+	 *            the hour of the day to stop counting the dates at, from 0 to 24 but not the first hour
+	 */
+	@Factory
+	public static Matcher<Object> proportionInHours(final Matcher<? super Double> proportionMatcher, final int fromHour, final int toHour) {
+		return new IsDistributed(DateHistogram.HOUR, hours(fromHour, toHour), describe(fromHour, toHour), proportionMatcher, true);
+	}
+
+	/**
+	 * Creates a matcher that matches when the number of dates in the examined sequence which fall in the months matches the count matcher
+	 * <p/>
+	 * For example:
+	 * 
+	 * <pre>
+	 * assertThat(closures, countIn(lessThan(3L), Months.DECEMBER))
+	 * </pre>
+	 * 
+	 * @param countMatcher
+	 *            the matcher to apply to the number of dates in the months
+	 * @param months
+	 *            the months to count the dates in
+	 */
+	@Factory
+	public static Matcher<Object> countIn(final Matcher<? super Long> countMatcher, final Months... months) {
+		return new IsDistributed(DateHistogram.MONTH, months(months), describe(months), countMatcher, false);
+	}
+
+	/**
+	 * Creates a matcher that matches when the proportion, from 0 to 1, of the dates in the examined sequence which fall in the months matches the
+	 * proportion matcher
+	 * <p/>
+	 * For example:
+	 * 
+	 * <pre>
+	 * assertThat(bookings, proportionIn(greaterThan(0.5), Months.JULY, Months.AUGUST))
+	 * </pre>
+	 * 
+	 * @param proportionMatcher
+	 *            the matcher to apply to the proportion of dates in the months
+	 * @param months
+	 *            the months to count the dates in
+	 */
+	@Factory
+	public static Matcher<Object> proportionIn(final Matcher<? super Double> proportionMatcher, final Months... months) {
+		return new IsDistributed(DateHistogram.MONTH, months(months), describe(months), proportionMatcher, true);
+	}
+
+	private final DateHistogram histogram;
+	private final boolean[] selected;
+	private final String selection;
+	private final Matcher<?> constraint;
+	private final boolean proportion;
+
+	private IsDistributed(final DateHistogram histogram, final boolean[] selected, final String selection, final Matcher<?> constraint,
+			final boolean proportion) {
+		this.histogram = histogram;
+		this.selected = selected;
+		this.selection = selection;
+		this.constraint = constraint;
+		this.proportion = proportion;
+	}
+
+	@Override
+	protected boolean matchesSafely(final Object actual, final Description mismatchDesc) {
+		Timestamps timestamps = Timestamps.of(actual);
+		if (timestamps == null) {
+			mismatchDesc.appendText("was not " + Timestamps.SUPPORTED_TYPES);
+			return false;
+		}
+		long[] counts;
+		try {
+			counts = count(timestamps);
+		} catch (IllegalArgumentException e) {
+			mismatchDesc.appendText(e.getMessage());
+			return false;
+		}
+		long total = 0, count = 0;
+		for (int i = 0; i < counts.length; ++i) {
+			total += counts[i];
+			count += selected[i] ? counts[i] : 0;
+		}
+		double ratio = total == 0 ? 0 : (double) count / total;
+		if (constraint.matches(proportion ? (Object) ratio : (Object) count)) {
+			return true;
+		}
+		if (proportion) {
+			mismatchDesc.appendText("proportion " + selection + " was " + decimal(ratio) + ", " + count + " of " + total + " dates");
+		} else {
+			mismatchDesc.appendText("count " + selection + " was " + count + " of " + total + " dates");
+		}
+		mismatchDesc.appendText("; " + histogram.describe(counts));
+		return false;
+	}
+
+	public void describeTo(final Description description) {
+		description.appendText("dates with a " + (proportion ? "proportion " : "count ") + selection + " which is ").appendDescriptionOf(constraint);
+	}
+
+	private long[] count(final Timestamps timestamps) {
+		final DateFields fields = DateFields.forDefaultCalendar();
+		if (!timestamps.isRandomAccess()) {
+			long[] counts = new long[histogram.buckets()];
+			for (PrimitiveIterator.OfLong millis = timestamps.iterator(); millis.hasNext();) {
+				++counts[histogram.bucketOf(fields, millis.nextLong())];
+			}
+			return counts;
+		}
+		return ParallelScan.reduce(timestamps.size(), new ParallelScan.RangeReduce<long[]>() {
+
+			public long[] reduce(final long from, final long to) {
+				long[] counts = new long[histogram.buckets()];
+				for (long i = from; i < to; ++i) {
+					++counts[histogram.bucketOf(fields, timestamps.get(i))];
+				}
+				return counts;
+			}
+
+			public long[] combine(final long[] lower, final long[] upper) {
+				for (int i = 0; i < lower.length; ++i) {
+					lower[i] += upper[i];
+				}
+				return lower;
+			}
+		}, DEFAULT_PARALLEL_THRESHOLD);
+	}
+
+	private static String decimal(final double value) {
+		return new DecimalFormat("0.####", DecimalFormatSymbols.getInstance(Locale.ROOT)).format(value);
+	}
+
+	private static boolean[] weekdays(final Weekdays... weekdays) {
+		boolean[] selected = new boolean[DateHistogram.WEEKDAY.buckets()];
+		for (Weekdays weekday : weekdays) {
+			selected[weekday.ordinal()] = true;
+		}
+		return selected;
+	}
+
+	private static boolean[] hours(final int fromHour, final int toHour) {
+		if (fromHour < 0 || fromHour > 23 || toHour < 0 || toHour > 24) {
+			throw new IllegalArgumentException("Hours " + fromHour + " to " + toHour + " are not hours of the day");
+		} else if (fromHour == toHour) {
+			throw new IllegalArgumentException("Hours " + fromHour + " to " + toHour + " select no hours of the day");
+		}
+		boolean[] selected = new boolean[DateHistogram.HOUR.buckets()];
+		for (int hour = 0; hour < selected.length; ++hour) {
+			selected[hour] = fromHour <= toHour ? hour >= fromHour && hour < toHour : hour >= fromHour || hour < toHour;
+		}
+		return selected;
+	}
+
+	private static boolean[] months(final Months... months) {
+		boolean[] selected = new boolean[DateHistogram.MONTH.buckets()];
+		for (Months month : months) {
+			selected[month.calendarConstant()] = true;
+		}
+		return selected;
+	}
+
+	private static String describe(final Weekdays... weekdays) {
+		StringBuilder description = new StringBuilder("on");
+		for (int i = 0; i < weekdays.length; ++i) {
+			description.append(i == 0 ? " " : " or ").append(weekdays[i].describe());
+		}
+		return description.toString();
+	}
+
+	private static String describe(final int fromHour, final int toHour) {
+		return "between " + DateHistogram.HOUR.label(fromHour) + ":00 and " + DateHistogram.HOUR.label(toHour) + ":00";
+	}
+
+	private static String describe(final Months... months) {
+		StringBuilder description = new StringBuilder("in");
+		for (int i = 0; i < months.length; ++i) {
+			description.append(i == 0 ? " " : " or ").append(months[i].describe());
+		}
+		return description.toString();
+	}
+}
@@ -0,0 +1,77 @@
+package org.exparity.hamcrest.date;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Date;
+import org.hamcrest.Description;
+import org.hamcrest.Factory;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * A matcher that tests that every value in the selected columns of the examined CSV file is a timestamp which matches the date matcher. The file is read
+ * by {@link CsvTimestamps} in a single parallel pass, and the mismatch reports the row and raw text of the first failing value and the number of values
+ * which failed.
+ *
+ * @author Stewart Bissett
+ */
+public class IsEveryCsvTimestamp extends TypeSafeDiagnosingMatcher<Path> {
+
+	/**
+	 * Creates a matcher that matches when every value in the selected columns of the examined CSV file is a timestamp which matches the date matcher
+	 * <p/>
+	 * For example:
+	 * 
+	 * <pre>
+	 * assertThat(Paths.get(&quot;orders.csv&quot;), everyCsvTimestamp(CsvTimestamps.columns(&quot;created&quot;), within(1, TimeUnit.DAYS, exportTime)))
+	 * </pre>
+	 * 
+	 * @param columns
+	 *            the columns to read
+	 * @param matcher
+	 *            the matcher to apply to each value
+	 */
+	@Factory
+	public static Matcher<Path> everyCsvTimestamp(final CsvTimestamps columns, final Matcher<? super Date> matcher) {
+		return new IsEveryCsvTimestamp(columns, matcher);
+	}
+
+	private final CsvTimestamps columns;
+	private final Matcher<? super Date> matcher;
+	private final LastFailure<MismatchReport> lastFailure = new LastFailure<MismatchReport>();
+
+	public IsEveryCsvTimestamp(final CsvTimestamps columns, final Matcher<? super Date> matcher) {
+		this.columns = columns;
+		this.matcher = matcher;
+	}
+
+	@Override
+	protected boolean matchesSafely(final Path actual, final Description mismatchDesc) {
+		MismatchReport report = lastFailure.take(actual, mismatchDesc);
+		if (report == null) {
+			try {
+				report = columns.report(actual, matcher, 1);
+			} catch (IOException e) {
+				mismatchDesc.appendText("could not be read because ").appendText(String.valueOf(e.getMessage()));
+				return false;
+			}
+		}
+		if (report.isEmpty()) {
+			return true;
+		}
+		lastFailure.keep(actual, report, mismatchDesc);
+		mismatchDesc.appendText("row " + report.getMismatchIndices()[0] + " ");
+		long value = report.getMismatchValues()[0];
+		if (value == MismatchReport.UNPARSEABLE) {
+			mismatchDesc.appendText("has no timestamp ").appendValue(report.getMismatchTexts()[0]);
+		} else {
+			matcher.describeMismatch(new Date(value), mismatchDesc);
+		}
+		mismatchDesc.appendText(", " + report.getMismatchCount() + " of " + report.getExaminedCount() + " values did not match");
+		return false;
+	}
+
+	public void describeTo(final Description description) {
+		description.appendText("every timestamp in " + columns + " is ").appendDescriptionOf(matcher);
+	}
+}
@@ -0,0 +1,156 @@
+package org.exparity.hamcrest.date;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.LongPredicate;
+import org.hamcrest.Description;
+import org.hamcrest.Factory;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * A matcher that tests that every date in the examined collection matches the date matcher. Random access lists at or above the parallel threshold are split
+ * across the common fork-join pool, stopping all workers once a mismatch is found, and the mismatch reported is always the one with the lowest index.
+ * <p/>
+ * The date matcher must be safe to use from several threads when the collection is examined in parallel. The matchers in this library are.
+ *
+ * @author Stewart Bissett
+ */
+public class IsEveryDate extends TypeSafeDiagnosingMatcher<Iterable<? extends Date>> {
+
+	static final int DEFAULT_PARALLEL_THRESHOLD = 16384;
+
+	/**
+	 * Creates a matcher that matches when every date in the examined collection matches the date matcher
+	 * <p/>
+	 * For example:
+	 * 
+	 * <pre>
+	 * assertThat(myDates, everyDate(isWeekday()))
+	 * </pre>
+	 * 
+	 * @param matcher
+	 *            the matcher to apply to each date
+	 */
+	@Factory
+	public static Matcher<Iterable<? extends Date>> everyDate(final Matcher<? super Date> matcher) {
+		return new IsEveryDate(matcher, DEFAULT_PARALLEL_THRESHOLD);
+	}
+
+	/**
+	 * Creates a matcher that matches when every date in the examined collection matches the date matcher, examining random access lists in parallel once
+	 * they reach the given size
+	 * <p/>
+	 * For example:
+	 * 
+	 * <pre>
+	 * assertThat(myDates, everyDate(isWeekday(), 100000))
+	 * </pre>
+	 * 
+	 * @param matcher
+	 *            the matcher to apply to each date
+	 * @param parallelThreshold
+	 *            the minimum size at which a random access list is examined in parallel
+	 */
+	@Factory
+	public static Matcher<Iterable<? extends Date>> everyDate(final Matcher<? super Date> matcher, final int parallelThreshold) {
+		return new IsEveryDate(matcher, parallelThreshold);
+	}
+
+	/**
+	 * Creates a matcher that matches when every date in the examined array matches the date matcher
+	 * <p/>
+	 * For example:
+	 * 
+	 * <pre>
+	 * assertThat(myDateArray, everyDateInArray(isWeekday()))
+	 * </pre>
+	 * 
+	 * @param matcher
+	 *            the matcher to apply to each date
+	 */
+	@Factory
+	public static Matcher<Date[]> everyDateInArray(final Matcher<? super Date> matcher) {
+		return everyDateInArray(matcher, DEFAULT_PARALLEL_THRESHOLD);
+	}
+
+	/**
+	 * Creates a matcher that matches when every date in the examined array matches the date matcher, examining the array in parallel once it reaches the
+	 * given size
+	 * <p/>
+	 * For example:
+	 * 
+	 * <pre>
+	 * assertThat(myDateArray, everyDateInArray(isWeekday(), 100000))
+	 * </pre>
+	 * 
+	 * @param matcher
+	 *            the matcher to apply to each date
+	 * @param parallelThreshold
+	 *            the minimum size at which the array is examined in parallel
+	 */
+	@Factory
+	public static Matcher<Date[]> everyDateInArray(final Matcher<? super Date> matcher, final int parallelThreshold) {
+		final IsEveryDate everyDate = new IsEveryDate(matcher, parallelThreshold);
+		return new TypeSafeDiagnosingMatcher<Date[]>() {
+
+			@Override
+			protected boolean matchesSafely(final Date[] actual, final Description mismatchDesc) {
+				return everyDate.matchesSafely(Arrays.asList(actual), mismatchDesc);
+			}
+
+			public void describeTo(final Description description) {
+				everyDate.describeTo(description);
+			}
+		};
+	}
+
+	private final Matcher<? super Date> matcher;
+	private final LongPredicate predicate;
+	private final int parallelThreshold;
+
+	public IsEveryDate(final Matcher<? super Date> matcher, final int parallelThreshold) {
+		this.matcher = matcher;
+		this.predicate = matcher instanceof CompilableMatcher ? ((CompilableMatcher) matcher).compile() : null;
+		this.parallelThreshold = parallelThreshold;
+	}
+
+	@Override
+	protected boolean matchesSafely(final Iterable<? extends Date> actual, final Description mismatchDesc) {
+		if (actual instanceof List && actual instanceof RandomAccess) {
+			final List<? extends Date> dates = (List<? extends Date>) actual;
+			long index = ParallelScan.firstFailure(dates.size(), new LongPredicate() {
+
+				public boolean test(final long index) {
+					return matches(dates.get((int) index));
+				}
+			}, parallelThreshold);
+			return index < 0 || describeMismatch(index, dates.get((int) index), mismatchDesc);
+		} else {
+			long index = 0;
+			for (Date date : actual) {
+				if (!matches(date)) {
+					return describeMismatch(index, date, mismatchDesc);
+				}
+				++index;
+			}
+			return true;
+		}
+	}
+
+	public void describeTo(final Description description) {
+		description.appendText("every date is ").appendDescriptionOf(matcher);
+	}
+
+	private boolean matches(final Date date) {
+		return predicate != null && date != null ? predicate.test(date.getTime()) : matcher.matches(date);
+	}
+
+	private boolean describeMismatch(final long index, final Date date, final Description mismatchDesc) {
+		mismatchDesc.appendText("date at index " + index + " ");
+		matcher.describeMismatch(date, mismatchDesc);
+		return false;
+	}
+}
@@ -0,0 +1,107 @@
+package org.exparity.hamcrest.date;
+
+import java.util.Date;
+import java.util.function.LongPredicate;
+import org.hamcrest.Description;
+import org.hamcrest.Factory;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * A matcher that tests that every date in the examined {@link DateMatchers date sequence} matches the date matcher, and describes a failure with a
+ * bounded {@link MismatchReport} rather than the whole sequence. The report holds the number of mismatches, the index and formatted value of the first
+ * mismatches and optionally a histogram of the mismatches, e.g. by day of the week, all gathered in a single pass which is split across the common
+ * fork-join pool for large random access sequences.
+ * <p/>
+ * The report of a failed match is kept for the describeMismatch call which follows it so the sequence is only examined once.
+ *
+ * @author Stewart Bissett
+ */
+public class IsEveryDateWithSummary extends TypeSafeDiagnosingMatcher<Object> {
+
+	static final int DEFAULT_LIMIT = 10;
+	static final long DEFAULT_PARALLEL_THRESHOLD = 65536;
+
+	/**
+	 * Creates a matcher that matches when every date in the examined sequence matches the date matcher, summarising the first 10 mismatches on failure
+	 * <p/>
+	 * For example:
+	 * 
+	 * <pre>
+	 * assertThat(myDates, everyDateWithSummary(isWeekday()))
+	 * </pre>
+	 * 
+	 * @param matcher
+	 *            the matcher to apply to each date
+	 */
+	@Factory
+	public static Matcher<Object> everyDateWithSummary(final Matcher<? super Date> matcher) {
+		return new IsEveryDateWithSummary(matcher, DEFAULT_LIMIT, null);
+	}
+
+	/**
+	 * Creates a matcher that matches when every date in the examined sequence matches the date matcher, summarising the mismatches up to the limit and
+	 * counting every mismatch by the histogram on failure
+	 * <p/>
+	 * For example:
+	 * 
+	 * <pre>
+	 * assertThat(myDates, everyDateWithSummary(isWeekday(), 5, DateHistogram.WEEKDAY))
+	 * </pre>
+	 * 
+	 * @param matcher
+	 *            the matcher to apply to each date
+	 * @param limit
+	 *            the maximum number of mismatches to describe
+	 * @param histogram
+	 *            the field to count the mismatches by
+	 */
+	@Factory
+	public static Matcher<Object> everyDateWithSummary(final Matcher<? super Date> matcher, final int limit, final DateHistogram histogram) {
+		return new IsEveryDateWithSummary(matcher, limit, histogram);
+	}
+
+	private final Matcher<? super Date> matcher;
+	private final LongPredicate predicate;
+	private final int limit;
+	private final DateHistogram histogram;
+	private final LastFailure<MismatchReport> lastFailure = new LastFailure<MismatchReport>();
+
+	public IsEveryDateWithSummary(final Matcher<? super Date> matcher, final int limit, final DateHistogram histogram) {
+		if (limit < 0) {
+			throw new IllegalArgumentException("Mismatch limit " + limit + " is negative");
+		}
+		this.matcher = matcher;
+		this.predicate = DatePredicates.compile(matcher);
+		this.limit = limit;
+		this.histogram = histogram;
+	}
+
+	@Override
+	protected boolean matchesSafely(final Object actual, final Description mismatchDesc) {
+		MismatchReport report = lastFailure.take(actual, mismatchDesc);
+		if (report == null) {
+			Timestamps timestamps = Timestamps.of(actual);
+			if (timestamps == null) {
+				mismatchDesc.appendText("was not " + Timestamps.SUPPORTED_TYPES);
+				return false;
+			}
+			try {
+				report = timestamps.report(predicate, new MismatchReport(limit, histogram), DEFAULT_PARALLEL_THRESHOLD);
+			} catch (IllegalArgumentException e) {
+				mismatchDesc.appendText(e.getMessage());
+				return false;
+			}
+		}
+		if (report.isEmpty()) {
+			return true;
+		}
+		lastFailure.keep(actual, report, mismatchDesc);
+		mismatchDesc.appendText(report.toString());
+		return false;
+	}
+
+	public void describeTo(final Description description) {
+		description.appendText("every date is ").appendDescriptionOf(matcher);
+	}
+}
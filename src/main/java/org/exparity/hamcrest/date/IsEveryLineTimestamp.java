@@ -0,0 +1,224 @@
+package org.exparity.hamcrest.date;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.function.LongPredicate;
+import org.hamcrest.Description;
+import org.hamcrest.Factory;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * A matcher that tests that every line of the examined text or file starts with a timestamp which matches the date matcher. The timestamps are parsed in
+ * place by the same parser as {@link IsTimestampText} and tested with the compiled date matcher. Files are memory-mapped and read as single byte text, at
+ * most 1 GB and the rest of its last line at a time, and text or files at or above the parallel threshold are split into chunks at line boundaries
+ * across the common fork-join pool. Empty lines are counted but not examined.
+ * <p/>
+ * The mismatch reports the line number of the first failing line and the number of lines which failed.
+ *
+ * @author Stewart Bissett
+ */
+public abstract class IsEveryLineTimestamp<T> extends TypeSafeDiagnosingMatcher<T> {
+
+	static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 20;
+	static final int DEFAULT_WINDOW_SIZE = 1 << 30;
+
+	/**
+	 * Creates a matcher that matches when every line of the examined text starts with a timestamp which matches the date matcher
+	 * <p/>
+	 * For example:
+	 * 
+	 * <pre>
+	 * assertThat(logText, everyLineHasTimestamp(within(1, TimeUnit.HOURS, batchTime)))
+	 * </pre>
+	 * 
+	 * @param matcher
+	 *            the matcher to apply to the timestamp of each line
+	 */
+	@Factory
+	public static Matcher<CharSequence> everyLineHasTimestamp(final Matcher<? super Date> matcher) {
+		return new IsEveryLineTimestamp<CharSequence>(matcher, DEFAULT_PARALLEL_THRESHOLD, DEFAULT_WINDOW_SIZE) {
+
+			@Override
+			LineScan scan(final CharSequence actual) {
+				return scanText(actual);
+			}
+		};
+	}
+
+	/**
+	 * Creates a matcher that matches when every line of the examined file starts with a timestamp which matches the date matcher
+	 * <p/>
+	 * For example:
+	 * 
+	 * <pre>
+	 * assertThat(Paths.get(&quot;app.log&quot;), everyLineInFileHasTimestamp(within(1, TimeUnit.HOURS, batchTime)))
+	 * </pre>
+	 * 
+	 * @param matcher
+	 *            the matcher to apply to the timestamp of each line
+	 */
+	@Factory
+	public static Matcher<Path> everyLineInFileHasTimestamp(final Matcher<? super Date> matcher) {
+		return new IsEveryLineTimestamp<Path>(matcher, DEFAULT_PARALLEL_THRESHOLD, DEFAULT_WINDOW_SIZE) {
+
+			@Override
+			LineScan scan(final Path actual) throws IOException {
+				return scanFile(actual);
+			}
+		};
+	}
+
+	private final Matcher<? super Date> matcher;
+	private final LongPredicate predicate;
+	private final TimeZone zone;
+	private final int parallelThreshold;
+	private final int windowSize;
+	private final LastFailure<LineScan> lastFailure = new LastFailure<LineScan>();
+
+	IsEveryLineTimestamp(final Matcher<? super Date> matcher, final int parallelThreshold, final int windowSize) {
+		this.matcher = matcher;
+		this.predicate = DatePredicates.compile(matcher);
+		this.zone = TimeZone.getDefault();
+		this.parallelThreshold = parallelThreshold;
+		this.windowSize = windowSize;
+	}
+
+	abstract LineScan scan(T actual) throws IOException;
+
+	@Override
+	protected boolean matchesSafely(final T actual, final Description mismatchDesc) {
+		LineScan scan = lastFailure.take(actual, mismatchDesc);
+		if (scan == null) {
+			try {
+				scan = scan(actual);
+			} catch (IOException | UncheckedIOException e) {
+				mismatchDesc.appendText("could not be read because ").appendText(String.valueOf(e.getMessage()));
+				return false;
+			}
+		}
+		if (scan.mismatches == 0) {
+			return true;
+		}
+		lastFailure.keep(actual, scan, mismatchDesc);
+		mismatchDesc.appendText("line " + (scan.firstLine + 1) + " ");
+		if (scan.firstValue == TimestampText.NONE) {
+			mismatchDesc.appendText("has no timestamp ").appendValue(scan.firstText);
+		} else {
+			matcher.describeMismatch(new Date(scan.firstValue), mismatchDesc);
+		}
+		mismatchDesc.appendText(", " + scan.mismatches + " of " + scan.lines + " lines did not match");
+		return false;
+	}
+
+	public void describeTo(final Description description) {
+		description.appendText("every line has a timestamp which is ").appendDescriptionOf(matcher);
+	}
+
+	LineScan scanText(final CharSequence text) {
+		return ParallelScan.reduce(text.length(), new ParallelScan.RangeReduce<LineScan>() {
+
+			public LineScan reduce(final long from, final long to) {
+				return scanLines(text, (int) from, (int) to);
+			}
+
+			public LineScan combine(final LineScan lower, final LineScan upper) {
+				return lower.append(upper);
+			}
+		}, parallelThreshold);
+	}
+
+	LineScan scanFile(final Path file) throws IOException {
+		try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			final long length = channel.size();
+			return ParallelScan.reduce(length, new ParallelScan.RangeReduce<LineScan>() {
+
+				public LineScan reduce(final long from, final long to) {
+					// map the range in windows small enough to finish their last line within a single mapping
+					LineScan scan = new LineScan();
+					for (long start = from; start < to; start += windowSize) {
+						long end = Math.min(to, start + windowSize);
+						try {
+							int offset = start == 0 ? 0 : 1;
+							scan.append(scanLines(AsciiSequence.mapLines(channel, start, end), offset, (int) (end - start) + offset));
+						} catch (IOException e) {
+							throw new UncheckedIOException(e);
+						}
+					}
+					return scan;
+				}
+
+				public LineScan combine(final LineScan lower, final LineScan upper) {
+					return lower.append(upper);
+				}
+			}, parallelThreshold);
+		}
+	}
+
+	/**
+	 * Scan the lines which start in [from, to) of the text, reading past the end of the range to finish the last line
+	 */
+	private LineScan scanLines(final CharSequence text, final int from, final int to) {
+		LineScan scan = new LineScan();
+		int length = text.length();
+		int start = from;
+		if (from > 0 && text.charAt(from - 1) != '\n') {
+			while (start < length && text.charAt(start) != '\n') {
+				++start;
+			}
+			++start;
+		}
+		while (start < to) {
+			int end = start;
+			while (end < length && text.charAt(end) != '\n') {
+				++end;
+			}
+			int lineEnd = end > start && text.charAt(end - 1) == '\r' ? end - 1 : end;
+			if (lineEnd > start) {
+				long millis = TimestampText.parse(text, start, lineEnd, zone);
+				if (millis == TimestampText.NONE || !predicate.test(millis)) {
+					scan.mismatch(millis, text, start, lineEnd);
+				}
+			}
+			++scan.lines;
+			start = end + 1;
+		}
+		return scan;
+	}
+
+	/**
+	 * The result of scanning the lines in a range of text
+	 */
+	static class LineScan {
+
+		private long lines;
+		private long mismatches;
+		private long firstLine = -1;
+		private long firstValue;
+		private String firstText;
+
+		private void mismatch(final long value, final CharSequence text, final int start, final int end) {
+			if (mismatches++ == 0) {
+				firstLine = lines;
+				firstValue = value;
+				firstText = text.subSequence(start, end).toString();
+			}
+		}
+
+		private LineScan append(final LineScan following) {
+			if (mismatches == 0 && following.mismatches > 0) {
+				firstLine = lines + following.firstLine;
+				firstValue = following.firstValue;
+				firstText = following.firstText;
+			}
+			lines += following.lines;
+			mismatches += following.mismatches;
+			return this;
+		}
+	}
+}
@@ -0,0 +1,82 @@
+package org.exparity.hamcrest.date;
+
+import java.util.Date;
+import java.util.function.LongPredicate;
+import org.hamcrest.Description;
+import org.hamcrest.Factory;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * A matcher that tests that every timestamp in the examined {@link TimestampColumn} matches the date matcher. The date matcher is compiled to a predicate
+ * over epoch milliseconds so the timestamps are read straight from the column, and a {@link Date} is only created to describe the first mismatch. Columns at
+ * or above the parallel threshold are split across the common fork-join pool.
+ *
+ * @author Stewart Bissett
+ */
+public class IsEveryTimestamp extends TypeSafeDiagnosingMatcher<TimestampColumn> {
+
+	static final long DEFAULT_PARALLEL_THRESHOLD = 65536;
+
+	/**
+	 * Creates a matcher that matches when every timestamp in the examined column matches the date matcher
+	 * <p/>
+	 * For example:
+	 * 
+	 * <pre>
+	 * assertThat(TimestampColumn.of(buffer, ByteOrder.LITTLE_ENDIAN), everyTimestamp(isWeekday()))
+	 * </pre>
+	 * 
+	 * @param matcher
+	 *            the matcher to apply to each timestamp
+	 */
+	@Factory
+	public static Matcher<TimestampColumn> everyTimestamp(final Matcher<? super Date> matcher) {
+		return new IsEveryTimestamp(matcher, DEFAULT_PARALLEL_THRESHOLD);
+	}
+
+	/**
+	 * Creates a matcher that matches when every timestamp in the examined column matches the date matcher, examining the column in parallel once it reaches
+	 * the given size
+	 * <p/>
+	 * For example:
+	 * 
+	 * <pre>
+	 * assertThat(TimestampColumn.of(buffer, ByteOrder.LITTLE_ENDIAN), everyTimestamp(isWeekday(), 1000000))
+	 * </pre>
+	 * 
+	 * @param matcher
+	 *            the matcher to apply to each timestamp
+	 * @param parallelThreshold
+	 *            the minimum size at which the column is examined in parallel
+	 */
+	@Factory
+	public static Matcher<TimestampColumn> everyTimestamp(final Matcher<? super Date> matcher, final long parallelThreshold) {
+		return new IsEveryTimestamp(matcher, parallelThreshold);
+	}
+
+	private final Matcher<? super Date> matcher;
+	private final LongPredicate predicate;
+	private final long parallelThreshold;
+
+	public IsEveryTimestamp(final Matcher<? super Date> matcher, final long parallelThreshold) {
+		this.matcher = matcher;
+		this.predicate = DatePredicates.compile(matcher);
+		this.parallelThreshold = parallelThreshold;
+	}
+
+	@Override
+	protected boolean matchesSafely(final TimestampColumn actual, final Description mismatchDesc) {
+		long index = actual.firstMismatch(predicate, parallelThreshold);
+		if (index < 0) {
+			return true;
+		}
+		mismatchDesc.appendText("timestamp at index " + index + " ");
+		matcher.describeMismatch(new Date(actual.get(index)), mismatchDesc);
+		return false;
+	}
+
+	public void describeTo(final Description description) {
+		description.appendText("every timestamp is ").appendDescriptionOf(matcher);
+	}
+}
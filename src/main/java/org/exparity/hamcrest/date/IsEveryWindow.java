@@ -0,0 +1,263 @@
+package org.exparity.hamcrest.date;
+
+import static org.exparity.hamcrest.date.DateFormatter.formatDateWithMillis;
+import java.util.Date;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.Description;
+import org.hamcrest.Factory;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * A matcher that tests the number of dates from the examined {@link DateMatchers date sequence} in each of a series of back to back windows of a
+ * defined length, e.g. that every hour has at least one date. Each date is assigned its window by integer division and counted in a <code>long[]</code>
+ * holding a count per window. Where the windows are too many for an array the dates are instead copied to a sorted <code>long[]</code> and the windows
+ * counted as runs of dates, with the empty windows between runs tested once per run.
+ * <p/>
+ * The mismatch summarises the number of windows which failed and the first of them, joining back to back windows with the same count.
+ *
+ * @author Stewart Bissett
+ */
+public class IsEveryWindow extends TypeSafeDiagnosingMatcher<Object> {
+
+	static final int DENSE_LIMIT = 1 << 22;
+	private static final int SUMMARY_LIMIT = 10;
+
+	/**
+	 * Creates a matcher that matches when the number of dates in each window, from the window holding the first date to the window holding the last,
+	 * matches the count matcher. The windows are aligned to the epoch so hourly windows start on the hour in UTC, which is half past the hour on the local
+	 * clock in a zone with a half hour offset.
+	 * <p/>
+	 * For example:
+	 * 
+	 * <pre>
+	 * assertThat(events, everyWindow(1, TimeUnit.MINUTES, lessThanOrEqualTo(10000L)))
+	 * </pre>
+	 * 
+	 * @param window
+	 *            the timeunit interval of each window
+	 * @param unit
+	 *            the timeunit to define the length of the window
+	 * @param countMatcher
+	 *            the matcher to apply to the number of dates in each window
+	 */
+	@Factory
+	public static Matcher<Object> everyWindow(final long window, final TimeUnit unit, final Matcher<? super Long> countMatcher) {
+		return new IsEveryWindow(window, unit, null, null, countMatcher);
+	}
+
+	/**
+	 * Creates a matcher that matches when the number of dates in each window, starting at the first date of the range and ending before the last,
+	 * matches the count matcher. Dates outside the range are ignored, and where the range is not a whole number of windows the last window is cut short
+	 * at the end of the range.
+	 * <p/>
+	 * For example:
+	 * 
+	 * <pre>
+	 * assertThat(events, everyWindow(1, TimeUnit.HOURS, startOfDay, endOfDay, greaterThan(0L)))
+	 * </pre>
+	 * 
+	 * @param window
+	 *            the timeunit interval of each window
+	 * @param unit
+	 *            the timeunit to define the length of the window
+	 * @param from
+	 *            the start of the first window
+	 * @param to
+	 *            the end of the range, exclusive
+	 * @param countMatcher
+	 *            the matcher to apply to the number of dates in each window
+	 */
+	@Factory
+	public static Matcher<Object> everyWindow(final long window, final TimeUnit unit, final Date from, final Date to, final Matcher<? super Long> countMatcher) {
+		return new IsEveryWindow(window, unit, from, to, countMatcher);
+	}
+
+	private final long window;
+	private final TimeUnit unit;
+	private final long windowInMillis;
+	private final Date from, to;
+	private final Matcher<? super Long> countMatcher;
+
+	public IsEveryWindow(final long window, final TimeUnit unit, final Date from, final Date to, final Matcher<? super Long> countMatcher) {
+		if (window <= 0 || unit.toMillis(window) == 0) {
+			throw new IllegalArgumentException("Window " + window + " " + IsWithin.abbreviatedUnit(unit) + " is shorter than a millisecond");
+		} else if ((from == null) != (to == null)) {
+			throw new IllegalArgumentException("Range has " + (from == null ? "an end but no start" : "a start but no end"));
+		} else if (from != null && to.before(from)) {
+			throw new IllegalArgumentException("Range ends before it starts");
+		} else if (from != null && to.getTime() - from.getTime() < 0) {
+			throw new IllegalArgumentException("Range is longer than " + Long.MAX_VALUE + " ms");
+		}
+		this.window = window;
+		this.unit = unit;
+		this.windowInMillis = unit.toMillis(window);
+		this.from = from;
+		this.to = to;
+		this.countMatcher = countMatcher;
+	}
+
+	@Override
+	protected boolean matchesSafely(final Object actual, final Description mismatchDesc) {
+		Timestamps timestamps = Timestamps.of(actual);
+		if (timestamps == null) {
+			mismatchDesc.appendText("was not " + Timestamps.SUPPORTED_TYPES);
+			return false;
+		}
+		Summary summary;
+		try {
+			long origin, lastOffset, windows;
+			if (from != null) {
+				origin = from.getTime();
+				lastOffset = to.getTime() - origin - 1;
+				if (lastOffset < 0) {
+					return true;
+				}
+				windows = lastOffset / windowInMillis + 1;
+			} else {
+				long first = Long.MAX_VALUE, last = Long.MIN_VALUE;
+				for (PrimitiveIterator.OfLong millis = timestamps.iterator(); millis.hasNext();) {
+					long value = millis.nextLong();
+					first = Math.min(first, value);
+					last = Math.max(last, value);
+				}
+				if (first > last) {
+					return true;
+				}
+				try {
+					origin = Math.multiplyExact(Math.floorDiv(first, windowInMillis), windowInMillis);
+					lastOffset = Math.subtractExact(last, origin);
+					windows = Math.addExact(lastOffset / windowInMillis, 1);
+				} catch (ArithmeticException e) {
+					mismatchDesc.appendText("spanned more windows than can be counted");
+					return false;
+				}
+			}
+			summary = windows <= DENSE_LIMIT ? countDense(timestamps, origin, lastOffset, (int) windows) : countSparse(timestamps, origin, lastOffset, windows);
+		} catch (IllegalArgumentException e) {
+			mismatchDesc.appendText(e.getMessage());
+			return false;
+		}
+		if (summary.failed == 0) {
+			return true;
+		}
+		summary.describeTo(mismatchDesc);
+		return false;
+	}
+
+	public void describeTo(final Description description) {
+		description.appendText("every " + window + " " + IsWithin.abbreviatedUnit(unit) + " window");
+		if (from != null) {
+			description.appendText(" from ").appendValue(formatDateWithMillis(from)).appendText(" to ").appendValue(formatDateWithMillis(to));
+		}
+		description.appendText(" has a count of dates which is ").appendDescriptionOf(countMatcher);
+	}
+
+	/**
+	 * Test if a date falls between the origin and the last offset, inclusive, without overflowing for dates far outside the range
+	 */
+	private static boolean isInRange(final long millis, final long origin, final long lastOffset) {
+		return millis >= origin && Long.compareUnsigned(millis - origin, lastOffset) <= 0;
+	}
+
+	private Summary countDense(final Timestamps timestamps, final long origin, final long lastOffset, final int windows) {
+		long[] counts = new long[windows];
+		for (PrimitiveIterator.OfLong millis = timestamps.iterator(); millis.hasNext();) {
+			long value = millis.nextLong();
+			if (isInRange(value, origin, lastOffset)) {
+				++counts[(int) ((value - origin) / windowInMillis)];
+			}
+		}
+		Summary summary = new Summary(origin, windows);
+		for (int i = 0; i < windows; ++i) {
+			summary.test(i, 1, counts[i]);
+		}
+		return summary;
+	}
+
+	private Summary countSparse(final Timestamps timestamps, final long origin, final long lastOffset, final long windows) {
+		long[] sorted = timestamps.toSortedArray();
+		Summary summary = new Summary(origin, windows);
+		long next = 0;
+		for (int i = 0; i < sorted.length;) {
+			if (sorted[i] < origin) {
+				++i;
+				continue;
+			} else if (!isInRange(sorted[i], origin, lastOffset)) {
+				break;
+			}
+			long current = (sorted[i] - origin) / windowInMillis;
+			long count = 0;
+			for (; i < sorted.length && isInRange(sorted[i], origin, lastOffset) && (sorted[i] - origin) / windowInMillis == current; ++i) {
+				++count;
+			}
+			summary.test(next, current - next, 0);
+			summary.test(current, 1, count);
+			next = current + 1;
+		}
+		summary.test(next, windows - next, 0);
+		return summary;
+	}
+
+	/**
+	 * Collects the windows which fail the count matcher, joining back to back windows with the same count
+	 */
+	private class Summary {
+
+		private final long origin, windows;
+		private final long[] firstWindow = new long[SUMMARY_LIMIT], runLength = new long[SUMMARY_LIMIT], runCount = new long[SUMMARY_LIMIT];
+		private long failed;
+		private int runs;
+		private boolean truncated;
+		private long lastCount = -1;
+		private boolean lastMatched;
+
+		private Summary(final long origin, final long windows) {
+			this.origin = origin;
+			this.windows = windows;
+		}
+
+		/**
+		 * Test a run of back to back windows which all hold the same number of dates
+		 */
+		private void test(final long first, final long length, final long count) {
+			if (length <= 0 || matches(count)) {
+				return;
+			}
+			failed += length;
+			if (runs > 0 && runCount[runs - 1] == count && firstWindow[runs - 1] + runLength[runs - 1] == first) {
+				runLength[runs - 1] += length;
+			} else if (runs < SUMMARY_LIMIT) {
+				firstWindow[runs] = first;
+				runLength[runs] = length;
+				runCount[runs] = count;
+				++runs;
+			} else {
+				truncated = true;
+			}
+		}
+
+		private boolean matches(final long count) {
+			if (count != lastCount) {
+				lastCount = count;
+				lastMatched = countMatcher.matches(count);
+			}
+			return lastMatched;
+		}
+
+		private void describeTo(final Description mismatchDesc) {
+			mismatchDesc.appendText(failed + " of " + windows + " windows did not match");
+			for (int i = 0; i < runs; ++i) {
+				mismatchDesc.appendText(i == 0 ? ": " : ", ");
+				if (runLength[i] > 1) {
+					mismatchDesc.appendText(runLength[i] + " windows from ");
+				}
+				mismatchDesc.appendValue(formatDateWithMillis(new Date(origin + firstWindow[i] * windowInMillis))).appendText(" had " + runCount[i]);
+			}
+			if (truncated) {
+				mismatchDesc.appendText(", ...");
+			}
+		}
+	}
+}
@@ -0,0 +1,251 @@
+package org.exparity.hamcrest.date;
+
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.LongPredicate;
+import java.util.stream.Stream;
+import org.hamcrest.Description;
+import org.hamcrest.Factory;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * A matcher that tests the dates in an examined {@link Stream}, {@link Iterator} or {@link Spliterator} one at a time as they are produced, so the dates
+ * are never collected and examination stops at the first decisive date: the first mismatch when every date must match, or the first match when any date
+ * may match.
+ * <p/>
+ * Streams and iterators can only be read once, so the result of a failed match is kept for the describeMismatch call which follows it; the mismatch
+ * describes the index of the failing date rather than the whole sequence.
+ *
+ * @author Stewart Bissett
+ */
+public abstract class IsLazyDates<T> extends TypeSafeDiagnosingMatcher<T> {
+
+	/**
+	 * Creates a matcher that matches when every date in the examined stream matches the date matcher, stopping at the first date which does not
+	 * <p/>
+	 * For example:
+	 * 
+	 * <pre>
+	 * assertThat(events.stream().map(Event::getTime), everyDateInStream(isWeekday()))
+	 * </pre>
+	 * 
+	 * @param matcher
+	 *            the matcher to apply to each date
+	 */
+	@Factory
+	public static Matcher<Stream<? extends Date>> everyDateInStream(final Matcher<? super Date> matcher) {
+		return new IsLazyDates<Stream<? extends Date>>(matcher, true) {
+
+			@Override
+			Spliterator<? extends Date> spliteratorOf(final Stream<? extends Date> actual) {
+				return actual.spliterator();
+			}
+		};
+	}
+
+	/**
+	 * Creates a matcher that matches when every date returned by the examined iterator matches the date matcher, stopping at the first date which does not
+	 * <p/>
+	 * For example:
+	 * 
+	 * <pre>
+	 * assertThat(eventTimes.iterator(), everyDateInIterator(isWeekday()))
+	 * </pre>
+	 * 
+	 * @param matcher
+	 *            the matcher to apply to each date
+	 */
+	@Factory
+	public static Matcher<Iterator<? extends Date>> everyDateInIterator(final Matcher<? super Date> matcher) {
+		return new IsLazyDates<Iterator<? extends Date>>(matcher, true) {
+
+			@Override
+			Spliterator<? extends Date> spliteratorOf(final Iterator<? extends Date> actual) {
+				return Spliterators.spliteratorUnknownSize(actual, Spliterator.ORDERED);
+			}
+		};
+	}
+
+	/**
+	 * Creates a matcher that matches when every date from the examined spliterator matches the date matcher, stopping at the first date which does not
+	 * <p/>
+	 * For example:
+	 * 
+	 * <pre>
+	 * assertThat(eventTimes.spliterator(), everyDateInSpliterator(isWeekday()))
+	 * </pre>
+	 * 
+	 * @param matcher
+	 *            the matcher to apply to each date
+	 */
+	@Factory
+	public static Matcher<Spliterator<? extends Date>> everyDateInSpliterator(final Matcher<? super Date> matcher) {
+		return new IsLazyDates<Spliterator<? extends Date>>(matcher, true) {
+
+			@Override
+			Spliterator<? extends Date> spliteratorOf(final Spliterator<? extends Date> actual) {
+				return actual;
+			}
+		};
+	}
+
+	/**
+	 * Creates a matcher that matches when any date in the examined stream matches the date matcher, stopping at the first date which does
+	 * <p/>
+	 * For example:
+	 * 
+	 * <pre>
+	 * assertThat(events.stream().map(Event::getTime), anyDateInStream(isWeekend()))
+	 * </pre>
+	 * 
+	 * @param matcher
+	 *            the matcher to apply to each date
+	 */
+	@Factory
+	public static Matcher<Stream<? extends Date>> anyDateInStream(final Matcher<? super Date> matcher) {
+		return new IsLazyDates<Stream<? extends Date>>(matcher, false) {
+
+			@Override
+			Spliterator<? extends Date> spliteratorOf(final Stream<? extends Date> actual) {
+				return actual.spliterator();
+			}
+		};
+	}
+
+	/**
+	 * Creates a matcher that matches when any date returned by the examined iterator matches the date matcher, stopping at the first date which does
+	 * <p/>
+	 * For example:
+	 * 
+	 * <pre>
+	 * assertThat(eventTimes.iterator(), anyDateInIterator(isWeekend()))
+	 * </pre>
+	 * 
+	 * @param matcher
+	 *            the matcher to apply to each date
+	 */
+	@Factory
+	public static Matcher<Iterator<? extends Date>> anyDateInIterator(final Matcher<? super Date> matcher) {
+		return new IsLazyDates<Iterator<? extends Date>>(matcher, false) {
+
+			@Override
+			Spliterator<? extends Date> spliteratorOf(final Iterator<? extends Date> actual) {
+				return Spliterators.spliteratorUnknownSize(actual, Spliterator.ORDERED);
+			}
+		};
+	}
+
+	/**
+	 * Creates a matcher that matches when any date from the examined spliterator matches the date matcher, stopping at the first date which does
+	 * <p/>
+	 * For example:
+	 * 
+	 * <pre>
+	 * assertThat(eventTimes.spliterator(), anyDateInSpliterator(isWeekend()))
+	 * </pre>
+	 * 
+	 * @param matcher
+	 *            the matcher to apply to each date
+	 */
+	@Factory
+	public static Matcher<Spliterator<? extends Date>> anyDateInSpliterator(final Matcher<? super Date> matcher) {
+		return new IsLazyDates<Spliterator<? extends Date>>(matcher, false) {
+
+			@Override
+			Spliterator<? extends Date> spliteratorOf(final Spliterator<? extends Date> actual) {
+				return actual;
+			}
+		};
+	}
+
+	private final Matcher<? super Date> matcher;
+	private final LongPredicate predicate;
+	private final boolean every;
+	private final LastFailure<Failure> lastFailure = new LastFailure<Failure>();
+
+	IsLazyDates(final Matcher<? super Date> matcher, final boolean every) {
+		this.matcher = matcher;
+		this.predicate = matcher instanceof CompilableMatcher ? ((CompilableMatcher) matcher).compile() : null;
+		this.every = every;
+	}
+
+	abstract Spliterator<? extends Date> spliteratorOf(T actual);
+
+	@Override
+	protected boolean matchesSafely(final T actual, final Description mismatchDesc) {
+		Failure failure = lastFailure.take(actual, mismatchDesc);
+		if (failure == null) {
+			try {
+				failure = examine(actual);
+			} catch (IllegalStateException e) {
+				mismatchDesc.appendText("could not be read because ").appendText(String.valueOf(e.getMessage()));
+				return false;
+			}
+			if (failure == null) {
+				return true;
+			}
+			lastFailure.keep(actual, failure, mismatchDesc);
+		}
+		if (every) {
+			mismatchDesc.appendText("date at index " + failure.index + " ");
+			matcher.describeMismatch(failure.date, mismatchDesc);
+		} else {
+			mismatchDesc.appendText("none of " + failure.index + " dates matched");
+		}
+		return false;
+	}
+
+	public void describeTo(final Description description) {
+		description.appendText(every ? "every date is " : "any date is ").appendDescriptionOf(matcher);
+	}
+
+	/**
+	 * Read the dates until the result is decided, returning the failure or null if the dates match
+	 */
+	private Failure examine(final T actual) {
+		Spliterator<? extends Date> dates = spliteratorOf(actual);
+		Cursor cursor = new Cursor();
+		while (dates.tryAdvance(cursor)) {
+			if (matches(cursor.date) != every) {
+				return every ? new Failure(cursor.index, cursor.date) : null;
+			}
+			++cursor.index;
+		}
+		return every ? null : new Failure(cursor.index, null);
+	}
+
+	private boolean matches(final Date date) {
+		return predicate != null && date != null ? predicate.test(date.getTime()) : matcher.matches(date);
+	}
+
+	/**
+	 * Receives each date in turn from the spliterator
+	 */
+	private static class Cursor implements Consumer<Date> {
+
+		private Date date;
+		private long index;
+
+		public void accept(final Date date) {
+			this.date = date;
+		}
+	}
+
+	/**
+	 * The decisive position in a sequence which did not match, kept for the following describeMismatch call
+	 */
+	private static class Failure {
+
+		private final long index;
+		private final Date date;
+
+		private Failure(final long index, final Date date) {
+			this.index = index;
+			this.date = date;
+		}
+	}
+}
@@ -4,6 +4,7 @@ package org.exparity.hamcrest.date;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.function.LongPredicate;
 import org.hamcrest.Description;
 import org.hamcrest.Factory;
 import org.hamcrest.Matcher;
@@ -14,7 +15,7 @@ import org.hamcrest.TypeSafeDiagnosingMatcher;
  * 
  * @author Stewart Bissett
  */
-public class IsLeapYear extends TypeSafeDiagnosingMatcher<Date> {
+public class IsLeapYear extends TypeSafeDiagnosingMatcher<Date> implements CompilableMatcher {
 
 	/**
 	 * Creates a matcher that matches when the examined date is a leap year
@@ -40,6 +41,16 @@ public class IsLeapYear extends TypeSafeDiagnosingMatcher<Date> {
 		}
 	}
 
+	public LongPredicate compile() {
+		final DateFields fields = DateFields.forDefaultCalendar();
+		return new LongPredicate() {
+
+			public boolean test(final long millis) {
+				return fields.isLeapYear(millis);
+			}
+		};
+	}
+
 	public void describeTo(final Description description) {
 		description.appendText("a leap year");
 	}
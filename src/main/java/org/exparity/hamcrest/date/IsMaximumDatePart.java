@@ -3,6 +3,7 @@ package org.exparity.hamcrest.date;
 
 import java.util.Calendar;
 import java.util.Date;
+import java.util.function.LongPredicate;
 import org.hamcrest.Description;
 import org.hamcrest.Factory;
 import org.hamcrest.Matcher;
@@ -13,7 +14,7 @@ import org.hamcrest.TypeSafeDiagnosingMatcher;
  * 
  * @author Stewart Bissett
  */
-class IsMaximumDatePart extends TypeSafeDiagnosingMatcher<Date> {
+class IsMaximumDatePart extends TypeSafeDiagnosingMatcher<Date> implements CompilableMatcher {
 
 	/**
 	 * Creates a matcher that matches when the examined date has the maximum value for the datePart
@@ -54,6 +55,16 @@ class IsMaximumDatePart extends TypeSafeDiagnosingMatcher<Date> {
 		}
 	}
 
+	public LongPredicate compile() {
+		final DateFields fields = DateFields.forDefaultCalendar();
+		return new LongPredicate() {
+
+			public boolean test(final long millis) {
+				return fields.get(millis, datePart) == fields.getActualMaximum(millis, datePart);
+			}
+		};
+	}
+
 	public void describeTo(final Description description) {
 		description.appendText("the last " + datePartName + " value");
 	}
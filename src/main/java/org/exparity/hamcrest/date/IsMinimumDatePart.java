@@ -3,6 +3,7 @@ package org.exparity.hamcrest.date;
 
 import java.util.Calendar;
 import java.util.Date;
+import java.util.function.LongPredicate;
 import org.hamcrest.Description;
 import org.hamcrest.Factory;
 import org.hamcrest.Matcher;
@@ -13,7 +14,7 @@ import org.hamcrest.TypeSafeDiagnosingMatcher;
  * 
  * @author Stewart Bissett
  */
-class IsMinimumDatePart extends TypeSafeDiagnosingMatcher<Date> {
+class IsMinimumDatePart extends TypeSafeDiagnosingMatcher<Date> implements CompilableMatcher {
 
 	/**
 	 * Creates a matcher that matches when the examined date has the minimum value for the datePart
@@ -52,6 +53,16 @@ class IsMinimumDatePart extends TypeSafeDiagnosingMatcher<Date> {
 		}
 	}
 
+	public LongPredicate compile() {
+		final DateFields fields = DateFields.forDefaultCalendar();
+		return new LongPredicate() {
+
+			public boolean test(final long millis) {
+				return fields.get(millis, datePart) == fields.getActualMinimum(millis, datePart);
+			}
+		};
+	}
+
 	public void describeTo(final Description description) {
 		description.appendText("the first " + datePartName + " value");
 	}
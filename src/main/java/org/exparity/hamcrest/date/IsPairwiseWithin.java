@@ -0,0 +1,174 @@
+package org.exparity.hamcrest.date;
+
+import static org.exparity.hamcrest.date.DateFormatter.formatDateWithMillis;
+import java.util.Date;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.Description;
+import org.hamcrest.Factory;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * A matcher that tests that each date in the examined {@link DateMatchers date sequence} is within a defined period of the expected date at the same
+ * index, e.g. to reconcile the times messages were sent against the times they were scheduled. The pairs are compared in a single pass which is split
+ * across the common fork-join pool when both sequences support reading by index and are large, without creating an {@link IsWithin} per pair.
+ * <p/>
+ * The mismatch describes the number of pairs too far apart and the pair furthest apart.
+ *
+ * @author Stewart Bissett
+ */
+public class IsPairwiseWithin extends TypeSafeDiagnosingMatcher<Object> {
+
+	static final long DEFAULT_PARALLEL_THRESHOLD = 65536;
+
+	/**
+	 * Creates a matcher that matches when each date in the examined sequence is within the given period of the expected date at the same index
+	 * <p/>
+	 * For example:
+	 * 
+	 * <pre>
+	 * assertThat(sentTimes, pairwiseWithin(scheduledTimes, 1, TimeUnit.SECONDS))
+	 * </pre>
+	 * 
+	 * @param expected
+	 *            the dates expected at each index
+	 * @param period
+	 *            the timeunit interval each date may be from the expected date
+	 * @param unit
+	 *            the timeunit to define the length of the period
+	 */
+	@Factory
+	public static Matcher<Object> pairwiseWithin(final List<Date> expected, final long period, final TimeUnit unit) {
+		return new IsPairwiseWithin(Timestamps.of(expected), period, unit);
+	}
+
+	/**
+	 * Creates a matcher that matches when each date in the examined sequence is within the given period of the expected epoch milliseconds at the same
+	 * index
+	 * <p/>
+	 * For example:
+	 * 
+	 * <pre>
+	 * assertThat(sentMillis, pairwiseWithin(scheduledMillis, 1, TimeUnit.SECONDS))
+	 * </pre>
+	 * 
+	 * @param expected
+	 *            the epoch milliseconds expected at each index
+	 * @param period
+	 *            the timeunit interval each date may be from the expected date
+	 * @param unit
+	 *            the timeunit to define the length of the period
+	 */
+	@Factory
+	public static Matcher<Object> pairwiseWithin(final long[] expected, final long period, final TimeUnit unit) {
+		return new IsPairwiseWithin(Timestamps.of(expected), period, unit);
+	}
+
+	private final Timestamps expected;
+	private final long period;
+	private final TimeUnit unit;
+	private final long toleranceInMillis;
+
+	private IsPairwiseWithin(final Timestamps expected, final long period, final TimeUnit unit) {
+		if (period < 0) {
+			throw new IllegalArgumentException("Period " + period + " is negative");
+		}
+		this.expected = expected;
+		this.period = period;
+		this.unit = unit;
+		this.toleranceInMillis = unit.toMillis(period);
+	}
+
+	@Override
+	protected boolean matchesSafely(final Object actual, final Description mismatchDesc) {
+		final Timestamps timestamps = Timestamps.of(actual);
+		if (timestamps == null) {
+			mismatchDesc.appendText("was not " + Timestamps.SUPPORTED_TYPES);
+			return false;
+		}
+		Violations violations;
+		try {
+			if (timestamps.size() >= 0 && timestamps.size() != expected.size()) {
+				mismatchDesc.appendText("had " + timestamps.size() + " dates but " + expected.size() + " were expected");
+				return false;
+			} else if (timestamps.isRandomAccess() && expected.isRandomAccess()) {
+				violations = ParallelScan.reduce(expected.size(), new ParallelScan.RangeReduce<Violations>() {
+
+					public Violations reduce(final long from, final long to) {
+						Violations violations = new Violations();
+						for (long i = from; i < to; ++i) {
+							violations.compare(i, timestamps.get(i), expected.get(i));
+						}
+						return violations;
+					}
+
+					public Violations combine(final Violations lower, final Violations upper) {
+						return lower.append(upper);
+					}
+				}, DEFAULT_PARALLEL_THRESHOLD);
+			} else {
+				violations = new Violations();
+				PrimitiveIterator.OfLong actualMillis = timestamps.iterator(), expectedMillis = expected.iterator();
+				long index = 0;
+				for (; actualMillis.hasNext() && expectedMillis.hasNext(); ++index) {
+					violations.compare(index, actualMillis.nextLong(), expectedMillis.nextLong());
+				}
+				if (actualMillis.hasNext() || expectedMillis.hasNext()) {
+					mismatchDesc.appendText("had " + (actualMillis.hasNext() ? "more than " + index : index) + " dates but " + expected.size() + " were expected");
+					return false;
+				}
+			}
+		} catch (IllegalArgumentException e) {
+			mismatchDesc.appendText(e.getMessage());
+			return false;
+		}
+		if (violations.count == 0) {
+			return true;
+		}
+		mismatchDesc.appendText(violations.count + " of " + expected.size() + " dates were not within " + period + " "
+				+ IsWithin.abbreviatedUnit(unit) + " of the expected date, the furthest at index " + violations.worstIndex + " ")
+				.appendValue(formatDateWithMillis(new Date(violations.worstActual)))
+				.appendText(" was " + Long.toUnsignedString(distance(violations.worstActual, violations.worstExpected)) + " ms from ")
+				.appendValue(formatDateWithMillis(new Date(violations.worstExpected)));
+		return false;
+	}
+
+	public void describeTo(final Description description) {
+		description.appendText(expected.size() + " dates each within " + period + " " + IsWithin.abbreviatedUnit(unit) + " of the expected date at the same index");
+	}
+
+	private static long distance(final long actual, final long expected) {
+		return actual >= expected ? actual - expected : expected - actual;
+	}
+
+	/**
+	 * The number of pairs too far apart and the pair furthest apart
+	 */
+	private class Violations {
+
+		private long count, worstIndex = -1, worstActual, worstExpected;
+
+		private void compare(final long index, final long actual, final long expected) {
+			long distance = distance(actual, expected);
+			if (Long.compareUnsigned(distance, toleranceInMillis) > 0) {
+				++count;
+				if (worstIndex < 0 || Long.compareUnsigned(distance, distance(worstActual, worstExpected)) > 0) {
+					worstIndex = index;
+					worstActual = actual;
+					worstExpected = expected;
+				}
+			}
+		}
+
+		private Violations append(final Violations following) {
+			if (following.count > 0) {
+				long count = this.count;
+				compare(following.worstIndex, following.worstActual, following.worstExpected);
+				this.count = count + following.count;
+			}
+			return this;
+		}
+	}
+}
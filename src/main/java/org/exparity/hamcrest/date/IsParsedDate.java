@@ -0,0 +1,85 @@
+package org.exparity.hamcrest.date;
+
+import java.util.Date;
+import java.util.function.LongPredicate;
+import org.hamcrest.Description;
+import org.hamcrest.Factory;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * A matcher that tests that the examined text is a timestamp in the {@link DatePattern} which matches the date matcher. The timestamp is parsed straight
+ * into epoch milliseconds and tested with the compiled date matcher so no objects are created when the text matches.
+ *
+ * @author Stewart Bissett
+ */
+public class IsParsedDate extends TypeSafeDiagnosingMatcher<CharSequence> {
+
+	/**
+	 * Creates a matcher that matches when the examined text is a timestamp in the pattern which matches the date matcher
+	 * <p/>
+	 * For example:
+	 * 
+	 * <pre>
+	 * DatePattern partnerFormat = DatePattern.compile(&quot;yyyyMMdd HHmmss.SSS&quot;);
+	 * assertThat(&quot;20120101 110000.000&quot;, parsedAs(partnerFormat, sameDay(jan1st2012)))
+	 * </pre>
+	 * 
+	 * @param pattern
+	 *            the pattern the text is written in
+	 * @param matcher
+	 *            the matcher to apply to the parsed date
+	 */
+	@Factory
+	public static Matcher<CharSequence> parsedAs(final DatePattern pattern, final Matcher<? super Date> matcher) {
+		return new IsParsedDate(pattern, matcher);
+	}
+
+	/**
+	 * Creates a matcher that matches when the examined text is a timestamp in the pattern which matches the date matcher. Compile the pattern with
+	 * {@link DatePattern#compile(String)} once where the matcher is created repeatedly.
+	 * <p/>
+	 * For example:
+	 * 
+	 * <pre>
+	 * assertThat(&quot;20120101 110000.000&quot;, parsedAs(&quot;yyyyMMdd HHmmss.SSS&quot;, sameDay(jan1st2012)))
+	 * </pre>
+	 * 
+	 * @param pattern
+	 *            the pattern the text is written in
+	 * @param matcher
+	 *            the matcher to apply to the parsed date
+	 */
+	@Factory
+	public static Matcher<CharSequence> parsedAs(final String pattern, final Matcher<? super Date> matcher) {
+		return new IsParsedDate(DatePattern.compile(pattern), matcher);
+	}
+
+	private final DatePattern pattern;
+	private final Matcher<? super Date> matcher;
+	private final LongPredicate predicate;
+
+	public IsParsedDate(final DatePattern pattern, final Matcher<? super Date> matcher) {
+		this.pattern = pattern;
+		this.matcher = matcher;
+		this.predicate = DatePredicates.compile(matcher);
+	}
+
+	@Override
+	protected boolean matchesSafely(final CharSequence actual, final Description mismatchDesc) {
+		long millis = pattern.parse(actual, 0, actual.length());
+		if (millis == TimestampText.NONE) {
+			mismatchDesc.appendText("text ").appendValue(actual.toString()).appendText(" is not in the pattern ").appendValue(pattern.toString());
+			return false;
+		} else if (!predicate.test(millis)) {
+			matcher.describeMismatch(new Date(millis), mismatchDesc);
+			return false;
+		} else {
+			return true;
+		}
+	}
+
+	public void describeTo(final Description description) {
+		description.appendText("text in the pattern ").appendValue(pattern.toString()).appendText(" with a date which is ").appendDescriptionOf(matcher);
+	}
+}
@@ -0,0 +1,183 @@
+package org.exparity.hamcrest.date;
+
+import static org.exparity.hamcrest.date.DateFormatter.formatDateWithMillis;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.Description;
+import org.hamcrest.Factory;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * A matcher that tests that every date in the examined {@link DateMatchers date sequence} has a partner among another set of dates, falling in a window
+ * from a period before the date to a period after it, e.g. that every request was answered by a response within two seconds. The partners may be shared
+ * between dates or, when distinct, each partner is used by at most one date. Both sides are sorted into <code>long[]</code> and joined in a single
+ * sweep, each date taking the earliest partner still available in its window, which partners as many dates as any other choice would.
+ * <p/>
+ * The mismatch describes the number of dates without a partner and the first of them.
+ *
+ * @author Stewart Bissett
+ */
+public class IsPartnered extends TypeSafeDiagnosingMatcher<Object> {
+
+	private static final int REPORT_LIMIT = 10;
+
+	/**
+	 * Creates a matcher that matches when every date in the examined sequence has a partner among the given dates from the period before it to the
+	 * period after it. A partner may be shared by several dates.
+	 * <p/>
+	 * For example:
+	 * 
+	 * <pre>
+	 * assertThat(requestTimes, eachHasPartnerIn(responseTimes, 0, 2, TimeUnit.SECONDS))
+	 * </pre>
+	 * 
+	 * @param partners
+	 *            the dates to find partners among
+	 * @param before
+	 *            the timeunit interval a partner may be before the date
+	 * @param after
+	 *            the timeunit interval a partner may be after the date
+	 * @param unit
+	 *            the timeunit to define the length of the periods
+	 */
+	@Factory
+	public static Matcher<Object> eachHasPartnerIn(final Iterable<Date> partners, final long before, final long after, final TimeUnit unit) {
+		return new IsPartnered(Timestamps.of(partners).toSortedArray(), before, after, unit, false);
+	}
+
+	/**
+	 * Creates a matcher that matches when every date in the examined sequence has a partner among the given epoch milliseconds from the period before
+	 * it to the period after it. A partner may be shared by several dates.
+	 * <p/>
+	 * For example:
+	 * 
+	 * <pre>
+	 * assertThat(requestMillis, eachHasPartnerIn(responseMillis, 0, 2, TimeUnit.SECONDS))
+	 * </pre>
+	 * 
+	 * @param partners
+	 *            the epoch milliseconds to find partners among
+	 * @param before
+	 *            the timeunit interval a partner may be before the date
+	 * @param after
+	 *            the timeunit interval a partner may be after the date
+	 * @param unit
+	 *            the timeunit to define the length of the periods
+	 */
+	@Factory
+	public static Matcher<Object> eachHasPartnerIn(final long[] partners, final long before, final long after, final TimeUnit unit) {
+		return new IsPartnered(Timestamps.of(partners).toSortedArray(), before, after, unit, false);
+	}
+
+	/**
+	 * Creates a matcher that matches when every date in the examined sequence has a partner of its own among the given dates from the period before it
+	 * to the period after it
+	 * <p/>
+	 * For example:
+	 * 
+	 * <pre>
+	 * assertThat(requestTimes, eachHasDistinctPartnerIn(responseTimes, 0, 2, TimeUnit.SECONDS))
+	 * </pre>
+	 * 
+	 * @param partners
+	 *            the dates to find partners among
+	 * @param before
+	 *            the timeunit interval a partner may be before the date
+	 * @param after
+	 *            the timeunit interval a partner may be after the date
+	 * @param unit
+	 *            the timeunit to define the length of the periods
+	 */
+	@Factory
+	public static Matcher<Object> eachHasDistinctPartnerIn(final Iterable<Date> partners, final long before, final long after, final TimeUnit unit) {
+		return new IsPartnered(Timestamps.of(partners).toSortedArray(), before, after, unit, true);
+	}
+
+	/**
+	 * Creates a matcher that matches when every date in the examined sequence has a partner of its own among the given epoch milliseconds from the
+	 * period before it to the period after it
+	 * <p/>
+	 * For example:
+	 * 
+	 * <pre>
+	 * assertThat(requestMillis, eachHasDistinctPartnerIn(responseMillis, 0, 2, TimeUnit.SECONDS))
+	 * </pre>
+	 * 
+	 * @param partners
+	 *            the epoch milliseconds to find partners among
+	 * @param before
+	 *            the timeunit interval a partner may be before the date
+	 * @param after
+	 *            the timeunit interval a partner may be after the date
+	 * @param unit
+	 *            the timeunit to define the length of the periods
+	 */
+	@Factory
+	public static Matcher<Object> eachHasDistinctPartnerIn(final long[] partners, final long before, final long after, final TimeUnit unit) {
+		return new IsPartnered(Timestamps.of(partners).toSortedArray(), before, after, unit, true);
+	}
+
+	private final long[] partners;
+	private final long before, after;
+	private final TimeUnit unit;
+	private final long beforeInMillis, afterInMillis;
+	private final boolean distinct;
+
+	private IsPartnered(final long[] partners, final long before, final long after, final TimeUnit unit, final boolean distinct) {
+		if (unit.toMillis(after) < -unit.toMillis(before)) {
+			throw new IllegalArgumentException("Window from " + before + " before to " + after + " after is empty");
+		}
+		this.partners = partners;
+		this.before = before;
+		this.after = after;
+		this.unit = unit;
+		this.beforeInMillis = unit.toMillis(before);
+		this.afterInMillis = unit.toMillis(after);
+		this.distinct = distinct;
+	}
+
+	@Override
+	protected boolean matchesSafely(final Object actual, final Description mismatchDesc) {
+		Timestamps timestamps = Timestamps.of(actual);
+		if (timestamps == null) {
+			mismatchDesc.appendText("was not " + Timestamps.SUPPORTED_TYPES);
+			return false;
+		}
+		long[] sorted;
+		try {
+			sorted = timestamps.toSortedArray();
+		} catch (IllegalArgumentException e) {
+			mismatchDesc.appendText(e.getMessage());
+			return false;
+		}
+		long[] unpartnered = new long[REPORT_LIMIT];
+		int count = 0, partner = 0;
+		for (long date : sorted) {
+			while (partner < partners.length && partners[partner] < date - beforeInMillis) {
+				++partner;
+			}
+			if (partner < partners.length && partners[partner] <= date + afterInMillis) {
+				partner += distinct ? 1 : 0;
+			} else if (count++ < REPORT_LIMIT) {
+				unpartnered[count - 1] = date;
+			}
+		}
+		if (count == 0) {
+			return true;
+		}
+		mismatchDesc.appendText(count + " of " + sorted.length + " dates had no " + (distinct ? "distinct " : "") + "partner");
+		for (int i = 0; i < Math.min(count, REPORT_LIMIT); ++i) {
+			mismatchDesc.appendText(i == 0 ? ": " : ", ").appendValue(formatDateWithMillis(new Date(unpartnered[i])));
+		}
+		if (count > REPORT_LIMIT) {
+			mismatchDesc.appendText(", ...");
+		}
+		return false;
+	}
+
+	public void describeTo(final Description description) {
+		description.appendText("dates each with a " + (distinct ? "distinct " : "") + "partner from " + before + " " + IsWithin.abbreviatedUnit(unit)
+				+ " before to " + after + " " + IsWithin.abbreviatedUnit(unit) + " after among " + partners.length + " dates");
+	}
+}
@@ -0,0 +1,178 @@
+package org.exparity.hamcrest.date;
+
+import static org.exparity.hamcrest.date.DateFormatter.formatDateWithMillis;
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.Description;
+import org.hamcrest.Factory;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * A matcher that tests that the dates in the examined {@link DateMatchers date sequence} recur at a fixed period, e.g. the runs of a scheduled job.
+ * Each gap between consecutive dates must be a whole number of periods give or take the jitter. A gap of more than one period counts the periods
+ * between as missed beats, of which a limited number may be allowed. The dates are read once, in order, keeping only running totals so sequences of any
+ * length can be examined.
+ * <p/>
+ * The mismatch describes the first irregular date along with the deviation of every gap from its whole number of periods, as the mean and the maximum,
+ * in the unit of the period. The beats found by a failed match are kept for the describeMismatch call which follows it so the sequence is only read
+ * once.
+ *
+ * @author Stewart Bissett
+ */
+public class IsPeriodic extends TypeSafeDiagnosingMatcher<Object> {
+
+	/**
+	 * Creates a matcher that matches when each date in the examined sequence follows the date before it by the period, give or take the jitter
+	 * <p/>
+	 * For example:
+	 * 
+	 * <pre>
+	 * assertThat(jobRuns, isPeriodic(300, 30, TimeUnit.SECONDS))
+	 * </pre>
+	 * 
+	 * @param period
+	 *            the timeunit interval between consecutive dates
+	 * @param jitter
+	 *            the timeunit interval each gap may differ from the period by
+	 * @param unit
+	 *            the timeunit to define the length of the period and the jitter
+	 */
+	@Factory
+	public static Matcher<Object> isPeriodic(final long period, final long jitter, final TimeUnit unit) {
+		return new IsPeriodic(period, jitter, unit, 0);
+	}
+
+	/**
+	 * Creates a matcher that matches when each date in the examined sequence follows the date before it by a whole number of periods, give or take
+	 * the jitter, missing no more than the given number of beats in all
+	 * <p/>
+	 * For example:
+	 * 
+	 * <pre>
+	 * assertThat(jobRuns, isPeriodic(300, 30, TimeUnit.SECONDS, 2))
+	 * </pre>
+	 * 
+	 * @param period
+	 *            the timeunit interval between consecutive dates
+	 * @param jitter
+	 *            the timeunit interval each gap may differ from a whole number of periods by
+	 * @param unit
+	 *            the timeunit to define the length of the period and the jitter
+	 * @param missedBeats
+	 *            the number of beats which may be missed across the whole sequence
+	 */
+	@Factory
+	public static Matcher<Object> isPeriodic(final long period, final long jitter, final TimeUnit unit, final long missedBeats) {
+		return new IsPeriodic(period, jitter, unit, missedBeats);
+	}
+
+	private final long period, jitter, missedBeats;
+	private final TimeUnit unit;
+	private final long periodInMillis, jitterInMillis;
+	private final LastFailure<Beats> lastFailure = new LastFailure<Beats>();
+
+	public IsPeriodic(final long period, final long jitter, final TimeUnit unit, final long missedBeats) {
+		if (period <= 0) {
+			throw new IllegalArgumentException("Period " + period + " is not positive");
+		} else if (jitter < 0) {
+			throw new IllegalArgumentException("Jitter " + jitter + " is negative");
+		} else if (missedBeats < 0) {
+			throw new IllegalArgumentException("Missed beats " + missedBeats + " is negative");
+		}
+		this.period = period;
+		this.jitter = jitter;
+		this.unit = unit;
+		this.missedBeats = missedBeats;
+		this.periodInMillis = unit.toMillis(period);
+		this.jitterInMillis = unit.toMillis(jitter);
+		if (periodInMillis == 0) {
+			throw new IllegalArgumentException("Period " + period + " " + IsWithin.abbreviatedUnit(unit) + " is shorter than a millisecond");
+		}
+	}
+
+	@Override
+	protected boolean matchesSafely(final Object actual, final Description mismatchDesc) {
+		Beats beats = lastFailure.take(actual, mismatchDesc);
+		if (beats == null) {
+			Timestamps timestamps = Timestamps.of(actual);
+			if (timestamps == null) {
+				mismatchDesc.appendText("was not " + Timestamps.SUPPORTED_TYPES);
+				return false;
+			}
+			beats = new Beats();
+			try {
+				PrimitiveIterator.OfLong millis = timestamps.iterator();
+				if (millis.hasNext()) {
+					long previous = millis.nextLong();
+					for (long index = 1; millis.hasNext(); ++index) {
+						long value = millis.nextLong();
+						if (value < previous) {
+							beats.disorderIndex = index;
+							beats.disorderValue = value;
+							break;
+						}
+						beats.gap(index, value, value - previous);
+						previous = value;
+					}
+				}
+			} catch (IllegalArgumentException e) {
+				mismatchDesc.appendText(e.getMessage());
+				return false;
+			}
+			if (beats.disorderIndex < 0 && beats.irregularIndex < 0 && beats.missed <= missedBeats) {
+				return true;
+			}
+			lastFailure.keep(actual, beats, mismatchDesc);
+		}
+		if (beats.disorderIndex >= 0) {
+			mismatchDesc.appendText("date at index " + beats.disorderIndex + " ").appendValue(formatDateWithMillis(new Date(beats.disorderValue)))
+					.appendText(" is before the date before it");
+			return false;
+		}
+		if (beats.irregularIndex >= 0) {
+			long deviation = beats.irregularDeviation;
+			mismatchDesc.appendText("date at index " + beats.irregularIndex + " ").appendValue(formatDateWithMillis(new Date(beats.irregularValue)))
+					.appendText(" is " + IsWithin.inUnit(BigDecimal.valueOf(Math.abs(deviation)), unit) + " " + (deviation < 0 ? "before" : "after")
+							+ " its beat, ");
+		}
+		mismatchDesc.appendText(beats.missed + " beats missed, gaps deviated by a mean of "
+				+ IsWithin.inUnit(BigDecimal.valueOf(beats.deviationTotal / beats.gaps), unit) + " and at most "
+				+ IsWithin.inUnit(BigDecimal.valueOf(beats.maximumDeviation), unit));
+		return false;
+	}
+
+	public void describeTo(final Description description) {
+		description.appendText("dates every " + period + " " + IsWithin.abbreviatedUnit(unit) + " within " + jitter + " " + IsWithin.abbreviatedUnit(unit));
+		if (missedBeats > 0) {
+			description.appendText(" missing at most " + missedBeats + " beats");
+		}
+	}
+
+	/**
+	 * The running totals of the gaps between consecutive dates
+	 */
+	private class Beats {
+
+		private long gaps, missed, maximumDeviation;
+		private double deviationTotal;
+		private long irregularIndex = -1, irregularValue, irregularDeviation;
+		private long disorderIndex = -1, disorderValue;
+
+		private void gap(final long index, final long value, final long gap) {
+			long periods = Math.max(1, gap / periodInMillis + (gap % periodInMillis > periodInMillis / 2 ? 1 : 0));
+			long deviation = gap - periods * periodInMillis;
+			++gaps;
+			missed += periods - 1;
+			deviationTotal += deviation;
+			maximumDeviation = Math.max(maximumDeviation, Math.abs(deviation));
+			if (irregularIndex < 0 && Math.abs(deviation) > jitterInMillis) {
+				irregularIndex = index;
+				irregularValue = value;
+				irregularDeviation = deviation;
+			}
+		}
+	}
+}
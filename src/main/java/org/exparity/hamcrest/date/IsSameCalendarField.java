@@ -0,0 +1,60 @@
+package org.exparity.hamcrest.date;
+
+import static org.exparity.hamcrest.date.DateFormatter.format;
+import java.util.Calendar;
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * A base matcher that tests that the examined calendar has the same field values as the reference calendar. The fields are read directly from the examined
+ * calendar, in its own timezone, so no intermediate {@link java.util.Date} or {@link Calendar} is created.
+ *
+ * @author Stewart Bissett
+ */
+class IsSameCalendarField extends TypeSafeDiagnosingMatcher<Calendar> {
+
+	private final int[] fields;
+	private final int[] expected;
+	private final String fieldLabel;
+	private final String format;
+	private final String expectedValueDescription;
+
+	public IsSameCalendarField(final int expectedValue, final String expectedValueDescription, final int field, final String label, final String format) {
+		this(new int[] { field }, new int[] { expectedValue }, expectedValueDescription, label, format);
+	}
+
+	public IsSameCalendarField(final Calendar calendar, final String label, final String format, final int... fields) {
+		this(fields, extractFields(calendar, fields), format(calendar, format), label, format);
+	}
+
+	private IsSameCalendarField(final int[] fields, final int[] expected, final String expectedValueDescription, final String label, final String format) {
+		this.fields = fields;
+		this.expected = expected;
+		this.expectedValueDescription = expectedValueDescription;
+		this.fieldLabel = label;
+		this.format = format;
+	}
+
+	@Override
+	protected boolean matchesSafely(final Calendar actual, final Description mismatchDesc) {
+		for (int i = 0; i < fields.length; ++i) {
+			if (expected[i] != actual.get(fields[i])) {
+				mismatchDesc.appendText(fieldLabel).appendText(" is ").appendValue(format(actual, format));
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public void describeTo(final Description description) {
+		description.appendText("a ").appendText(fieldLabel).appendText(" of ").appendValue(expectedValueDescription);
+	}
+
+	private static int[] extractFields(final Calendar calendar, final int[] fields) {
+		int[] values = new int[fields.length];
+		for (int i = 0; i < fields.length; ++i) {
+			values[i] = calendar.get(fields[i]);
+		}
+		return values;
+	}
+}
@@ -4,6 +4,7 @@ package org.exparity.hamcrest.date;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.function.LongPredicate;
 import org.hamcrest.Description;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
 
@@ -12,7 +13,7 @@ import org.hamcrest.TypeSafeDiagnosingMatcher;
  * 
  * @author Stewart Bissett
  */
-abstract class IsSameDatePart extends TypeSafeDiagnosingMatcher<Date> {
+abstract class IsSameDatePart extends TypeSafeDiagnosingMatcher<Date> implements CompilableMatcher {
 
 	private final int datePart;
 	private final int expected;
@@ -43,6 +44,16 @@ abstract class IsSameDatePart extends TypeSafeDiagnosingMatcher<Date> {
 		}
 	}
 
+	public LongPredicate compile() {
+		final DateFields fields = DateFields.forDefaultCalendar();
+		return new LongPredicate() {
+
+			public boolean test(final long millis) {
+				return fields.get(millis, datePart) == expected;
+			}
+		};
+	}
+
 	public void describeTo(final Description description) {
 		description.appendText("a ").appendText(datePartLabel).appendText(" of ").appendValue(expectedValueDescription);
 	}
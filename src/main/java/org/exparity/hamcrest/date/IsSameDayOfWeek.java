@@ -5,7 +5,7 @@ import java.util.Calendar;
 import java.util.Date;
 import org.hamcrest.Factory;
 import org.hamcrest.Matcher;
-import static org.hamcrest.core.AnyOf.anyOf;
+import static org.exparity.hamcrest.date.CompilableAnyOf.anyDateOf;
 
 /**
  * A matcher that tests that the examined date is on the same day of the week as the reference date
@@ -165,7 +165,7 @@ public class IsSameDayOfWeek extends IsSameDatePart {
 	 */
 	@Factory
 	public static Matcher<Date> isWeekday() {
-		return anyOf(isMonday(), isTuesday(), isWednesday(), isThursday(), isFriday());
+		return anyDateOf(isMonday(), isTuesday(), isWednesday(), isThursday(), isFriday());
 	}
 
 	/**
@@ -179,7 +179,7 @@ public class IsSameDayOfWeek extends IsSameDatePart {
 	 */
 	@Factory
 	public static Matcher<Date> isWeekend() {
-		return anyOf(isSaturday(), isSunday());
+		return anyDateOf(isSaturday(), isSunday());
 	}
 
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ import org.hamcrest.Matcher;
 import static org.exparity.hamcrest.date.IsBefore.before;
 import static org.exparity.hamcrest.date.IsSameDay.sameDay;
 import static org.exparity.hamcrest.date.IsSameInstant.sameInstant;
-import static org.hamcrest.core.AnyOf.anyOf;
+import static org.exparity.hamcrest.date.CompilableAnyOf.anyDateOf;
 
 /**
  * A matcher that tests that the examined date is before or at the same instant as the reference date
@@ -30,7 +30,7 @@ public abstract class IsSameOrBefore {
 	 */
 	@Factory
 	public static Matcher<Date> sameOrBefore(final Date date) {
-		return anyOf(sameInstant(date), before(date));
+		return anyDateOf(sameInstant(date), before(date));
 	}
 
 	/**
@@ -47,7 +47,7 @@ public abstract class IsSameOrBefore {
 	 */
 	@Factory
 	public static Matcher<Date> sameOrBefore(final DayMonthYear date) {
-		return anyOf(sameDay(date), before(date));
+		return anyDateOf(sameDay(date), before(date));
 	}
 
 	/**
@@ -68,7 +68,7 @@ public abstract class IsSameOrBefore {
 	 */
 	@Factory
 	public static Matcher<Date> sameOrBefore(final int year, final Months month, final int day) {
-		return anyOf(sameDay(year, month, day), before(year, month, day));
+		return anyDateOf(sameDay(year, month, day), before(year, month, day));
 	}
 
 	/**
@@ -95,7 +95,7 @@ public abstract class IsSameOrBefore {
 	 */
 	@Factory
 	public static Matcher<Date> sameOrBefore(final int year, final Months month, final int date, final int hour, final int minute, final int second) {
-		return anyOf(sameInstant(year, month, date, hour, minute, second, 0), before(year, month, date, hour, minute, second));
+		return anyDateOf(sameInstant(year, month, date, hour, minute, second, 0), before(year, month, date, hour, minute, second));
 	}
 
 }
\ No newline at end of file
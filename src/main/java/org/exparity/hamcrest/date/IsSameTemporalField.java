@@ -0,0 +1,52 @@
+package org.exparity.hamcrest.date;
+
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * A base matcher that tests that the examined temporal has the same field value as the reference temporal. The field is read directly from the examined
+ * value so no conversion to {@link java.util.Date} or {@link java.util.Calendar} takes place.
+ *
+ * @author Stewart Bissett
+ */
+class IsSameTemporalField<T extends TemporalAccessor> extends TypeSafeDiagnosingMatcher<T> {
+
+	private final ChronoField field;
+	private final long expected;
+	private final String fieldLabel;
+	private final String format;
+	private final String expectedValueDescription;
+
+	public IsSameTemporalField(final long expectedValue, final String expectedValueDescription, final ChronoField field, final String label, final String format) {
+		this.field = field;
+		this.expected = expectedValue;
+		this.expectedValueDescription = expectedValueDescription;
+		this.fieldLabel = label;
+		this.format = format;
+	}
+
+	public IsSameTemporalField(final T temporal, final ChronoField field, final String label, final String format) {
+		this(temporal.getLong(field), format(temporal, format), field, label, format);
+	}
+
+	@Override
+	protected boolean matchesSafely(final T actual, final Description mismatchDesc) {
+		if (expected != actual.getLong(field)) {
+			mismatchDesc.appendText(fieldLabel).appendText(" is ").appendValue(format(actual, format));
+			return false;
+		} else {
+			return true;
+		}
+	}
+
+	public void describeTo(final Description description) {
+		description.appendText("a ").appendText(fieldLabel).appendText(" of ").appendValue(expectedValueDescription);
+	}
+
+	static String format(final TemporalAccessor temporal, final String pattern) {
+		return DateTimeFormatter.ofPattern(pattern).format(temporal);
+	}
+}
@@ -0,0 +1,240 @@
+package org.exparity.hamcrest.date;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Date;
+import java.util.Locale;
+import java.util.PrimitiveIterator;
+import java.util.SplittableRandom;
+import java.util.function.LongPredicate;
+import org.hamcrest.Description;
+import org.hamcrest.Factory;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * A matcher that tests a sample of the dates in the examined sequence against the date matcher and matches when the defect rate, the proportion of dates
+ * which do not match, is at most the maximum with the given confidence. The sample is the smallest for which a sample without defects shows the defect
+ * rate is within the maximum, so its size depends only on the confidence and maximum defect rate and not on the number of dates.
+ * <p/>
+ * Arrays, random access lists and {@link TimestampColumn}s, including memory-mapped {@link TimestampFile}s, are sampled by index with one date drawn from
+ * each of a set of equal strata, so only the sampled dates are read. Other iterables are read once with reservoir sampling and the date matcher is only
+ * applied to the sample. Sequences no larger than the sample are examined in full.
+ * <p/>
+ * The mismatch reports the estimated defect rate and its one-sided Clopper-Pearson upper bound. Each matcher draws its sample from a fixed seed, which is
+ * included in the mismatch, so the sample does not change between matching and describing the mismatch.
+ *
+ * @author Stewart Bissett
+ */
+public class IsSampledDates extends TypeSafeDiagnosingMatcher<Object> {
+
+	/**
+	 * Creates a matcher that matches when a sample of the dates in the examined sequence shows, with the confidence, that at most the maximum proportion
+	 * of the dates do not match the date matcher
+	 * <p/>
+	 * For example:
+	 * 
+	 * <pre>
+	 * assertThat(TimestampFile.map(path, ByteOrder.LITTLE_ENDIAN), sampled(isWeekday(), 0.99, 0.001))
+	 * </pre>
+	 * 
+	 * @param matcher
+	 *            the matcher to apply to each sampled date
+	 * @param confidence
+	 *            the confidence, between 0 and 1 exclusive, that the defect rate is within the maximum
+	 * @param maxDefectRate
+	 *            the maximum proportion, between 0 and 1 exclusive, of dates which may not match
+	 */
+	@Factory
+	public static Matcher<Object> sampled(final Matcher<? super Date> matcher, final double confidence, final double maxDefectRate) {
+		return new IsSampledDates(matcher, confidence, maxDefectRate, new SplittableRandom().nextLong());
+	}
+
+	private final Matcher<? super Date> matcher;
+	private final LongPredicate predicate;
+	private final double confidence;
+	private final double maxDefectRate;
+	private final int sampleSize;
+	private final long seed;
+
+	public IsSampledDates(final Matcher<? super Date> matcher, final double confidence, final double maxDefectRate, final long seed) {
+		if (!(confidence > 0 && confidence < 1)) {
+			throw new IllegalArgumentException("Confidence " + confidence + " is not between 0 and 1");
+		}
+		if (!(maxDefectRate > 0 && maxDefectRate < 1)) {
+			throw new IllegalArgumentException("Maximum defect rate " + maxDefectRate + " is not between 0 and 1");
+		}
+		this.matcher = matcher;
+		this.predicate = DatePredicates.compile(matcher);
+		this.confidence = confidence;
+		this.maxDefectRate = maxDefectRate;
+		this.sampleSize = (int) Math.max(1, Math.min(Integer.MAX_VALUE - 8, Math.ceil(Math.log1p(-confidence) / Math.log1p(-maxDefectRate))));
+		this.seed = seed;
+	}
+
+	/**
+	 * Return the number of dates sampled from sequences larger than the sample
+	 */
+	int getSampleSize() {
+		return sampleSize;
+	}
+
+	@Override
+	protected boolean matchesSafely(final Object actual, final Description mismatchDesc) {
+		Timestamps timestamps = Timestamps.of(actual);
+		if (timestamps == null) {
+			mismatchDesc.appendText("was not " + Timestamps.SUPPORTED_TYPES);
+			return false;
+		}
+		Sample sample;
+		try {
+			sample = timestamps.isRandomAccess() ? stratifiedSample(timestamps) : reservoirSample(timestamps);
+		} catch (IllegalArgumentException e) {
+			mismatchDesc.appendText(e.getMessage());
+			return false;
+		}
+		double upperBound = sample.exhaustive ? (double) sample.defects / Math.max(1, sample.examined) : upperBound(sample.defects, sample.examined,
+				confidence);
+		if (upperBound <= maxDefectRate) {
+			return true;
+		}
+		if (sample.exhaustive) {
+			mismatchDesc.appendText(sample.defects + " of " + sample.examined + " dates did not match, a defect rate of " + percent(upperBound));
+		} else {
+			mismatchDesc.appendText(sample.defects + " of " + sample.examined + " sampled dates did not match, an estimated defect rate of "
+					+ percent((double) sample.defects / sample.examined) + " and at most " + percent(upperBound) + " with " + percent(confidence)
+					+ " confidence (seed " + seed + ")");
+		}
+		mismatchDesc.appendText(", the first at index " + sample.firstIndex + " ");
+		matcher.describeMismatch(new Date(sample.firstValue), mismatchDesc);
+		return false;
+	}
+
+	public void describeTo(final Description description) {
+		description.appendText("dates of which at most " + percent(maxDefectRate) + " are not ").appendDescriptionOf(matcher)
+				.appendText(" with " + percent(confidence) + " confidence");
+	}
+
+	private Sample stratifiedSample(final Timestamps timestamps) {
+		long population = timestamps.size();
+		Sample sample = new Sample();
+		if (population <= sampleSize) {
+			sample.exhaustive = true;
+			for (long i = 0; i < population; ++i) {
+				sample.test(i, timestamps.get(i));
+			}
+			return sample;
+		}
+		// the first (population % sampleSize) strata hold one more date than the rest
+		SplittableRandom random = new SplittableRandom(seed);
+		long stratum = population / sampleSize, remainder = population % sampleSize;
+		for (long j = 0; j < sampleSize; ++j) {
+			long start = j * stratum + Math.min(j, remainder);
+			long index = start + random.nextLong(j < remainder ? stratum + 1 : stratum);
+			sample.test(index, timestamps.get(index));
+		}
+		return sample;
+	}
+
+	private Sample reservoirSample(final Timestamps timestamps) {
+		long[] indices = new long[sampleSize], values = new long[sampleSize];
+		SplittableRandom random = new SplittableRandom(seed);
+		PrimitiveIterator.OfLong millis = timestamps.iterator();
+		long count = 0;
+		for (; count < sampleSize && millis.hasNext(); ++count) {
+			indices[(int) count] = count;
+			values[(int) count] = millis.nextLong();
+		}
+		Sample sample = new Sample();
+		if (!millis.hasNext()) {
+			sample.exhaustive = true;
+			for (int i = 0; i < count; ++i) {
+				sample.test(indices[i], values[i]);
+			}
+			return sample;
+		}
+		// Li's algorithm L, skipping ahead a geometrically distributed number of dates between replacements
+		double weight = Math.exp(Math.log(random.nextDouble()) / sampleSize);
+		long next = count + skip(random, weight);
+		while (millis.hasNext()) {
+			long value = millis.nextLong();
+			if (count == next) {
+				int slot = random.nextInt(sampleSize);
+				indices[slot] = count;
+				values[slot] = value;
+				weight *= Math.exp(Math.log(random.nextDouble()) / sampleSize);
+				next = count + 1 + skip(random, weight);
+			}
+			++count;
+		}
+		for (int i = 0; i < sampleSize; ++i) {
+			sample.test(indices[i], values[i]);
+		}
+		return sample;
+	}
+
+	private static long skip(final SplittableRandom random, final double weight) {
+		double skip = Math.floor(Math.log(random.nextDouble()) / Math.log1p(-weight));
+		return skip >= Long.MAX_VALUE / 2 ? Long.MAX_VALUE / 2 : (long) skip;
+	}
+
+	/**
+	 * Return the one-sided Clopper-Pearson upper bound on the defect rate having found the defects in the sample
+	 */
+	static double upperBound(final long defects, final long sampled, final double confidence) {
+		if (defects >= sampled) {
+			return 1;
+		}
+		double lower = (double) defects / sampled, upper = 1, alpha = 1 - confidence;
+		for (int i = 0; i < 100 && upper - lower > 1e-12; ++i) {
+			double rate = (lower + upper) / 2;
+			if (logBinomialCdf(defects, sampled, rate) > Math.log(alpha)) {
+				lower = rate;
+			} else {
+				upper = rate;
+			}
+		}
+		return upper;
+	}
+
+	/**
+	 * Return the log of the probability of at most k defects in a sample of n with the defect rate
+	 */
+	private static double logBinomialCdf(final long k, final long n, final double rate) {
+		double logRate = Math.log(rate), logComplement = Math.log1p(-rate);
+		double logTerm = n * logComplement, logSum = logTerm;
+		for (long i = 0; i < k; ++i) {
+			logTerm += Math.log((double) (n - i) / (i + 1)) + logRate - logComplement;
+			double max = Math.max(logSum, logTerm);
+			logSum = max + Math.log(Math.exp(logSum - max) + Math.exp(logTerm - max));
+		}
+		return logSum;
+	}
+
+	private static String percent(final double rate) {
+		return new DecimalFormat("0.####%", DecimalFormatSymbols.getInstance(Locale.ROOT)).format(rate);
+	}
+
+	/**
+	 * The result of testing the sampled dates, keeping the defect with the lowest index
+	 */
+	private class Sample {
+
+		private boolean exhaustive;
+		private long examined;
+		private long defects;
+		private long firstIndex = Long.MAX_VALUE;
+		private long firstValue;
+
+		private void test(final long index, final long value) {
+			++examined;
+			if (!predicate.test(value)) {
+				++defects;
+				if (index < firstIndex) {
+					firstIndex = index;
+					firstValue = value;
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,40 @@
+package org.exparity.hamcrest.date;
+
+import java.util.Comparator;
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * A matcher that tests that the examined temporal is before, or optionally the same as, the reference temporal. The comparison is delegated to the time-line
+ * order of the temporal type so no conversion takes place.
+ *
+ * @author Stewart Bissett
+ */
+class IsTemporalBefore<T> extends TypeSafeDiagnosingMatcher<T> {
+
+	private final T expected;
+	private final Comparator<? super T> order;
+	private final boolean inclusive;
+
+	public IsTemporalBefore(final T expected, final Comparator<? super T> order, final boolean inclusive) {
+		super(expected.getClass());
+		this.expected = expected;
+		this.order = order;
+		this.inclusive = inclusive;
+	}
+
+	@Override
+	protected boolean matchesSafely(final T actual, final Description mismatchDesc) {
+		int comparison = order.compare(actual, expected);
+		if (comparison > 0 || (comparison == 0 && !inclusive)) {
+			mismatchDesc.appendText("date is ").appendValue(actual);
+			return false;
+		} else {
+			return true;
+		}
+	}
+
+	public void describeTo(final Description description) {
+		description.appendText(inclusive ? "the date is the same as or before " : "the date is before ").appendValue(expected);
+	}
+}
@@ -0,0 +1,35 @@
+package org.exparity.hamcrest.date;
+
+import static java.time.temporal.ChronoField.DAY_OF_MONTH;
+import static java.time.temporal.ChronoField.MONTH_OF_YEAR;
+import static java.time.temporal.ChronoField.YEAR;
+import java.time.Month;
+import java.time.chrono.IsoChronology;
+import java.time.temporal.TemporalAccessor;
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * A matcher that tests that the examined temporal is on the last day of its month. The length of the month is derived from the month and year fields of the
+ * examined value rather than from a {@link java.time.temporal.ValueRange}.
+ *
+ * @author Stewart Bissett
+ */
+class IsTemporalLastDayOfMonth<T extends TemporalAccessor> extends TypeSafeDiagnosingMatcher<T> {
+
+	@Override
+	protected boolean matchesSafely(final T actual, final Description mismatchDesc) {
+		int dayOfMonth = actual.get(DAY_OF_MONTH);
+		boolean leapYear = IsoChronology.INSTANCE.isLeapYear(actual.getLong(YEAR));
+		if (dayOfMonth != Month.of(actual.get(MONTH_OF_YEAR)).length(leapYear)) {
+			mismatchDesc.appendText("day of month is ").appendValue(dayOfMonth);
+			return false;
+		} else {
+			return true;
+		}
+	}
+
+	public void describeTo(final Description description) {
+		description.appendText("the last day of month value");
+	}
+}
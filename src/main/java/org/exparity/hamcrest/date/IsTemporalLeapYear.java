@@ -0,0 +1,29 @@
+package org.exparity.hamcrest.date;
+
+import static java.time.temporal.ChronoField.YEAR;
+import java.time.chrono.IsoChronology;
+import java.time.temporal.TemporalAccessor;
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * A matcher that tests that the examined temporal is in a leap year
+ *
+ * @author Stewart Bissett
+ */
+class IsTemporalLeapYear<T extends TemporalAccessor> extends TypeSafeDiagnosingMatcher<T> {
+
+	@Override
+	protected boolean matchesSafely(final T actual, final Description mismatchDesc) {
+		if (IsoChronology.INSTANCE.isLeapYear(actual.getLong(YEAR))) {
+			return true;
+		} else {
+			mismatchDesc.appendText("the year is ").appendValue(actual.getLong(YEAR));
+			return false;
+		}
+	}
+
+	public void describeTo(final Description description) {
+		description.appendText("a leap year");
+	}
+}
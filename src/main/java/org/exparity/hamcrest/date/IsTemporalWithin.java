@@ -0,0 +1,89 @@
+package org.exparity.hamcrest.date;
+
+import static java.time.temporal.ChronoField.EPOCH_DAY;
+import static java.time.temporal.ChronoField.INSTANT_SECONDS;
+import static java.time.temporal.ChronoField.NANO_OF_SECOND;
+import static java.time.temporal.ChronoField.SECOND_OF_DAY;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAccessor;
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * A matcher that tests that the examined temporal is within a defined period of the reference temporal. Periods of a week or less are compared as an exact
+ * duration on the epoch second and nano of second of both values, using the instant of zoned and offset values, so no intermediate temporal is created.
+ * Longer periods, or values without a time, are compared in whole units using {@link Temporal#until(Temporal, java.time.temporal.TemporalUnit)}. A unit
+ * the reference temporal does not support, such as hours for a {@link java.time.LocalDate}, or a period too long for a {@link Duration}, is rejected
+ * when the matcher is created.
+ *
+ * @author Stewart Bissett
+ */
+class IsTemporalWithin<T extends Temporal> extends TypeSafeDiagnosingMatcher<T> {
+
+	private static final int NANOS_PER_SECOND = 1000000000;
+	private static final long SECONDS_PER_DAY = 86400;
+
+	private final long period;
+	private final ChronoUnit unit;
+	private final T expected;
+	private final boolean exact;
+	private final long limitSeconds;
+	private final int limitNanos;
+
+	public IsTemporalWithin(final long period, final ChronoUnit unit, final T expected) {
+		super(expected.getClass());
+		if (!expected.isSupported(unit)) {
+			throw new IllegalArgumentException("Unit " + unit + " is not supported by " + expected.getClass().getSimpleName());
+		}
+		this.period = period;
+		this.unit = unit;
+		this.expected = expected;
+		this.exact = unit.compareTo(ChronoUnit.WEEKS) <= 0 && expected.isSupported(NANO_OF_SECOND);
+		Duration limit;
+		try {
+			limit = exact ? unit.getDuration().multipliedBy(period) : Duration.ZERO;
+		} catch (ArithmeticException e) {
+			throw new IllegalArgumentException("Period " + period + " " + unit.toString().toLowerCase() + " is too long to compare");
+		}
+		this.limitSeconds = limit.getSeconds();
+		this.limitNanos = limit.getNano();
+	}
+
+	@Override
+	protected boolean matchesSafely(final T actual, final Description mismatchDesc) {
+		if (exact ? !isWithinDuration(actual) : Math.abs(expected.until(actual, unit)) > period) {
+			mismatchDesc.appendText("date is ").appendValue(actual);
+			return false;
+		} else {
+			return true;
+		}
+	}
+
+	public void describeTo(final Description description) {
+		description.appendText("the date is within " + period + " " + unit.toString().toLowerCase() + " of ").appendValue(expected);
+	}
+
+	private boolean isWithinDuration(final T actual) {
+		long seconds = epochSecond(actual) - epochSecond(expected);
+		int nanos = actual.get(NANO_OF_SECOND) - expected.get(NANO_OF_SECOND);
+		if (seconds < 0 || (seconds == 0 && nanos < 0)) {
+			seconds = -seconds;
+			nanos = -nanos;
+		}
+		if (nanos < 0) {
+			seconds--;
+			nanos += NANOS_PER_SECOND;
+		}
+		return seconds < limitSeconds || (seconds == limitSeconds && nanos <= limitNanos);
+	}
+
+	private static long epochSecond(final TemporalAccessor temporal) {
+		if (temporal.isSupported(INSTANT_SECONDS)) {
+			return temporal.getLong(INSTANT_SECONDS);
+		} else {
+			return temporal.getLong(EPOCH_DAY) * SECONDS_PER_DAY + temporal.getLong(SECOND_OF_DAY);
+		}
+	}
+}
@@ -0,0 +1,64 @@
+package org.exparity.hamcrest.date;
+
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.function.LongPredicate;
+import org.hamcrest.Description;
+import org.hamcrest.Factory;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * A matcher that tests that the examined text starts with an ISO-8601 timestamp, or a timestamp in the layout used by this library's descriptions, which
+ * matches the date matcher. The timestamp is parsed straight into epoch milliseconds and tested with the compiled date matcher so no intermediate objects
+ * are created when the text matches. Timestamps without an offset are read in the default timezone at the time the matcher is created.
+ *
+ * @author Stewart Bissett
+ */
+public class IsTimestampText extends TypeSafeDiagnosingMatcher<CharSequence> {
+
+	/**
+	 * Creates a matcher that matches when the examined text starts with a timestamp which matches the date matcher
+	 * <p/>
+	 * For example:
+	 * 
+	 * <pre>
+	 * assertThat(&quot;2012-01-01T11:00:00.000Z INFO started&quot;, hasTimestamp(sameDay(jan1st2012)))
+	 * </pre>
+	 * 
+	 * @param matcher
+	 *            the matcher to apply to the timestamp
+	 */
+	@Factory
+	public static Matcher<CharSequence> hasTimestamp(final Matcher<? super Date> matcher) {
+		return new IsTimestampText(matcher);
+	}
+
+	private final Matcher<? super Date> matcher;
+	private final LongPredicate predicate;
+	private final TimeZone zone;
+
+	public IsTimestampText(final Matcher<? super Date> matcher) {
+		this.matcher = matcher;
+		this.predicate = DatePredicates.compile(matcher);
+		this.zone = TimeZone.getDefault();
+	}
+
+	@Override
+	protected boolean matchesSafely(final CharSequence actual, final Description mismatchDesc) {
+		long millis = TimestampText.parse(actual, 0, actual.length(), zone);
+		if (millis == TimestampText.NONE) {
+			mismatchDesc.appendText("text has no timestamp ").appendValue(actual.toString());
+			return false;
+		} else if (!predicate.test(millis)) {
+			matcher.describeMismatch(new Date(millis), mismatchDesc);
+			return false;
+		} else {
+			return true;
+		}
+	}
+
+	public void describeTo(final Description description) {
+		description.appendText("text with a timestamp which is ").appendDescriptionOf(matcher);
+	}
+}
@@ -6,9 +6,15 @@ import org.hamcrest.Factory;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
 
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.Locale;
 import java.util.concurrent.TimeUnit;
+import java.util.function.LongPredicate;
 
 import static java.util.Calendar.getInstance;
 import static org.exparity.hamcrest.date.DateFormatter.formatDateWithMillis;
@@ -18,7 +24,7 @@ import static org.exparity.hamcrest.date.DateFormatter.formatDateWithMillis;
  * 
  * @author Stewart Bissett
  */
-public class IsWithin extends TypeSafeDiagnosingMatcher<Date> {
+public class IsWithin extends TypeSafeDiagnosingMatcher<Date> implements CompilableMatcher {
 
 	private final long period;
 	private final TimeUnit unit;
@@ -43,13 +49,15 @@ public class IsWithin extends TypeSafeDiagnosingMatcher<Date> {
 		}
 	}
 
-
+	public LongPredicate compile() {
+		return InstantRange.around(expected.getTime(), expectedDifferenceInMillis);
+	}
 
 	public void describeTo(final Description description) {
 		description.appendText("the date is within " + period + " " + abbreviatedUnit(unit) + " of ").appendValue(formatDateWithMillis(expected));
 	}
 
-	private String abbreviatedUnit(final TimeUnit unit) {
+	static String abbreviatedUnit(final TimeUnit unit) {
 		switch (unit) {
 			case MICROSECONDS:
 				return "µs";
@@ -68,6 +76,14 @@ public class IsWithin extends TypeSafeDiagnosingMatcher<Date> {
 		}
 	}
 
+	/**
+	 * Describe a number of milliseconds in the given timeunit, e.g. 1500 ms as 1.5 secs
+	 */
+	static String inUnit(final BigDecimal millis, final TimeUnit unit) {
+		BigDecimal value = millis.multiply(BigDecimal.valueOf(1000000)).divide(BigDecimal.valueOf(unit.toNanos(1)), MathContext.DECIMAL128);
+		return new DecimalFormat("0.###", DecimalFormatSymbols.getInstance(Locale.ROOT)).format(value) + " " + abbreviatedUnit(unit);
+	}
+
 	/**
 	 * Creates a matcher that matches when the examined date is within a given period of the reference date
 	 * <p/>
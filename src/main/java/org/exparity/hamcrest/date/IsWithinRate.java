@@ -0,0 +1,96 @@
+package org.exparity.hamcrest.date;
+
+import static org.exparity.hamcrest.date.DateFormatter.formatDateWithMillis;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.Description;
+import org.hamcrest.Factory;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * A matcher that tests that no window of a defined length holds more than a limited number of the dates in the examined {@link DateMatchers
+ * date sequence}, e.g. to check the events let through by a rate limiter. A window starting at a date holds the dates from it up to, but not including,
+ * the date a window length later. The dates are copied to a sorted <code>long[]</code> and swept once with a pointer to the first and last date of the
+ * window.
+ *
+ * @author Stewart Bissett
+ */
+public class IsWithinRate extends TypeSafeDiagnosingMatcher<Object> {
+
+	/**
+	 * Creates a matcher that matches when no window of the given length holds more than the given number of dates from the examined sequence
+	 * <p/>
+	 * For example:
+	 * 
+	 * <pre>
+	 * assertThat(requestTimes, atMostEventsPerWindow(100, 1, TimeUnit.SECONDS))
+	 * </pre>
+	 * 
+	 * @param events
+	 *            the maximum number of dates in any window
+	 * @param window
+	 *            the timeunit interval of the window
+	 * @param unit
+	 *            the timeunit to define the length of the window
+	 */
+	@Factory
+	public static Matcher<Object> atMostEventsPerWindow(final long events, final long window, final TimeUnit unit) {
+		return new IsWithinRate(events, window, unit);
+	}
+
+	private final long events, window;
+	private final TimeUnit unit;
+	private final long windowInMillis;
+
+	public IsWithinRate(final long events, final long window, final TimeUnit unit) {
+		if (events < 0) {
+			throw new IllegalArgumentException("Events " + events + " is negative");
+		} else if (window <= 0) {
+			throw new IllegalArgumentException("Window " + window + " is not positive");
+		}
+		this.events = events;
+		this.window = window;
+		this.unit = unit;
+		this.windowInMillis = unit.toMillis(window);
+		if (windowInMillis == 0) {
+			throw new IllegalArgumentException("Window " + window + " " + IsWithin.abbreviatedUnit(unit) + " is shorter than a millisecond");
+		}
+	}
+
+	@Override
+	protected boolean matchesSafely(final Object actual, final Description mismatchDesc) {
+		Timestamps timestamps = Timestamps.of(actual);
+		if (timestamps == null) {
+			mismatchDesc.appendText("was not " + Timestamps.SUPPORTED_TYPES);
+			return false;
+		}
+		long[] sorted;
+		try {
+			sorted = timestamps.toSortedArray();
+		} catch (IllegalArgumentException e) {
+			mismatchDesc.appendText(e.getMessage());
+			return false;
+		}
+		int densest = 0, densestFirst = 0, first = 0;
+		for (int last = 0; last < sorted.length; ++last) {
+			while (Long.compareUnsigned(sorted[last] - sorted[first], windowInMillis) >= 0) {
+				++first;
+			}
+			if (last - first + 1 > densest) {
+				densest = last - first + 1;
+				densestFirst = first;
+			}
+		}
+		if (densest <= events) {
+			return true;
+		}
+		mismatchDesc.appendText("densest window holds " + densest + " dates from ").appendValue(formatDateWithMillis(new Date(sorted[densestFirst])))
+				.appendText(" to ").appendValue(formatDateWithMillis(new Date(sorted[densestFirst + densest - 1])));
+		return false;
+	}
+
+	public void describeTo(final Description description) {
+		description.appendText("at most " + events + " dates in any " + window + " " + IsWithin.abbreviatedUnit(unit));
+	}
+}
@@ -0,0 +1,261 @@
+package org.exparity.hamcrest.date;
+
+import static org.exparity.hamcrest.date.DateFormatter.formatDateWithMillis;
+import java.util.Date;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.Description;
+import org.hamcrest.Factory;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * A matcher that tests that no two dates in the examined {@link DateMatchers date sequence} are the same instant or, with a tolerance, within the
+ * tolerance of each other. Sequences of a known size up to {@link #HASH_LIMIT} dates are read once into an open addressing hash table of primitive
+ * longs keyed by the date divided by one more than the tolerance, which keeps the smallest and largest date in each slot, so a date only has to be
+ * compared with its own slot and the slots either side. Larger sequences, and those of unknown size, are copied to a sorted <code>long[]</code> where
+ * close dates are adjacent, then read again to find the positions of the first duplicates.
+ * <p/>
+ * The mismatch describes the number of dates within the tolerance of the date before them in chronological order, which is the same whichever way the
+ * dates are read, and the positions and values of the first duplicates found.
+ *
+ * @author Stewart Bissett
+ */
+public class IsWithoutDuplicates extends TypeSafeDiagnosingMatcher<Object> {
+
+	static final int HASH_LIMIT = 1 << 16;
+	private static final int REPORT_LIMIT = 10;
+
+	/**
+	 * Creates a matcher that matches when no two dates in the examined sequence are the same instant
+	 * <p/>
+	 * For example:
+	 * 
+	 * <pre>
+	 * assertThat(eventTimes, hasNoDuplicateInstants())
+	 * </pre>
+	 */
+	@Factory
+	public static Matcher<Object> hasNoDuplicateInstants() {
+		return new IsWithoutDuplicates(0, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Creates a matcher that matches when no two dates in the examined sequence are within the given period of each other
+	 * <p/>
+	 * For example:
+	 * 
+	 * <pre>
+	 * assertThat(eventTimes, hasNoDuplicatesWithin(5, TimeUnit.MILLISECONDS))
+	 * </pre>
+	 * 
+	 * @param period
+	 *            the timeunit interval two dates must be further apart than
+	 * @param unit
+	 *            the timeunit to define the length of the period
+	 */
+	@Factory
+	public static Matcher<Object> hasNoDuplicatesWithin(final long period, final TimeUnit unit) {
+		return new IsWithoutDuplicates(period, unit);
+	}
+
+	private final long period;
+	private final TimeUnit unit;
+	private final long toleranceInMillis;
+
+	public IsWithoutDuplicates(final long period, final TimeUnit unit) {
+		if (period < 0 || unit.toMillis(period) == Long.MAX_VALUE) {
+			throw new IllegalArgumentException("Tolerance " + period + " is not between 0 and Long.MAX_VALUE - 1 ms");
+		}
+		this.period = period;
+		this.unit = unit;
+		this.toleranceInMillis = unit.toMillis(period);
+	}
+
+	@Override
+	protected boolean matchesSafely(final Object actual, final Description mismatchDesc) {
+		Timestamps timestamps = Timestamps.of(actual);
+		if (timestamps == null) {
+			mismatchDesc.appendText("was not " + Timestamps.SUPPORTED_TYPES);
+			return false;
+		}
+		Duplicates duplicates;
+		try {
+			long size = timestamps.size();
+			duplicates = size >= 0 && size <= HASH_LIMIT ? findByHash(timestamps, (int) size) : findBySort(timestamps);
+		} catch (IllegalArgumentException e) {
+			mismatchDesc.appendText(e.getMessage());
+			return false;
+		}
+		if (duplicates.count == 0) {
+			return true;
+		}
+		mismatchDesc.appendText(duplicates.count + (duplicates.count == 1 ? " date" : " dates") + " duplicated another date");
+		for (int i = 0; i < duplicates.reported; ++i) {
+			mismatchDesc.appendText((i == 0 ? ": " : ", ") + "[" + duplicates.firstIndex[i] + "] ");
+			if (duplicates.firstValue[i] != duplicates.secondValue[i]) {
+				mismatchDesc.appendValue(formatDateWithMillis(new Date(duplicates.firstValue[i]))).appendText(" ");
+			}
+			mismatchDesc.appendText("and [" + duplicates.secondIndex[i] + "] ").appendValue(formatDateWithMillis(new Date(duplicates.secondValue[i])));
+		}
+		if (duplicates.reported < duplicates.count) {
+			mismatchDesc.appendText(", ...");
+		}
+		return false;
+	}
+
+	public void describeTo(final Description description) {
+		if (toleranceInMillis == 0) {
+			description.appendText("dates with no duplicate instants");
+		} else {
+			description.appendText("dates with no two within " + period + " " + IsWithin.abbreviatedUnit(unit));
+		}
+	}
+
+	/**
+	 * Count the dates within the tolerance of the date before them in chronological order, as {@link #findBySort(Timestamps)} does, from the smallest
+	 * and largest date in each slot. The dates in a slot are all within the tolerance of each other, so each date after the first in a slot is counted,
+	 * and the smallest date in a slot is also counted when the largest date in the slot below is within the tolerance of it.
+	 */
+	private Duplicates findByHash(final Timestamps timestamps, final int size) {
+		long width = toleranceInMillis + 1;
+		int capacity = Integer.highestOneBit(Math.max(size, 1) * 2 - 1) << 1, mask = capacity - 1;
+		long[] keys = new long[capacity], smallest = new long[capacity], largest = new long[capacity];
+		int[] smallestIndex = new int[capacity], largestIndex = new int[capacity];
+		Duplicates duplicates = new Duplicates();
+		int index = 0;
+		for (PrimitiveIterator.OfLong millis = timestamps.iterator(); millis.hasNext(); ++index) {
+			long value = millis.nextLong(), key = Math.floorDiv(value, width);
+			int slot = slotOf(key, keys, largestIndex, mask);
+			if (largestIndex[slot] != 0) {
+				++duplicates.count;
+				if (value < smallest[slot]) {
+					duplicates.report(smallestIndex[slot] - 1, smallest[slot], index, value);
+					smallest[slot] = value;
+					smallestIndex[slot] = index + 1;
+				} else if (value == smallest[slot]) {
+					duplicates.report(smallestIndex[slot] - 1, smallest[slot], index, value);
+				} else {
+					duplicates.report(largestIndex[slot] - 1, largest[slot], index, value);
+					if (value > largest[slot]) {
+						largest[slot] = value;
+						largestIndex[slot] = index + 1;
+					}
+				}
+				continue;
+			}
+			keys[slot] = key;
+			smallest[slot] = largest[slot] = value;
+			smallestIndex[slot] = largestIndex[slot] = index + 1;
+			if (toleranceInMillis > 0) {
+				int below = slotOf(key - 1, keys, largestIndex, mask), above = slotOf(key + 1, keys, largestIndex, mask);
+				if (largestIndex[below] != 0 && isWithinTolerance(largest[below], value)) {
+					duplicates.report(largestIndex[below] - 1, largest[below], index, value);
+				} else if (largestIndex[above] != 0 && isWithinTolerance(value, smallest[above])) {
+					duplicates.report(smallestIndex[above] - 1, smallest[above], index, value);
+				}
+			}
+		}
+		if (toleranceInMillis > 0) {
+			for (int slot = 0; slot < capacity; ++slot) {
+				if (largestIndex[slot] != 0) {
+					int above = slotOf(keys[slot] + 1, keys, largestIndex, mask);
+					if (largestIndex[above] != 0 && isWithinTolerance(largest[slot], smallest[above])) {
+						++duplicates.count;
+					}
+				}
+			}
+		}
+		return duplicates;
+	}
+
+	/**
+	 * Return true if the later date, which is not before the earlier date, is within the tolerance of it
+	 */
+	private boolean isWithinTolerance(final long earlier, final long later) {
+		return Long.compareUnsigned(later - earlier, toleranceInMillis) <= 0;
+	}
+
+	/**
+	 * Return the slot holding the key, or the empty slot it would be put in
+	 */
+	private static int slotOf(final long key, final long[] keys, final int[] indices, final int mask) {
+		long hash = key * 0x9E3779B97F4A7C15L;
+		int slot = (int) (hash ^ hash >>> 32) & mask;
+		while (indices[slot] != 0 && keys[slot] != key) {
+			slot = slot + 1 & mask;
+		}
+		return slot;
+	}
+
+	private Duplicates findBySort(final Timestamps timestamps) {
+		long[] sorted = timestamps.toSortedArray();
+		Duplicates duplicates = new Duplicates();
+		for (int i = 1; i < sorted.length; ++i) {
+			if (sorted[i] - sorted[i - 1] <= toleranceInMillis && sorted[i] - sorted[i - 1] >= 0) {
+				int last = duplicates.reported - 1;
+				if (last >= 0 && duplicates.firstValue[last] == sorted[i - 1] && duplicates.secondValue[last] == sorted[i]) {
+					++duplicates.count;
+				} else {
+					duplicates.add(-1, sorted[i - 1], -1, sorted[i]);
+				}
+			}
+		}
+		if (duplicates.reported > 0) {
+			long index = 0;
+			for (PrimitiveIterator.OfLong millis = timestamps.iterator(); millis.hasNext(); ++index) {
+				duplicates.locate(index, millis.nextLong());
+			}
+		}
+		return duplicates;
+	}
+
+	/**
+	 * The number of duplicates and the positions and values of the first of them
+	 */
+	private static class Duplicates {
+
+		private final long[] firstIndex = new long[REPORT_LIMIT], secondIndex = new long[REPORT_LIMIT];
+		private final long[] firstValue = new long[REPORT_LIMIT], secondValue = new long[REPORT_LIMIT];
+		private long count;
+		private int reported;
+
+		private void add(final long earlierIndex, final long earlierValue, final long index, final long value) {
+			++count;
+			report(earlierIndex, earlierValue, index, value);
+		}
+
+		private void report(final long earlierIndex, final long earlierValue, final long index, final long value) {
+			if (reported < REPORT_LIMIT) {
+				firstIndex[reported] = earlierIndex;
+				firstValue[reported] = earlierValue;
+				secondIndex[reported] = index;
+				secondValue[reported] = value;
+				++reported;
+			}
+		}
+
+		/**
+		 * Fill in the positions of the reported duplicates found without them
+		 */
+		private void locate(final long index, final long value) {
+			for (int i = 0; i < reported; ++i) {
+				if (firstIndex[i] < 0 && value == firstValue[i]) {
+					firstIndex[i] = index;
+				} else if (secondIndex[i] < 0 && value == secondValue[i]) {
+					secondIndex[i] = index;
+				} else {
+					continue;
+				}
+				if (firstIndex[i] >= 0 && secondIndex[i] >= 0 && secondIndex[i] < firstIndex[i]) {
+					long swap = firstIndex[i];
+					firstIndex[i] = secondIndex[i];
+					secondIndex[i] = swap;
+					swap = firstValue[i];
+					firstValue[i] = secondValue[i];
+					secondValue[i] = swap;
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,130 @@
+package org.exparity.hamcrest.date;
+
+import static org.exparity.hamcrest.date.DateFormatter.formatDateWithMillis;
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.Description;
+import org.hamcrest.Factory;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * A matcher that tests that no two consecutive dates in the examined {@link DateMatchers date sequence} are further apart than a defined period, e.g.
+ * that a series of heartbeats has no outage. A sequence in chronological order is examined as it is read; a sequence found out of order is copied to a
+ * sorted <code>long[]</code> and examined again in chronological order.
+ * <p/>
+ * The largest gap found by a failed match is kept for the describeMismatch call which follows it so the sequence is only examined once.
+ *
+ * @author Stewart Bissett
+ */
+public class IsWithoutGaps extends TypeSafeDiagnosingMatcher<Object> {
+
+	/**
+	 * Creates a matcher that matches when no two consecutive dates in the examined sequence, in chronological order, are further apart than the given
+	 * period
+	 * <p/>
+	 * For example:
+	 * 
+	 * <pre>
+	 * assertThat(heartbeats, hasNoGapLongerThan(30, TimeUnit.SECONDS))
+	 * </pre>
+	 * 
+	 * @param period
+	 *            the timeunit interval consecutive dates may be apart
+	 * @param unit
+	 *            the timeunit to define the length of the period
+	 */
+	@Factory
+	public static Matcher<Object> hasNoGapLongerThan(final long period, final TimeUnit unit) {
+		return new IsWithoutGaps(period, unit);
+	}
+
+	private final long period;
+	private final TimeUnit unit;
+	private final long maximumGapInMillis;
+	private final LastFailure<Gaps> lastFailure = new LastFailure<Gaps>();
+
+	public IsWithoutGaps(final long period, final TimeUnit unit) {
+		if (period < 0) {
+			throw new IllegalArgumentException("Period " + period + " is negative");
+		}
+		this.period = period;
+		this.unit = unit;
+		this.maximumGapInMillis = unit.toMillis(period);
+	}
+
+	@Override
+	protected boolean matchesSafely(final Object actual, final Description mismatchDesc) {
+		Gaps gaps = lastFailure.take(actual, mismatchDesc);
+		if (gaps == null) {
+			Timestamps timestamps = Timestamps.of(actual);
+			if (timestamps == null) {
+				mismatchDesc.appendText("was not " + Timestamps.SUPPORTED_TYPES);
+				return false;
+			}
+			try {
+				gaps = scan(timestamps.iterator(), true);
+				if (gaps == null) {
+					gaps = scan(Timestamps.of(timestamps.toSortedArray()).iterator(), false);
+				}
+			} catch (IllegalArgumentException e) {
+				mismatchDesc.appendText(e.getMessage());
+				return false;
+			}
+			if (gaps.longGaps == 0) {
+				return true;
+			}
+			lastFailure.keep(actual, gaps, mismatchDesc);
+		}
+		mismatchDesc.appendText("largest gap is " + IsWithin.inUnit(new BigDecimal(Long.toUnsignedString(gaps.largest)), unit) + " from ").appendValue(formatDateWithMillis(new Date(gaps.from)));
+		if (gaps.index >= 0) {
+			mismatchDesc.appendText(" at index " + gaps.index);
+		}
+		mismatchDesc.appendText(" to ").appendValue(formatDateWithMillis(new Date(gaps.to)));
+		if (gaps.index < 0) {
+			mismatchDesc.appendText(" in chronological order");
+		}
+		mismatchDesc.appendText(", " + gaps.longGaps + " of " + gaps.count + " gaps were longer than " + period + " " + IsWithin.abbreviatedUnit(unit));
+		return false;
+	}
+
+	public void describeTo(final Description description) {
+		description.appendText("dates with no gap longer than " + period + " " + IsWithin.abbreviatedUnit(unit));
+	}
+
+	/**
+	 * Return the gaps between the dates, or null if the dates are found out of order
+	 */
+	private Gaps scan(final PrimitiveIterator.OfLong millis, final boolean reportIndex) {
+		Gaps gaps = new Gaps();
+		if (!millis.hasNext()) {
+			return gaps;
+		}
+		long previous = millis.nextLong();
+		for (long index = 0; millis.hasNext(); ++index) {
+			long value = millis.nextLong();
+			if (value < previous) {
+				return null;
+			}
+			long gap = value - previous;
+			if (Long.compareUnsigned(gap, maximumGapInMillis) > 0) {
+				if (gaps.longGaps++ == 0 || Long.compareUnsigned(gap, gaps.largest) > 0) {
+					gaps.largest = gap;
+					gaps.from = previous;
+					gaps.to = value;
+					gaps.index = reportIndex ? index : -1;
+				}
+			}
+			previous = value;
+			gaps.count++;
+		}
+		return gaps;
+	}
+
+	private static class Gaps {
+
+		private long count, longGaps, largest, from, to, index;
+	}
+}
@@ -0,0 +1,47 @@
+package org.exparity.hamcrest.date;
+
+import org.hamcrest.Description;
+
+/**
+ * Keeps the result of a failed match for the describeMismatch call which follows it, so a matcher which examines a large or single-use value only
+ * examines it once per failed assertion. Hamcrest matches against a {@link Description.NullDescription} and then describes the mismatch against a real
+ * description, so a result is kept when matching and taken back when describing the same value.
+ *
+ * @author Stewart Bissett
+ */
+final class LastFailure<R> {
+
+	private volatile Entry<R> last;
+
+	/**
+	 * Return the result kept for this value, or null if there is none or the mismatch is not being described
+	 */
+	R take(final Object actual, final Description mismatchDesc) {
+		Entry<R> entry = last;
+		if (mismatchDesc instanceof Description.NullDescription || entry == null || entry.actual != actual) {
+			return null;
+		}
+		last = null;
+		return entry.result;
+	}
+
+	/**
+	 * Keep the result of a failed match if the mismatch will be described by a following call
+	 */
+	void keep(final Object actual, final R result, final Description mismatchDesc) {
+		if (mismatchDesc instanceof Description.NullDescription) {
+			last = new Entry<R>(actual, result);
+		}
+	}
+
+	private static class Entry<R> {
+
+		private final Object actual;
+		private final R result;
+
+		private Entry(final Object actual, final R result) {
+			this.actual = actual;
+			this.result = result;
+		}
+	}
+}
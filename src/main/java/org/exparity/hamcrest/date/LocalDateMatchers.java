@@ -0,0 +1,634 @@
+package org.exparity.hamcrest.date;
+
+import java.time.LocalDate;
+import java.time.chrono.ChronoLocalDate;
+import java.time.temporal.ChronoUnit;
+import org.hamcrest.Matcher;
+
+/**
+ * Static factory for creating {@link org.hamcrest.Matcher} instances for comparing {@link java.time.LocalDate} instances. The matchers work on the fields of the
+ * examined value, e.g. {@link java.time.LocalDate#toEpochDay()}, so no {@link java.util.Date} is created for each examined value.
+ *
+ * @author Stewart Bissett
+ */
+public abstract class LocalDateMatchers {
+
+    /**
+     * Creates a matcher that matches when the examined date is after the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, after(LocalDate.now()))
+     * </pre>
+     *
+     * @param date the reference date against which the examined date is checked
+     */
+    public static Matcher<LocalDate> after(final LocalDate date) {
+        return TemporalMatchers.after(date, ChronoLocalDate.timeLineOrder());
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is after the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, after(2012, Months.MAY, 12));
+     * </pre>
+     *
+     * @param year  the year against which the examined date is checked
+     * @param month the month against which the examined date is checked
+     * @param day   the day of the month against which the examined date is checked
+     */
+    public static Matcher<LocalDate> after(final int year, final Months month, final int day) {
+        return after(LocalDate.of(year, month.asMonth(), day));
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is before the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, before(LocalDate.now()))
+     * </pre>
+     *
+     * @param date the reference date against which the examined date is checked
+     */
+    public static Matcher<LocalDate> before(final LocalDate date) {
+        return TemporalMatchers.before(date, ChronoLocalDate.timeLineOrder());
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is before the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, before(2012, Months.MAY, 12));
+     * </pre>
+     *
+     * @param year  the year against which the examined date is checked
+     * @param month the month against which the examined date is checked
+     * @param day   the day of the month against which the examined date is checked
+     */
+    public static Matcher<LocalDate> before(final int year, final Months month, final int day) {
+        return before(LocalDate.of(year, month.asMonth(), day));
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is the same as or after the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, sameOrAfter(LocalDate.now()))
+     * </pre>
+     *
+     * @param date the reference date against which the examined date is checked
+     */
+    public static Matcher<LocalDate> sameOrAfter(final LocalDate date) {
+        return TemporalMatchers.sameOrAfter(date, ChronoLocalDate.timeLineOrder());
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is the same as or after the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, sameOrAfter(2012, Months.MAY, 12));
+     * </pre>
+     *
+     * @param year  the year against which the examined date is checked
+     * @param month the month against which the examined date is checked
+     * @param day   the day of the month against which the examined date is checked
+     */
+    public static Matcher<LocalDate> sameOrAfter(final int year, final Months month, final int day) {
+        return sameOrAfter(LocalDate.of(year, month.asMonth(), day));
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is the same as or before the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, sameOrBefore(LocalDate.now()))
+     * </pre>
+     *
+     * @param date the reference date against which the examined date is checked
+     */
+    public static Matcher<LocalDate> sameOrBefore(final LocalDate date) {
+        return TemporalMatchers.sameOrBefore(date, ChronoLocalDate.timeLineOrder());
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is the same as or before the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, sameOrBefore(2012, Months.MAY, 12));
+     * </pre>
+     *
+     * @param year  the year against which the examined date is checked
+     * @param month the month against which the examined date is checked
+     * @param day   the day of the month against which the examined date is checked
+     */
+    public static Matcher<LocalDate> sameOrBefore(final int year, final Months month, final int day) {
+        return sameOrBefore(LocalDate.of(year, month.asMonth(), day));
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is within a given period of the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, within(2, ChronoUnit.DAYS, LocalDate.now()))
+     * </pre>
+     *
+     * @param period the timeunit interval the examined date should be with
+     * @param unit   the timeunit to define the length of the period
+     * @param date   the reference date against which the examined date is checked
+     */
+    public static Matcher<LocalDate> within(final long period, final ChronoUnit unit, final LocalDate date) {
+        return TemporalMatchers.within(period, unit, date);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same day as the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, sameDay(LocalDate.now()))
+     * </pre>
+     *
+     * @param date the reference date against which the examined date is checked
+     */
+    public static Matcher<LocalDate> sameDay(final LocalDate date) {
+        return TemporalMatchers.sameDay(date);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same day as the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, sameDay(2012, Months.JAN, 1))
+     * </pre>
+     *
+     * @param year  the year against which the examined date is checked
+     * @param month the month against which the examined date is checked
+     * @param day   the day of the month against which the examined date is checked
+     */
+    public static Matcher<LocalDate> sameDay(final int year, final Months month, final int day) {
+        return sameDay(LocalDate.of(year, month.asMonth(), day));
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same day of the week as the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, sameDayOfWeek(LocalDate.now()))
+     * </pre>
+     *
+     * @param date the reference date against which the examined date is checked
+     */
+    public static Matcher<LocalDate> sameDayOfWeek(final LocalDate date) {
+        return TemporalMatchers.sameDayOfWeek(date);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same day of the week as the supplied day
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, sameDayOfWeek(Weekdays.MONDAY))
+     * </pre>
+     *
+     * @param weekday the reference weekday against which the examined date is checked
+     */
+    public static Matcher<LocalDate> sameDayOfWeek(final Weekdays weekday) {
+        return TemporalMatchers.sameDayOfWeek(weekday);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same month as the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, sameMonth(LocalDate.now()))
+     * </pre>
+     *
+     * @param date the reference date against which the examined date is checked
+     */
+    public static Matcher<LocalDate> sameMonth(final LocalDate date) {
+        return TemporalMatchers.sameMonth(date);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same month as the reference month
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, sameMonth(Months.DECEMBER))
+     * </pre>
+     *
+     * @param month the reference month against which the examined date is checked
+     */
+    public static Matcher<LocalDate> sameMonth(final Months month) {
+        return TemporalMatchers.sameMonth(month);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same year as the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, sameYear(LocalDate.now()))
+     * </pre>
+     *
+     * @param date the reference date against which the examined date is checked
+     */
+    public static Matcher<LocalDate> sameYear(final LocalDate date) {
+        return TemporalMatchers.sameYear(date);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same year as the reference year
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, sameYear(2013))
+     * </pre>
+     *
+     * @param year the reference year against which the examined date is checked
+     */
+    public static Matcher<LocalDate> sameYear(final int year) {
+        return TemporalMatchers.sameYear(year);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is yesterday
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isYesterday());
+     * </pre>
+     */
+    public static Matcher<LocalDate> isYesterday() {
+        return sameDay(LocalDate.now().minusDays(1));
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is today
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isToday());
+     * </pre>
+     */
+    public static Matcher<LocalDate> isToday() {
+        return sameDay(LocalDate.now());
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is tomorrow
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isTomorrow());
+     * </pre>
+     */
+    public static Matcher<LocalDate> isTomorrow() {
+        return sameDay(LocalDate.now().plusDays(1));
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on a monday
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isMonday());
+     * </pre>
+     */
+    public static Matcher<LocalDate> isMonday() {
+        return sameDayOfWeek(Weekdays.MONDAY);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on a tuesday
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isTuesday());
+     * </pre>
+     */
+    public static Matcher<LocalDate> isTuesday() {
+        return sameDayOfWeek(Weekdays.TUESDAY);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on a wednesday
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isWednesday());
+     * </pre>
+     */
+    public static Matcher<LocalDate> isWednesday() {
+        return sameDayOfWeek(Weekdays.WEDNESDAY);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on a thursday
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isThursday());
+     * </pre>
+     */
+    public static Matcher<LocalDate> isThursday() {
+        return sameDayOfWeek(Weekdays.THURSDAY);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on a friday
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isFriday());
+     * </pre>
+     */
+    public static Matcher<LocalDate> isFriday() {
+        return sameDayOfWeek(Weekdays.FRIDAY);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on a saturday
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isSaturday());
+     * </pre>
+     */
+    public static Matcher<LocalDate> isSaturday() {
+        return sameDayOfWeek(Weekdays.SATURDAY);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on a sunday
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isSunday());
+     * </pre>
+     */
+    public static Matcher<LocalDate> isSunday() {
+        return sameDayOfWeek(Weekdays.SUNDAY);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on a weekday
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isWeekday());
+     * </pre>
+     */
+    public static Matcher<LocalDate> isWeekday() {
+        return TemporalMatchers.isWeekday();
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on a weekend
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isWeekend());
+     * </pre>
+     */
+    public static Matcher<LocalDate> isWeekend() {
+        return TemporalMatchers.isWeekend();
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the first day of the month
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isFirstDayOfMonth());
+     * </pre>
+     */
+    public static Matcher<LocalDate> isFirstDayOfMonth() {
+        return TemporalMatchers.isFirstDayOfMonth();
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the last day of the month
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isLastDayOfMonth());
+     * </pre>
+     */
+    public static Matcher<LocalDate> isLastDayOfMonth() {
+        return TemporalMatchers.isLastDayOfMonth();
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is in January
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isJanuary());
+     * </pre>
+     */
+    public static Matcher<LocalDate> isJanuary() {
+        return sameMonth(Months.JANUARY);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is in February
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isFebruary());
+     * </pre>
+     */
+    public static Matcher<LocalDate> isFebruary() {
+        return sameMonth(Months.FEBRUARY);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is in March
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isMarch());
+     * </pre>
+     */
+    public static Matcher<LocalDate> isMarch() {
+        return sameMonth(Months.MARCH);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is in April
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isApril());
+     * </pre>
+     */
+    public static Matcher<LocalDate> isApril() {
+        return sameMonth(Months.APRIL);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is in May
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isMay());
+     * </pre>
+     */
+    public static Matcher<LocalDate> isMay() {
+        return sameMonth(Months.MAY);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is in June
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isJune());
+     * </pre>
+     */
+    public static Matcher<LocalDate> isJune() {
+        return sameMonth(Months.JUNE);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is in July
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isJuly());
+     * </pre>
+     */
+    public static Matcher<LocalDate> isJuly() {
+        return sameMonth(Months.JULY);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is in August
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isAugust());
+     * </pre>
+     */
+    public static Matcher<LocalDate> isAugust() {
+        return sameMonth(Months.AUGUST);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is in September
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isSeptember());
+     * </pre>
+     */
+    public static Matcher<LocalDate> isSeptember() {
+        return sameMonth(Months.SEPTEMBER);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is in October
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isOctober());
+     * </pre>
+     */
+    public static Matcher<LocalDate> isOctober() {
+        return sameMonth(Months.OCTOBER);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is in November
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isNovember());
+     * </pre>
+     */
+    public static Matcher<LocalDate> isNovember() {
+        return sameMonth(Months.NOVEMBER);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is in December
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isDecember());
+     * </pre>
+     */
+    public static Matcher<LocalDate> isDecember() {
+        return sameMonth(Months.DECEMBER);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is a leap year
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isLeapYear());
+     * </pre>
+     */
+    public static Matcher<LocalDate> isLeapYear() {
+        return TemporalMatchers.isLeapYear();
+    }
+
+}
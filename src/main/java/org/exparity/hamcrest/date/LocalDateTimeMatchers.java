@@ -0,0 +1,749 @@
+package org.exparity.hamcrest.date;
+
+import java.time.LocalDateTime;
+import java.time.chrono.ChronoLocalDateTime;
+import java.time.temporal.ChronoUnit;
+import org.hamcrest.Matcher;
+
+/**
+ * Static factory for creating {@link org.hamcrest.Matcher} instances for comparing {@link java.time.LocalDateTime} instances. The matchers work on the fields of the
+ * examined value, e.g. {@link java.time.LocalDateTime#getLong(java.time.temporal.TemporalField)}, so no {@link java.util.Date} is created for each examined value.
+ *
+ * @author Stewart Bissett
+ */
+public abstract class LocalDateTimeMatchers {
+
+    /**
+     * Creates a matcher that matches when the examined date is after the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, after(LocalDateTime.now()))
+     * </pre>
+     *
+     * @param date the reference date against which the examined date is checked
+     */
+    public static Matcher<LocalDateTime> after(final LocalDateTime date) {
+        return TemporalMatchers.after(date, ChronoLocalDateTime.timeLineOrder());
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is after the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, after(2012, Months.MAY, 12, 23, 00, 01));
+     * </pre>
+     *
+     * @param year   the year against which the examined date is checked
+     * @param month  the month against which the examined date is checked
+     * @param day    the day of the month against which the examined date is checked
+     * @param hour   the hour of the day against which the examined date is checked
+     * @param minute the minute of the hour against which the examined date is checked
+     * @param second the second of the minute against which the examined date is checked
+     */
+    public static Matcher<LocalDateTime> after(final int year, final Months month, final int day, final int hour, final int minute, final int second) {
+        return after(LocalDateTime.of(year, month.asMonth(), day, hour, minute, second));
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is before the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, before(LocalDateTime.now()))
+     * </pre>
+     *
+     * @param date the reference date against which the examined date is checked
+     */
+    public static Matcher<LocalDateTime> before(final LocalDateTime date) {
+        return TemporalMatchers.before(date, ChronoLocalDateTime.timeLineOrder());
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is before the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, before(2012, Months.MAY, 12, 23, 00, 01));
+     * </pre>
+     *
+     * @param year   the year against which the examined date is checked
+     * @param month  the month against which the examined date is checked
+     * @param day    the day of the month against which the examined date is checked
+     * @param hour   the hour of the day against which the examined date is checked
+     * @param minute the minute of the hour against which the examined date is checked
+     * @param second the second of the minute against which the examined date is checked
+     */
+    public static Matcher<LocalDateTime> before(final int year, final Months month, final int day, final int hour, final int minute, final int second) {
+        return before(LocalDateTime.of(year, month.asMonth(), day, hour, minute, second));
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is the same as or after the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, sameOrAfter(LocalDateTime.now()))
+     * </pre>
+     *
+     * @param date the reference date against which the examined date is checked
+     */
+    public static Matcher<LocalDateTime> sameOrAfter(final LocalDateTime date) {
+        return TemporalMatchers.sameOrAfter(date, ChronoLocalDateTime.timeLineOrder());
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is the same as or after the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, sameOrAfter(2012, Months.MAY, 12, 23, 00, 01));
+     * </pre>
+     *
+     * @param year   the year against which the examined date is checked
+     * @param month  the month against which the examined date is checked
+     * @param day    the day of the month against which the examined date is checked
+     * @param hour   the hour of the day against which the examined date is checked
+     * @param minute the minute of the hour against which the examined date is checked
+     * @param second the second of the minute against which the examined date is checked
+     */
+    public static Matcher<LocalDateTime> sameOrAfter(final int year, final Months month, final int day, final int hour, final int minute, final int second) {
+        return sameOrAfter(LocalDateTime.of(year, month.asMonth(), day, hour, minute, second));
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is the same as or before the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, sameOrBefore(LocalDateTime.now()))
+     * </pre>
+     *
+     * @param date the reference date against which the examined date is checked
+     */
+    public static Matcher<LocalDateTime> sameOrBefore(final LocalDateTime date) {
+        return TemporalMatchers.sameOrBefore(date, ChronoLocalDateTime.timeLineOrder());
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is the same as or before the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, sameOrBefore(2012, Months.MAY, 12, 23, 00, 01));
+     * </pre>
+     *
+     * @param year   the year against which the examined date is checked
+     * @param month  the month against which the examined date is checked
+     * @param day    the day of the month against which the examined date is checked
+     * @param hour   the hour of the day against which the examined date is checked
+     * @param minute the minute of the hour against which the examined date is checked
+     * @param second the second of the minute against which the examined date is checked
+     */
+    public static Matcher<LocalDateTime> sameOrBefore(final int year, final Months month, final int day, final int hour, final int minute, final int second) {
+        return sameOrBefore(LocalDateTime.of(year, month.asMonth(), day, hour, minute, second));
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is within a given period of the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, within(10, ChronoUnit.MINUTES, LocalDateTime.now()))
+     * </pre>
+     *
+     * @param period the timeunit interval the examined date should be with
+     * @param unit   the timeunit to define the length of the period
+     * @param date   the reference date against which the examined date is checked
+     */
+    public static Matcher<LocalDateTime> within(final long period, final ChronoUnit unit, final LocalDateTime date) {
+        return TemporalMatchers.within(period, unit, date);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same day as the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, sameDay(LocalDateTime.now()))
+     * </pre>
+     *
+     * @param date the reference date against which the examined date is checked
+     */
+    public static Matcher<LocalDateTime> sameDay(final LocalDateTime date) {
+        return TemporalMatchers.sameDay(date);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same day of the week as the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, sameDayOfWeek(LocalDateTime.now()))
+     * </pre>
+     *
+     * @param date the reference date against which the examined date is checked
+     */
+    public static Matcher<LocalDateTime> sameDayOfWeek(final LocalDateTime date) {
+        return TemporalMatchers.sameDayOfWeek(date);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same day of the week as the supplied day
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, sameDayOfWeek(Weekdays.MONDAY))
+     * </pre>
+     *
+     * @param weekday the reference weekday against which the examined date is checked
+     */
+    public static Matcher<LocalDateTime> sameDayOfWeek(final Weekdays weekday) {
+        return TemporalMatchers.sameDayOfWeek(weekday);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same month as the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, sameMonth(LocalDateTime.now()))
+     * </pre>
+     *
+     * @param date the reference date against which the examined date is checked
+     */
+    public static Matcher<LocalDateTime> sameMonth(final LocalDateTime date) {
+        return TemporalMatchers.sameMonth(date);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same month as the reference month
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, sameMonth(Months.DECEMBER))
+     * </pre>
+     *
+     * @param month the reference month against which the examined date is checked
+     */
+    public static Matcher<LocalDateTime> sameMonth(final Months month) {
+        return TemporalMatchers.sameMonth(month);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same year as the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, sameYear(LocalDateTime.now()))
+     * </pre>
+     *
+     * @param date the reference date against which the examined date is checked
+     */
+    public static Matcher<LocalDateTime> sameYear(final LocalDateTime date) {
+        return TemporalMatchers.sameYear(date);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same year as the reference year
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, sameYear(2013))
+     * </pre>
+     *
+     * @param year the reference year against which the examined date is checked
+     */
+    public static Matcher<LocalDateTime> sameYear(final int year) {
+        return TemporalMatchers.sameYear(year);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same hour of the day as the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, sameHour(LocalDateTime.now()))
+     * </pre>
+     *
+     * @param date the reference date against which the examined date is checked
+     */
+    public static Matcher<LocalDateTime> sameHour(final LocalDateTime date) {
+        return TemporalMatchers.sameHour(date);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same hour of the day as the reference hour
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, sameHour(12))
+     * </pre>
+     *
+     * @param hour the reference hour against which the examined date is checked
+     */
+    public static Matcher<LocalDateTime> sameHour(final int hour) {
+        return TemporalMatchers.sameHour(hour);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same minute of the hour as the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, sameMinute(LocalDateTime.now()))
+     * </pre>
+     *
+     * @param date the reference date against which the examined date is checked
+     */
+    public static Matcher<LocalDateTime> sameMinute(final LocalDateTime date) {
+        return TemporalMatchers.sameMinute(date);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same minute of the hour as the reference minute
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, sameMinute(30))
+     * </pre>
+     *
+     * @param minute the reference minute against which the examined date is checked
+     */
+    public static Matcher<LocalDateTime> sameMinute(final int minute) {
+        return TemporalMatchers.sameMinute(minute);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same second of the minute as the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, sameSecond(LocalDateTime.now()))
+     * </pre>
+     *
+     * @param date the reference date against which the examined date is checked
+     */
+    public static Matcher<LocalDateTime> sameSecond(final LocalDateTime date) {
+        return TemporalMatchers.sameSecond(date);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same second of the minute as the reference second
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, sameSecond(30))
+     * </pre>
+     *
+     * @param second the reference second against which the examined date is checked
+     */
+    public static Matcher<LocalDateTime> sameSecond(final int second) {
+        return TemporalMatchers.sameSecond(second);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same millisecond of the second as the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, sameMillisecond(LocalDateTime.now()))
+     * </pre>
+     *
+     * @param date the reference date against which the examined date is checked
+     */
+    public static Matcher<LocalDateTime> sameMillisecond(final LocalDateTime date) {
+        return TemporalMatchers.sameMillisecond(date);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same millisecond of the second as the reference millisecond
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, sameMillisecond(999))
+     * </pre>
+     *
+     * @param millisecond the reference millisecond against which the examined date is checked
+     */
+    public static Matcher<LocalDateTime> sameMillisecond(final int millisecond) {
+        return TemporalMatchers.sameMillisecond(millisecond);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is yesterday
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isYesterday());
+     * </pre>
+     */
+    public static Matcher<LocalDateTime> isYesterday() {
+        return sameDay(LocalDateTime.now().minusDays(1));
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is today
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isToday());
+     * </pre>
+     */
+    public static Matcher<LocalDateTime> isToday() {
+        return sameDay(LocalDateTime.now());
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is tomorrow
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isTomorrow());
+     * </pre>
+     */
+    public static Matcher<LocalDateTime> isTomorrow() {
+        return sameDay(LocalDateTime.now().plusDays(1));
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on a monday
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isMonday());
+     * </pre>
+     */
+    public static Matcher<LocalDateTime> isMonday() {
+        return sameDayOfWeek(Weekdays.MONDAY);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on a tuesday
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isTuesday());
+     * </pre>
+     */
+    public static Matcher<LocalDateTime> isTuesday() {
+        return sameDayOfWeek(Weekdays.TUESDAY);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on a wednesday
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isWednesday());
+     * </pre>
+     */
+    public static Matcher<LocalDateTime> isWednesday() {
+        return sameDayOfWeek(Weekdays.WEDNESDAY);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on a thursday
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isThursday());
+     * </pre>
+     */
+    public static Matcher<LocalDateTime> isThursday() {
+        return sameDayOfWeek(Weekdays.THURSDAY);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on a friday
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isFriday());
+     * </pre>
+     */
+    public static Matcher<LocalDateTime> isFriday() {
+        return sameDayOfWeek(Weekdays.FRIDAY);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on a saturday
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isSaturday());
+     * </pre>
+     */
+    public static Matcher<LocalDateTime> isSaturday() {
+        return sameDayOfWeek(Weekdays.SATURDAY);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on a sunday
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isSunday());
+     * </pre>
+     */
+    public static Matcher<LocalDateTime> isSunday() {
+        return sameDayOfWeek(Weekdays.SUNDAY);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on a weekday
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isWeekday());
+     * </pre>
+     */
+    public static Matcher<LocalDateTime> isWeekday() {
+        return TemporalMatchers.isWeekday();
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on a weekend
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isWeekend());
+     * </pre>
+     */
+    public static Matcher<LocalDateTime> isWeekend() {
+        return TemporalMatchers.isWeekend();
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the first day of the month
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isFirstDayOfMonth());
+     * </pre>
+     */
+    public static Matcher<LocalDateTime> isFirstDayOfMonth() {
+        return TemporalMatchers.isFirstDayOfMonth();
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the last day of the month
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isLastDayOfMonth());
+     * </pre>
+     */
+    public static Matcher<LocalDateTime> isLastDayOfMonth() {
+        return TemporalMatchers.isLastDayOfMonth();
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is in January
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isJanuary());
+     * </pre>
+     */
+    public static Matcher<LocalDateTime> isJanuary() {
+        return sameMonth(Months.JANUARY);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is in February
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isFebruary());
+     * </pre>
+     */
+    public static Matcher<LocalDateTime> isFebruary() {
+        return sameMonth(Months.FEBRUARY);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is in March
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isMarch());
+     * </pre>
+     */
+    public static Matcher<LocalDateTime> isMarch() {
+        return sameMonth(Months.MARCH);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is in April
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isApril());
+     * </pre>
+     */
+    public static Matcher<LocalDateTime> isApril() {
+        return sameMonth(Months.APRIL);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is in May
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isMay());
+     * </pre>
+     */
+    public static Matcher<LocalDateTime> isMay() {
+        return sameMonth(Months.MAY);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is in June
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isJune());
+     * </pre>
+     */
+    public static Matcher<LocalDateTime> isJune() {
+        return sameMonth(Months.JUNE);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is in July
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isJuly());
+     * </pre>
+     */
+    public static Matcher<LocalDateTime> isJuly() {
+        return sameMonth(Months.JULY);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is in August
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isAugust());
+     * </pre>
+     */
+    public static Matcher<LocalDateTime> isAugust() {
+        return sameMonth(Months.AUGUST);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is in September
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isSeptember());
+     * </pre>
+     */
+    public static Matcher<LocalDateTime> isSeptember() {
+        return sameMonth(Months.SEPTEMBER);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is in October
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isOctober());
+     * </pre>
+     */
+    public static Matcher<LocalDateTime> isOctober() {
+        return sameMonth(Months.OCTOBER);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is in November
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isNovember());
+     * </pre>
+     */
+    public static Matcher<LocalDateTime> isNovember() {
+        return sameMonth(Months.NOVEMBER);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is in December
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isDecember());
+     * </pre>
+     */
+    public static Matcher<LocalDateTime> isDecember() {
+        return sameMonth(Months.DECEMBER);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is a leap year
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isLeapYear());
+     * </pre>
+     */
+    public static Matcher<LocalDateTime> isLeapYear() {
+        return TemporalMatchers.isLeapYear();
+    }
+
+}
@@ -0,0 +1,205 @@
+package org.exparity.hamcrest.date;
+
+import java.util.Arrays;
+import java.util.Date;
+
+/**
+ * A bounded summary of the timestamps which did not match a date matcher. The report counts every timestamp examined and every mismatch but only keeps the
+ * index and value of the first mismatches up to the limit it was created with, so its size does not depend on the number of timestamps examined.
+ * <p/>
+ * Reports on text sources, such as CSV files, also keep the raw text of each reported mismatch, and use {@link #UNPARSEABLE} as the value of text which is
+ * not a timestamp. Binary sources have no such value, so a timestamp of {@link Long#MIN_VALUE} read from them is reported as that instant.
+ * <p/>
+ * A report can also count every mismatch by a {@link DateHistogram}, such as the day of the week, to show where the mismatches fall without keeping them.
+ *
+ * @author Stewart Bissett
+ */
+public final class MismatchReport {
+
+	/**
+	 * The value reported for text which could not be read as a timestamp. It is only given this meaning where the mismatch has text.
+	 */
+	public static final long UNPARSEABLE = TimestampText.NONE;
+
+	private final int limit;
+	private final DateHistogram histogram;
+	private final DateFields fields;
+	private final long[] counts;
+	private long examined;
+	private long mismatches;
+	private long[] indices;
+	private long[] values;
+	private String[] texts;
+	private int reported;
+
+	MismatchReport(final int limit) {
+		this(limit, null);
+	}
+
+	MismatchReport(final int limit, final DateHistogram histogram) {
+		this(limit, histogram, histogram == null ? null : DateFields.forDefaultCalendar());
+	}
+
+	private MismatchReport(final int limit, final DateHistogram histogram, final DateFields fields) {
+		if (limit < 0) {
+			throw new IllegalArgumentException("Mismatch limit " + limit + " is negative");
+		}
+		this.limit = limit;
+		this.histogram = histogram;
+		this.fields = fields;
+		this.counts = histogram == null ? null : new long[histogram.buckets()];
+		this.indices = new long[Math.min(limit, 16)];
+		this.values = new long[indices.length];
+	}
+
+	/**
+	 * Return an empty report with the same limit and histogram, to collect the results of another range
+	 */
+	MismatchReport emptyCopy() {
+		return new MismatchReport(limit, histogram, fields);
+	}
+
+	/**
+	 * Return the number of timestamps examined
+	 */
+	public long getExaminedCount() {
+		return examined;
+	}
+
+	/**
+	 * Return the number of timestamps which matched
+	 */
+	public long getMatchCount() {
+		return examined - mismatches;
+	}
+
+	/**
+	 * Return the number of timestamps which did not match
+	 */
+	public long getMismatchCount() {
+		return mismatches;
+	}
+
+	/**
+	 * Return true if every timestamp examined matched
+	 */
+	public boolean isEmpty() {
+		return mismatches == 0;
+	}
+
+	/**
+	 * Return the indices of the first mismatches in ascending order, at most as many as the limit the report was created with
+	 */
+	public long[] getMismatchIndices() {
+		return Arrays.copyOf(indices, reported);
+	}
+
+	/**
+	 * Return the epoch millisecond values of the first mismatches in the same order as {@link #getMismatchIndices()}
+	 */
+	public long[] getMismatchValues() {
+		return Arrays.copyOf(values, reported);
+	}
+
+	/**
+	 * Return the number of mismatches in each bucket of the histogram, or null if the report has no histogram. Values which are not timestamps are not
+	 * counted.
+	 */
+	public long[] getHistogram() {
+		return counts == null ? null : counts.clone();
+	}
+
+	/**
+	 * Return the raw text of the first mismatches, or the formatted value where the mismatch was not read from text, in the same order as
+	 * {@link #getMismatchIndices()}
+	 */
+	public String[] getMismatchTexts() {
+		String[] formatted = new String[reported];
+		for (int i = 0; i < reported; ++i) {
+			formatted[i] = textOf(i);
+		}
+		return formatted;
+	}
+
+	void examined(final long count) {
+		examined += count;
+	}
+
+	void mismatch(final long index, final long value) {
+		mismatch(index, value, null);
+	}
+
+	void mismatch(final long index, final long value, final String text) {
+		++mismatches;
+		if (counts != null && (text == null || value != UNPARSEABLE)) {
+			++counts[histogram.bucketOf(fields, value)];
+		}
+		keep(index, value, text);
+	}
+
+	private void keep(final long index, final long value, final String text) {
+		if (reported < limit) {
+			if (reported == indices.length) {
+				int capacity = (int) Math.min(limit, indices.length * 2L + 1);
+				indices = Arrays.copyOf(indices, capacity);
+				values = Arrays.copyOf(values, capacity);
+				texts = texts == null ? null : Arrays.copyOf(texts, capacity);
+			}
+			if (text != null && texts == null) {
+				texts = new String[indices.length];
+			}
+			if (texts != null) {
+				texts[reported] = text;
+			}
+			indices[reported] = index;
+			values[reported++] = value;
+		}
+	}
+
+	/**
+	 * Add the results of the range following the range this report covers
+	 */
+	MismatchReport append(final MismatchReport following) {
+		return append(following, 0);
+	}
+
+	/**
+	 * Add the results of the range following the range this report covers, whose indices are relative to the offset
+	 */
+	MismatchReport append(final MismatchReport following, final long indexOffset) {
+		for (int i = 0; i < following.reported && reported < limit; ++i) {
+			keep(following.indices[i] + indexOffset, following.values[i], following.texts == null ? null : following.texts[i]);
+		}
+		if (counts != null && following.counts != null) {
+			for (int i = 0; i < counts.length; ++i) {
+				counts[i] += following.counts[i];
+			}
+		}
+		mismatches += following.mismatches;
+		examined += following.examined;
+		return this;
+	}
+
+	private String textOf(final int i) {
+		if (texts != null && texts[i] != null) {
+			return texts[i];
+		}
+		return DateFormatter.formatDateWithMillis(new Date(values[i]));
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder report = new StringBuilder();
+		report.append(mismatches).append(" of ").append(examined).append(" timestamps did not match");
+		for (int i = 0; i < reported; ++i) {
+			report.append(i == 0 ? ": " : ", ").append("[").append(indices[i]).append("] ").append(textOf(i));
+		}
+		if (reported < mismatches) {
+			report.append(", ...");
+		}
+		if (counts != null && mismatches > 0) {
+			report.append("; ").append(histogram.describe(counts));
+		}
+		return report.toString();
+	}
+}
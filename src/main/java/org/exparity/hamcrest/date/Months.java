@@ -1,5 +1,6 @@
 package org.exparity.hamcrest.date;
 
+import java.time.Month;
 import java.util.Calendar;
 
 /**
@@ -57,6 +58,10 @@ public enum Months {
 		return calendarMonth;
 	}
 
+	public Month asMonth() {
+		return Month.of(calendarMonth + 1);
+	}
+
 	public String describe() {
 		return description;
 	}
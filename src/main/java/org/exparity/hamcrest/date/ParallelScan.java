@@ -0,0 +1,198 @@
+package org.exparity.hamcrest.date;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongPredicate;
+
+/**
+ * Helper class to search, count or reduce over a range of indices, splitting large ranges across the common {@link ForkJoinPool}. When searching, workers stop as
+ * soon as a failure is found at a lower index than the block they are about to test, so the result is always the lowest failing index regardless of
+ * scheduling.
+ *
+ * @author Stewart Bissett
+ */
+abstract class ParallelScan {
+
+	/**
+	 * Searches a range of indices for the first failure
+	 */
+	interface RangeSearch {
+
+		/**
+		 * Return the lowest index in [from, to) which fails, or -1 if none do
+		 */
+		long firstFailure(long from, long to);
+	}
+
+	/**
+	 * Counts the passing indices in a range
+	 */
+	interface RangeCount {
+
+		/**
+		 * Return the number of indices in [from, to) which pass
+		 */
+		long count(long from, long to);
+	}
+
+	/**
+	 * Reduces a range of indices to a result which can be combined with the result of the following range
+	 */
+	interface RangeReduce<R> {
+
+		/**
+		 * Return the result for the indices in [from, to)
+		 */
+		R reduce(long from, long to);
+
+		/**
+		 * Return the result of two adjacent ranges, the lower range first
+		 */
+		R combine(R lower, R upper);
+	}
+
+	private static final long BLOCK = 1024;
+	private static final long MIN_GRAIN = 4096;
+
+	/**
+	 * Return the lowest index in [0, size) for which the test fails, or -1 if it passes for every index
+	 *
+	 * @param size the number of indices to test
+	 * @param passesAt the test to apply to each index
+	 * @param parallelThreshold the minimum size at which the indices are tested in parallel
+	 */
+	static long firstFailure(final long size, final LongPredicate passesAt, final long parallelThreshold) {
+		return firstFailure(size, new RangeSearch() {
+
+			public long firstFailure(final long from, final long to) {
+				for (long i = from; i < to; ++i) {
+					if (!passesAt.test(i)) {
+						return i;
+					}
+				}
+				return -1;
+			}
+		}, parallelThreshold);
+	}
+
+	/**
+	 * Return the lowest index in [0, size) at which the search finds a failure, or -1 if there is none
+	 *
+	 * @param size the number of indices to search
+	 * @param search the search to apply to each block of indices
+	 * @param parallelThreshold the minimum size at which the indices are searched in parallel
+	 */
+	static long firstFailure(final long size, final RangeSearch search, final long parallelThreshold) {
+		if (!isParallel(size, parallelThreshold)) {
+			return search.firstFailure(0, size);
+		}
+		AtomicLong lowest = new AtomicLong(Long.MAX_VALUE);
+		ForkJoinPool.commonPool().invoke(new FirstFailureTask(0, size, grain(size), search, lowest));
+		return lowest.get() == Long.MAX_VALUE ? -1 : lowest.get();
+	}
+
+	/**
+	 * Return the number of indices in [0, size) which pass
+	 *
+	 * @param size the number of indices to count over
+	 * @param counter the count to apply to each block of indices
+	 * @param parallelThreshold the minimum size at which the indices are counted in parallel
+	 */
+	static long count(final long size, final RangeCount counter, final long parallelThreshold) {
+		return reduce(size, new RangeReduce<Long>() {
+
+			public Long reduce(final long from, final long to) {
+				return counter.count(from, to);
+			}
+
+			public Long combine(final Long lower, final Long upper) {
+				return lower + upper;
+			}
+		}, parallelThreshold);
+	}
+
+	/**
+	 * Return the result of reducing each block of indices in [0, size) and combining the results in index order
+	 *
+	 * @param size the number of indices to reduce over
+	 * @param reducer the reduction to apply to each block of indices
+	 * @param parallelThreshold the minimum size at which the indices are reduced in parallel
+	 */
+	static <R> R reduce(final long size, final RangeReduce<R> reducer, final long parallelThreshold) {
+		if (!isParallel(size, parallelThreshold)) {
+			return reducer.reduce(0, size);
+		}
+		return ForkJoinPool.commonPool().invoke(new ReduceTask<R>(0, size, grain(size), reducer));
+	}
+
+	private static boolean isParallel(final long size, final long parallelThreshold) {
+		return size >= parallelThreshold && ForkJoinPool.getCommonPoolParallelism() > 1;
+	}
+
+	private static long grain(final long size) {
+		return Math.max(MIN_GRAIN, size / (ForkJoinPool.getCommonPoolParallelism() * 8L));
+	}
+
+	@SuppressWarnings("serial")
+	private static class FirstFailureTask extends RecursiveAction {
+
+		private final long from, to, grain;
+		private final RangeSearch search;
+		private final AtomicLong lowest;
+
+		private FirstFailureTask(final long from, final long to, final long grain, final RangeSearch search, final AtomicLong lowest) {
+			this.from = from;
+			this.to = to;
+			this.grain = grain;
+			this.search = search;
+			this.lowest = lowest;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from > grain) {
+				long middle = from + (to - from) / 2;
+				invokeAll(new FirstFailureTask(from, middle, grain, search, lowest), new FirstFailureTask(middle, to, grain, search, lowest));
+				return;
+			}
+			for (long block = from; block < to && block < lowest.get(); block += BLOCK) {
+				long failure = search.firstFailure(block, Math.min(block + BLOCK, to));
+				if (failure >= 0) {
+					long current = lowest.get();
+					while (failure < current && !lowest.compareAndSet(current, failure)) {
+						current = lowest.get();
+					}
+					return;
+				}
+			}
+		}
+	}
+
+	@SuppressWarnings("serial")
+	private static class ReduceTask<R> extends RecursiveTask<R> {
+
+		private final long from, to, grain;
+		private final RangeReduce<R> reducer;
+
+		private ReduceTask(final long from, final long to, final long grain, final RangeReduce<R> reducer) {
+			this.from = from;
+			this.to = to;
+			this.grain = grain;
+			this.reducer = reducer;
+		}
+
+		@Override
+		protected R compute() {
+			if (to - from <= grain) {
+				return reducer.reduce(from, to);
+			}
+			long middle = from + (to - from) / 2;
+			ReduceTask<R> upper = new ReduceTask<R>(middle, to, grain, reducer);
+			upper.fork();
+			R lower = new ReduceTask<R>(from, middle, grain, reducer).compute();
+			return reducer.combine(lower, upper.join());
+		}
+	}
+}
@@ -0,0 +1,130 @@
+package org.exparity.hamcrest.date;
+
+import static java.time.temporal.ChronoField.DAY_OF_MONTH;
+import static java.time.temporal.ChronoField.DAY_OF_WEEK;
+import static java.time.temporal.ChronoField.EPOCH_DAY;
+import static java.time.temporal.ChronoField.HOUR_OF_DAY;
+import static java.time.temporal.ChronoField.MILLI_OF_SECOND;
+import static java.time.temporal.ChronoField.MINUTE_OF_HOUR;
+import static java.time.temporal.ChronoField.MONTH_OF_YEAR;
+import static java.time.temporal.ChronoField.SECOND_OF_MINUTE;
+import static java.time.temporal.ChronoField.YEAR;
+import static org.hamcrest.core.AnyOf.anyOf;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAccessor;
+import java.util.Comparator;
+import org.hamcrest.Matcher;
+
+/**
+ * Shared implementation of the matchers exposed by the java.time factories such as {@link LocalDateMatchers}. Every matcher reads the fields of the examined
+ * value directly so no {@link java.util.Date} or {@link java.util.Calendar} is created per examined value.
+ *
+ * @author Stewart Bissett
+ */
+abstract class TemporalMatchers {
+
+	static <T> Matcher<T> after(final T date, final Comparator<? super T> order) {
+		return new IsTemporalAfter<T>(date, order, false);
+	}
+
+	static <T> Matcher<T> sameOrAfter(final T date, final Comparator<? super T> order) {
+		return new IsTemporalAfter<T>(date, order, true);
+	}
+
+	static <T> Matcher<T> before(final T date, final Comparator<? super T> order) {
+		return new IsTemporalBefore<T>(date, order, false);
+	}
+
+	static <T> Matcher<T> sameOrBefore(final T date, final Comparator<? super T> order) {
+		return new IsTemporalBefore<T>(date, order, true);
+	}
+
+	static <T extends Temporal> Matcher<T> within(final long period, final ChronoUnit unit, final T date) {
+		return new IsTemporalWithin<T>(period, unit, date);
+	}
+
+	static <T extends TemporalAccessor> Matcher<T> sameDay(final T date) {
+		return new IsSameTemporalField<T>(date, EPOCH_DAY, "day", "d MMMM yyyy");
+	}
+
+	static <T extends TemporalAccessor> Matcher<T> sameDayOfWeek(final T date) {
+		return new IsSameTemporalField<T>(date, DAY_OF_WEEK, "day of the week", "EEEE");
+	}
+
+	static <T extends TemporalAccessor> Matcher<T> sameDayOfWeek(final Weekdays weekday) {
+		return new IsSameTemporalField<T>(weekday.asDayOfWeek().getValue(), weekday.describe(), DAY_OF_WEEK, "day of the week", "EEEE");
+	}
+
+	static <T extends TemporalAccessor> Matcher<T> sameMonth(final T date) {
+		return new IsSameTemporalField<T>(date, MONTH_OF_YEAR, "month", "MMMM");
+	}
+
+	static <T extends TemporalAccessor> Matcher<T> sameMonth(final Months month) {
+		return new IsSameTemporalField<T>(month.asMonth().getValue(), month.describe(), MONTH_OF_YEAR, "month", "MMMM");
+	}
+
+	static <T extends TemporalAccessor> Matcher<T> sameYear(final T date) {
+		return new IsSameTemporalField<T>(date, YEAR, "year", "yyyy");
+	}
+
+	static <T extends TemporalAccessor> Matcher<T> sameYear(final int year) {
+		return new IsSameTemporalField<T>(year, String.valueOf(year), YEAR, "year", "yyyy");
+	}
+
+	static <T extends TemporalAccessor> Matcher<T> sameHour(final T date) {
+		return new IsSameTemporalField<T>(date, HOUR_OF_DAY, "hour", "H");
+	}
+
+	static <T extends TemporalAccessor> Matcher<T> sameHour(final int hour) {
+		return new IsSameTemporalField<T>(hour, String.valueOf(hour), HOUR_OF_DAY, "hour", "H");
+	}
+
+	static <T extends TemporalAccessor> Matcher<T> sameMinute(final T date) {
+		return new IsSameTemporalField<T>(date, MINUTE_OF_HOUR, "minute", "m");
+	}
+
+	static <T extends TemporalAccessor> Matcher<T> sameMinute(final int minute) {
+		return new IsSameTemporalField<T>(minute, String.valueOf(minute), MINUTE_OF_HOUR, "minute", "m");
+	}
+
+	static <T extends TemporalAccessor> Matcher<T> sameSecond(final T date) {
+		return new IsSameTemporalField<T>(date, SECOND_OF_MINUTE, "second", "s");
+	}
+
+	static <T extends TemporalAccessor> Matcher<T> sameSecond(final int second) {
+		return new IsSameTemporalField<T>(second, String.valueOf(second), SECOND_OF_MINUTE, "second", "s");
+	}
+
+	static <T extends TemporalAccessor> Matcher<T> sameMillisecond(final T date) {
+		return new IsSameTemporalField<T>(date, MILLI_OF_SECOND, "millisecond", "S");
+	}
+
+	static <T extends TemporalAccessor> Matcher<T> sameMillisecond(final int millisecond) {
+		return new IsSameTemporalField<T>(millisecond, String.valueOf(millisecond), MILLI_OF_SECOND, "millisecond", "S");
+	}
+
+	static <T extends TemporalAccessor> Matcher<T> isWeekday() {
+		return anyOf(TemporalMatchers.<T> sameDayOfWeek(Weekdays.MONDAY),
+				TemporalMatchers.<T> sameDayOfWeek(Weekdays.TUESDAY),
+				TemporalMatchers.<T> sameDayOfWeek(Weekdays.WEDNESDAY),
+				TemporalMatchers.<T> sameDayOfWeek(Weekdays.THURSDAY),
+				TemporalMatchers.<T> sameDayOfWeek(Weekdays.FRIDAY));
+	}
+
+	static <T extends TemporalAccessor> Matcher<T> isWeekend() {
+		return anyOf(TemporalMatchers.<T> sameDayOfWeek(Weekdays.SATURDAY), TemporalMatchers.<T> sameDayOfWeek(Weekdays.SUNDAY));
+	}
+
+	static <T extends TemporalAccessor> Matcher<T> isFirstDayOfMonth() {
+		return new IsSameTemporalField<T>(1, "1", DAY_OF_MONTH, "day of month", "d");
+	}
+
+	static <T extends TemporalAccessor> Matcher<T> isLastDayOfMonth() {
+		return new IsTemporalLastDayOfMonth<T>();
+	}
+
+	static <T extends TemporalAccessor> Matcher<T> isLeapYear() {
+		return new IsTemporalLeapYear<T>();
+	}
+}
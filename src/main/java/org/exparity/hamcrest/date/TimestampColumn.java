@@ -0,0 +1,281 @@
+package org.exparity.hamcrest.date;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.util.function.LongPredicate;
+
+/**
+ * A read-only column of epoch millisecond timestamps which can be examined by the bulk matchers in {@link DateMatchers} without copying the values onto the
+ * heap. A column can wrap a <code>long[]</code>, a {@link LongBuffer} or a heap, direct or memory-mapped {@link ByteBuffer} holding fixed width records in
+ * either byte order.
+ * <p/>
+ * A column reads from its own view of the buffer so the position, limit and order of the buffer passed in are not changed and reading the column from several
+ * threads at once is safe. The column covers the values between the position and limit of the buffer when the column is created.
+ *
+ * @author Stewart Bissett
+ */
+public abstract class TimestampColumn {
+
+	/**
+	 * Create a column over an array of epoch millisecond timestamps
+	 *
+	 * @param millis
+	 *            the epoch millisecond timestamps
+	 */
+	public static TimestampColumn of(final long[] millis) {
+		return new ArrayColumn(millis);
+	}
+
+	/**
+	 * Create a column over the remaining values in a buffer of epoch millisecond timestamps
+	 *
+	 * @param millis
+	 *            the epoch millisecond timestamps
+	 */
+	public static TimestampColumn of(final LongBuffer millis) {
+		return new LongBufferColumn(millis.slice());
+	}
+
+	/**
+	 * Create a column over the remaining bytes in a buffer of packed 8 byte epoch millisecond timestamps
+	 *
+	 * @param buffer
+	 *            the buffer holding the timestamps
+	 * @param order
+	 *            the byte order the timestamps are written in
+	 */
+	public static TimestampColumn of(final ByteBuffer buffer, final ByteOrder order) {
+		return of(buffer, order, 0, Long.BYTES);
+	}
+
+	/**
+	 * Create a column over the remaining bytes in a buffer of fixed width records, each holding an 8 byte epoch millisecond timestamp at the same offset
+	 * <p/>
+	 * For example, to read the timestamp from the second field of a buffer of 24 byte records:
+	 *
+	 * <pre>
+	 * TimestampColumn column = TimestampColumn.of(buffer, ByteOrder.LITTLE_ENDIAN, 8, 24);
+	 * </pre>
+	 *
+	 * @param buffer
+	 *            the buffer holding the records
+	 * @param order
+	 *            the byte order the timestamps are written in
+	 * @param offset
+	 *            the offset in bytes of the timestamp within each record
+	 * @param stride
+	 *            the width in bytes of each record
+	 */
+	public static TimestampColumn of(final ByteBuffer buffer, final ByteOrder order, final int offset, final int stride) {
+		if (stride < Long.BYTES) {
+			throw new IllegalArgumentException("Stride of " + stride + " bytes is too narrow to hold a timestamp");
+		}
+		if (offset < 0 || offset > stride - Long.BYTES) {
+			throw new IllegalArgumentException("Offset of " + offset + " bytes does not fit a timestamp within a stride of " + stride + " bytes");
+		}
+		return new ByteBufferColumn(buffer.slice().order(order), offset, stride);
+	}
+
+	TimestampColumn() {
+	}
+
+	/**
+	 * Return the number of timestamps in the column
+	 */
+	public abstract long size();
+
+	/**
+	 * Return the epoch millisecond timestamp at the index
+	 *
+	 * @param index
+	 *            the index of the timestamp, from 0 to one less than the size
+	 */
+	public abstract long get(long index);
+
+	/**
+	 * Return the number of timestamps in [from, to) accepted by the predicate
+	 */
+	long countMatches(final long from, final long to, final LongPredicate predicate) {
+		long count = 0;
+		for (long i = from; i < to; ++i) {
+			if (predicate.test(get(i))) {
+				++count;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Return the index of the first timestamp in [from, to) rejected by the predicate, or -1 if every timestamp is accepted
+	 */
+	long firstMismatch(final long from, final long to, final LongPredicate predicate) {
+		for (long i = from; i < to; ++i) {
+			if (!predicate.test(get(i))) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Return the number of timestamps in the column accepted by the predicate, counting in parallel once the column reaches the threshold
+	 */
+	long countMatches(final LongPredicate predicate, final long parallelThreshold) {
+		return ParallelScan.count(size(), new ParallelScan.RangeCount() {
+
+			public long count(final long from, final long to) {
+				return countMatches(from, to, predicate);
+			}
+		}, parallelThreshold);
+	}
+
+	/**
+	 * Return the index of the first timestamp in the column rejected by the predicate, or -1 if every timestamp is accepted, searching in parallel once the
+	 * column reaches the threshold
+	 */
+	long firstMismatch(final LongPredicate predicate, final long parallelThreshold) {
+		return ParallelScan.firstFailure(size(), new ParallelScan.RangeSearch() {
+
+			public long firstFailure(final long from, final long to) {
+				return firstMismatch(from, to, predicate);
+			}
+		}, parallelThreshold);
+	}
+
+	/**
+	 * Add the timestamps in [from, to) rejected by the predicate to the report and return it
+	 */
+	MismatchReport report(final long from, final long to, final LongPredicate predicate, final MismatchReport report) {
+		for (long i = from; i < to; ++i) {
+			long value = get(i);
+			if (!predicate.test(value)) {
+				report.mismatch(i, value);
+			}
+		}
+		report.examined(to - from);
+		return report;
+	}
+
+	/**
+	 * Return a report, like the empty template, of the timestamps in the column rejected by the predicate, examining the column in parallel once it
+	 * reaches the threshold
+	 */
+	MismatchReport report(final LongPredicate predicate, final MismatchReport template, final long parallelThreshold) {
+		return ParallelScan.reduce(size(), new ParallelScan.RangeReduce<MismatchReport>() {
+
+			public MismatchReport reduce(final long from, final long to) {
+				return report(from, to, predicate, template.emptyCopy());
+			}
+
+			public MismatchReport combine(final MismatchReport lower, final MismatchReport upper) {
+				return lower.append(upper);
+			}
+		}, parallelThreshold);
+	}
+
+	/**
+	 * A column over a <code>long[]</code>, evaluated with {@link BulkMatches}
+	 */
+	private static class ArrayColumn extends TimestampColumn {
+
+		private final long[] millis;
+
+		private ArrayColumn(final long[] millis) {
+			this.millis = millis;
+		}
+
+		@Override
+		public long size() {
+			return millis.length;
+		}
+
+		@Override
+		public long get(final long index) {
+			return millis[(int) index];
+		}
+
+		@Override
+		long countMatches(final long from, final long to, final LongPredicate predicate) {
+			return BulkMatches.countMatches(millis, (int) from, (int) to, predicate);
+		}
+
+		@Override
+		long firstMismatch(final long from, final long to, final LongPredicate predicate) {
+			return BulkMatches.firstMismatch(millis, (int) from, (int) to, predicate);
+		}
+	}
+
+	/**
+	 * A column over a {@link LongBuffer} read with absolute gets
+	 */
+	private static class LongBufferColumn extends TimestampColumn {
+
+		private final LongBuffer millis;
+
+		private LongBufferColumn(final LongBuffer millis) {
+			this.millis = millis;
+		}
+
+		@Override
+		public long size() {
+			return millis.limit();
+		}
+
+		@Override
+		public long get(final long index) {
+			return millis.get((int) index);
+		}
+	}
+
+	/**
+	 * A column over fixed width records in a {@link ByteBuffer} read with absolute gets in the buffer's byte order
+	 */
+	static class ByteBufferColumn extends TimestampColumn {
+
+		private final ByteBuffer buffer;
+		private final int offset;
+		private final int stride;
+		private final long size;
+
+		ByteBufferColumn(final ByteBuffer buffer, final int offset, final int stride) {
+			this.buffer = buffer;
+			this.offset = offset;
+			this.stride = stride;
+			this.size = buffer.limit() < offset + Long.BYTES ? 0 : (buffer.limit() - offset - Long.BYTES) / stride + 1;
+		}
+
+		@Override
+		public long size() {
+			return size;
+		}
+
+		@Override
+		public long get(final long index) {
+			return buffer.getLong(offset + (int) index * stride);
+		}
+
+		@Override
+		long firstMismatch(final long from, final long to, final LongPredicate predicate) {
+			int position = offset + (int) from * stride;
+			for (long i = from; i < to; ++i, position += stride) {
+				if (!predicate.test(buffer.getLong(position))) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		@Override
+		long countMatches(final long from, final long to, final LongPredicate predicate) {
+			long count = 0;
+			int position = offset + (int) from * stride;
+			for (long i = from; i < to; ++i, position += stride) {
+				if (predicate.test(buffer.getLong(position))) {
+					++count;
+				}
+			}
+			return count;
+		}
+	}
+}
@@ -0,0 +1,168 @@
+package org.exparity.hamcrest.date;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.LongPredicate;
+
+/**
+ * A {@link TimestampColumn} over a file of fixed width records, each holding an 8 byte epoch millisecond timestamp, which is memory-mapped rather than read
+ * onto the heap. Files larger than a single mapping are mapped as several read-only segments, each a whole number of records, so files of any size can be
+ * examined by the column matchers in {@link DateMatchers} and split across threads.
+ * <p/>
+ * For example, to verify a nightly event file and list the first offending records:
+ *
+ * <pre>
+ * TimestampFile events = TimestampFile.map(Paths.get(&quot;events.bin&quot;), ByteOrder.LITTLE_ENDIAN);
+ * MismatchReport report = reportMismatches(events, allOf(within(12, TimeUnit.HOURS, batchTime), isWeekday()), 10);
+ * for (long index : report.getMismatchIndices()) {
+ *     System.out.println(&quot;Bad timestamp at byte &quot; + events.byteOffsetOf(index));
+ * }
+ * </pre>
+ *
+ * The file channel is closed once the file is mapped. The mappings are released when the {@link TimestampFile} is garbage collected.
+ *
+ * @author Stewart Bissett
+ */
+public final class TimestampFile extends TimestampColumn {
+
+	private static final int SEGMENT_BYTES = 1 << 30;
+
+	/**
+	 * Map a file of packed 8 byte epoch millisecond timestamps
+	 *
+	 * @param file
+	 *            the file to map
+	 * @param order
+	 *            the byte order the timestamps are written in
+	 */
+	public static TimestampFile map(final Path file, final ByteOrder order) throws IOException {
+		return map(file, order, 0, Long.BYTES);
+	}
+
+	/**
+	 * Map a file of fixed width records, each holding an 8 byte epoch millisecond timestamp at the same offset. Any trailing bytes too short to hold the
+	 * timestamp of a further record are ignored.
+	 *
+	 * @param file
+	 *            the file to map
+	 * @param order
+	 *            the byte order the timestamps are written in
+	 * @param offset
+	 *            the offset in bytes of the timestamp within each record
+	 * @param stride
+	 *            the width in bytes of each record
+	 */
+	public static TimestampFile map(final Path file, final ByteOrder order, final int offset, final int stride) throws IOException {
+		return map(file, order, offset, stride, SEGMENT_BYTES);
+	}
+
+	static TimestampFile map(final Path file, final ByteOrder order, final int offset, final int stride, final int segmentBytes) throws IOException {
+		if (stride < Long.BYTES || stride > segmentBytes) {
+			throw new IllegalArgumentException("Stride of " + stride + " bytes is not a valid record width");
+		}
+		if (offset < 0 || offset > stride - Long.BYTES) {
+			throw new IllegalArgumentException("Offset of " + offset + " bytes does not fit a timestamp within a stride of " + stride + " bytes");
+		}
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			long length = channel.size();
+			long recordsPerSegment = segmentBytes / stride;
+			long segmentLength = recordsPerSegment * stride;
+			int segmentCount = (int) ((length + segmentLength - 1) / segmentLength);
+			ByteBufferColumn[] segments = new ByteBufferColumn[segmentCount];
+			for (int i = 0; i < segmentCount; ++i) {
+				long position = i * segmentLength;
+				segments[i] = new ByteBufferColumn(channel.map(MapMode.READ_ONLY, position, Math.min(segmentLength, length - position)).order(order), offset,
+						stride);
+			}
+			return new TimestampFile(segments, recordsPerSegment, offset, stride);
+		}
+	}
+
+	private final ByteBufferColumn[] segments;
+	private final long recordsPerSegment;
+	private final int offset;
+	private final int stride;
+	private final long size;
+
+	private TimestampFile(final ByteBufferColumn[] segments, final long recordsPerSegment, final int offset, final int stride) {
+		this.segments = segments;
+		this.recordsPerSegment = recordsPerSegment;
+		this.offset = offset;
+		this.stride = stride;
+		this.size = segments.length == 0 ? 0 : (segments.length - 1) * recordsPerSegment + segments[segments.length - 1].size();
+	}
+
+	@Override
+	public long size() {
+		return size;
+	}
+
+	@Override
+	public long get(final long index) {
+		return segments[(int) (index / recordsPerSegment)].get(index % recordsPerSegment);
+	}
+
+	/**
+	 * Return the position in the file of the first byte of the timestamp at the index
+	 *
+	 * @param index
+	 *            the index of the timestamp, from 0 to one less than the size
+	 */
+	public long byteOffsetOf(final long index) {
+		return index * stride + offset;
+	}
+
+	@Override
+	long countMatches(final long from, final long to, final LongPredicate predicate) {
+		long count = 0;
+		for (long start = from; start < to; start = nextSegmentStart(start)) {
+			long base = segmentStart(start), end = Math.min(to, nextSegmentStart(start));
+			count += segmentOf(start).countMatches(start - base, end - base, predicate);
+		}
+		return count;
+	}
+
+	@Override
+	long firstMismatch(final long from, final long to, final LongPredicate predicate) {
+		for (long start = from; start < to; start = nextSegmentStart(start)) {
+			long base = segmentStart(start), end = Math.min(to, nextSegmentStart(start));
+			long mismatch = segmentOf(start).firstMismatch(start - base, end - base, predicate);
+			if (mismatch >= 0) {
+				return base + mismatch;
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	MismatchReport report(final long from, final long to, final LongPredicate predicate, final MismatchReport report) {
+		for (long start = from; start < to; start = nextSegmentStart(start)) {
+			ByteBufferColumn segment = segmentOf(start);
+			long base = segmentStart(start), end = Math.min(to, nextSegmentStart(start));
+			for (long i = start - base; i < end - base; ++i) {
+				long value = segment.get(i);
+				if (!predicate.test(value)) {
+					report.mismatch(base + i, value);
+				}
+			}
+		}
+		report.examined(to - from);
+		return report;
+	}
+
+	private ByteBufferColumn segmentOf(final long index) {
+		return segments[(int) (index / recordsPerSegment)];
+	}
+
+	private long segmentStart(final long index) {
+		return index - index % recordsPerSegment;
+	}
+
+	private long nextSegmentStart(final long index) {
+		return segmentStart(index) + recordsPerSegment;
+	}
+}
@@ -0,0 +1,218 @@
+package org.exparity.hamcrest.date;
+
+import static org.exparity.hamcrest.date.DateFields.MILLIS_PER_DAY;
+import static org.exparity.hamcrest.date.DateFields.MILLIS_PER_HOUR;
+import static org.exparity.hamcrest.date.DateFields.MILLIS_PER_MINUTE;
+import static org.exparity.hamcrest.date.DateFields.MILLIS_PER_SECOND;
+import java.util.TimeZone;
+
+/**
+ * Parses the timestamp at the start of a piece of text directly into epoch milliseconds, reading the characters in place so no objects are created. Two
+ * layouts are recognised:
+ * <ul>
+ * <li>ISO-8601 date and time, e.g. <code>2012-01-01T11:00:00.000Z</code>, with a 'T' or space separator, optional seconds, an optional fraction separated
+ * by '.' or ',' of which the first three digits are used, and an optional 'Z' or numeric offset. Without an offset the time is local to the timezone
+ * supplied.</li>
+ * <li>The layout used in the mismatch descriptions of this library, <code>dd MMM yyyy HH:mm:ss SSS'ms' Z</code>, e.g.
+ * <code>01 Jan 2012 11:00:00 000ms +0000</code>, with English month abbreviations.</li>
+ * </ul>
+ * Leading spaces, tabs and an opening '[' are skipped. The timestamp must not be followed directly by another digit. Dates are in the proleptic Gregorian
+ * calendar.
+ *
+ * @author Stewart Bissett
+ */
+abstract class TimestampText {
+
+	/**
+	 * Returned when no timestamp can be parsed. The layouts cannot express this instant so it is never a parsed value.
+	 */
+	static final long NONE = Long.MIN_VALUE;
+
+	private static final String MONTH_ABBREVIATIONS = "janfebmaraprmayjunjulaugsepoctnovdec";
+
+	/**
+	 * Return the epoch milliseconds of the timestamp at the start of the text in [from, to), or {@link #NONE} if there is no timestamp
+	 */
+	static long parse(final CharSequence text, final int from, final int to, final TimeZone zone) {
+		int p = from;
+		while (p < to && (text.charAt(p) == ' ' || text.charAt(p) == '\t' || text.charAt(p) == '[')) {
+			++p;
+		}
+		if (p + 4 < to && text.charAt(p + 4) == '-') {
+			return parseIso(text, p, to, zone);
+		} else if (p + 2 < to && text.charAt(p + 2) == ' ') {
+			return parseFormatted(text, p, to);
+		}
+		return NONE;
+	}
+
+	private static long parseIso(final CharSequence text, int p, final int to, final TimeZone zone) {
+		int year = digits(text, p, 4, to);
+		if (year < 0 || !is(text, p + 4, to, '-')) {
+			return NONE;
+		}
+		int month = digits(text, p + 5, 2, to);
+		if (month < 0 || !is(text, p + 7, to, '-')) {
+			return NONE;
+		}
+		int day = digits(text, p + 8, 2, to);
+		if (day < 0 || !(is(text, p + 10, to, 'T') || is(text, p + 10, to, 't') || is(text, p + 10, to, ' '))) {
+			return NONE;
+		}
+		int hour = digits(text, p + 11, 2, to);
+		if (hour < 0 || !is(text, p + 13, to, ':')) {
+			return NONE;
+		}
+		int minute = digits(text, p + 14, 2, to);
+		if (minute < 0) {
+			return NONE;
+		}
+		p += 16;
+		int second = 0;
+		if (is(text, p, to, ':')) {
+			second = digits(text, p + 1, 2, to);
+			if (second < 0) {
+				return NONE;
+			}
+			p += 3;
+			if (is(text, p, to, '.') || is(text, p, to, ',')) {
+				int start = ++p, millis = 0;
+				for (; p < to && isDigit(text.charAt(p)); ++p) {
+					if (p - start < 3) {
+						millis = millis * 10 + text.charAt(p) - '0';
+					}
+				}
+				if (p == start) {
+					return NONE;
+				}
+				for (int n = p - start; n < 3; ++n) {
+					millis *= 10;
+				}
+				second = second * MILLIS_PER_SECOND + millis;
+			} else {
+				second *= MILLIS_PER_SECOND;
+			}
+		}
+		long local = localMillis(year, month, day, hour, minute, second);
+		if (local == NONE) {
+			return NONE;
+		}
+		if (is(text, p, to, 'Z') || is(text, p, to, 'z')) {
+			return followedByDigit(text, p + 1, to) ? NONE : local;
+		} else if (is(text, p, to, '+') || is(text, p, to, '-')) {
+			int sign = text.charAt(p) == '-' ? -1 : 1;
+			int offsetHours = digits(text, p + 1, 2, to), offsetMinutes = 0;
+			if (offsetHours < 0) {
+				return NONE;
+			}
+			p += 3;
+			if (is(text, p, to, ':')) {
+				++p;
+			}
+			if (digits(text, p, 2, to) >= 0) {
+				offsetMinutes = digits(text, p, 2, to);
+				p += 2;
+			}
+			if (offsetHours > 18 || offsetMinutes > 59 || followedByDigit(text, p, to)) {
+				return NONE;
+			}
+			return local - sign * (offsetHours * MILLIS_PER_HOUR + offsetMinutes * MILLIS_PER_MINUTE);
+		}
+		return followedByDigit(text, p, to) ? NONE : toUtc(local, zone);
+	}
+
+	private static long parseFormatted(final CharSequence text, final int p, final int to) {
+		int day = digits(text, p, 2, to);
+		int month = monthAbbreviation(text, p + 3, to);
+		if (day < 0 || month < 0 || !is(text, p + 6, to, ' ')) {
+			return NONE;
+		}
+		int year = digits(text, p + 7, 4, to);
+		if (year < 0 || !is(text, p + 11, to, ' ')) {
+			return NONE;
+		}
+		int hour = digits(text, p + 12, 2, to), minute = digits(text, p + 15, 2, to), second = digits(text, p + 18, 2, to);
+		if (hour < 0 || minute < 0 || second < 0 || !is(text, p + 14, to, ':') || !is(text, p + 17, to, ':') || !is(text, p + 20, to, ' ')) {
+			return NONE;
+		}
+		int millis = digits(text, p + 21, 3, to);
+		if (millis < 0 || !is(text, p + 24, to, 'm') || !is(text, p + 25, to, 's') || !is(text, p + 26, to, ' ')) {
+			return NONE;
+		}
+		int offsetHours = digits(text, p + 28, 2, to), offsetMinutes = digits(text, p + 30, 2, to);
+		if (!(is(text, p + 27, to, '+') || is(text, p + 27, to, '-')) || offsetHours < 0 || offsetMinutes < 0 || offsetMinutes > 59
+				|| followedByDigit(text, p + 32, to)) {
+			return NONE;
+		}
+		long local = localMillis(year, month, day, hour, minute, second * MILLIS_PER_SECOND + millis);
+		if (local == NONE) {
+			return NONE;
+		}
+		int sign = text.charAt(p + 27) == '-' ? -1 : 1;
+		return local - sign * (offsetHours * MILLIS_PER_HOUR + offsetMinutes * MILLIS_PER_MINUTE);
+	}
+
+	/**
+	 * Return the local epoch milliseconds of the fields, or {@link #NONE} if any field is out of range
+	 */
+	static long localMillis(final int year, final int month, final int day, final int hour, final int minute, final int millisOfMinute) {
+		if (month < 1 || month > 12 || day < 1 || day > DateFields.lengthOfMonth(year, month) || hour > 23 || minute > 59 || millisOfMinute >= 60000) {
+			return NONE;
+		}
+		return DateFields.epochDay(year, month, day) * MILLIS_PER_DAY + hour * MILLIS_PER_HOUR + minute * MILLIS_PER_MINUTE + millisOfMinute;
+	}
+
+	/**
+	 * Return the epoch milliseconds of the local time in the timezone
+	 */
+	static long toUtc(final long local, final TimeZone zone) {
+		int offset = zone.getOffset(local - zone.getRawOffset());
+		return local - zone.getOffset(local - offset);
+	}
+
+	/**
+	 * Return the value of the n digits starting at the position, or -1 if they are not all digits
+	 */
+	static int digits(final CharSequence text, final int p, final int n, final int to) {
+		if (p + n > to) {
+			return -1;
+		}
+		int value = 0;
+		for (int i = p; i < p + n; ++i) {
+			char c = text.charAt(i);
+			if (!isDigit(c)) {
+				return -1;
+			}
+			value = value * 10 + c - '0';
+		}
+		return value;
+	}
+
+	static boolean isDigit(final char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private static boolean is(final CharSequence text, final int p, final int to, final char expected) {
+		return p < to && text.charAt(p) == expected;
+	}
+
+	private static boolean followedByDigit(final CharSequence text, final int p, final int to) {
+		return p < to && isDigit(text.charAt(p));
+	}
+
+	static int monthAbbreviation(final CharSequence text, final int p, final int to) {
+		if (p + 3 > to) {
+			return -1;
+		}
+		for (int month = 0; month < 12; ++month) {
+			int i = 0;
+			while (i < 3 && Character.toLowerCase(text.charAt(p + i)) == MONTH_ABBREVIATIONS.charAt(month * 3 + i)) {
+				++i;
+			}
+			if (i == 3) {
+				return month + 1;
+			}
+		}
+		return -1;
+	}
+}
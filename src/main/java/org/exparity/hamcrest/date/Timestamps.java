@@ -0,0 +1,282 @@
+package org.exparity.hamcrest.date;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.RandomAccess;
+import java.util.function.LongPredicate;
+
+/**
+ * Adapts the sequences of dates examined by the sequence matchers, a <code>long[]</code> of epoch milliseconds, a <code>Date[]</code>, an
+ * {@link Iterable} of dates or a {@link TimestampColumn}, to a sequence of epoch milliseconds so each matcher is written once. Arrays, random access lists
+ * and columns support reading by index; other iterables are read in order.
+ * <p/>
+ * A null or non-date element cannot be represented as epoch milliseconds so reading one throws an {@link IllegalArgumentException} naming its index.
+ *
+ * @author Stewart Bissett
+ */
+abstract class Timestamps {
+
+	/**
+	 * A description of the types which can be adapted, for use in mismatch descriptions. These are the date sequences documented on
+	 * {@link DateMatchers}, which the sequence matchers link to rather than list them again.
+	 */
+	static final String SUPPORTED_TYPES = "a long[], Date[], Iterable of dates or TimestampColumn";
+
+	private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+	/**
+	 * Return the timestamps of the examined value, or null if it is not a supported sequence of dates
+	 */
+	static Timestamps of(final Object actual) {
+		if (actual instanceof long[]) {
+			return new ColumnTimestamps(TimestampColumn.of((long[]) actual));
+		} else if (actual instanceof TimestampColumn) {
+			return new ColumnTimestamps((TimestampColumn) actual);
+		} else if (actual instanceof Object[]) {
+			return new ArrayTimestamps((Object[]) actual);
+		} else if (actual instanceof List && actual instanceof RandomAccess) {
+			return new ListTimestamps((List<?>) actual);
+		} else if (actual instanceof Iterable) {
+			return new IterableTimestamps((Iterable<?>) actual);
+		}
+		return null;
+	}
+
+	/**
+	 * Return the number of timestamps, or -1 if it is not known without reading them
+	 */
+	abstract long size();
+
+	/**
+	 * Return true if {@link #get(long)} is supported
+	 */
+	abstract boolean isRandomAccess();
+
+	/**
+	 * Return the timestamp at the index
+	 */
+	abstract long get(long index);
+
+	/**
+	 * Return an iterator over the timestamps in order
+	 */
+	PrimitiveIterator.OfLong iterator() {
+		return new PrimitiveIterator.OfLong() {
+
+			private long index;
+
+			public boolean hasNext() {
+				return index < size();
+			}
+
+			public long nextLong() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return get(index++);
+			}
+		};
+	}
+
+	/**
+	 * Return a report, like the empty template, of the timestamps rejected by the predicate, examining random access timestamps in parallel once they
+	 * reach the threshold
+	 */
+	MismatchReport report(final LongPredicate predicate, final MismatchReport template, final long parallelThreshold) {
+		if (!isRandomAccess()) {
+			MismatchReport report = template.emptyCopy();
+			long index = 0;
+			for (PrimitiveIterator.OfLong millis = iterator(); millis.hasNext(); ++index) {
+				long value = millis.nextLong();
+				if (!predicate.test(value)) {
+					report.mismatch(index, value);
+				}
+			}
+			report.examined(index);
+			return report;
+		}
+		return ParallelScan.reduce(size(), new ParallelScan.RangeReduce<MismatchReport>() {
+
+			public MismatchReport reduce(final long from, final long to) {
+				MismatchReport report = template.emptyCopy();
+				for (long i = from; i < to; ++i) {
+					long value = get(i);
+					if (!predicate.test(value)) {
+						report.mismatch(i, value);
+					}
+				}
+				report.examined(to - from);
+				return report;
+			}
+
+			public MismatchReport combine(final MismatchReport lower, final MismatchReport upper) {
+				return lower.append(upper);
+			}
+		}, parallelThreshold);
+	}
+
+	/**
+	 * Return a new array of the timestamps in ascending order. The timestamps are copied in one pass which notes whether they are already in order, so
+	 * only unordered timestamps are sorted, in parallel for large arrays.
+	 */
+	long[] toSortedArray() {
+		long size = size();
+		if (size > MAX_ARRAY_SIZE) {
+			throw new IllegalArgumentException(size + " dates are too many to sort");
+		}
+		long[] sorted = new long[size < 0 ? 16 : (int) size];
+		int length = 0;
+		boolean inOrder = true;
+		for (PrimitiveIterator.OfLong millis = iterator(); millis.hasNext();) {
+			if (length == sorted.length) {
+				if (length == MAX_ARRAY_SIZE) {
+					throw new IllegalArgumentException("More than " + MAX_ARRAY_SIZE + " dates are too many to sort");
+				}
+				sorted = Arrays.copyOf(sorted, (int) Math.min(MAX_ARRAY_SIZE, 2L * length));
+			}
+			long value = millis.nextLong();
+			inOrder = inOrder && (length == 0 || sorted[length - 1] <= value);
+			sorted[length++] = value;
+		}
+		if (length < sorted.length) {
+			sorted = Arrays.copyOf(sorted, length);
+		}
+		if (!inOrder) {
+			Arrays.parallelSort(sorted);
+		}
+		return sorted;
+	}
+
+	static long millisOf(final Object element, final long index) {
+		if (element instanceof Date) {
+			return ((Date) element).getTime();
+		} else if (element == null) {
+			throw new IllegalArgumentException("null date at index " + index);
+		} else {
+			throw new IllegalArgumentException("element at index " + index + " is not a date");
+		}
+	}
+
+	private static class ColumnTimestamps extends Timestamps {
+
+		private final TimestampColumn column;
+
+		private ColumnTimestamps(final TimestampColumn column) {
+			this.column = column;
+		}
+
+		@Override
+		long size() {
+			return column.size();
+		}
+
+		@Override
+		boolean isRandomAccess() {
+			return true;
+		}
+
+		@Override
+		long get(final long index) {
+			return column.get(index);
+		}
+
+		@Override
+		MismatchReport report(final LongPredicate predicate, final MismatchReport template, final long parallelThreshold) {
+			return column.report(predicate, template, parallelThreshold);
+		}
+	}
+
+	private static class ArrayTimestamps extends Timestamps {
+
+		private final Object[] dates;
+
+		private ArrayTimestamps(final Object[] dates) {
+			this.dates = dates;
+		}
+
+		@Override
+		long size() {
+			return dates.length;
+		}
+
+		@Override
+		boolean isRandomAccess() {
+			return true;
+		}
+
+		@Override
+		long get(final long index) {
+			return millisOf(dates[(int) index], index);
+		}
+	}
+
+	private static class ListTimestamps extends Timestamps {
+
+		private final List<?> dates;
+
+		private ListTimestamps(final List<?> dates) {
+			this.dates = dates;
+		}
+
+		@Override
+		long size() {
+			return dates.size();
+		}
+
+		@Override
+		boolean isRandomAccess() {
+			return true;
+		}
+
+		@Override
+		long get(final long index) {
+			return millisOf(dates.get((int) index), index);
+		}
+	}
+
+	private static class IterableTimestamps extends Timestamps {
+
+		private final Iterable<?> dates;
+
+		private IterableTimestamps(final Iterable<?> dates) {
+			this.dates = dates;
+		}
+
+		@Override
+		long size() {
+			return dates instanceof Collection ? ((Collection<?>) dates).size() : -1;
+		}
+
+		@Override
+		boolean isRandomAccess() {
+			return false;
+		}
+
+		@Override
+		long get(final long index) {
+			throw new UnsupportedOperationException("Dates can only be read in order");
+		}
+
+		@Override
+		PrimitiveIterator.OfLong iterator() {
+			final Iterator<?> elements = dates.iterator();
+			return new PrimitiveIterator.OfLong() {
+
+				private long index;
+
+				public boolean hasNext() {
+					return elements.hasNext();
+				}
+
+				public long nextLong() {
+					return millisOf(elements.next(), index++);
+				}
+			};
+		}
+	}
+}
@@ -1,5 +1,6 @@
 package org.exparity.hamcrest.date;
 
+import java.time.DayOfWeek;
 import java.util.Calendar;
 
 /**
@@ -27,6 +28,10 @@ public enum Weekdays {
 		return calendarDay;
 	}
 
+	public DayOfWeek asDayOfWeek() {
+		return DayOfWeek.of(ordinal() + 1);
+	}
+
 	public String describe() {
 		return name().toLowerCase();
 	}
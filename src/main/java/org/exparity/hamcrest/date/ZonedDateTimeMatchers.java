@@ -0,0 +1,670 @@
+package org.exparity.hamcrest.date;
+
+import java.time.ZonedDateTime;
+import java.time.chrono.ChronoZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import org.hamcrest.Matcher;
+
+/**
+ * Static factory for creating {@link org.hamcrest.Matcher} instances for comparing {@link java.time.ZonedDateTime} instances. Date part matchers, e.g. sameDay, read the
+ * fields of the examined value in its own zone rather than the default timezone, and the ordering matchers compare the instant of each value. No
+ * {@link java.util.Date} is created for each examined value.
+ *
+ * @author Stewart Bissett
+ */
+public abstract class ZonedDateTimeMatchers {
+
+    /**
+     * Creates a matcher that matches when the examined date is after the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, after(ZonedDateTime.now()))
+     * </pre>
+     *
+     * @param date the reference date against which the examined date is checked
+     */
+    public static Matcher<ZonedDateTime> after(final ZonedDateTime date) {
+        return TemporalMatchers.after(date, ChronoZonedDateTime.timeLineOrder());
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is before the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, before(ZonedDateTime.now()))
+     * </pre>
+     *
+     * @param date the reference date against which the examined date is checked
+     */
+    public static Matcher<ZonedDateTime> before(final ZonedDateTime date) {
+        return TemporalMatchers.before(date, ChronoZonedDateTime.timeLineOrder());
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is the same as or after the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, sameOrAfter(ZonedDateTime.now()))
+     * </pre>
+     *
+     * @param date the reference date against which the examined date is checked
+     */
+    public static Matcher<ZonedDateTime> sameOrAfter(final ZonedDateTime date) {
+        return TemporalMatchers.sameOrAfter(date, ChronoZonedDateTime.timeLineOrder());
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is the same as or before the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, sameOrBefore(ZonedDateTime.now()))
+     * </pre>
+     *
+     * @param date the reference date against which the examined date is checked
+     */
+    public static Matcher<ZonedDateTime> sameOrBefore(final ZonedDateTime date) {
+        return TemporalMatchers.sameOrBefore(date, ChronoZonedDateTime.timeLineOrder());
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is within a given period of the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, within(10, ChronoUnit.MINUTES, ZonedDateTime.now()))
+     * </pre>
+     *
+     * @param period the timeunit interval the examined date should be with
+     * @param unit   the timeunit to define the length of the period
+     * @param date   the reference date against which the examined date is checked
+     */
+    public static Matcher<ZonedDateTime> within(final long period, final ChronoUnit unit, final ZonedDateTime date) {
+        return TemporalMatchers.within(period, unit, date);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same day as the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, sameDay(ZonedDateTime.now()))
+     * </pre>
+     *
+     * @param date the reference date against which the examined date is checked
+     */
+    public static Matcher<ZonedDateTime> sameDay(final ZonedDateTime date) {
+        return TemporalMatchers.sameDay(date);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same day of the week as the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, sameDayOfWeek(ZonedDateTime.now()))
+     * </pre>
+     *
+     * @param date the reference date against which the examined date is checked
+     */
+    public static Matcher<ZonedDateTime> sameDayOfWeek(final ZonedDateTime date) {
+        return TemporalMatchers.sameDayOfWeek(date);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same day of the week as the supplied day
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, sameDayOfWeek(Weekdays.MONDAY))
+     * </pre>
+     *
+     * @param weekday the reference weekday against which the examined date is checked
+     */
+    public static Matcher<ZonedDateTime> sameDayOfWeek(final Weekdays weekday) {
+        return TemporalMatchers.sameDayOfWeek(weekday);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same month as the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, sameMonth(ZonedDateTime.now()))
+     * </pre>
+     *
+     * @param date the reference date against which the examined date is checked
+     */
+    public static Matcher<ZonedDateTime> sameMonth(final ZonedDateTime date) {
+        return TemporalMatchers.sameMonth(date);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same month as the reference month
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, sameMonth(Months.DECEMBER))
+     * </pre>
+     *
+     * @param month the reference month against which the examined date is checked
+     */
+    public static Matcher<ZonedDateTime> sameMonth(final Months month) {
+        return TemporalMatchers.sameMonth(month);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same year as the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, sameYear(ZonedDateTime.now()))
+     * </pre>
+     *
+     * @param date the reference date against which the examined date is checked
+     */
+    public static Matcher<ZonedDateTime> sameYear(final ZonedDateTime date) {
+        return TemporalMatchers.sameYear(date);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same year as the reference year
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, sameYear(2013))
+     * </pre>
+     *
+     * @param year the reference year against which the examined date is checked
+     */
+    public static Matcher<ZonedDateTime> sameYear(final int year) {
+        return TemporalMatchers.sameYear(year);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same hour of the day as the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, sameHour(ZonedDateTime.now()))
+     * </pre>
+     *
+     * @param date the reference date against which the examined date is checked
+     */
+    public static Matcher<ZonedDateTime> sameHour(final ZonedDateTime date) {
+        return TemporalMatchers.sameHour(date);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same hour of the day as the reference hour
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, sameHour(12))
+     * </pre>
+     *
+     * @param hour the reference hour against which the examined date is checked
+     */
+    public static Matcher<ZonedDateTime> sameHour(final int hour) {
+        return TemporalMatchers.sameHour(hour);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same minute of the hour as the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, sameMinute(ZonedDateTime.now()))
+     * </pre>
+     *
+     * @param date the reference date against which the examined date is checked
+     */
+    public static Matcher<ZonedDateTime> sameMinute(final ZonedDateTime date) {
+        return TemporalMatchers.sameMinute(date);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same minute of the hour as the reference minute
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, sameMinute(30))
+     * </pre>
+     *
+     * @param minute the reference minute against which the examined date is checked
+     */
+    public static Matcher<ZonedDateTime> sameMinute(final int minute) {
+        return TemporalMatchers.sameMinute(minute);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same second of the minute as the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, sameSecond(ZonedDateTime.now()))
+     * </pre>
+     *
+     * @param date the reference date against which the examined date is checked
+     */
+    public static Matcher<ZonedDateTime> sameSecond(final ZonedDateTime date) {
+        return TemporalMatchers.sameSecond(date);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same second of the minute as the reference second
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, sameSecond(30))
+     * </pre>
+     *
+     * @param second the reference second against which the examined date is checked
+     */
+    public static Matcher<ZonedDateTime> sameSecond(final int second) {
+        return TemporalMatchers.sameSecond(second);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same millisecond of the second as the reference date
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, sameMillisecond(ZonedDateTime.now()))
+     * </pre>
+     *
+     * @param date the reference date against which the examined date is checked
+     */
+    public static Matcher<ZonedDateTime> sameMillisecond(final ZonedDateTime date) {
+        return TemporalMatchers.sameMillisecond(date);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the same millisecond of the second as the reference millisecond
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, sameMillisecond(999))
+     * </pre>
+     *
+     * @param millisecond the reference millisecond against which the examined date is checked
+     */
+    public static Matcher<ZonedDateTime> sameMillisecond(final int millisecond) {
+        return TemporalMatchers.sameMillisecond(millisecond);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is yesterday
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isYesterday());
+     * </pre>
+     */
+    public static Matcher<ZonedDateTime> isYesterday() {
+        return sameDay(ZonedDateTime.now().minusDays(1));
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is today
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isToday());
+     * </pre>
+     */
+    public static Matcher<ZonedDateTime> isToday() {
+        return sameDay(ZonedDateTime.now());
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is tomorrow
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isTomorrow());
+     * </pre>
+     */
+    public static Matcher<ZonedDateTime> isTomorrow() {
+        return sameDay(ZonedDateTime.now().plusDays(1));
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on a monday
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isMonday());
+     * </pre>
+     */
+    public static Matcher<ZonedDateTime> isMonday() {
+        return sameDayOfWeek(Weekdays.MONDAY);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on a tuesday
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isTuesday());
+     * </pre>
+     */
+    public static Matcher<ZonedDateTime> isTuesday() {
+        return sameDayOfWeek(Weekdays.TUESDAY);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on a wednesday
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isWednesday());
+     * </pre>
+     */
+    public static Matcher<ZonedDateTime> isWednesday() {
+        return sameDayOfWeek(Weekdays.WEDNESDAY);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on a thursday
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isThursday());
+     * </pre>
+     */
+    public static Matcher<ZonedDateTime> isThursday() {
+        return sameDayOfWeek(Weekdays.THURSDAY);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on a friday
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isFriday());
+     * </pre>
+     */
+    public static Matcher<ZonedDateTime> isFriday() {
+        return sameDayOfWeek(Weekdays.FRIDAY);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on a saturday
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isSaturday());
+     * </pre>
+     */
+    public static Matcher<ZonedDateTime> isSaturday() {
+        return sameDayOfWeek(Weekdays.SATURDAY);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on a sunday
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isSunday());
+     * </pre>
+     */
+    public static Matcher<ZonedDateTime> isSunday() {
+        return sameDayOfWeek(Weekdays.SUNDAY);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on a weekday
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isWeekday());
+     * </pre>
+     */
+    public static Matcher<ZonedDateTime> isWeekday() {
+        return TemporalMatchers.isWeekday();
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on a weekend
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isWeekend());
+     * </pre>
+     */
+    public static Matcher<ZonedDateTime> isWeekend() {
+        return TemporalMatchers.isWeekend();
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the first day of the month
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isFirstDayOfMonth());
+     * </pre>
+     */
+    public static Matcher<ZonedDateTime> isFirstDayOfMonth() {
+        return TemporalMatchers.isFirstDayOfMonth();
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is on the last day of the month
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isLastDayOfMonth());
+     * </pre>
+     */
+    public static Matcher<ZonedDateTime> isLastDayOfMonth() {
+        return TemporalMatchers.isLastDayOfMonth();
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is in January
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isJanuary());
+     * </pre>
+     */
+    public static Matcher<ZonedDateTime> isJanuary() {
+        return sameMonth(Months.JANUARY);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is in February
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isFebruary());
+     * </pre>
+     */
+    public static Matcher<ZonedDateTime> isFebruary() {
+        return sameMonth(Months.FEBRUARY);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is in March
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isMarch());
+     * </pre>
+     */
+    public static Matcher<ZonedDateTime> isMarch() {
+        return sameMonth(Months.MARCH);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is in April
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isApril());
+     * </pre>
+     */
+    public static Matcher<ZonedDateTime> isApril() {
+        return sameMonth(Months.APRIL);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is in May
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isMay());
+     * </pre>
+     */
+    public static Matcher<ZonedDateTime> isMay() {
+        return sameMonth(Months.MAY);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is in June
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isJune());
+     * </pre>
+     */
+    public static Matcher<ZonedDateTime> isJune() {
+        return sameMonth(Months.JUNE);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is in July
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isJuly());
+     * </pre>
+     */
+    public static Matcher<ZonedDateTime> isJuly() {
+        return sameMonth(Months.JULY);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is in August
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isAugust());
+     * </pre>
+     */
+    public static Matcher<ZonedDateTime> isAugust() {
+        return sameMonth(Months.AUGUST);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is in September
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isSeptember());
+     * </pre>
+     */
+    public static Matcher<ZonedDateTime> isSeptember() {
+        return sameMonth(Months.SEPTEMBER);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is in October
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isOctober());
+     * </pre>
+     */
+    public static Matcher<ZonedDateTime> isOctober() {
+        return sameMonth(Months.OCTOBER);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is in November
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isNovember());
+     * </pre>
+     */
+    public static Matcher<ZonedDateTime> isNovember() {
+        return sameMonth(Months.NOVEMBER);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is in December
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isDecember());
+     * </pre>
+     */
+    public static Matcher<ZonedDateTime> isDecember() {
+        return sameMonth(Months.DECEMBER);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined date is a leap year
+     * <p>
+     * For example:
+     * <p>
+     * <pre>
+     * assertThat(myDate, isLeapYear());
+     * </pre>
+     */
+    public static Matcher<ZonedDateTime> isLeapYear() {
+        return TemporalMatchers.isLeapYear();
+    }
+
+}
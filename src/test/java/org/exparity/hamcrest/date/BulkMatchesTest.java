@@ -0,0 +1,78 @@
+package org.exparity.hamcrest.date;
+
+import static org.exparity.hamcrest.date.DateMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import java.util.Date;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.exparity.hamcrest.date.testutils.Dates;
+import org.hamcrest.Matcher;
+import org.junit.Test;
+
+/**
+ * Unit Tests for the {@link BulkMatches} class
+ *
+ * @author Stewart Bissett
+ */
+public class BulkMatchesTest {
+
+	private static final long[] TIMESTAMPS = randomTimestamps(10003);
+
+	@Test
+	public void canCountIntervalMatches() {
+		assertCounts(within(365, TimeUnit.DAYS, Dates.JAN_1ST_2012_11_AM));
+		assertCounts(after(Dates.JAN_1ST_2012_11_AM));
+		assertCounts(before(Dates.JAN_1ST_2012_11_AM));
+		assertCounts(after(new Date(Long.MAX_VALUE)));
+		assertCounts(before(new Date(Long.MIN_VALUE)));
+		assertCounts(sameOrAfter(Dates.JAN_1ST_2012_11_AM));
+		assertCounts(sameOrBefore(Dates.JAN_1ST_2012_11_AM));
+	}
+
+	@Test
+	public void canCountDatePartMatches() {
+		assertCounts(isWeekend());
+		assertCounts(not(isWeekend()));
+	}
+
+	@Test
+	public void canCountExtremeValues() {
+		long[] extremes = { Long.MIN_VALUE, -1, 0, 1, Long.MAX_VALUE };
+		assertThat(countMatches(extremes, after(new Date(-1))), equalTo(3));
+		assertThat(countMatches(extremes, before(new Date(0))), equalTo(2));
+		assertThat(countMatches(extremes, within(1, TimeUnit.MILLISECONDS, new Date(0))), equalTo(3));
+	}
+
+	@Test
+	public void canFindTheFirstMismatch() {
+		long[] timestamps = { 0, 10, 20, 5, 30 };
+		assertThat(firstMismatch(timestamps, sameOrAfter(new Date(0))), equalTo(-1));
+		assertThat(firstMismatch(timestamps, after(new Date(0))), equalTo(0));
+		assertThat(firstMismatch(timestamps, within(10, TimeUnit.MILLISECONDS, new Date(10))), equalTo(4));
+		assertThat(firstMismatch(timestamps, not(sameInstant(new Date(0)))), equalTo(0));
+	}
+
+	private static void assertCounts(final Matcher<? super Date> matcher) {
+		int expected = 0, firstMismatch = -1;
+		for (int i = 0; i < TIMESTAMPS.length; ++i) {
+			if (matcher.matches(new Date(TIMESTAMPS[i]))) {
+				++expected;
+			} else if (firstMismatch < 0) {
+				firstMismatch = i;
+			}
+		}
+		assertThat(countMatches(TIMESTAMPS, matcher), equalTo(expected));
+		assertThat(firstMismatch(TIMESTAMPS, matcher), equalTo(firstMismatch));
+	}
+
+	private static long[] randomTimestamps(final int count) {
+		Random random = new Random(42);
+		long[] timestamps = new long[count];
+		for (int i = 0; i < count; ++i) {
+			timestamps[i] = Dates.JAN_1ST_2012_11_AM.getTime() + (long) (random.nextGaussian() * TimeUnit.DAYS.toMillis(365));
+		}
+		return timestamps;
+	}
+}
@@ -0,0 +1,108 @@
+package org.exparity.hamcrest.date;
+
+import static org.exparity.hamcrest.date.CalendarMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+/**
+ * Unit Tests for the {@link CalendarMatchers} class
+ *
+ * @author Stewart Bissett
+ */
+public class CalendarMatchersTest {
+
+	private static final TimeZone GMT = TimeZone.getTimeZone("GMT");
+	private static final TimeZone NEW_YORK = TimeZone.getTimeZone("America/New_York");
+
+	@Test
+	public void canCompareSameDayInOwnTimezone() {
+		Calendar newYork = aCalendar(2012, Calendar.JANUARY, 1, 23, NEW_YORK);
+		assertThat(newYork, sameDay(aCalendar(2012, Calendar.JANUARY, 1, 11, GMT)));
+		assertThat(newYork, isSunday());
+		assertThat(newYork, sameHour(23));
+	}
+
+	@Test(expected = AssertionError.class)
+	public void canCompareSameDayInDifferentYear() {
+		assertThat(aCalendar(2013, Calendar.JANUARY, 1, 11, GMT), sameDay(aCalendar(2012, Calendar.JANUARY, 1, 11, GMT)));
+	}
+
+	@Test
+	public void canCompareInstantsAcrossTimezones() {
+		Calendar newYork = aCalendar(2012, Calendar.JANUARY, 1, 23, NEW_YORK), london = aCalendar(2012, Calendar.JANUARY, 2, 4, GMT);
+		assertThat(london, sameOrAfter(newYork));
+		assertThat(london, sameOrBefore(newYork));
+		assertThat(london, within(0, TimeUnit.MILLISECONDS, newYork));
+	}
+
+	@Test(expected = AssertionError.class)
+	public void canCompareNotAfter() {
+		assertThat(aCalendar(2012, Calendar.JANUARY, 2, 4, GMT), after(aCalendar(2012, Calendar.JANUARY, 1, 23, NEW_YORK)));
+	}
+
+	@Test
+	public void canCompareBefore() {
+		assertThat(aCalendar(2012, Calendar.JANUARY, 1, 11, GMT), before(aCalendar(2012, Calendar.JANUARY, 1, 23, NEW_YORK)));
+	}
+
+	@Test
+	public void canCompareCalendarFields() {
+		Calendar leapDay = aCalendar(2012, Calendar.FEBRUARY, 29, 11, GMT);
+		assertThat(leapDay, isFebruary());
+		assertThat(leapDay, isLastDayOfMonth());
+		assertThat(leapDay, isLeapYear());
+		assertThat(leapDay, isWeekday());
+		assertThat(leapDay, sameYear(2012));
+		assertThat(aCalendar(2012, Calendar.MARCH, 1, 11, GMT), isFirstDayOfMonth());
+		assertThat(Calendar.getInstance(), isToday());
+	}
+
+	@Test
+	public void canCompareLeapYearInOtherCalendarSystems() {
+		Calendar buddhist = new Calendar.Builder().setCalendarType("buddhist").setInstant(aCalendar(2012, Calendar.FEBRUARY, 29, 11, GMT).getTime()).build();
+		assertThat(buddhist.get(Calendar.YEAR), equalTo(2555));
+		assertThat(buddhist, isLeapYear());
+		Calendar japanese = new Calendar.Builder().setCalendarType("japanese").setInstant(aCalendar(2012, Calendar.FEBRUARY, 29, 11, GMT).getTime()).build();
+		assertThat(japanese, isLeapYear());
+		assertThat(new Calendar.Builder().setCalendarType("japanese").setInstant(aCalendar(2013, Calendar.MARCH, 1, 11, GMT).getTime()).build(),
+				not(isLeapYear()));
+	}
+
+	@Test
+	public void canCompareLastDayOfMonthWithoutComputingTheFields() {
+		Calendar calendar = Calendar.getInstance(GMT);
+		calendar.clear();
+		calendar.set(2012, Calendar.FEBRUARY, 29);
+		assertThat(calendar, isLastDayOfMonth());
+		assertThat(calendar.isSet(Calendar.DAY_OF_WEEK), equalTo(false));
+	}
+
+	@Test(expected = AssertionError.class)
+	public void canCompareNotLastDayOfMonth() {
+		assertThat(aCalendar(2012, Calendar.FEBRUARY, 28, 11, GMT), isLastDayOfMonth());
+	}
+
+	@Test
+	public void canDescribeMismatchInOwnTimezone() {
+		try {
+			assertThat(aCalendar(2012, Calendar.JANUARY, 1, 23, NEW_YORK), sameHour(11));
+		} catch (AssertionError e) {
+			assertThat(e.getMessage(), equalTo("\nExpected: a hour of \"11\"\n     but: hour is \"23\""));
+			return;
+		}
+		throw new AssertionError("Expected mismatch");
+	}
+
+	private static Calendar aCalendar(final int year, final int month, final int day, final int hour, final TimeZone zone) {
+		Calendar calendar = new GregorianCalendar(zone);
+		calendar.clear();
+		calendar.set(year, month, day, hour, 0, 0);
+		return calendar;
+	}
+}
@@ -0,0 +1,120 @@
+package org.exparity.hamcrest.date;
+
+import static org.exparity.hamcrest.date.DateMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Date;
+import java.util.TimeZone;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit Tests for the {@link CsvTimestamps} class
+ *
+ * @author Stewart Bissett
+ */
+public class CsvTimestampsTest {
+
+	private static final Date START = new Date(Instant.parse("2012-01-01T00:00:00Z").toEpochMilli());
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void canReadNamedColumns() {
+		String csv = "id,created, updated \r\n1,2012-01-01T11:00:00Z,1325415600000\r\n2,\"2012-01-02T11:00:00Z\", 1325502000000 \r\n";
+		MismatchReport report = CsvTimestamps.columns("created", "updated").report(csv, after(START), 10);
+		assertThat(report.getExaminedCount(), equalTo(4L));
+		assertThat(report.isEmpty(), equalTo(true));
+	}
+
+	@Test
+	public void canReportTheRowAndRawText() {
+		String csv = "id,created\n1,2012-01-01T11:00:00Z\n\n3,\"2011-12-31T23:00:00Z\"\n4,unknown\n5\n";
+		MismatchReport report = CsvTimestamps.columns("created").report(csv, after(START), 10);
+		assertThat(report.getMismatchCount(), equalTo(3L));
+		assertThat(report.getMismatchIndices(), equalTo(new long[] { 4, 5, 6 }));
+		assertThat(report.getMismatchTexts(), equalTo(new String[] { "2011-12-31T23:00:00Z", "unknown", "" }));
+		assertThat(report.getMismatchValues()[1], equalTo(MismatchReport.UNPARSEABLE));
+	}
+
+	@Test
+	public void canReadIndexedColumnsWithADelimiterAndPattern() {
+		String csv = "a;\"x;y\";20120101 110000\nb;\"q\"\"r\";20111231 110000\n";
+		CsvTimestamps columns = CsvTimestamps.columns(2).delimitedBy(';').parsedAs(DatePattern.compile("yyyyMMdd HHmmss", TimeZone.getTimeZone("UTC")));
+		MismatchReport report = columns.report(csv, after(START), 10);
+		assertThat(report.getMismatchIndices(), equalTo(new long[] { 2 }));
+	}
+
+	@Test
+	public void canReadEpochSeconds() {
+		MismatchReport report = CsvTimestamps.columns(0).inEpochSeconds().report("1325415600\n1325372399\n", after(START), 10);
+		assertThat(report.getMismatchIndices(), equalTo(new long[] { 2 }));
+		assertThat(report.getMismatchValues(), equalTo(new long[] { 1325372399000L }));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void canRejectAMissingColumn() {
+		CsvTimestamps.columns("created").report("id,updated\n", after(START), 10);
+	}
+
+	@Test
+	public void canCountRowsAcrossParallelChunks() throws IOException {
+		Path file = write(csv(80000, 65432));
+		MismatchReport report = CsvTimestamps.columns("created").report(file, after(START), 10);
+		assertThat(report.getExaminedCount(), equalTo(80000L));
+		assertThat(report.getMismatchIndices(), equalTo(new long[] { 65434 }));
+		assertThat(CsvTimestamps.columns("created").report(csv(80000, 65432), after(START), 10).getMismatchIndices(), equalTo(new long[] { 65434 }));
+	}
+
+	@Test
+	public void canCountRowsAcrossMappedWindows() throws IOException {
+		String csv = csv(1000, 999);
+		MismatchReport report = CsvTimestamps.columns("created").report(write(csv), after(START), 10, 16);
+		assertThat(report.getExaminedCount(), equalTo(1000L));
+		assertThat(report.getMismatchIndices(), equalTo(new long[] { 1001 }));
+		MismatchReport withoutHeader = CsvTimestamps.columns(1).report(write(csv.substring(csv.indexOf('\n') + 1)), after(START), 10, 1);
+		assertThat(withoutHeader.getExaminedCount(), equalTo(1000L));
+		assertThat(withoutHeader.getMismatchIndices(), equalTo(new long[] { 1000 }));
+	}
+
+	@Test
+	public void canMatchEveryTimestampInAFile() throws IOException {
+		assertThat(write(csv(100, -1)), everyCsvTimestamp(CsvTimestamps.columns("created"), after(START)));
+	}
+
+	@Test
+	public void canDescribeTheFirstFailingRow() throws IOException {
+		Matcher<Path> matcher = everyCsvTimestamp(CsvTimestamps.columns("created"), after(START));
+		Path file = write(csv(100, 49));
+		assertThat(matcher.matches(file), equalTo(false));
+		StringDescription description = new StringDescription();
+		matcher.describeMismatch(file, description);
+		assertThat(description.toString(), startsWith("row 51 date is "));
+	}
+
+	private static String csv(final int rows, final int failingRow) {
+		StringBuilder csv = new StringBuilder("id,created,amount\n");
+		for (int i = 0; i < rows; ++i) {
+			long millis = START.getTime() + (i == failingRow ? -1000L : i * 1000L + 1);
+			csv.append(i).append(",").append(Instant.ofEpochMilli(millis)).append(",").append(i * 7).append(".50\n");
+		}
+		return csv.toString();
+	}
+
+	private Path write(final String text) throws IOException {
+		File file = folder.newFile();
+		Files.write(file.toPath(), text.getBytes(StandardCharsets.UTF_8));
+		return file.toPath();
+	}
+}
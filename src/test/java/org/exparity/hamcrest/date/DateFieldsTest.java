@@ -0,0 +1,61 @@
+package org.exparity.hamcrest.date;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import java.util.Calendar;
+import java.util.Random;
+import java.util.TimeZone;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit Tests for the {@link DateFields} class
+ *
+ * @author Stewart Bissett
+ */
+public class DateFieldsTest {
+
+	private static final int[] FIELDS = { Calendar.YEAR, Calendar.MONTH, Calendar.DAY_OF_MONTH, Calendar.DAY_OF_YEAR, Calendar.DAY_OF_WEEK,
+			Calendar.HOUR_OF_DAY, Calendar.MINUTE, Calendar.SECOND, Calendar.MILLISECOND };
+	private static final long YEAR_1500 = -14831769600000L, YEAR_2500 = 16725225600000L;
+
+	private TimeZone defaultZone;
+
+	@Before
+	public void rememberDefaultZone() {
+		defaultZone = TimeZone.getDefault();
+	}
+
+	@After
+	public void restoreDefaultZone() {
+		TimeZone.setDefault(defaultZone);
+	}
+
+	@Test
+	public void canExtractTheSameFieldsAsCalendar() {
+		for (String zone : new String[] { "UTC", "Europe/London", "America/New_York", "Asia/Kolkata", "Australia/Lord_Howe" }) {
+			TimeZone.setDefault(TimeZone.getTimeZone(zone));
+			DateFields fields = DateFields.forDefaultCalendar();
+			Random random = new Random(zone.hashCode());
+			for (int i = 0; i < 10000; ++i) {
+				long millis = YEAR_1500 + (long) (random.nextDouble() * (YEAR_2500 - YEAR_1500));
+				Calendar calendar = Calendar.getInstance();
+				calendar.setTimeInMillis(millis);
+				for (int field : FIELDS) {
+					assertThat(zone + " " + millis + " " + field, fields.get(millis, field), equalTo(calendar.get(field)));
+				}
+				assertThat(fields.getActualMaximum(millis, Calendar.DAY_OF_MONTH), equalTo(calendar.getActualMaximum(Calendar.DAY_OF_MONTH)));
+				assertThat(fields.getActualMinimum(millis, Calendar.DAY_OF_MONTH), equalTo(calendar.getActualMinimum(Calendar.DAY_OF_MONTH)));
+			}
+		}
+	}
+
+	@Test
+	public void canRoundTripEpochDays() {
+		for (long epochDay = -800000; epochDay < 800000; epochDay += 7) {
+			int year = DateFields.yearOfEpochDay(epochDay), month = DateFields.monthOfEpochDay(epochDay), day = DateFields.dayOfMonthOfEpochDay(epochDay);
+			assertThat(DateFields.epochDay(year, month, day), equalTo(epochDay));
+		}
+	}
+}
@@ -0,0 +1,93 @@
+package org.exparity.hamcrest.date;
+
+import static org.exparity.hamcrest.date.DateMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TimeZone;
+import org.exparity.hamcrest.date.testutils.Dates;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+/**
+ * Unit Tests for the {@link DatePattern} class
+ *
+ * @author Stewart Bissett
+ */
+public class DatePatternTest {
+
+	private static final String[] PATTERNS = { "yyyyMMdd HHmmss.SSS", "yyyy-MM-dd'T'HH:mm:ss.SSSZ", "dd/MM/yyyy HH:mm", "dd MMM yyyy HH:mm:ss SSS'ms' Z",
+			"yyyyMMdd", "HH:mm:ss" };
+
+	@Test
+	public void canAgreeWithSimpleDateFormat() throws ParseException {
+		Random random = new Random(35);
+		for (String zoneId : new String[] { "UTC", "Europe/London", "America/New_York", "Asia/Kolkata" }) {
+			TimeZone zone = TimeZone.getTimeZone(zoneId);
+			for (String pattern : PATTERNS) {
+				SimpleDateFormat format = new SimpleDateFormat(pattern, Locale.ENGLISH);
+				format.setTimeZone(zone);
+				DatePattern compiled = DatePattern.compile(pattern, zone);
+				for (int i = 0; i < 500; ++i) {
+					String text = format.format(new Date(Dates.JAN_1ST_2012_11_AM.getTime() + random.nextLong() % (50L * 365 * 86400000L)));
+					assertThat(pattern + " " + text, compiled.parse(text), equalTo(format.parse(text).getTime()));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void canReadQuotedLiterals() {
+		DatePattern pattern = DatePattern.compile("'at' HH 'o''clock'", TimeZone.getTimeZone("UTC"));
+		assertThat(pattern.length(), equalTo(13));
+		assertThat(pattern.parse("at 11 o'clock"), equalTo(11 * 3600000L));
+	}
+
+	@Test
+	public void canRejectMismatchedText() {
+		DatePattern pattern = DatePattern.compile("yyyyMMdd HHmmss.SSSZ");
+		for (String text : new String[] { "", "20120101 110000.000", "20120101 110000.000+00000", "20120101-110000.000+0000", "20121301 110000.000+0000",
+				"20120230 110000.000+0000", "20120101 240000.000+0000", "2012010a 110000.000+0000", "20120101 110000.000*0000",
+				"20120101 110000.000+1900" }) {
+			assertThat(text, pattern.matches(text), equalTo(false));
+		}
+		assertThat(pattern.matches("20120101 110000.000-0130"), equalTo(true));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void canRejectAVariableWidthField() {
+		DatePattern.compile("d/M/yyyy");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void canRejectAnUnterminatedQuote() {
+		DatePattern.compile("yyyy 'T");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void canRejectParsingMismatchedText() {
+		DatePattern.compile("yyyyMMdd").parse("2012-01-01");
+	}
+
+	@Test
+	public void canMatchParsedText() {
+		assertThat("20120101 110000.000+0000", parsedAs(DatePattern.compile("yyyyMMdd HHmmss.SSSZ"), sameInstant(Dates.JAN_1ST_2012_11_AM_GMT)));
+		assertThat("20120101 110000.000+0000", parsedAs("yyyyMMdd HHmmss.SSSZ", sameInstant(Dates.JAN_1ST_2012_11_AM_GMT)));
+	}
+
+	@Test(expected = AssertionError.class)
+	public void canFailParsedText() {
+		assertThat("20120101 110000.001+0000", parsedAs("yyyyMMdd HHmmss.SSSZ", sameInstant(Dates.JAN_1ST_2012_11_AM_GMT)));
+	}
+
+	@Test
+	public void canDescribeTextNotInThePattern() {
+		StringDescription description = new StringDescription();
+		parsedAs("yyyyMMdd", isWeekday()).describeMismatch("2012-01-01", description);
+		assertThat(description.toString(), equalTo("text \"2012-01-01\" is not in the pattern \"yyyyMMdd\""));
+	}
+}
@@ -0,0 +1,110 @@
+package org.exparity.hamcrest.date;
+
+import static org.exparity.hamcrest.date.DateMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
+import java.util.Date;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongPredicate;
+import java.util.stream.LongStream;
+import org.exparity.hamcrest.date.testutils.Dates;
+import org.hamcrest.Matcher;
+import org.junit.Test;
+
+/**
+ * Unit Tests for the {@link DatePredicates} class
+ *
+ * @author Stewart Bissett
+ */
+public class DatePredicatesTest {
+
+	private static final long JAN_1ST_2000 = 946684800000L, JAN_1ST_2030 = 1893456000000L;
+
+	@Test
+	public void canCompileInstantMatchers() {
+		assertAgrees(after(Dates.JAN_1ST_2012_11_AM));
+		assertAgrees(before(Dates.JAN_1ST_2012_11_AM));
+		assertAgrees(sameInstant(Dates.JAN_1ST_2012_11_AM));
+		assertAgrees(sameOrAfter(Dates.JAN_1ST_2012_11_AM));
+		assertAgrees(sameOrBefore(Dates.JAN_1ST_2012_11_AM));
+		assertAgrees(within(90, TimeUnit.DAYS, Dates.JAN_1ST_2012_11_AM));
+	}
+
+	@Test
+	public void canCompileDatePartMatchers() {
+		assertAgrees(sameDay(Dates.JAN_1ST_2012_11_AM));
+		assertAgrees(sameHour(11));
+		assertAgrees(sameMinute(30));
+		assertAgrees(sameSecond(30));
+		assertAgrees(sameMillisecond(500));
+		assertAgrees(sameMonth(Months.FEBRUARY));
+		assertAgrees(sameYear(2012));
+		assertAgrees(isWeekday());
+		assertAgrees(isWeekend());
+		assertAgrees(isFirstDayOfMonth());
+		assertAgrees(isLastDayOfMonth());
+		assertAgrees(isLeapYear());
+	}
+
+	@Test
+	public void canCompileInstantMatchersToRanges() {
+		assertThat(compile(within(1, TimeUnit.HOURS, Dates.JAN_1ST_2012_11_AM)), instanceOf(InstantRange.class));
+		assertThat(compile(after(new Date(Long.MAX_VALUE))).test(Long.MAX_VALUE), equalTo(false));
+		assertThat(compile(sameOrAfter(Dates.JAN_1ST_2012_11_AM)), instanceOf(InstantRange.class));
+		assertThat(compile(sameOrBefore(Dates.JAN_1ST_2012_11_AM)), instanceOf(InstantRange.class));
+		assertThat(compile(sameOrAfter(new Date(Long.MAX_VALUE))).test(Long.MAX_VALUE), equalTo(true));
+		assertThat(compile(sameOrBefore(new Date(Long.MIN_VALUE))).test(Long.MIN_VALUE), equalTo(true));
+	}
+
+	@Test
+	public void canCompileDayMatchersOnlyToPredicates() {
+		assertThat(compile(sameDay(Dates.JAN_1ST_2012_11_AM)), not(instanceOf(InstantRange.class)));
+		assertThat(compile(sameOrAfter(new DayMonthYear(1, Months.JANUARY, 2012))), not(instanceOf(InstantRange.class)));
+		assertAgrees(sameOrAfter(new DayMonthYear(1, Months.JANUARY, 2012)));
+		assertAgrees(sameOrBefore(new DayMonthYear(1, Months.JANUARY, 2012)));
+	}
+
+	@Test
+	public void canUniteInstantRanges() {
+		InstantRange union = InstantRange.union(new InstantRange(10, 20), InstantRange.empty(), new InstantRange(0, 9), new InstantRange(15, 30));
+		assertThat(union.getLower(), equalTo(0L));
+		assertThat(union.getUpper(), equalTo(30L));
+		assertThat(InstantRange.union(new InstantRange(0, 9), new InstantRange(11, 20)), equalTo(null));
+		assertThat(InstantRange.union(InstantRange.atOrAfter(0), InstantRange.after(Long.MAX_VALUE)).getUpper(), equalTo(Long.MAX_VALUE));
+	}
+
+	@Test
+	public void canAdaptForeignMatchers() {
+		LongPredicate predicate = compile(not(sameDay(Dates.JAN_1ST_2012_11_AM)));
+		assertThat(predicate.test(Dates.JAN_1ST_2012_11_AM.getTime()), equalTo(false));
+		assertThat(predicate.test(Dates.JAN_2ND_2012_11_AM.getTime()), equalTo(true));
+	}
+
+	@Test
+	public void canFilterALongStream() {
+		long weekdays = LongStream.range(0, 7).map(day -> Dates.JAN_1ST_2012_11_AM.getTime() + TimeUnit.DAYS.toMillis(day)).filter(compile(isWeekday())).count();
+		assertThat(weekdays, equalTo(5L));
+	}
+
+	private static void assertAgrees(final Matcher<Date> matcher) {
+		LongPredicate predicate = compile(matcher);
+		Random random = new Random(matcher.toString().hashCode());
+		int matched = 0;
+		for (int i = 0; i < 5000; ++i) {
+			long millis = JAN_1ST_2000 + (long) (random.nextDouble() * (JAN_1ST_2030 - JAN_1ST_2000));
+			boolean expected = matcher.matches(new Date(millis));
+			assertThat(matcher + " at " + millis, predicate.test(millis), equalTo(expected));
+			matched += expected ? 1 : 0;
+		}
+		for (long millis : new long[] { Dates.JAN_1ST_2012_11_AM.getTime() - 1, Dates.JAN_1ST_2012_11_AM.getTime(), Dates.JAN_1ST_2012_11_AM.getTime() + 1 }) {
+			boolean expected = matcher.matches(new Date(millis));
+			assertThat(matcher + " at " + millis, predicate.test(millis), equalTo(expected));
+			matched += expected ? 1 : 0;
+		}
+		assertThat(matched, greaterThan(0));
+	}
+}
@@ -0,0 +1,108 @@
+package org.exparity.hamcrest.date;
+
+import static org.exparity.hamcrest.date.DateMatchers.*;
+import static org.exparity.hamcrest.date.MatcherTestUtils.describeMismatch;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+/**
+ * Unit Tests for the {@link IsChronological} class
+ *
+ * @author Stewart Bissett
+ */
+public class IsChronologicalTest {
+
+	@Test
+	public void isChronological() {
+		assertThat(new long[] { 1, 2, 2, 3 }, DateMatchers.isChronological());
+		assertThat(new Date[] { new Date(1), new Date(1) }, DateMatchers.isChronological());
+		assertThat(new long[0], DateMatchers.isChronological());
+		assertThat(new long[] { 5 }, DateMatchers.isChronological());
+	}
+
+	@Test
+	public void isNotChronological() {
+		assertThat(new long[] { 1, 3, 2 }, not(DateMatchers.isChronological()));
+		assertThat(Arrays.asList(new Date(2), new Date(1)), not(DateMatchers.isChronological()));
+	}
+
+	@Test
+	public void isStrictlyIncreasing() {
+		assertThat(new long[] { 1, 2, 3 }, DateMatchers.isStrictlyIncreasing());
+		assertThat(new long[] { 1, 2, 2, 3 }, not(DateMatchers.isStrictlyIncreasing()));
+	}
+
+	@Test
+	public void isChronologicalWithin() {
+		assertThat(new long[] { 1000, 995, 1010 }, DateMatchers.isChronologicalWithin(5, TimeUnit.MILLISECONDS));
+		assertThat(new long[] { 1000, 994, 1010 }, not(DateMatchers.isChronologicalWithin(5, TimeUnit.MILLISECONDS)));
+		assertThat(new long[] { 10000, 8000 }, DateMatchers.isChronologicalWithin(2, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void canDescribeTheFirstInversion() {
+		String mismatch = describeMismatch(new long[] { 1, 5000, 2000, 1000 }, DateMatchers.isChronological());
+		assertThat(mismatch, equalTo("date at index 2 \"" + DateFormatter.formatDateWithMillis(new Date(2000)) + "\" is 3000 ms before the date before it \""
+				+ DateFormatter.formatDateWithMillis(new Date(5000)) + "\""));
+	}
+
+	@Test
+	public void canDescribeARepeatedDate() {
+		assertThat(describeMismatch(new long[] { 1, 2, 2 }, DateMatchers.isStrictlyIncreasing()), startsWith("date at index 2 "));
+		assertThat(describeMismatch(new long[] { 1, 2, 2 }, DateMatchers.isStrictlyIncreasing()),
+				equalTo("date at index 2 \"" + DateFormatter.formatDateWithMillis(new Date(2)) + "\" is the same as the date before it"));
+	}
+
+	@Test
+	public void canFindTheFirstInversionInParallel() {
+		long[] dates = new long[300000];
+		for (int i = 0; i < dates.length; ++i) {
+			dates[i] = i;
+		}
+		dates[250000] = 10;
+		dates[150000] = 10;
+		assertThat(describeMismatch(dates, DateMatchers.isChronological()), startsWith("date at index 150000 "));
+	}
+
+	@Test
+	public void canFindAnInversionOnAChunkBoundary() {
+		List<Date> dates = new ArrayList<Date>();
+		for (int i = 0; i < 300000; ++i) {
+			dates.add(new Date(i));
+		}
+		for (int boundary = 4096; boundary < dates.size(); boundary += 4096) {
+			dates.set(boundary, new Date(boundary - 2));
+			assertThat(describeMismatch(dates, DateMatchers.isStrictlyIncreasing()), startsWith("date at index " + boundary + " "));
+			dates.set(boundary, new Date(boundary));
+		}
+	}
+
+	@Test
+	public void canFindAnInversionInAnIterable() {
+		List<Date> dates = new LinkedList<Date>(Arrays.asList(new Date(1), new Date(3), new Date(2)));
+		assertThat(describeMismatch(dates, DateMatchers.isChronological()), startsWith("date at index 2 "));
+	}
+
+	@Test
+	public void canDescribeANullDate() {
+		assertThat(describeMismatch(Arrays.asList(new Date(1), null), DateMatchers.isChronological()), equalTo("null date at index 1"));
+	}
+
+	@Test
+	public void canDescribeTheMatcher() {
+		assertThat(StringDescription.toString(DateMatchers.isChronological()), equalTo("dates in chronological order"));
+		assertThat(StringDescription.toString(DateMatchers.isStrictlyIncreasing()), equalTo("dates in strictly increasing order"));
+		assertThat(StringDescription.toString(DateMatchers.isChronologicalWithin(5, TimeUnit.SECONDS)),
+				equalTo("dates in chronological order within 5 secs"));
+	}
+}
@@ -0,0 +1,75 @@
+package org.exparity.hamcrest.date;
+
+import static org.exparity.hamcrest.date.DateFormatter.formatDateWithMillis;
+import static org.exparity.hamcrest.date.DateMatchers.containsInAnyOrderWithin;
+import static org.exparity.hamcrest.date.MatcherTestUtils.describeMismatch;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+/**
+ * Unit Tests for the {@link IsContainingWithin} class
+ *
+ * @author Stewart Bissett
+ */
+public class IsContainingWithinTest {
+
+	@Test
+	public void isContainingWithin() {
+		assertThat(new long[] { 103, 0, 51 }, containsInAnyOrderWithin(new long[] { 50, 100, 2 }, 5, TimeUnit.MILLISECONDS));
+		assertThat(Arrays.asList(new Date(1000), new Date(3000)), containsInAnyOrderWithin(Arrays.asList(new Date(2900), new Date(1100)), 1,
+				TimeUnit.SECONDS));
+		assertThat(new long[0], containsInAnyOrderWithin(new long[0], 5, TimeUnit.MILLISECONDS));
+	}
+
+	@Test
+	public void isNotContainingWithin() {
+		assertThat(new long[] { 0, 51 }, not(containsInAnyOrderWithin(new long[] { 50, 100 }, 5, TimeUnit.MILLISECONDS)));
+		assertThat(new long[] { 0, 1 }, not(containsInAnyOrderWithin(new long[] { 0 }, 5, TimeUnit.MILLISECONDS)));
+		assertThat(new long[] { 0 }, not(containsInAnyOrderWithin(new long[] { 0, 1 }, 5, TimeUnit.MILLISECONDS)));
+	}
+
+	@Test
+	public void canPairAsManyDatesAsPossible() {
+		assertThat(new long[] { 4, 10 }, containsInAnyOrderWithin(new long[] { 0, 8 }, 4, TimeUnit.MILLISECONDS));
+		assertThat(new long[] { 0, 8 }, containsInAnyOrderWithin(new long[] { 4, 10 }, 4, TimeUnit.MILLISECONDS));
+	}
+
+	@Test
+	public void canPairLargeSequences() {
+		Random random = new Random(1);
+		long[] expected = new long[100000], actual = new long[expected.length];
+		for (int i = 0; i < expected.length; ++i) {
+			expected[i] = i * 20L;
+			actual[expected.length - 1 - i] = i * 20L + random.nextInt(11) - 5;
+		}
+		assertThat(actual, containsInAnyOrderWithin(expected, 5, TimeUnit.MILLISECONDS));
+		actual[0] += 20000000;
+		assertThat(actual, not(containsInAnyOrderWithin(expected, 5, TimeUnit.MILLISECONDS)));
+	}
+
+	@Test
+	public void canDescribeTheUnpairedDates() {
+		String mismatch = describeMismatch(new long[] { 0, 51, 200 }, containsInAnyOrderWithin(new long[] { 50, 100, 0, 150 }, 5, TimeUnit.MILLISECONDS));
+		assertThat(mismatch, equalTo("2 of 4 expected dates were not matched: \"" + formatDateWithMillis(new Date(100)) + "\", \""
+				+ formatDateWithMillis(new Date(150)) + "\"; 1 of 3 dates were not expected: \"" + formatDateWithMillis(new Date(200)) + "\""));
+	}
+
+	@Test
+	public void canDescribeANullDate() {
+		assertThat(describeMismatch(Arrays.asList(new Date(1), null), containsInAnyOrderWithin(new long[] { 1, 2 }, 5, TimeUnit.MILLISECONDS)),
+				equalTo("null date at index 1"));
+	}
+
+	@Test
+	public void canDescribeTheMatcher() {
+		assertThat(StringDescription.toString(containsInAnyOrderWithin(new long[] { 1000 }, 5, TimeUnit.SECONDS)),
+				equalTo("dates pairing in any order within 5 secs with the 1 dates \"" + formatDateWithMillis(new Date(1000)) + "\""));
+	}
+}
@@ -0,0 +1,82 @@
+package org.exparity.hamcrest.date;
+
+import static org.exparity.hamcrest.date.DateMatchers.coversEvery;
+import static org.exparity.hamcrest.date.MatcherTestUtils.describeMismatch;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import java.text.SimpleDateFormat;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+/**
+ * Unit Tests for the {@link IsCovering} class
+ *
+ * @author Stewart Bissett
+ */
+public class IsCoveringTest {
+
+	private static final long HOUR = 3600000L;
+
+	@Test
+	public void isCoveringEveryDay() {
+		List<Date> dates = new ArrayList<Date>();
+		for (int day = 1; day <= 30; ++day) {
+			dates.add(on(2015, Calendar.JUNE, day, day % 24));
+		}
+		assertThat(dates, coversEvery(ChronoUnit.DAYS, on(2015, Calendar.JUNE, 1, 0), on(2015, Calendar.JUNE, 30, 23)));
+		assertThat(dates, coversEvery(Calendar.DAY_OF_MONTH, on(2015, Calendar.JUNE, 10, 12), on(2015, Calendar.JUNE, 20, 12)));
+		assertThat(dates, not(coversEvery(ChronoUnit.DAYS, on(2015, Calendar.MAY, 31, 0), on(2015, Calendar.JUNE, 30, 0))));
+	}
+
+	@Test
+	public void isCoveringEveryHour() {
+		assertThat(new long[] { 5, HOUR + 5, 2 * HOUR + 5, 10 * HOUR }, coversEvery(ChronoUnit.HOURS, new Date(0), new Date(2 * HOUR)));
+		assertThat(new long[] { 5, 2 * HOUR + 5 }, not(coversEvery(Calendar.HOUR_OF_DAY, new Date(0), new Date(2 * HOUR))));
+	}
+
+	@Test
+	public void canDescribeTheMissingDays() {
+		List<Date> dates = Arrays.asList(on(2015, Calendar.JUNE, 1, 9), on(2015, Calendar.JUNE, 5, 9), on(2015, Calendar.JUNE, 7, 9));
+		String mismatch = describeMismatch(dates, coversEvery(ChronoUnit.DAYS, on(2015, Calendar.JUNE, 1, 0), on(2015, Calendar.JUNE, 7, 0)));
+		assertThat(mismatch, equalTo("missing 4 of 7 days: 02 Jun 2015 to 04 Jun 2015, 06 Jun 2015"));
+	}
+
+	@Test
+	public void canDescribeTheMissingHours() {
+		String mismatch = describeMismatch(new long[] { HOUR }, coversEvery(ChronoUnit.HOURS, new Date(0), new Date(3 * HOUR)));
+		SimpleDateFormat format = new SimpleDateFormat("dd MMM yyyy HH:mm Z");
+		assertThat(mismatch, equalTo("missing 3 of 4 hours: " + format.format(new Date(0)) + ", " + format.format(new Date(2 * HOUR)) + " to "
+				+ format.format(new Date(3 * HOUR))));
+	}
+
+	@Test
+	public void canDescribeANullDate() {
+		assertThat(describeMismatch(Arrays.asList(new Date(1), null), coversEvery(ChronoUnit.HOURS, new Date(0), new Date(0))),
+				equalTo("null date at index 1"));
+	}
+
+	@Test
+	public void canDescribeTheMatcher() {
+		assertThat(StringDescription.toString(coversEvery(ChronoUnit.DAYS, on(2015, Calendar.JUNE, 1, 0), on(2015, Calendar.JUNE, 30, 23))),
+				equalTo("dates covering every day from 01 Jun 2015 to 30 Jun 2015"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void canRejectAnUnsupportedUnit() {
+		coversEvery(ChronoUnit.WEEKS, new Date(0), new Date(0));
+	}
+
+	private static Date on(final int year, final int month, final int day, final int hour) {
+		Calendar calendar = Calendar.getInstance();
+		calendar.clear();
+		calendar.set(year, month, day, hour, 0);
+		return calendar.getTime();
+	}
+}
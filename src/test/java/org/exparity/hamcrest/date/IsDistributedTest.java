@@ -0,0 +1,112 @@
+package org.exparity.hamcrest.date;
+
+import static org.exparity.hamcrest.date.DateMatchers.*;
+import static org.exparity.hamcrest.date.MatcherTestUtils.describeMismatch;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.LinkedList;
+import java.util.List;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+/**
+ * Unit Tests for the {@link IsDistributed} class
+ *
+ * @author Stewart Bissett
+ */
+public class IsDistributedTest {
+
+	private static final Date MONDAY = on(2015, Calendar.JUNE, 1, 9), SATURDAY = on(2015, Calendar.JUNE, 6, 2), SUNDAY = on(2015, Calendar.JUNE, 7, 23),
+			DECEMBER = on(2015, Calendar.DECEMBER, 25, 12);
+
+	@Test
+	public void canCountOnWeekdays() {
+		List<Date> dates = Arrays.asList(MONDAY, SATURDAY, SUNDAY, DECEMBER);
+		assertThat(dates, countOn(equalTo(2L), Weekdays.SATURDAY, Weekdays.SUNDAY));
+		assertThat(dates, not(countOn(equalTo(0L), Weekdays.SATURDAY, Weekdays.SUNDAY)));
+		assertThat(dates, proportionOn(equalTo(0.5), Weekdays.SATURDAY, Weekdays.SUNDAY));
+		assertThat(dates, not(proportionOn(lessThan(0.02), Weekdays.SATURDAY, Weekdays.SUNDAY)));
+	}
+
+	@Test
+	public void canCountInHours() {
+		List<Date> dates = Arrays.asList(MONDAY, SATURDAY, SUNDAY, DECEMBER);
+		assertThat(dates, countInHours(equalTo(1L), 1, 3));
+		assertThat(dates, countInHours(equalTo(2L), 22, 3));
+		assertThat(dates, proportionInHours(equalTo(0.5), 8, 18));
+		assertThat(dates, not(countInHours(equalTo(0L), 1, 3)));
+	}
+
+	@Test
+	public void canCountInMonths() {
+		List<Date> dates = Arrays.asList(MONDAY, SATURDAY, SUNDAY, DECEMBER);
+		assertThat(dates, countIn(equalTo(1L), Months.DEC));
+		assertThat(dates, proportionIn(equalTo(0.75), Months.JUNE, Months.JULY));
+		assertThat(dates, not(proportionIn(greaterThan(0.8), Months.JUNE)));
+	}
+
+	@Test
+	public void canCountAnEmptySequence() {
+		assertThat(new long[0], proportionOn(equalTo(0.0), Weekdays.SATURDAY));
+	}
+
+	@Test
+	public void canCountAnIterable() {
+		assertThat(new LinkedList<Date>(Arrays.asList(SATURDAY, MONDAY)), countOn(equalTo(1L), Weekdays.MONDAY));
+	}
+
+	@Test
+	public void canCountALargeSequence() {
+		List<Date> dates = new ArrayList<Date>();
+		for (int i = 0; i < 100000; ++i) {
+			dates.add(i % 4 == 0 ? SATURDAY : MONDAY);
+		}
+		assertThat(dates, countOn(equalTo(25000L), Weekdays.SATURDAY));
+		assertThat(dates, proportionOn(equalTo(0.75), Weekdays.MONDAY));
+	}
+
+	@Test
+	public void canDescribeTheHistogram() {
+		String mismatch = describeMismatch(Arrays.asList(MONDAY, SATURDAY, SUNDAY), proportionOn(lessThan(0.02), Weekdays.SATURDAY, Weekdays.SUNDAY));
+		assertThat(mismatch, equalTo("proportion on saturday or sunday was 0.6667, 2 of 3 dates; by weekday: monday=1 saturday=1 sunday=1"));
+		mismatch = describeMismatch(Arrays.asList(MONDAY, SATURDAY), countInHours(equalTo(0L), 1, 3));
+		assertThat(mismatch, equalTo("count between 01:00 and 03:00 was 1 of 2 dates; by hour: 02=1 09=1"));
+	}
+
+	@Test
+	public void canDescribeANullDate() {
+		assertThat(describeMismatch(Arrays.asList(MONDAY, null), countOn(equalTo(0L), Weekdays.SUNDAY)), equalTo("null date at index 1"));
+	}
+
+	@Test
+	public void canDescribeTheMatcher() {
+		assertThat(StringDescription.toString(countIn(lessThan(3L), Months.DECEMBER)), equalTo("dates with a count in December which is a value less than <3L>"));
+		assertThat(StringDescription.toString(proportionInHours(greaterThan(0.9), 8, 18)),
+				equalTo("dates with a proportion between 08:00 and 18:00 which is a value greater than <0.9>"));
+		assertThat(StringDescription.toString(countInHours(equalTo(0L), 18, 24)), equalTo("dates with a count between 18:00 and 24:00 which is <0L>"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void canRejectAnHourOutOfRange() {
+		countInHours(equalTo(0L), 1, 25);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void canRejectAnEmptyRangeOfHours() {
+		countInHours(equalTo(0L), 8, 8);
+	}
+
+	private static Date on(final int year, final int month, final int day, final int hour) {
+		Calendar calendar = Calendar.getInstance();
+		calendar.clear();
+		calendar.set(year, month, day, hour, 0);
+		return calendar.getTime();
+	}
+}
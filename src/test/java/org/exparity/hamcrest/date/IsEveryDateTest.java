@@ -0,0 +1,94 @@
+package org.exparity.hamcrest.date;
+
+import static org.exparity.hamcrest.date.DateMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedList;
+import java.util.List;
+import org.exparity.hamcrest.date.testutils.Dates;
+import org.junit.Test;
+
+/**
+ * Unit Tests for the {@link IsEveryDate} class
+ *
+ * @author Stewart Bissett
+ */
+public class IsEveryDateTest {
+
+	@Test
+	public void canMatchEveryDate() {
+		assertThat(repeat(Dates.JAN_2ND_2012_11_AM, 100000), everyDate(isWeekday(), 1000));
+	}
+
+	@Test
+	public void canMatchEveryDateSequentially() {
+		assertThat(new LinkedList<Date>(repeat(Dates.JAN_2ND_2012_11_AM, 1000)), everyDate(isMonday()));
+	}
+
+	@Test
+	public void canMatchEveryDateInArray() {
+		assertThat(repeat(Dates.JAN_2ND_2012_11_AM, 100000).toArray(new Date[0]), everyDateInArray(sameDay(Dates.JAN_2ND_2012_11_AM), 1000));
+	}
+
+	@Test
+	public void canMatchEveryDateWithForeignMatcher() {
+		assertThat(repeat(Dates.JAN_2ND_2012_11_AM, 50000), everyDate(not(isWeekend()), 1000));
+	}
+
+	@Test(expected = AssertionError.class)
+	public void canDetectAMismatch() {
+		List<Date> dates = repeat(Dates.JAN_2ND_2012_11_AM, 100000);
+		dates.set(99999, Dates.JAN_1ST_2012_11_AM);
+		assertThat(dates, everyDate(isWeekday(), 1000));
+	}
+
+	@Test(expected = AssertionError.class)
+	public void canDetectANullDate() {
+		List<Date> dates = repeat(Dates.JAN_2ND_2012_11_AM, 100000);
+		dates.set(5000, null);
+		assertThat(dates, everyDate(isWeekday(), 1000));
+	}
+
+	@Test
+	public void canReportTheLowestMismatch() {
+		for (int attempt = 0; attempt < 20; ++attempt) {
+			List<Date> dates = repeat(Dates.JAN_2ND_2012_11_AM, 200000);
+			for (int i = 71234; i < 200000; i += 977) {
+				dates.set(i, Dates.JAN_1ST_2012_11_AM);
+			}
+			try {
+				assertThat(dates, everyDate(isWeekday(), 1000));
+			} catch (AssertionError e) {
+				assertThat(e.getMessage(), containsString("date at index 71234 "));
+				continue;
+			}
+			throw new AssertionError("Expected mismatch");
+		}
+	}
+
+	@Test
+	public void canReportTheMismatchInAnArray() {
+		Date[] dates = { Dates.JAN_2ND_2012_11_AM, Dates.JAN_3RD_2012_11_AM, Dates.JAN_1ST_2012_11_AM };
+		try {
+			assertThat(dates, everyDateInArray(isWeekday()));
+		} catch (AssertionError e) {
+			assertThat(e.getMessage(), containsString("Expected: every date is ("));
+			assertThat(e.getMessage(), containsString("but: date at index 2 "));
+			return;
+		}
+		throw new AssertionError("Expected mismatch");
+	}
+
+	private static List<Date> repeat(final Date date, final int count) {
+		return new ArrayList<Date>(Arrays.asList(fill(new Date[count], date)));
+	}
+
+	private static Date[] fill(final Date[] dates, final Date date) {
+		Arrays.fill(dates, date);
+		return dates;
+	}
+}
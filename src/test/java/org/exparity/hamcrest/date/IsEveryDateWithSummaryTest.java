@@ -0,0 +1,116 @@
+package org.exparity.hamcrest.date;
+
+import static org.exparity.hamcrest.date.DateMatchers.*;
+import static org.exparity.hamcrest.date.MatcherTestUtils.describeMismatch;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.LinkedList;
+import java.util.List;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+/**
+ * Unit Tests for the {@link IsEveryDateWithSummary} class
+ *
+ * @author Stewart Bissett
+ */
+public class IsEveryDateWithSummaryTest {
+
+	private static final Date EPOCH = new Date(0);
+
+	@Test
+	public void isEveryDateMatching() {
+		assertThat(new long[] { 1, 2, 3 }, everyDateWithSummary(after(EPOCH)));
+		assertThat(Arrays.asList(new Date(1), new Date(2)), everyDateWithSummary(after(EPOCH)));
+		assertThat(new long[0], everyDateWithSummary(after(EPOCH)));
+	}
+
+	@Test
+	public void canSummariseTheFirstMismatches() {
+		long[] dates = { 0, 1, -1, -2, 5, -3 };
+		String mismatch = describeMismatch(dates, everyDateWithSummary(after(EPOCH), 2, null));
+		assertThat(mismatch, startsWith("4 of 6 timestamps did not match: [0] "));
+		assertThat(mismatch, containsString(", [2] "));
+		assertThat(mismatch, containsString(", ..."));
+		assertThat(mismatch, not(containsString("[3]")));
+	}
+
+	@Test
+	public void canSummariseByWeekday() {
+		List<Date> dates = Arrays.asList(on(2015, Calendar.JUNE, 1, 9), on(2015, Calendar.JUNE, 6, 9), on(2015, Calendar.JUNE, 7, 9),
+				on(2015, Calendar.JUNE, 13, 9));
+		String mismatch = describeMismatch(dates, everyDateWithSummary(isWeekday(), 10, DateHistogram.WEEKDAY));
+		assertThat(mismatch, startsWith("3 of 4 timestamps did not match: [1] "));
+		assertThat(mismatch, containsString("; by weekday: saturday=2 sunday=1"));
+	}
+
+	@Test
+	public void canSummariseByHour() {
+		List<Date> dates = Arrays.asList(on(2015, Calendar.JUNE, 6, 9), on(2015, Calendar.JUNE, 6, 17), on(2015, Calendar.JUNE, 7, 9));
+		String mismatch = describeMismatch(dates, everyDateWithSummary(isWeekday(), 0, DateHistogram.HOUR));
+		assertThat(mismatch, equalTo("3 of 3 timestamps did not match, ...; by hour: 09=2 17=1"));
+	}
+
+	@Test
+	public void canSummariseALargeSequence() {
+		long[] dates = new long[200000];
+		for (int i = 0; i < dates.length; ++i) {
+			dates[i] = i % 1000 == 999 ? -i : i + 1;
+		}
+		String mismatch = describeMismatch(dates, everyDateWithSummary(after(EPOCH), 3, null));
+		assertThat(mismatch, startsWith("200 of 200000 timestamps did not match: [999] "));
+		assertThat(mismatch, containsString(", [1999] "));
+		assertThat(mismatch, containsString(", [2999] "));
+		assertThat(mismatch, containsString(", ..."));
+	}
+
+	@Test
+	public void canSummariseALargeList() {
+		List<Date> dates = new ArrayList<Date>();
+		for (int i = 0; i < 100000; ++i) {
+			dates.add(new Date(i == 70000 ? -1 : i + 1));
+		}
+		assertThat(describeMismatch(dates, everyDateWithSummary(after(EPOCH))), startsWith("1 of 100000 timestamps did not match: [70000] "));
+	}
+
+	@Test
+	public void canSummariseAnIterable() {
+		List<Date> dates = new LinkedList<Date>(Arrays.asList(new Date(1), new Date(-1), new Date(2)));
+		assertThat(describeMismatch(dates, everyDateWithSummary(after(EPOCH))), startsWith("1 of 3 timestamps did not match: [1] "));
+	}
+
+	@Test
+	public void canDescribeANullDate() {
+		List<Date> dates = Arrays.asList(new Date(1), null);
+		assertThat(describeMismatch(dates, everyDateWithSummary(after(EPOCH))), equalTo("null date at index 1"));
+	}
+
+	@Test
+	public void canDescribeAnUnsupportedType() {
+		assertThat(describeMismatch("2015-06-01", everyDateWithSummary(after(EPOCH))), equalTo("was not " + Timestamps.SUPPORTED_TYPES));
+	}
+
+	@Test
+	public void canDescribeTheMatcher() {
+		assertThat(StringDescription.toString(everyDateWithSummary(after(EPOCH))), startsWith("every date is the date is after "));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void canRejectANegativeLimit() {
+		everyDateWithSummary(after(EPOCH), -1, null);
+	}
+
+	private static Date on(final int year, final int month, final int day, final int hour) {
+		Calendar calendar = Calendar.getInstance();
+		calendar.clear();
+		calendar.set(year, month, day, hour, 0);
+		return calendar.getTime();
+	}
+}
@@ -0,0 +1,112 @@
+package org.exparity.hamcrest.date;
+
+import static org.exparity.hamcrest.date.DateMatchers.*;
+import static org.exparity.hamcrest.date.MatcherTestUtils.describeMismatch;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Date;
+import org.hamcrest.Matcher;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit Tests for the {@link IsEveryLineTimestamp} class
+ *
+ * @author Stewart Bissett
+ */
+public class IsEveryLineTimestampTest {
+
+	private static final Date START = new Date(Instant.parse("2012-01-01T00:00:00Z").toEpochMilli());
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void canMatchEveryLine() {
+		assertThat("2012-01-01T11:00:00Z one\r\n\r\n2012-01-01T12:00:00Z two\n", everyLineHasTimestamp(after(START)));
+	}
+
+	@Test(expected = AssertionError.class)
+	public void canFailALine() {
+		assertThat("2012-01-01T11:00:00Z one\n2011-01-01T12:00:00Z two", everyLineHasTimestamp(after(START)));
+	}
+
+	@Test
+	public void canDescribeTheFirstFailingLine() {
+		String text = "2012-01-01T11:00:00Z one\n\nno timestamp\n2011-01-01T12:00:00Z two\n";
+		assertThat(describeMismatch(text, everyLineHasTimestamp(after(START))),
+				equalTo("line 3 has no timestamp \"no timestamp\", 2 of 4 lines did not match"));
+	}
+
+	@Test
+	public void canCountLinesAcrossParallelChunks() {
+		String text = log(60000, 45678);
+		assertThat(describeMismatch(text, everyLineHasTimestamp(after(START))), startsWith("line 45679 date is "));
+		assertThat(text, everyLineHasTimestamp(sameOrAfter(new Date(0))));
+	}
+
+	@Test
+	public void canMatchEveryLineInAFile() throws IOException {
+		assertThat(write(log(1000, -1)), everyLineInFileHasTimestamp(after(START)));
+	}
+
+	@Test
+	public void canCountLinesAcrossParallelFileChunks() throws IOException {
+		Path file = write(log(60000, 59999));
+		assertThat(describeMismatch(file, everyLineInFileHasTimestamp(after(START))), startsWith("line 60000 date is "));
+		assertThat(describeMismatch(write(log(60000, 0)), everyLineInFileHasTimestamp(after(START))), startsWith("line 1 date is "));
+	}
+
+	@Test
+	public void canCountLinesAcrossMappedWindows() throws IOException {
+		Path file = write(log(1000, 999));
+		assertThat(describeMismatch(file, windowedFileMatcher(after(START), 16)), startsWith("line 1000 date is "));
+		assertThat(describeMismatch(file, windowedFileMatcher(after(START), 16)), endsWith(", 1 of 1000 lines did not match"));
+		assertThat(write(log(1000, -1)), windowedFileMatcher(after(START), 1));
+	}
+
+	@Test
+	public void canMatchAnEmptyFile() throws IOException {
+		assertThat(write(""), everyLineInFileHasTimestamp(after(START)));
+	}
+
+	@Test
+	public void canDescribeAMissingFile() {
+		Path missing = folder.getRoot().toPath().resolve("missing.log");
+		assertThat(describeMismatch(missing, everyLineInFileHasTimestamp(after(START))), startsWith("could not be read because "));
+	}
+
+	private static Matcher<Path> windowedFileMatcher(final Matcher<? super Date> matcher, final int windowSize) {
+		return new IsEveryLineTimestamp<Path>(matcher, Integer.MAX_VALUE, windowSize) {
+
+			@Override
+			LineScan scan(final Path actual) throws IOException {
+				return scanFile(actual);
+			}
+		};
+	}
+
+	private static String log(final int lines, final int failingLine) {
+		StringBuilder log = new StringBuilder();
+		for (int i = 0; i < lines; ++i) {
+			long millis = START.getTime() + (i == failingLine ? -1000L : i * 1000L + 1);
+			log.append(Instant.ofEpochMilli(millis)).append(" INFO request ").append(i).append(" completed\n");
+		}
+		return log.toString();
+	}
+
+	private Path write(final String text) throws IOException {
+		File file = folder.newFile();
+		Files.write(file.toPath(), text.getBytes(StandardCharsets.UTF_8));
+		return file.toPath();
+	}
+}
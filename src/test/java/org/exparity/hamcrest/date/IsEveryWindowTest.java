@@ -0,0 +1,102 @@
+package org.exparity.hamcrest.date;
+
+import static org.exparity.hamcrest.date.DateFormatter.formatDateWithMillis;
+import static org.exparity.hamcrest.date.DateMatchers.everyWindow;
+import static org.exparity.hamcrest.date.MatcherTestUtils.describeMismatch;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+/**
+ * Unit Tests for the {@link IsEveryWindow} class
+ *
+ * @author Stewart Bissett
+ */
+public class IsEveryWindowTest {
+
+	private static final long HOUR = 3600000L;
+
+	@Test
+	public void isEveryWindowMatching() {
+		assertThat(new long[] { 10, 20, 1010, 2500 }, everyWindow(1, TimeUnit.SECONDS, lessThanOrEqualTo(2L)));
+		assertThat(new long[] { 10, 1010, 2500 }, everyWindow(1, TimeUnit.SECONDS, greaterThan(0L)));
+		assertThat(Arrays.asList(new Date(0), new Date(HOUR + 5)), everyWindow(1, TimeUnit.HOURS, new Date(0), new Date(2 * HOUR), greaterThan(0L)));
+		assertThat(new long[0], everyWindow(1, TimeUnit.SECONDS, greaterThan(0L)));
+	}
+
+	@Test
+	public void isNotEveryWindowMatching() {
+		assertThat(new long[] { 10, 20, 30, 1010 }, not(everyWindow(1, TimeUnit.SECONDS, lessThanOrEqualTo(2L))));
+		assertThat(new long[] { 10, 2500 }, not(everyWindow(1, TimeUnit.SECONDS, greaterThan(0L))));
+		assertThat(new long[] { 5 }, not(everyWindow(1, TimeUnit.HOURS, new Date(0), new Date(2 * HOUR), greaterThan(0L))));
+	}
+
+	@Test
+	public void canIgnoreDatesOutsideTheRange() {
+		assertThat(new long[] { -1, 5, 5, HOUR }, everyWindow(1, TimeUnit.HOURS, new Date(0), new Date(HOUR), lessThanOrEqualTo(2L)));
+	}
+
+	@Test
+	public void canCutTheLastWindowShortAtTheEndOfTheRange() {
+		Date from = new Date(0), to = new Date(HOUR + HOUR / 2);
+		assertThat(new long[] { 5, HOUR + 5, HOUR + HOUR * 2 / 3 }, everyWindow(1, TimeUnit.HOURS, from, to, lessThanOrEqualTo(1L)));
+		assertThat(new long[] { 5, HOUR + HOUR * 2 / 3 }, not(everyWindow(1, TimeUnit.HOURS, from, to, greaterThan(0L))));
+		assertThat(new long[] { 5, 4 * HOUR }, everyWindow(1, TimeUnit.HOURS, new Date(0), new Date(1), lessThanOrEqualTo(1L)));
+	}
+
+	@Test
+	public void canCountDatesAtTheExtremesOfTime() {
+		assertThat(new long[] { Long.MIN_VALUE, Long.MAX_VALUE }, everyWindow(1, TimeUnit.HOURS, new Date(0), new Date(HOUR), equalTo(0L)));
+		assertThat(new long[] { Long.MIN_VALUE, Long.MAX_VALUE }, not(everyWindow(1, TimeUnit.MILLISECONDS, greaterThan(0L))));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void canRejectARangeTooLongToCount() {
+		everyWindow(1, TimeUnit.HOURS, new Date(Long.MIN_VALUE), new Date(Long.MAX_VALUE), greaterThan(0L));
+	}
+
+	@Test
+	public void canSummariseTheFailedWindows() {
+		String mismatch = describeMismatch(new long[] { 5, 3 * HOUR + 5 }, everyWindow(1, TimeUnit.HOURS, new Date(0), new Date(5 * HOUR), greaterThan(0L)));
+		assertThat(mismatch, equalTo("3 of 5 windows did not match: 2 windows from \"" + formatDateWithMillis(new Date(HOUR)) + "\" had 0, \""
+				+ formatDateWithMillis(new Date(4 * HOUR)) + "\" had 0"));
+	}
+
+	@Test
+	public void canCountWindowsTooManyForAnArray() {
+		long windows = IsEveryWindow.DENSE_LIMIT * 2L;
+		long[] dates = { 7, 7, 3, windows - 1 };
+		assertThat(dates, everyWindow(1, TimeUnit.MILLISECONDS, lessThanOrEqualTo(2L)));
+		String mismatch = describeMismatch(dates, everyWindow(1, TimeUnit.MILLISECONDS, greaterThan(0L)));
+		assertThat(mismatch, equalTo((windows - 6) + " of " + (windows - 3) + " windows did not match: 3 windows from \""
+				+ formatDateWithMillis(new Date(4)) + "\" had 0, " + (windows - 9) + " windows from \"" + formatDateWithMillis(new Date(8)) + "\" had 0"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void canRejectARangeWithoutAnEnd() {
+		everyWindow(1, TimeUnit.HOURS, new Date(0), null, greaterThan(0L));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void canRejectARangeWithoutAStart() {
+		everyWindow(1, TimeUnit.HOURS, null, new Date(0), greaterThan(0L));
+	}
+
+	@Test
+	public void canDescribeANullDate() {
+		assertThat(describeMismatch(Arrays.asList(new Date(1), null), everyWindow(1, TimeUnit.SECONDS, greaterThan(0L))), equalTo("null date at index 1"));
+	}
+
+	@Test
+	public void canDescribeTheMatcher() {
+		assertThat(StringDescription.toString(everyWindow(1, TimeUnit.MINUTES, lessThanOrEqualTo(10L))),
+				equalTo("every 1 mins window has a count of dates which is a value less than or equal to <10L>"));
+	}
+}
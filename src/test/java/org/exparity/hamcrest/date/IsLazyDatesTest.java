@@ -0,0 +1,76 @@
+package org.exparity.hamcrest.date;
+
+import static org.exparity.hamcrest.date.DateMatchers.*;
+import static org.exparity.hamcrest.date.MatcherTestUtils.describeMismatch;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+/**
+ * Unit Tests for the {@link IsLazyDates} class
+ *
+ * @author Stewart Bissett
+ */
+public class IsLazyDatesTest {
+
+	@Test
+	public void canMatchEveryDateInAStream() {
+		assertThat(Stream.of(new Date(1), new Date(2)), everyDateInStream(after(new Date(0))));
+	}
+
+	@Test(expected = AssertionError.class)
+	public void canFailEveryDateInAStream() {
+		assertThat(Stream.of(new Date(1), new Date(0)), everyDateInStream(after(new Date(0))));
+	}
+
+	@Test
+	public void canStopAtTheFirstMismatchInAnInfiniteStream() {
+		AtomicLong generated = new AtomicLong();
+		Stream<Date> dates = Stream.iterate(0L, i -> i + 1).map(i -> new Date(1000 - i)).peek(d -> generated.incrementAndGet());
+		String mismatch = describeMismatch(dates, everyDateInStream(after(new Date(0))));
+		assertThat(mismatch, startsWith("date at index 1000 "));
+		assertThat(generated.get(), equalTo(1001L));
+	}
+
+	@Test
+	public void canStopAtTheFirstMatchInAnInfiniteIterator() {
+		Iterator<Date> dates = Stream.iterate(0L, i -> i + 1).map(Date::new).iterator();
+		assertThat(dates, anyDateInIterator(sameInstant(new Date(5000))));
+		assertThat(dates.next(), equalTo(new Date(5001)));
+	}
+
+	@Test
+	public void canMatchEveryDateFromAnIteratorAndSpliterator() {
+		assertThat(Arrays.asList(new Date(1), new Date(2)).iterator(), everyDateInIterator(after(new Date(0))));
+		assertThat(Arrays.asList(new Date(1), new Date(2)).spliterator(), everyDateInSpliterator(after(new Date(0))));
+		assertThat(Arrays.asList(new Date(0), new Date(2)).spliterator(), anyDateInSpliterator(after(new Date(1))));
+	}
+
+	@Test
+	public void canDescribeWhenNoDateMatches() {
+		assertThat(describeMismatch(Stream.of(new Date(1), new Date(2), new Date(3)), anyDateInStream(after(new Date(5)))),
+				equalTo("none of 3 dates matched"));
+	}
+
+	@Test
+	public void canMatchAnEmptyStream() {
+		assertThat(Stream.<Date> empty(), everyDateInStream(isWeekday()));
+		assertThat(describeMismatch(Stream.<Date> empty(), anyDateInStream(isWeekday())), equalTo("none of 0 dates matched"));
+	}
+
+	@Test
+	public void canDescribeAConsumedStream() {
+		Stream<Date> dates = Stream.of(new Date(0));
+		dates.count();
+		StringDescription description = new StringDescription();
+		everyDateInStream(isWeekday()).describeMismatch(dates, description);
+		assertThat(description.toString(), startsWith("could not be read because "));
+	}
+}
@@ -0,0 +1,83 @@
+package org.exparity.hamcrest.date;
+
+import static org.exparity.hamcrest.date.DateFormatter.formatDateWithMillis;
+import static org.exparity.hamcrest.date.DateMatchers.pairwiseWithin;
+import static org.exparity.hamcrest.date.MatcherTestUtils.describeMismatch;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+/**
+ * Unit Tests for the {@link IsPairwiseWithin} class
+ *
+ * @author Stewart Bissett
+ */
+public class IsPairwiseWithinTest {
+
+	@Test
+	public void isPairwiseWithin() {
+		assertThat(new long[] { 1000, 2005, 2995 }, pairwiseWithin(new long[] { 1000, 2000, 3000 }, 5, TimeUnit.MILLISECONDS));
+		assertThat(Arrays.asList(new Date(1000), new Date(2000)), pairwiseWithin(Arrays.asList(new Date(1500), new Date(2900)), 1, TimeUnit.SECONDS));
+		assertThat(new LinkedList<Date>(Arrays.asList(new Date(1000))), pairwiseWithin(new long[] { 1001 }, 1, TimeUnit.MILLISECONDS));
+		assertThat(new long[0], pairwiseWithin(new long[0], 5, TimeUnit.MILLISECONDS));
+	}
+
+	@Test
+	public void isNotPairwiseWithin() {
+		assertThat(new long[] { 1000, 2006 }, not(pairwiseWithin(new long[] { 1000, 2000 }, 5, TimeUnit.MILLISECONDS)));
+		assertThat(new long[] { 2000, 1000 }, not(pairwiseWithin(new long[] { 1000, 2000 }, 5, TimeUnit.MILLISECONDS)));
+	}
+
+	@Test
+	public void canDescribeTheFurthestPair() {
+		String mismatch = describeMismatch(new long[] { 1000, 2010, 2900, 4020 }, pairwiseWithin(new long[] { 1000, 2000, 3000, 4000 }, 5,
+				TimeUnit.MILLISECONDS));
+		assertThat(mismatch, equalTo("3 of 4 dates were not within 5 ms of the expected date, the furthest at index 2 \"" + formatDateWithMillis(new Date(2900))
+				+ "\" was 100 ms from \"" + formatDateWithMillis(new Date(3000)) + "\""));
+		mismatch = describeMismatch(new long[] { 1000, 4000 }, pairwiseWithin(new long[] { 1000, 2000 }, 1, TimeUnit.SECONDS));
+		assertThat(mismatch, startsWith("1 of 2 dates were not within 1 secs of the expected date, the furthest at index 1 "));
+	}
+
+	@Test
+	public void canDescribeTheFurthestPairOfALargeSequence() {
+		List<Date> expected = new ArrayList<Date>(), actual = new ArrayList<Date>();
+		for (int i = 0; i < 200000; ++i) {
+			expected.add(new Date(i * 10L));
+			actual.add(new Date(i * 10L + (i % 1000 == 0 ? 7 : 1)));
+		}
+		actual.set(150001, new Date(150001 * 10L - 50));
+		actual.set(190001, new Date(190001 * 10L + 50));
+		assertThat(actual, pairwiseWithin(expected, 50, TimeUnit.MILLISECONDS));
+		String mismatch = describeMismatch(actual, pairwiseWithin(expected, 5, TimeUnit.MILLISECONDS));
+		assertThat(mismatch.substring(0, mismatch.indexOf('"')), equalTo("202 of 200000 dates were not within 5 ms of the expected date, the furthest at index 150001 "));
+	}
+
+	@Test
+	public void canDescribeADifferentNumberOfDates() {
+		assertThat(describeMismatch(new long[] { 1000 }, pairwiseWithin(new long[] { 1000, 2000 }, 5, TimeUnit.MILLISECONDS)),
+				equalTo("had 1 dates but 2 were expected"));
+		Iterable<Date> unsized = () -> Arrays.asList(new Date(1000), new Date(2000), new Date(3000)).iterator();
+		assertThat(describeMismatch(unsized, pairwiseWithin(new long[] { 1000, 2000 }, 5, TimeUnit.MILLISECONDS)), equalTo("had more than 2 dates but 2 were expected"));
+	}
+
+	@Test
+	public void canDescribeANullDate() {
+		assertThat(describeMismatch(Arrays.asList(new Date(1), null), pairwiseWithin(new long[] { 1, 2 }, 5, TimeUnit.MILLISECONDS)),
+				equalTo("null date at index 1"));
+	}
+
+	@Test
+	public void canDescribeTheMatcher() {
+		assertThat(StringDescription.toString(pairwiseWithin(new long[] { 1, 2 }, 1, TimeUnit.SECONDS)),
+				equalTo("2 dates each within 1 secs of the expected date at the same index"));
+	}
+}
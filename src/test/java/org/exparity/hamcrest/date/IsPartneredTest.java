@@ -0,0 +1,75 @@
+package org.exparity.hamcrest.date;
+
+import static org.exparity.hamcrest.date.DateFormatter.formatDateWithMillis;
+import static org.exparity.hamcrest.date.DateMatchers.eachHasDistinctPartnerIn;
+import static org.exparity.hamcrest.date.DateMatchers.eachHasPartnerIn;
+import static org.exparity.hamcrest.date.MatcherTestUtils.describeMismatch;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+/**
+ * Unit Tests for the {@link IsPartnered} class
+ *
+ * @author Stewart Bissett
+ */
+public class IsPartneredTest {
+
+	@Test
+	public void hasAPartner() {
+		assertThat(new long[] { 1000, 5000 }, eachHasPartnerIn(new long[] { 6500, 2000 }, 0, 2, TimeUnit.SECONDS));
+		assertThat(new long[] { 1000, 1500 }, eachHasPartnerIn(new long[] { 2000 }, 0, 2, TimeUnit.SECONDS));
+		assertThat(Arrays.asList(new Date(1000)), eachHasPartnerIn(Arrays.asList(new Date(900)), 100, 0, TimeUnit.MILLISECONDS));
+		assertThat(new long[0], eachHasPartnerIn(new long[0], 0, 2, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void hasNoPartner() {
+		assertThat(new long[] { 1000 }, not(eachHasPartnerIn(new long[] { 3001 }, 0, 2, TimeUnit.SECONDS)));
+		assertThat(new long[] { 1000 }, not(eachHasPartnerIn(new long[] { 999 }, 0, 2, TimeUnit.SECONDS)));
+		assertThat(new long[] { 1000 }, not(eachHasPartnerIn(new long[0], 0, 2, TimeUnit.SECONDS)));
+	}
+
+	@Test
+	public void canRequireADistinctPartner() {
+		assertThat(new long[] { 1000, 1500 }, not(eachHasDistinctPartnerIn(new long[] { 2000 }, 0, 2, TimeUnit.SECONDS)));
+		assertThat(new long[] { 1500, 1000 }, eachHasDistinctPartnerIn(new long[] { 2000, 1200 }, 0, 2, TimeUnit.SECONDS));
+		assertThat(new long[] { 0, 5 }, eachHasDistinctPartnerIn(Arrays.asList(new Date(6), new Date(3)), 0, 3, TimeUnit.MILLISECONDS));
+	}
+
+	@Test
+	public void canRequireAMinimumDelay() {
+		assertThat(new long[] { 1000 }, eachHasPartnerIn(new long[] { 1200 }, -100, 500, TimeUnit.MILLISECONDS));
+		assertThat(new long[] { 1000 }, not(eachHasPartnerIn(new long[] { 1050 }, -100, 500, TimeUnit.MILLISECONDS)));
+	}
+
+	@Test
+	public void canDescribeTheDatesWithoutAPartner() {
+		String mismatch = describeMismatch(new long[] { 5000, 1000, 1500, 9000 }, eachHasDistinctPartnerIn(new long[] { 2000, 6000 }, 0, 2,
+				TimeUnit.SECONDS));
+		assertThat(mismatch, equalTo("2 of 4 dates had no distinct partner: \"" + formatDateWithMillis(new Date(1500)) + "\", \""
+				+ formatDateWithMillis(new Date(9000)) + "\""));
+	}
+
+	@Test
+	public void canDescribeANullDate() {
+		assertThat(describeMismatch(Arrays.asList(new Date(1), null), eachHasPartnerIn(new long[] { 1 }, 0, 2, TimeUnit.SECONDS)),
+				equalTo("null date at index 1"));
+	}
+
+	@Test
+	public void canDescribeTheMatcher() {
+		assertThat(StringDescription.toString(eachHasPartnerIn(new long[] { 1, 2 }, 0, 2, TimeUnit.SECONDS)),
+				equalTo("dates each with a partner from 0 secs before to 2 secs after among 2 dates"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void canRejectAnEmptyWindow() {
+		eachHasPartnerIn(new long[0], -3, 2, TimeUnit.SECONDS);
+	}
+}
@@ -0,0 +1,92 @@
+package org.exparity.hamcrest.date;
+
+import static org.exparity.hamcrest.date.DateFormatter.formatDateWithMillis;
+import static org.exparity.hamcrest.date.DateMatchers.isPeriodic;
+import static org.exparity.hamcrest.date.MatcherTestUtils.describeMismatch;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+/**
+ * Unit Tests for the {@link IsPeriodic} class
+ *
+ * @author Stewart Bissett
+ */
+public class IsPeriodicTest {
+
+	@Test
+	public void isRegular() {
+		assertThat(new long[] { 0, 1000, 2000, 3000 }, isPeriodic(1, 0, TimeUnit.SECONDS));
+		assertThat(new long[] { 0, 1010, 1990, 3005 }, isPeriodic(1000, 20, TimeUnit.MILLISECONDS));
+		assertThat(Arrays.asList(new Date(0), new Date(60000)), isPeriodic(1, 0, TimeUnit.MINUTES));
+		assertThat(new long[0], isPeriodic(1, 0, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void isIrregular() {
+		assertThat(new long[] { 0, 1000, 2030 }, not(isPeriodic(1000, 20, TimeUnit.MILLISECONDS)));
+		assertThat(new long[] { 0, 1000, 1000 }, not(isPeriodic(1000, 20, TimeUnit.MILLISECONDS)));
+	}
+
+	@Test
+	public void canAllowMissedBeats() {
+		long[] dates = { 0, 1000, 3000, 4000, 7010 };
+		assertThat(dates, not(isPeriodic(1000, 20, TimeUnit.MILLISECONDS)));
+		assertThat(dates, not(isPeriodic(1000, 20, TimeUnit.MILLISECONDS, 2)));
+		assertThat(dates, isPeriodic(1000, 20, TimeUnit.MILLISECONDS, 3));
+	}
+
+	@Test
+	public void canDescribeAnIrregularDate() {
+		String mismatch = describeMismatch(new long[] { 0, 1000, 2030, 2990 }, isPeriodic(1000, 20, TimeUnit.MILLISECONDS));
+		assertThat(mismatch, equalTo("date at index 2 \"" + formatDateWithMillis(new Date(2030))
+				+ "\" is 30 ms after its beat, 0 beats missed, gaps deviated by a mean of -3.333 ms and at most 40 ms"));
+	}
+
+	@Test
+	public void canDescribeMissedBeats() {
+		String mismatch = describeMismatch(new long[] { 0, 3000, 4000 }, isPeriodic(1000, 0, TimeUnit.MILLISECONDS, 1));
+		assertThat(mismatch, equalTo("2 beats missed, gaps deviated by a mean of 0 ms and at most 0 ms"));
+	}
+
+	@Test
+	public void canDescribeTheDeviationsInTheUnitOfThePeriod() {
+		String mismatch = describeMismatch(new long[] { 0, 1500, 2000 }, isPeriodic(1, 0, TimeUnit.SECONDS));
+		assertThat(mismatch, equalTo("date at index 1 \"" + formatDateWithMillis(new Date(1500))
+				+ "\" is 0.5 secs after its beat, 0 beats missed, gaps deviated by a mean of 0 secs and at most 0.5 secs"));
+	}
+
+	@Test
+	public void canDescribeAMismatchWithoutReadingTheDatesAgain() {
+		AtomicInteger reads = new AtomicInteger();
+		Iterable<Date> dates = () -> {
+			reads.incrementAndGet();
+			return Arrays.asList(new Date(0), new Date(1500)).iterator();
+		};
+		describeMismatch(dates, isPeriodic(1, 0, TimeUnit.SECONDS));
+		assertThat(reads.get(), equalTo(1));
+	}
+
+	@Test
+	public void canDescribeADateOutOfOrder() {
+		String mismatch = describeMismatch(new long[] { 0, 1000, 500 }, isPeriodic(1000, 0, TimeUnit.MILLISECONDS));
+		assertThat(mismatch, equalTo("date at index 2 \"" + formatDateWithMillis(new Date(500)) + "\" is before the date before it"));
+	}
+
+	@Test
+	public void canDescribeTheMatcher() {
+		assertThat(StringDescription.toString(isPeriodic(300, 30, TimeUnit.SECONDS)), equalTo("dates every 300 secs within 30 secs"));
+		assertThat(StringDescription.toString(isPeriodic(5, 1, TimeUnit.MINUTES, 2)), equalTo("dates every 5 mins within 1 mins missing at most 2 beats"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void canRejectAnEmptyPeriod() {
+		isPeriodic(0, 0, TimeUnit.SECONDS);
+	}
+}
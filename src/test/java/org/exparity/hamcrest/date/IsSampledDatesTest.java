@@ -0,0 +1,104 @@
+package org.exparity.hamcrest.date;
+
+import static org.exparity.hamcrest.date.DateMatchers.*;
+import static org.exparity.hamcrest.date.MatcherTestUtils.describeMismatch;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.Test;
+
+/**
+ * Unit Tests for the {@link IsSampledDates} class
+ *
+ * @author Stewart Bissett
+ */
+public class IsSampledDatesTest {
+
+	private static final Date EPOCH = new Date(0);
+
+	@Test
+	public void canSizeTheSample() {
+		assertThat(new IsSampledDates(after(EPOCH), 0.99, 0.01, 1).getSampleSize(), equalTo(459));
+		assertThat(new IsSampledDates(after(EPOCH), 0.95, 0.001, 1).getSampleSize(), equalTo(2995));
+	}
+
+	@Test
+	public void canBoundTheDefectRate() {
+		assertThat(IsSampledDates.upperBound(0, 459, 0.99), closeTo(1 - Math.pow(0.01, 1.0 / 459), 1e-9));
+		assertThat(IsSampledDates.upperBound(1, 10, 0.95), closeTo(0.3942, 1e-4));
+		assertThat(IsSampledDates.upperBound(5, 5, 0.95), equalTo(1.0));
+	}
+
+	@Test
+	public void canMatchASampleOfAnArray() {
+		assertThat(timestamps(5000000, 0), sampled(after(EPOCH), 0.99, 0.001));
+	}
+
+	@Test
+	public void canFailASampleOfAnArray() {
+		String mismatch = describeMismatch(timestamps(1000000, 5), new IsSampledDates(after(EPOCH), 0.99, 0.01, 42));
+		assertThat(mismatch, containsString(" of 459 sampled dates did not match, an estimated defect rate of "));
+		assertThat(mismatch, containsString("(seed 42), the first at index "));
+		assertThat(estimatedRate(mismatch), closeTo(0.05, 0.03));
+	}
+
+	@Test
+	public void canExamineASmallListInFull() {
+		List<Date> dates = Arrays.asList(new Date(1), new Date(2), new Date(0), new Date(4), new Date(5));
+		assertThat(describeMismatch(dates, sampled(after(EPOCH), 0.99, 0.01)), startsWith("1 of 5 dates did not match, a defect rate of 20%, the first at index 2 "));
+	}
+
+	@Test
+	public void canSampleAnIterableWithAReservoir() {
+		List<Date> clean = new LinkedList<Date>(), defective = new LinkedList<Date>();
+		for (int i = 0; i < 100000; ++i) {
+			clean.add(new Date(i + 1));
+			defective.add(new Date(i % 10 == 9 ? 0 : i + 1));
+		}
+		assertThat(clean, sampled(after(EPOCH), 0.99, 0.01));
+		String mismatch = describeMismatch(defective, new IsSampledDates(after(EPOCH), 0.99, 0.01, 7));
+		assertThat(estimatedRate(mismatch), closeTo(0.1, 0.04));
+	}
+
+	@Test
+	public void canSampleATimestampColumn() {
+		assertThat(TimestampColumn.of(timestamps(100000, 0)), sampled(after(EPOCH), 0.9, 0.05));
+	}
+
+	@Test
+	public void canDescribeANullDate() {
+		assertThat(describeMismatch(Arrays.asList(new Date(1), null), sampled(after(EPOCH), 0.99, 0.01)), equalTo("null date at index 1"));
+	}
+
+	@Test
+	public void canDescribeAnUnsupportedType() {
+		assertThat(describeMismatch("text", sampled(after(EPOCH), 0.99, 0.01)), startsWith("was not a long[]"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void canRejectAnInvalidConfidence() {
+		sampled(after(EPOCH), 1, 0.01);
+	}
+
+	private static long[] timestamps(final int size, final int defectsPerHundred) {
+		long[] timestamps = new long[size];
+		for (int i = 0; i < size; ++i) {
+			timestamps[i] = i % 100 < defectsPerHundred ? -i : i + 1;
+		}
+		return timestamps;
+	}
+
+	private static double estimatedRate(final String mismatch) {
+		Matcher rate = Pattern.compile("estimated defect rate of ([0-9.]+)%").matcher(mismatch);
+		assertThat(mismatch, rate.find(), equalTo(true));
+		return Double.parseDouble(rate.group(1)) / 100;
+	}
+}
@@ -0,0 +1,57 @@
+package org.exparity.hamcrest.date;
+
+import static org.exparity.hamcrest.date.DateFormatter.formatDateWithMillis;
+import static org.exparity.hamcrest.date.DateMatchers.atMostEventsPerWindow;
+import static org.exparity.hamcrest.date.MatcherTestUtils.describeMismatch;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+/**
+ * Unit Tests for the {@link IsWithinRate} class
+ *
+ * @author Stewart Bissett
+ */
+public class IsWithinRateTest {
+
+	@Test
+	public void isWithinRate() {
+		assertThat(new long[] { 0, 500, 1000, 1500, 2000 }, atMostEventsPerWindow(2, 1, TimeUnit.SECONDS));
+		assertThat(Arrays.asList(new Date(0), new Date(999)), atMostEventsPerWindow(2, 1, TimeUnit.SECONDS));
+		assertThat(new long[0], atMostEventsPerWindow(0, 1, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void isNotWithinRate() {
+		assertThat(new long[] { 0, 500, 999 }, not(atMostEventsPerWindow(2, 1, TimeUnit.SECONDS)));
+		assertThat(new long[] { 5, 5 }, not(atMostEventsPerWindow(1, 1, TimeUnit.MILLISECONDS)));
+	}
+
+	@Test
+	public void canSortUnorderedDates() {
+		assertThat(new long[] { 2000, 0, 1000, 500 }, atMostEventsPerWindow(2, 1, TimeUnit.SECONDS));
+		assertThat(new long[] { 900, 3000, 0, 400 }, not(atMostEventsPerWindow(2, 1, TimeUnit.SECONDS)));
+	}
+
+	@Test
+	public void canDescribeTheDensestWindow() {
+		String mismatch = describeMismatch(new long[] { 0, 2000, 2100, 2200, 2300, 5000, 5100, 5200 }, atMostEventsPerWindow(3, 1, TimeUnit.SECONDS));
+		assertThat(mismatch, equalTo("densest window holds 4 dates from \"" + formatDateWithMillis(new Date(2000)) + "\" to \""
+				+ formatDateWithMillis(new Date(2300)) + "\""));
+	}
+
+	@Test
+	public void canDescribeANullDate() {
+		assertThat(describeMismatch(Arrays.asList(new Date(1), null), atMostEventsPerWindow(1, 1, TimeUnit.SECONDS)), equalTo("null date at index 1"));
+	}
+
+	@Test
+	public void canDescribeTheMatcher() {
+		assertThat(StringDescription.toString(atMostEventsPerWindow(100, 1, TimeUnit.SECONDS)), equalTo("at most 100 dates in any 1 secs"));
+	}
+}
@@ -0,0 +1,112 @@
+package org.exparity.hamcrest.date;
+
+import static org.exparity.hamcrest.date.DateFormatter.formatDateWithMillis;
+import static org.exparity.hamcrest.date.DateMatchers.hasNoDuplicateInstants;
+import static org.exparity.hamcrest.date.DateMatchers.hasNoDuplicatesWithin;
+import static org.exparity.hamcrest.date.MatcherTestUtils.describeMismatch;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+/**
+ * Unit Tests for the {@link IsWithoutDuplicates} class
+ *
+ * @author Stewart Bissett
+ */
+public class IsWithoutDuplicatesTest {
+
+	@Test
+	public void isWithoutDuplicates() {
+		assertThat(new long[] { 3, 1, 2, -1, Long.MIN_VALUE, Long.MAX_VALUE }, hasNoDuplicateInstants());
+		assertThat(Arrays.asList(new Date(1), new Date(2)), hasNoDuplicateInstants());
+		assertThat(new HashSet<Date>(Arrays.asList(new Date(1), new Date(2))), hasNoDuplicateInstants());
+		assertThat(new long[0], hasNoDuplicateInstants());
+	}
+
+	@Test
+	public void isWithDuplicates() {
+		assertThat(new long[] { 3, 1, 2, 1 }, not(hasNoDuplicateInstants()));
+		assertThat(new LinkedList<Date>(Arrays.asList(new Date(1), new Date(1))), not(hasNoDuplicateInstants()));
+	}
+
+	@Test
+	public void isWithoutDuplicatesWithin() {
+		assertThat(new long[] { 0, 6, 12, -6 }, hasNoDuplicatesWithin(5, TimeUnit.MILLISECONDS));
+		assertThat(new long[] { 0, 6, 11 }, not(hasNoDuplicatesWithin(5, TimeUnit.MILLISECONDS)));
+		assertThat(new long[] { 11, 0, 6 }, not(hasNoDuplicatesWithin(5, TimeUnit.MILLISECONDS)));
+		assertThat(new long[] { 0, -5 }, not(hasNoDuplicatesWithin(5, TimeUnit.MILLISECONDS)));
+		assertThat(new LinkedList<Date>(Arrays.asList(new Date(0), new Date(-4))), not(hasNoDuplicatesWithin(5, TimeUnit.MILLISECONDS)));
+	}
+
+	@Test
+	public void canDescribeTheDuplicates() {
+		String mismatch = describeMismatch(new long[] { 3, 1, 2, 1, 3, 3 }, hasNoDuplicateInstants());
+		assertThat(mismatch, equalTo("3 dates duplicated another date: [1] and [3] \"" + formatDateWithMillis(new Date(1)) + "\", [0] and [4] \""
+				+ formatDateWithMillis(new Date(3)) + "\", [0] and [5] \"" + formatDateWithMillis(new Date(3)) + "\""));
+	}
+
+	@Test
+	public void canDescribeTheDuplicatesWithin() {
+		String mismatch = describeMismatch(new long[] { 0, 100, 103 }, hasNoDuplicatesWithin(5, TimeUnit.MILLISECONDS));
+		assertThat(mismatch, equalTo("1 date duplicated another date: [1] \"" + formatDateWithMillis(new Date(100)) + "\" and [2] \""
+				+ formatDateWithMillis(new Date(103)) + "\""));
+	}
+
+	@Test
+	public void canFindDuplicatesBySorting() {
+		String mismatch = describeMismatch(unsized(new Date(3), new Date(1), new Date(2), new Date(1)), hasNoDuplicateInstants());
+		assertThat(mismatch, equalTo("1 date duplicated another date: [1] and [3] \"" + formatDateWithMillis(new Date(1)) + "\""));
+		mismatch = describeMismatch(unsized(new Date(103), new Date(0), new Date(100)), hasNoDuplicatesWithin(5, TimeUnit.MILLISECONDS));
+		assertThat(mismatch, equalTo("1 date duplicated another date: [0] \"" + formatDateWithMillis(new Date(103)) + "\" and [2] \""
+				+ formatDateWithMillis(new Date(100)) + "\""));
+	}
+
+	@Test
+	public void canCountTheSameDuplicatesByHashingAndSorting() {
+		Matcher<Object> matcher = hasNoDuplicatesWithin(5, TimeUnit.MILLISECONDS);
+		String mismatch = describeMismatch(new long[] { 0, 5, 10 }, matcher);
+		assertThat(mismatch, equalTo("2 dates duplicated another date: [0] \"" + formatDateWithMillis(new Date(0)) + "\" and [1] \""
+				+ formatDateWithMillis(new Date(5)) + "\", [1] \"" + formatDateWithMillis(new Date(5)) + "\" and [2] \"" + formatDateWithMillis(new Date(10))
+				+ "\""));
+		assertThat(describeMismatch(unsized(new Date(0), new Date(5), new Date(10)), matcher), equalTo(mismatch));
+		assertThat(describeMismatch(new long[] { 10, 3, 0, 5, 20, 14, 3 }, matcher), startsWith("5 dates duplicated another date: "));
+		assertThat(describeMismatch(unsized(new Date(10), new Date(3), new Date(0), new Date(5), new Date(20), new Date(14), new Date(3)), matcher),
+				startsWith("5 dates duplicated another date: "));
+	}
+
+	@Test
+	public void canFindDuplicatesInALargeSequence() {
+		long[] dates = new long[IsWithoutDuplicates.HASH_LIMIT + 1];
+		for (int i = 0; i < dates.length; ++i) {
+			dates[i] = dates.length - i;
+		}
+		assertThat(dates, hasNoDuplicateInstants());
+		dates[10] = dates[dates.length - 1];
+		assertThat(describeMismatch(dates, hasNoDuplicateInstants()),
+				equalTo("1 date duplicated another date: [10] and [" + (dates.length - 1) + "] \"" + formatDateWithMillis(new Date(1)) + "\""));
+	}
+
+	@Test
+	public void canDescribeANullDate() {
+		assertThat(describeMismatch(Arrays.asList(new Date(1), null), hasNoDuplicateInstants()), equalTo("null date at index 1"));
+	}
+
+	@Test
+	public void canDescribeTheMatcher() {
+		assertThat(StringDescription.toString(hasNoDuplicateInstants()), equalTo("dates with no duplicate instants"));
+		assertThat(StringDescription.toString(hasNoDuplicatesWithin(5, TimeUnit.SECONDS)), equalTo("dates with no two within 5 secs"));
+	}
+
+	private static Iterable<Date> unsized(final Date... dates) {
+		return () -> Arrays.asList(dates).iterator();
+	}
+}
@@ -0,0 +1,81 @@
+package org.exparity.hamcrest.date;
+
+import static org.exparity.hamcrest.date.DateFormatter.formatDateWithMillis;
+import static org.exparity.hamcrest.date.DateMatchers.hasNoGapLongerThan;
+import static org.exparity.hamcrest.date.MatcherTestUtils.describeMismatch;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+/**
+ * Unit Tests for the {@link IsWithoutGaps} class
+ *
+ * @author Stewart Bissett
+ */
+public class IsWithoutGapsTest {
+
+	@Test
+	public void isWithoutGaps() {
+		assertThat(new long[] { 0, 1000, 2000, 3000 }, hasNoGapLongerThan(1, TimeUnit.SECONDS));
+		assertThat(Arrays.asList(new Date(0), new Date(500)), hasNoGapLongerThan(1, TimeUnit.SECONDS));
+		assertThat(new long[0], hasNoGapLongerThan(0, TimeUnit.SECONDS));
+		assertThat(new long[] { 7 }, hasNoGapLongerThan(0, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void isNotWithoutGaps() {
+		assertThat(new long[] { 0, 1000, 2001 }, not(hasNoGapLongerThan(1, TimeUnit.SECONDS)));
+	}
+
+	@Test
+	public void canSortUnorderedDates() {
+		assertThat(new long[] { 3000, 1000, 0, 2000 }, hasNoGapLongerThan(1, TimeUnit.SECONDS));
+		assertThat(new HashSet<Date>(Arrays.asList(new Date(0), new Date(2000), new Date(1000))), hasNoGapLongerThan(1, TimeUnit.SECONDS));
+		assertThat(new long[] { 3000, 0, 2000 }, not(hasNoGapLongerThan(1, TimeUnit.SECONDS)));
+	}
+
+	@Test
+	public void canDescribeTheLargestGap() {
+		String mismatch = describeMismatch(new long[] { 0, 2000, 7000, 8000, 11000 }, hasNoGapLongerThan(1, TimeUnit.SECONDS));
+		assertThat(mismatch, equalTo("largest gap is 5 secs from \"" + formatDateWithMillis(new Date(2000)) + "\" at index 1 to \"" + formatDateWithMillis(new Date(7000))
+				+ "\", 3 of 4 gaps were longer than 1 secs"));
+	}
+
+	@Test
+	public void canDescribeTheLargestGapOfUnorderedDates() {
+		String mismatch = describeMismatch(new long[] { 7000, 0, 2000 }, hasNoGapLongerThan(1, TimeUnit.SECONDS));
+		assertThat(mismatch, equalTo("largest gap is 5 secs from \"" + formatDateWithMillis(new Date(2000)) + "\" to \"" + formatDateWithMillis(new Date(7000))
+				+ "\" in chronological order, 2 of 2 gaps were longer than 1 secs"));
+	}
+
+	@Test
+	public void canDescribeTheLargestGapInTheUnitOfThePeriod() {
+		String mismatch = describeMismatch(new long[] { 0, 90000 }, hasNoGapLongerThan(1, TimeUnit.MINUTES));
+		assertThat(mismatch, equalTo("largest gap is 1.5 mins from \"" + formatDateWithMillis(new Date(0)) + "\" at index 0 to \"" + formatDateWithMillis(new Date(90000))
+				+ "\", 1 of 1 gaps were longer than 1 mins"));
+		mismatch = describeMismatch(new long[] { Long.MIN_VALUE, Long.MAX_VALUE }, hasNoGapLongerThan(1, TimeUnit.MILLISECONDS));
+		assertThat(mismatch, startsWith("largest gap is 18446744073709551615 ms from "));
+	}
+
+	@Test
+	public void canDescribeANullDate() {
+		assertThat(describeMismatch(Arrays.asList(new Date(1), null), hasNoGapLongerThan(1, TimeUnit.SECONDS)), equalTo("null date at index 1"));
+	}
+
+	@Test
+	public void canDescribeTheMatcher() {
+		assertThat(StringDescription.toString(hasNoGapLongerThan(30, TimeUnit.SECONDS)), equalTo("dates with no gap longer than 30 secs"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void canRejectANegativePeriod() {
+		hasNoGapLongerThan(-1, TimeUnit.SECONDS);
+	}
+}
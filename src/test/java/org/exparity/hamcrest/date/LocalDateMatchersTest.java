@@ -0,0 +1,157 @@
+package org.exparity.hamcrest.date;
+
+import static org.exparity.hamcrest.date.LocalDateMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import org.junit.Test;
+
+/**
+ * Unit Tests for the {@link LocalDateMatchers} class
+ *
+ * @author Stewart Bissett
+ */
+public class LocalDateMatchersTest {
+
+	private static final LocalDate JAN_1ST_2012 = LocalDate.of(2012, 1, 1);
+	private static final LocalDate JAN_2ND_2012 = LocalDate.of(2012, 1, 2);
+	private static final LocalDate JAN_1ST_2013 = LocalDate.of(2013, 1, 1);
+	private static final LocalDate FEB_29TH_2012 = LocalDate.of(2012, 2, 29);
+
+	@Test
+	public void canCompareAfter() {
+		assertThat(JAN_2ND_2012, after(JAN_1ST_2012));
+	}
+
+	@Test(expected = AssertionError.class)
+	public void canCompareNotAfter() {
+		assertThat(JAN_1ST_2012, after(JAN_1ST_2012));
+	}
+
+	@Test
+	public void canCompareAfterWithFields() {
+		assertThat(JAN_2ND_2012, after(2012, Months.JANUARY, 1));
+	}
+
+	@Test
+	public void canCompareBefore() {
+		assertThat(JAN_1ST_2012, before(JAN_2ND_2012));
+	}
+
+	@Test(expected = AssertionError.class)
+	public void canCompareNotBefore() {
+		assertThat(JAN_2ND_2012, before(2012, Months.JANUARY, 1));
+	}
+
+	@Test
+	public void canCompareSameOrAfter() {
+		assertThat(JAN_1ST_2012, sameOrAfter(JAN_1ST_2012));
+		assertThat(JAN_2ND_2012, sameOrAfter(JAN_1ST_2012));
+	}
+
+	@Test
+	public void canCompareSameOrBefore() {
+		assertThat(JAN_1ST_2012, sameOrBefore(JAN_1ST_2012));
+		assertThat(JAN_1ST_2012, sameOrBefore(JAN_2ND_2012));
+	}
+
+	@Test(expected = AssertionError.class)
+	public void canCompareNotSameOrBefore() {
+		assertThat(JAN_2ND_2012, sameOrBefore(JAN_1ST_2012));
+	}
+
+	@Test
+	public void canCompareWithin() {
+		assertThat(JAN_2ND_2012, within(1, ChronoUnit.DAYS, JAN_1ST_2012));
+	}
+
+	@Test(expected = AssertionError.class)
+	public void canCompareNotWithin() {
+		assertThat(JAN_1ST_2013, within(1, ChronoUnit.MONTHS, JAN_1ST_2012));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void canRejectATimeUnitForWithin() {
+		within(1, ChronoUnit.HOURS, JAN_1ST_2012);
+	}
+
+	@Test
+	public void canCompareSameDay() {
+		assertThat(JAN_1ST_2012, sameDay(2012, Months.JANUARY, 1));
+	}
+
+	@Test(expected = AssertionError.class)
+	public void canCompareSameDayInDifferentYear() {
+		assertThat(JAN_1ST_2013, sameDay(JAN_1ST_2012));
+	}
+
+	@Test
+	public void canCompareSameDayOfWeek() {
+		assertThat(JAN_1ST_2012, sameDayOfWeek(Weekdays.SUNDAY));
+		assertThat(JAN_1ST_2012, isSunday());
+		assertThat(JAN_1ST_2012, isWeekend());
+		assertThat(JAN_2ND_2012, isWeekday());
+	}
+
+	@Test(expected = AssertionError.class)
+	public void canCompareDifferentDayOfWeek() {
+		assertThat(JAN_1ST_2012, isWeekday());
+	}
+
+	@Test
+	public void canCompareSameMonth() {
+		assertThat(JAN_1ST_2013, sameMonth(JAN_1ST_2012));
+		assertThat(FEB_29TH_2012, isFebruary());
+	}
+
+	@Test(expected = AssertionError.class)
+	public void canCompareDifferentMonth() {
+		assertThat(FEB_29TH_2012, sameMonth(Months.MARCH));
+	}
+
+	@Test
+	public void canCompareSameYear() {
+		assertThat(FEB_29TH_2012, sameYear(2012));
+	}
+
+	@Test
+	public void canCompareFirstAndLastDayOfMonth() {
+		assertThat(JAN_1ST_2012, isFirstDayOfMonth());
+		assertThat(FEB_29TH_2012, isLastDayOfMonth());
+		assertThat(LocalDate.of(2012, 12, 31), isLastDayOfMonth());
+	}
+
+	@Test(expected = AssertionError.class)
+	public void canCompareNotLastDayOfMonth() {
+		assertThat(LocalDate.of(2013, 2, 28).minusDays(1), isLastDayOfMonth());
+	}
+
+	@Test
+	public void canCompareLeapYear() {
+		assertThat(FEB_29TH_2012, isLeapYear());
+	}
+
+	@Test(expected = AssertionError.class)
+	public void canCompareNotLeapYear() {
+		assertThat(JAN_1ST_2013, isLeapYear());
+	}
+
+	@Test
+	public void canCompareToday() {
+		assertThat(LocalDate.now(), isToday());
+		assertThat(LocalDate.now().minusDays(1), isYesterday());
+		assertThat(LocalDate.now().plusDays(1), isTomorrow());
+	}
+
+	@Test
+	public void canDescribeMismatch() {
+		try {
+			assertThat(JAN_2ND_2012, sameDay(JAN_1ST_2012));
+		} catch (AssertionError e) {
+			assertThat(e.getMessage(), equalTo("\nExpected: a day of \"1 January 2012\"\n     but: day is \"2 January 2012\""));
+			return;
+		}
+		throw new AssertionError("Expected mismatch");
+	}
+}
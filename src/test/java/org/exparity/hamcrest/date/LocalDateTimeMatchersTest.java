@@ -0,0 +1,93 @@
+package org.exparity.hamcrest.date;
+
+import static org.exparity.hamcrest.date.LocalDateTimeMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import org.junit.Test;
+
+/**
+ * Unit Tests for the {@link LocalDateTimeMatchers} class
+ *
+ * @author Stewart Bissett
+ */
+public class LocalDateTimeMatchersTest {
+
+	private static final LocalDateTime JAN_1ST_2012_11_AM = LocalDateTime.of(2012, 1, 1, 11, 0);
+	private static final LocalDateTime JAN_1ST_2012_11_PM = LocalDateTime.of(2012, 1, 1, 23, 0);
+	private static final LocalDateTime JAN_2ND_2012_11_AM = LocalDateTime.of(2012, 1, 2, 11, 0);
+
+	@Test
+	public void canCompareAfter() {
+		assertThat(JAN_1ST_2012_11_PM, after(JAN_1ST_2012_11_AM));
+		assertThat(JAN_1ST_2012_11_PM, after(2012, Months.JANUARY, 1, 22, 59, 59));
+	}
+
+	@Test(expected = AssertionError.class)
+	public void canCompareNotAfter() {
+		assertThat(JAN_1ST_2012_11_AM, after(JAN_1ST_2012_11_PM));
+	}
+
+	@Test
+	public void canCompareBefore() {
+		assertThat(JAN_1ST_2012_11_AM, before(JAN_1ST_2012_11_PM));
+	}
+
+	@Test
+	public void canCompareSameOrAfter() {
+		assertThat(JAN_1ST_2012_11_AM, sameOrAfter(JAN_1ST_2012_11_AM));
+	}
+
+	@Test(expected = AssertionError.class)
+	public void canCompareNotSameOrBefore() {
+		assertThat(JAN_2ND_2012_11_AM, sameOrBefore(JAN_1ST_2012_11_PM));
+	}
+
+	@Test
+	public void canCompareWithin() {
+		assertThat(JAN_1ST_2012_11_AM.plusMinutes(5), within(5, ChronoUnit.MINUTES, JAN_1ST_2012_11_AM));
+		assertThat(JAN_1ST_2012_11_AM.minusMinutes(5), within(5, ChronoUnit.MINUTES, JAN_1ST_2012_11_AM));
+	}
+
+	@Test(expected = AssertionError.class)
+	public void canCompareNotWithin() {
+		assertThat(JAN_1ST_2012_11_AM.plusMinutes(6), within(5, ChronoUnit.MINUTES, JAN_1ST_2012_11_AM));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void canRejectAPeriodTooLongForWithin() {
+		within(Long.MAX_VALUE, ChronoUnit.DAYS, JAN_1ST_2012_11_AM);
+	}
+
+	@Test
+	public void canCompareSameDay() {
+		assertThat(JAN_1ST_2012_11_AM, sameDay(JAN_1ST_2012_11_PM));
+	}
+
+	@Test(expected = AssertionError.class)
+	public void canCompareDifferentDay() {
+		assertThat(JAN_1ST_2012_11_AM, sameDay(JAN_2ND_2012_11_AM));
+	}
+
+	@Test
+	public void canCompareTimeFields() {
+		assertThat(JAN_1ST_2012_11_AM, sameHour(11));
+		assertThat(JAN_1ST_2012_11_AM, sameMinute(0));
+		assertThat(JAN_1ST_2012_11_AM.withSecond(30), sameSecond(30));
+		assertThat(JAN_1ST_2012_11_AM.withNano(123000000), sameMillisecond(123));
+	}
+
+	@Test(expected = AssertionError.class)
+	public void canCompareDifferentHour() {
+		assertThat(JAN_1ST_2012_11_AM, sameHour(JAN_1ST_2012_11_PM));
+	}
+
+	@Test
+	public void canCompareCalendarFields() {
+		assertThat(JAN_1ST_2012_11_AM, isSunday());
+		assertThat(JAN_1ST_2012_11_AM, isJanuary());
+		assertThat(JAN_1ST_2012_11_AM, isFirstDayOfMonth());
+		assertThat(JAN_1ST_2012_11_AM, isLeapYear());
+		assertThat(LocalDateTime.now(), isToday());
+	}
+}
@@ -0,0 +1,24 @@
+package org.exparity.hamcrest.date;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+
+/**
+ * Utility class for describing the mismatch of a failed match
+ *
+ * @author Stewart Bissett
+ */
+abstract class MatcherTestUtils {
+
+	/**
+	 * Match the value, which must fail, and return the mismatch described for it
+	 */
+	static String describeMismatch(final Object actual, final Matcher<?> matcher) {
+		assertThat(matcher.matches(actual), equalTo(false));
+		StringDescription description = new StringDescription();
+		matcher.describeMismatch(actual, description);
+		return description.toString();
+	}
+}
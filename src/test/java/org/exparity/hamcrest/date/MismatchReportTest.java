@@ -0,0 +1,68 @@
+package org.exparity.hamcrest.date;
+
+import static org.exparity.hamcrest.date.DateMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
+import java.util.Date;
+import org.junit.Test;
+
+/**
+ * Unit Tests for the {@link MismatchReport} class
+ *
+ * @author Stewart Bissett
+ */
+public class MismatchReportTest {
+
+	@Test
+	public void canReportNoMismatches() {
+		MismatchReport report = reportMismatches(TimestampColumn.of(new long[] { 1, 2, 3 }), after(new Date(0)), 10);
+		assertThat(report.isEmpty(), equalTo(true));
+		assertThat(report.getMatchCount(), equalTo(3L));
+		assertThat(report.getMismatchIndices().length, equalTo(0));
+	}
+
+	@Test
+	public void canLimitTheReportedMismatches() {
+		MismatchReport report = reportMismatches(TimestampColumn.of(new long[] { 0, 1, -1, -2, 5, -3 }), after(new Date(0)), 2);
+		assertThat(report.getMismatchCount(), equalTo(4L));
+		assertThat(report.getMismatchIndices(), equalTo(new long[] { 0, 2 }));
+		assertThat(report.getMismatchValues(), equalTo(new long[] { 0, -1 }));
+		assertThat(report.toString(), startsWith("4 of 6 timestamps did not match: [0] "));
+	}
+
+	@Test
+	public void canReportTheEarliestTimestampOfABinaryColumn() {
+		MismatchReport report = reportMismatches(TimestampColumn.of(new long[] { Long.MIN_VALUE }), after(new Date(0)), 10, DateHistogram.WEEKDAY);
+		assertThat(report.getMismatchValues(), equalTo(new long[] { Long.MIN_VALUE }));
+		assertThat(report.getMismatchTexts(), equalTo(new String[] { DateFormatter.formatDateWithMillis(new Date(Long.MIN_VALUE)) }));
+		assertThat(report.getHistogram()[DateHistogram.WEEKDAY.bucketOf(DateFields.forDefaultCalendar(), Long.MIN_VALUE)], equalTo(1L));
+	}
+
+	@Test
+	public void canReportOnlyTheCounts() {
+		MismatchReport report = reportMismatches(TimestampColumn.of(new long[] { 0, -1 }), after(new Date(0)), 0);
+		assertThat(report.getMismatchCount(), equalTo(2L));
+		assertThat(report.toString(), equalTo("2 of 2 timestamps did not match, ..."));
+	}
+
+	@Test
+	public void canMergeReportsInParallel() {
+		long[] timestamps = new long[400000];
+		for (int i = 0; i < timestamps.length; ++i) {
+			timestamps[i] = i % 1000 == 999 ? -i : i + 1;
+		}
+		MismatchReport report = reportMismatches(TimestampColumn.of(timestamps), after(new Date(0)), 300);
+		assertThat(report.getMismatchCount(), equalTo(400L));
+		long[] indices = report.getMismatchIndices();
+		assertThat(indices.length, equalTo(300));
+		for (int i = 0; i < indices.length; ++i) {
+			assertThat(indices[i], equalTo(i * 1000L + 999));
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void canRejectANegativeLimit() {
+		reportMismatches(TimestampColumn.of(new long[0]), after(new Date(0)), -1);
+	}
+}
@@ -0,0 +1,47 @@
+package org.exparity.hamcrest.date;
+
+import static org.exparity.hamcrest.date.OffsetDateTimeMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import org.junit.Test;
+
+/**
+ * Unit Tests for the {@link OffsetDateTimeMatchers} class
+ *
+ * @author Stewart Bissett
+ */
+public class OffsetDateTimeMatchersTest {
+
+	private static final OffsetDateTime JAN_1ST_2012_11_PM_MINUS_5 = OffsetDateTime.of(2012, 1, 1, 23, 0, 0, 0, ZoneOffset.ofHours(-5));
+	private static final OffsetDateTime JAN_2ND_2012_4_AM_UTC = OffsetDateTime.of(2012, 1, 2, 4, 0, 0, 0, ZoneOffset.UTC);
+
+	@Test
+	public void canCompareSameDayInOwnOffset() {
+		assertThat(JAN_1ST_2012_11_PM_MINUS_5, sameDay(JAN_1ST_2012_11_PM_MINUS_5.minusHours(12)));
+		assertThat(JAN_1ST_2012_11_PM_MINUS_5, isWeekend());
+		assertThat(JAN_2ND_2012_4_AM_UTC, isWeekday());
+	}
+
+	@Test(expected = AssertionError.class)
+	public void canCompareDifferentDayInOwnOffset() {
+		assertThat(JAN_1ST_2012_11_PM_MINUS_5, sameDay(JAN_2ND_2012_4_AM_UTC));
+	}
+
+	@Test
+	public void canCompareSameInstantInDifferentOffsets() {
+		assertThat(JAN_2ND_2012_4_AM_UTC, sameOrAfter(JAN_1ST_2012_11_PM_MINUS_5));
+		assertThat(JAN_2ND_2012_4_AM_UTC, within(0, ChronoUnit.MILLIS, JAN_1ST_2012_11_PM_MINUS_5));
+	}
+
+	@Test(expected = AssertionError.class)
+	public void canCompareNotBeforeInDifferentOffsets() {
+		assertThat(JAN_2ND_2012_4_AM_UTC, before(JAN_1ST_2012_11_PM_MINUS_5));
+	}
+
+	@Test(expected = AssertionError.class)
+	public void canCompareNotWithin() {
+		assertThat(JAN_2ND_2012_4_AM_UTC.plusDays(1).plusSeconds(1), within(1, ChronoUnit.DAYS, JAN_1ST_2012_11_PM_MINUS_5));
+	}
+}
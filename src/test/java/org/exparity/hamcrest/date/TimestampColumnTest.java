@@ -0,0 +1,144 @@
+package org.exparity.hamcrest.date;
+
+import static org.exparity.hamcrest.date.DateMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.util.Date;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.exparity.hamcrest.date.testutils.Dates;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+/**
+ * Unit Tests for the {@link TimestampColumn} class
+ *
+ * @author Stewart Bissett
+ */
+public class TimestampColumnTest {
+
+	@Test
+	public void canReadAnArray() {
+		TimestampColumn column = TimestampColumn.of(new long[] { 1, 2, 3 });
+		assertThat(column.size(), equalTo(3L));
+		assertThat(column.get(2), equalTo(3L));
+	}
+
+	@Test
+	public void canReadALongBufferFromItsPosition() {
+		LongBuffer buffer = LongBuffer.wrap(new long[] { 1, 2, 3, 4 });
+		buffer.position(1);
+		TimestampColumn column = TimestampColumn.of(buffer);
+		assertThat(column.size(), equalTo(3L));
+		assertThat(column.get(0), equalTo(2L));
+		assertThat(buffer.position(), equalTo(1));
+	}
+
+	@Test
+	public void canReadPackedBigEndianTimestamps() {
+		ByteBuffer buffer = ByteBuffer.allocate(24).order(ByteOrder.BIG_ENDIAN);
+		buffer.putLong(10).putLong(Long.MIN_VALUE).putLong(-3).flip();
+		TimestampColumn column = TimestampColumn.of(buffer, ByteOrder.BIG_ENDIAN);
+		assertThat(column.size(), equalTo(3L));
+		assertThat(column.get(0), equalTo(10L));
+		assertThat(column.get(1), equalTo(Long.MIN_VALUE));
+		assertThat(column.get(2), equalTo(-3L));
+	}
+
+	@Test
+	public void canReadPackedLittleEndianTimestampsFromADirectBuffer() {
+		ByteBuffer buffer = ByteBuffer.allocateDirect(16).order(ByteOrder.LITTLE_ENDIAN);
+		buffer.putLong(12345678901L).putLong(-98765L).flip();
+		TimestampColumn column = TimestampColumn.of(buffer, ByteOrder.LITTLE_ENDIAN);
+		assertThat(column.get(0), equalTo(12345678901L));
+		assertThat(column.get(1), equalTo(-98765L));
+		assertThat(buffer.order(), equalTo(ByteOrder.LITTLE_ENDIAN));
+	}
+
+	@Test
+	public void canReadStridedRecords() {
+		ByteBuffer buffer = ByteBuffer.allocate(20 * 3 - 4).order(ByteOrder.LITTLE_ENDIAN);
+		for (int i = 0; i < 3; ++i) {
+			buffer.putInt(i * 20, -1);
+			buffer.putLong(i * 20 + 4, 1000L * i);
+		}
+		TimestampColumn column = TimestampColumn.of(buffer, ByteOrder.LITTLE_ENDIAN, 4, 20);
+		assertThat(column.size(), equalTo(3L));
+		assertThat(column.get(1), equalTo(1000L));
+		assertThat(column.get(2), equalTo(2000L));
+	}
+
+	@Test
+	public void canReadAnEmptyBuffer() {
+		assertThat(TimestampColumn.of(ByteBuffer.allocate(7), ByteOrder.BIG_ENDIAN).size(), equalTo(0L));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void canRejectANarrowStride() {
+		TimestampColumn.of(ByteBuffer.allocate(16), ByteOrder.BIG_ENDIAN, 0, 4);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void canRejectAnOffsetOutsideTheRecord() {
+		TimestampColumn.of(ByteBuffer.allocate(16), ByteOrder.BIG_ENDIAN, 4, 8);
+	}
+
+	@Test
+	public void canMatchEveryTimestamp() {
+		assertThat(TimestampColumn.of(encode(new long[] { 1, 2, 3 }, ByteOrder.BIG_ENDIAN), ByteOrder.BIG_ENDIAN), everyTimestamp(after(new Date(0))));
+	}
+
+	@Test(expected = AssertionError.class)
+	public void canFailEveryTimestamp() {
+		assertThat(TimestampColumn.of(encode(new long[] { 1, 0, 3 }, ByteOrder.BIG_ENDIAN), ByteOrder.BIG_ENDIAN), everyTimestamp(after(new Date(0))));
+	}
+
+	@Test
+	public void canDescribeTheFirstMismatch() {
+		StringDescription description = new StringDescription();
+		everyTimestamp(after(new Date(0))).describeMismatch(TimestampColumn.of(new long[] { 1, 0, -1 }), description);
+		assertThat(description.toString(), containsString("timestamp at index 1 "));
+	}
+
+	@Test
+	public void canAgreeWithTheArrayMatchesInParallel() {
+		long[] timestamps = randomTimestamps(200003);
+		for (ByteOrder order : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN }) {
+			TimestampColumn column = TimestampColumn.of(encode(timestamps, order), order);
+			assertThat(countMatches(column, isWeekend()), equalTo((long) countMatches(timestamps, isWeekend())));
+			assertThat(countMatches(column, within(365, TimeUnit.DAYS, Dates.JAN_1ST_2012_11_AM)),
+					equalTo((long) countMatches(timestamps, within(365, TimeUnit.DAYS, Dates.JAN_1ST_2012_11_AM))));
+			assertThat(firstMismatch(column, not(isWeekend())), equalTo((long) firstMismatch(timestamps, not(isWeekend()))));
+		}
+	}
+
+	@Test
+	public void canFindTheLowestMismatchInParallel() {
+		long[] timestamps = new long[300000];
+		timestamps[250000] = -1;
+		timestamps[170001] = -1;
+		TimestampColumn column = TimestampColumn.of(encode(timestamps, ByteOrder.LITTLE_ENDIAN), ByteOrder.LITTLE_ENDIAN);
+		assertThat(firstMismatch(column, sameOrAfter(new Date(0))), equalTo(170001L));
+		assertThat(countMatches(column, sameOrAfter(new Date(0))), equalTo(299998L));
+	}
+
+	private static ByteBuffer encode(final long[] timestamps, final ByteOrder order) {
+		ByteBuffer buffer = ByteBuffer.allocateDirect(timestamps.length * 8).order(order);
+		buffer.asLongBuffer().put(timestamps);
+		return buffer;
+	}
+
+	private static long[] randomTimestamps(final int size) {
+		Random random = new Random(31);
+		long[] timestamps = new long[size];
+		for (int i = 0; i < size; ++i) {
+			timestamps[i] = Dates.JAN_1ST_2012_11_AM.getTime() + (random.nextLong() % (1000L * 86400000L));
+		}
+		return timestamps;
+	}
+}
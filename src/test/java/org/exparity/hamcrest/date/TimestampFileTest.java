@@ -0,0 +1,109 @@
+package org.exparity.hamcrest.date;
+
+import static org.exparity.hamcrest.date.DateMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.exparity.hamcrest.date.testutils.Dates;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit Tests for the {@link TimestampFile} class
+ *
+ * @author Stewart Bissett
+ */
+public class TimestampFileTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void canMapPackedTimestamps() throws IOException {
+		TimestampFile file = TimestampFile.map(write(ByteOrder.LITTLE_ENDIAN, 0, 8, 1, 2, 3), ByteOrder.LITTLE_ENDIAN);
+		assertThat(file.size(), equalTo(3L));
+		assertThat(file.get(2), equalTo(3L));
+		assertThat(file.byteOffsetOf(2), equalTo(16L));
+	}
+
+	@Test
+	public void canMapAnEmptyFile() throws IOException {
+		TimestampFile file = TimestampFile.map(write(ByteOrder.BIG_ENDIAN, 0, 8), ByteOrder.BIG_ENDIAN);
+		assertThat(file.size(), equalTo(0L));
+		assertThat(file, everyTimestamp(isWeekday()));
+	}
+
+	@Test
+	public void canMapStridedRecordsAcrossSegments() throws IOException {
+		long[] timestamps = randomTimestamps(1001);
+		TimestampFile file = TimestampFile.map(write(ByteOrder.BIG_ENDIAN, 4, 20, timestamps), ByteOrder.BIG_ENDIAN, 4, 20, 20 * 64 + 7);
+		assertThat(file.size(), equalTo(1001L));
+		for (int i = 0; i < timestamps.length; ++i) {
+			assertThat(file.get(i), equalTo(timestamps[i]));
+		}
+		assertThat(file.byteOffsetOf(10), equalTo(204L));
+	}
+
+	@Test
+	public void canAgreeWithTheArrayMatchesAcrossSegments() throws IOException {
+		long[] timestamps = randomTimestamps(150001);
+		TimestampFile file = TimestampFile.map(write(ByteOrder.LITTLE_ENDIAN, 0, 8, timestamps), ByteOrder.LITTLE_ENDIAN, 0, 8, 8 * 4099);
+		assertThat(countMatches(file, isWeekend()), equalTo((long) countMatches(timestamps, isWeekend())));
+		assertThat(firstMismatch(file, not(isWeekend())), equalTo((long) firstMismatch(timestamps, not(isWeekend()))));
+		MismatchReport report = reportMismatches(file, within(100, TimeUnit.DAYS, Dates.JAN_1ST_2012_11_AM), 5);
+		assertThat(report.getExaminedCount(), equalTo(150001L));
+		assertThat(report.getMatchCount(), equalTo((long) countMatches(timestamps, within(100, TimeUnit.DAYS, Dates.JAN_1ST_2012_11_AM))));
+		long[] indices = report.getMismatchIndices();
+		assertThat(indices.length, equalTo(5));
+		int expected = -1;
+		for (int i = 0; i < indices.length; ++i) {
+			do {
+				++expected;
+			} while (within(100, TimeUnit.DAYS, Dates.JAN_1ST_2012_11_AM).matches(new Date(timestamps[expected])));
+			assertThat(indices[i], equalTo((long) expected));
+			assertThat(report.getMismatchValues()[i], equalTo(timestamps[expected]));
+		}
+	}
+
+	@Test(expected = AssertionError.class)
+	public void canFailEveryTimestampInAFile() throws IOException {
+		long[] timestamps = new long[100000];
+		timestamps[99999] = -1;
+		assertThat(TimestampFile.map(write(ByteOrder.BIG_ENDIAN, 0, 8, timestamps), ByteOrder.BIG_ENDIAN, 0, 8, 8 * 1000),
+				everyTimestamp(sameOrAfter(new Date(0))));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void canRejectANarrowStride() throws IOException {
+		TimestampFile.map(write(ByteOrder.BIG_ENDIAN, 0, 8, 1), ByteOrder.BIG_ENDIAN, 0, 6);
+	}
+
+	private Path write(final ByteOrder order, final int offset, final int stride, final long... timestamps) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(timestamps.length * stride).order(order);
+		for (int i = 0; i < timestamps.length; ++i) {
+			buffer.putLong(i * stride + offset, timestamps[i]);
+		}
+		File file = folder.newFile();
+		Files.write(file.toPath(), buffer.array());
+		return file.toPath();
+	}
+
+	private static long[] randomTimestamps(final int size) {
+		Random random = new Random(33);
+		long[] timestamps = new long[size];
+		for (int i = 0; i < size; ++i) {
+			timestamps[i] = Dates.JAN_1ST_2012_11_AM.getTime() + (random.nextLong() % (1000L * 86400000L));
+		}
+		return timestamps;
+	}
+}
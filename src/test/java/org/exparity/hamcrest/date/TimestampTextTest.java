@@ -0,0 +1,95 @@
+package org.exparity.hamcrest.date;
+
+import static org.exparity.hamcrest.date.DateMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TimeZone;
+import org.exparity.hamcrest.date.testutils.Dates;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+/**
+ * Unit Tests for the {@link TimestampText} class
+ *
+ * @author Stewart Bissett
+ */
+public class TimestampTextTest {
+
+	private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+	@Test
+	public void canParseIsoTimestamps() {
+		assertThat(parse("2012-01-01T11:00:00.000Z"), equalTo(Instant.parse("2012-01-01T11:00:00Z").toEpochMilli()));
+		assertThat(parse("2012-01-01 11:00:00,5+01:00"), equalTo(Instant.parse("2012-01-01T10:00:00.500Z").toEpochMilli()));
+		assertThat(parse("2012-01-01T11:00-0130 text"), equalTo(Instant.parse("2012-01-01T12:30:00Z").toEpochMilli()));
+		assertThat(parse("[2012-02-29T23:59:59.123456789Z] INFO"), equalTo(Instant.parse("2012-02-29T23:59:59.123Z").toEpochMilli()));
+		assertThat(parse("1969-12-31T23:59:59.999+00"), equalTo(-1L));
+	}
+
+	@Test
+	public void canParseTheDescriptionLayout() {
+		SimpleDateFormat format = new SimpleDateFormat("dd MMM yyyy HH:mm:ss SSS'ms' Z", Locale.ENGLISH);
+		Random random = new Random(34);
+		for (int i = 0; i < 2000; ++i) {
+			long millis = Dates.JAN_1ST_2012_11_AM.getTime() + random.nextLong() % (100L * 365 * 86400000L);
+			String text = format.format(new Date(millis));
+			assertThat(text, parse(text), equalTo(millis));
+		}
+	}
+
+	@Test
+	public void canParseLocalTimesInTheTimezone() {
+		Random random = new Random(35);
+		for (String zoneId : new String[] { "Europe/London", "America/New_York", "Australia/Lord_Howe", "Asia/Kolkata" }) {
+			TimeZone zone = TimeZone.getTimeZone(zoneId);
+			for (int i = 0; i < 2000; ++i) {
+				LocalDateTime local = LocalDateTime.of(1990 + random.nextInt(60), 1 + random.nextInt(12), 1 + random.nextInt(28), random.nextInt(24),
+						random.nextInt(60), random.nextInt(60), random.nextInt(1000) * 1000000);
+				long expected = local.atZone(ZoneId.of(zoneId)).toInstant().toEpochMilli();
+				String text = local.toString();
+				if (local.atZone(ZoneId.of(zoneId)).toLocalDateTime().equals(local)) {
+					assertThat(text + " in " + zoneId, TimestampText.parse(text, 0, text.length(), zone), equalTo(expected));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void canRejectInvalidText() {
+		for (String text : new String[] { "", "INFO started", "2012-13-01T00:00:00Z", "2012-02-30T00:00:00Z", "2012-01-01T24:00:00Z",
+				"2012-01-01T11:00:60Z", "2012-01-01T11:00:00.Z", "2012-01-01T11:00:001", "2012-01-01", "2012-01-01T11:00:00+19:00",
+				"01 Jax 2012 11:00:00 000ms +0000", "01 Jan 2012 11:00:00 000 +0000", "01 Jan 2012 11:00:00 000ms +00" }) {
+			assertThat(text, parse(text), equalTo(TimestampText.NONE));
+		}
+	}
+
+	@Test
+	public void canMatchTextWithATimestamp() {
+		assertThat("2012-01-01T11:00:00.000Z INFO started", hasTimestamp(sameInstant(Dates.JAN_1ST_2012_11_AM_GMT)));
+	}
+
+	@Test(expected = AssertionError.class)
+	public void canFailTextWithADifferentTimestamp() {
+		assertThat("2012-01-02T11:00:00.000Z INFO started", hasTimestamp(sameInstant(Dates.JAN_1ST_2012_11_AM_GMT)));
+	}
+
+	@Test
+	public void canDescribeTextWithoutATimestamp() {
+		StringDescription description = new StringDescription();
+		hasTimestamp(sameInstant(Dates.JAN_1ST_2012_11_AM_GMT)).describeMismatch("INFO started", description);
+		assertThat(description.toString(), equalTo("text has no timestamp \"INFO started\""));
+		assertThat(StringDescription.toString(hasTimestamp(isWeekday())), containsString("text with a timestamp which is "));
+	}
+
+	private static long parse(final String text) {
+		return TimestampText.parse(text, 0, text.length(), UTC);
+	}
+}
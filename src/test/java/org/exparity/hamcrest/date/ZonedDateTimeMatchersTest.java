@@ -0,0 +1,71 @@
+package org.exparity.hamcrest.date;
+
+import static org.exparity.hamcrest.date.ZonedDateTimeMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import org.junit.Test;
+
+/**
+ * Unit Tests for the {@link ZonedDateTimeMatchers} class
+ *
+ * @author Stewart Bissett
+ */
+public class ZonedDateTimeMatchersTest {
+
+	private static final ZoneId UTC = ZoneId.of("UTC");
+	private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+	private static final ZonedDateTime JAN_1ST_2012_11_PM_NEW_YORK = ZonedDateTime.of(2012, 1, 1, 23, 0, 0, 0, NEW_YORK);
+	private static final ZonedDateTime JAN_1ST_2012_11_AM_UTC = ZonedDateTime.of(2012, 1, 1, 11, 0, 0, 0, UTC);
+	private static final ZonedDateTime JAN_2ND_2012_4_AM_UTC = ZonedDateTime.of(2012, 1, 2, 4, 0, 0, 0, UTC);
+
+	@Test
+	public void canCompareSameDayInOwnZone() {
+		assertThat(JAN_1ST_2012_11_PM_NEW_YORK, sameDay(JAN_1ST_2012_11_AM_UTC));
+		assertThat(JAN_1ST_2012_11_PM_NEW_YORK, isSunday());
+		assertThat(JAN_1ST_2012_11_PM_NEW_YORK, sameHour(23));
+	}
+
+	@Test(expected = AssertionError.class)
+	public void canCompareDifferentDayInOwnZone() {
+		assertThat(JAN_2ND_2012_4_AM_UTC, sameDay(JAN_1ST_2012_11_PM_NEW_YORK));
+	}
+
+	@Test
+	public void canCompareSameInstantInDifferentZones() {
+		assertThat(JAN_2ND_2012_4_AM_UTC, sameOrAfter(JAN_1ST_2012_11_PM_NEW_YORK));
+		assertThat(JAN_2ND_2012_4_AM_UTC, sameOrBefore(JAN_1ST_2012_11_PM_NEW_YORK));
+		assertThat(JAN_2ND_2012_4_AM_UTC, within(0, ChronoUnit.SECONDS, JAN_1ST_2012_11_PM_NEW_YORK));
+	}
+
+	@Test(expected = AssertionError.class)
+	public void canCompareNotAfterInDifferentZones() {
+		assertThat(JAN_2ND_2012_4_AM_UTC, after(JAN_1ST_2012_11_PM_NEW_YORK));
+	}
+
+	@Test
+	public void canCompareBefore() {
+		assertThat(JAN_1ST_2012_11_AM_UTC, before(JAN_1ST_2012_11_PM_NEW_YORK));
+	}
+
+	@Test
+	public void canCompareWithin() {
+		assertThat(JAN_1ST_2012_11_AM_UTC.plusNanos(1000), within(1, ChronoUnit.MICROS, JAN_1ST_2012_11_AM_UTC));
+		assertThat(JAN_1ST_2012_11_AM_UTC.minusHours(2), within(2, ChronoUnit.HOURS, JAN_1ST_2012_11_AM_UTC));
+	}
+
+	@Test(expected = AssertionError.class)
+	public void canCompareNotWithin() {
+		assertThat(JAN_1ST_2012_11_AM_UTC.minusHours(2).minusNanos(1), within(2, ChronoUnit.HOURS, JAN_1ST_2012_11_AM_UTC));
+	}
+
+	@Test
+	public void canCompareDatePartsAcrossDaylightSaving() {
+		ZonedDateTime lastSundayInMarch = ZonedDateTime.of(2012, 3, 25, 3, 30, 0, 0, ZoneId.of("Europe/London"));
+		assertThat(lastSundayInMarch, isMarch());
+		assertThat(lastSundayInMarch, isSunday());
+		assertThat(lastSundayInMarch, sameHour(3));
+		assertThat(lastSundayInMarch, within(1, ChronoUnit.HOURS, lastSundayInMarch.minusHours(1)));
+	}
+}